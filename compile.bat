@@ -23,6 +23,11 @@ for /r "%PROJECT_DIR%src\main\java" %%f in (*.java) do (
 REM Compile
 javac -d "%PROJECT_DIR%out" -sourcepath "%PROJECT_DIR%src\main\java" %SOURCES%
 
+REM Copy resources (META-INF/services registers the schedulers and page replacement policies)
+if %ERRORLEVEL% EQU 0 (
+    xcopy /E /I /Y /Q "%PROJECT_DIR%src\main\resources" "%PROJECT_DIR%out" >nul
+)
+
 if %ERRORLEVEL% EQU 0 (
     echo.
     echo ============================================
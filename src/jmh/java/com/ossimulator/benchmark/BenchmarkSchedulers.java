@@ -0,0 +1,73 @@
+package com.ossimulator.benchmark;
+
+import com.ossimulator.manager.event.SimulationClock;
+import com.ossimulator.manager.scheduler.CfsScheduler;
+import com.ossimulator.manager.scheduler.LockFreeRoundRobinScheduler;
+import com.ossimulator.manager.scheduler.LotteryScheduler;
+import com.ossimulator.manager.scheduler.MlfqScheduler;
+import com.ossimulator.manager.scheduler.PriorityScheduler;
+import com.ossimulator.manager.scheduler.RoundRobinScheduler;
+import com.ossimulator.manager.scheduler.Scheduler;
+import com.ossimulator.manager.scheduler.SrtfScheduler;
+import com.ossimulator.manager.scheduler.StrideScheduler;
+import com.ossimulator.model.main.Process;
+
+/**
+ * Shared setup for scheduler benchmarks
+ */
+final class BenchmarkSchedulers {
+    static final int TIME_QUANTUM = 2;
+    static final int PRIORITY_LEVELS = 10;
+    static final int MAX_QUEUE_DEPTH = 1 << 21;
+    static final SimulationClock CLOCK = new SimulationClock();
+
+    private BenchmarkSchedulers() {
+    }
+
+    /**
+     * Create the scheduler under test from its @Param name
+     */
+    static Scheduler create(String name) {
+        switch (name) {
+            case "ROUND_ROBIN":
+                return new RoundRobinScheduler(TIME_QUANTUM);
+            case "PRIORITY":
+                return new PriorityScheduler(TIME_QUANTUM);
+            case "LOCK_FREE_ROUND_ROBIN":
+                return new LockFreeRoundRobinScheduler(TIME_QUANTUM, MAX_QUEUE_DEPTH);
+            case "CFS":
+                return new CfsScheduler(TIME_QUANTUM);
+            case "MLFQ":
+                return new MlfqScheduler(TIME_QUANTUM);
+            case "SRTF":
+                return new SrtfScheduler(TIME_QUANTUM);
+            case "LOTTERY":
+                return new LotteryScheduler(TIME_QUANTUM);
+            case "STRIDE":
+                return new StrideScheduler(TIME_QUANTUM);
+            default:
+                throw new IllegalArgumentException("Unknown scheduler: " + name);
+        }
+    }
+
+    /**
+     * Long-running processes spread across priority levels, never completing during a run
+     */
+    static Process[] newProcesses(int count) {
+        Process[] processes = new Process[count];
+        for (int i = 0; i < count; i++) {
+            processes[i] = new Process(i + 1, "P" + (i + 1), Integer.MAX_VALUE, 1 + (i % PRIORITY_LEVELS),
+                    CLOCK);
+        }
+        return processes;
+    }
+
+    /**
+     * Fill the scheduler to the given queue depth
+     */
+    static void fill(Scheduler scheduler, Process[] processes) {
+        for (Process p : processes) {
+            scheduler.addProcess(p);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.ossimulator.benchmark;
+
+import java.lang.management.ManagementFactory;
+
+import com.ossimulator.manager.kernel.Kernel;
+import com.ossimulator.util.Logger;
+
+/**
+ * Allocation regression check for the steady-state kernel cycle: after warm-up,
+ * a dispatch → run slice → requeue cycle with logging disabled must not allocate.
+ * Exits with status 1 when the measured bytes per cycle is above zero. KernelAllocationTest
+ * runs the same measurement in mvn test for every allocation-free scheduler; CFS is expected
+ * to fail here: its TreeSet run queue allocates one tree node per enqueue.
+ *
+ * Run after building the benchmark profile:
+ * java -cp target/benchmarks.jar com.ossimulator.benchmark.KernelAllocationCheck [scheduler] [cycles]
+ */
+public final class KernelAllocationCheck {
+    private static final int PROCESS_COUNT = 64;
+    private static final int WARMUP_CYCLES = 200_000;
+    private static final int DEFAULT_CYCLES = 1_000_000;
+    private static final int ROUNDS = 3;
+
+    private KernelAllocationCheck() {
+    }
+
+    public static void main(String[] args) {
+        String scheduler = args.length > 0 ? args[0] : "ROUND_ROBIN";
+        int cycles = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CYCLES;
+
+        Kernel kernel = new Kernel(BenchmarkSchedulers.TIME_QUANTUM, PROCESS_COUNT, Logger.silent());
+        kernel.setScheduler(scheduler);
+        for (int i = 0; i < PROCESS_COUNT; i++) {
+            // Bursts long enough that no process exits during the measurement
+            kernel.createProcess("P" + i, Integer.MAX_VALUE, 1 + i % BenchmarkSchedulers.PRIORITY_LEVELS);
+        }
+
+        runCycles(kernel, WARMUP_CYCLES);
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        // Cost of the measurement itself, subtracted from the result
+        long start = threads.getThreadAllocatedBytes(threadId);
+        long overhead = threads.getThreadAllocatedBytes(threadId) - start;
+
+        // Best of several rounds, so one-off JIT/class-loading allocations do not count
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            runCycles(kernel, cycles);
+            long bytes = threads.getThreadAllocatedBytes(threadId) - before - overhead;
+            allocated = Math.min(allocated, Math.max(0, bytes));
+        }
+
+        double perCycle = (double) allocated / cycles;
+        System.out.printf("%s: %d cycles, %d bytes allocated, %.4f bytes/cycle%n",
+                scheduler, cycles, allocated, perCycle);
+        if (perCycle > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void runCycles(Kernel kernel, int cycles) {
+        for (int i = 0; i < cycles; i++) {
+            kernel.runCycle();
+        }
+    }
+}
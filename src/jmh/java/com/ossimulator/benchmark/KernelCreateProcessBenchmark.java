@@ -0,0 +1,57 @@
+package com.ossimulator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ossimulator.manager.kernel.Kernel;
+import com.ossimulator.model.main.Process;
+import com.ossimulator.util.Logger;
+
+/**
+ * Concurrent producers: N threads calling Kernel.createProcess on one shared kernel.
+ * Each iteration starts from a fresh kernel with room for every process it creates, so
+ * every call takes the ready-queue path; the score is the time for BATCH calls per thread.
+ *
+ * Run: java -jar target/benchmarks.jar KernelCreateProcessBenchmark -t 8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = KernelCreateProcessBenchmark.BATCH)
+@Measurement(iterations = 10, batchSize = KernelCreateProcessBenchmark.BATCH)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class KernelCreateProcessBenchmark {
+    static final int BATCH = 10_000;
+    private static final int PROCESS_MEMORY = 256;     // One page per process
+    private static final int MEMORY_SLOTS = 1 << 16;   // 64MB: room for 256K processes
+
+    @Param({"ROUND_ROBIN", "LOCK_FREE_ROUND_ROBIN"})
+    public String scheduler;
+
+    private Kernel kernel;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        kernel = new Kernel(BenchmarkSchedulers.TIME_QUANTUM, MEMORY_SLOTS, Logger.silent());
+        kernel.setScheduler(scheduler);
+    }
+
+    @Benchmark
+    public Process createProcess() {
+        return kernel.createProcess("P", Integer.MAX_VALUE, 1, PROCESS_MEMORY);
+    }
+}
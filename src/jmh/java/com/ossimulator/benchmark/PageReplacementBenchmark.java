@@ -0,0 +1,65 @@
+package com.ossimulator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ossimulator.manager.memory.replacement.ReplacementSimulator;
+
+/**
+ * Cost of one page reference (hit bookkeeping or fault + victim selection) per policy,
+ * replaying a program-derived reference string. Fault rates: PageReplacementTrace.
+ *
+ * Run: java -jar target/benchmarks.jar PageReplacementBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class PageReplacementBenchmark {
+
+    @Param({"LRU", "CLOCK", "ARC", "LIRS"})
+    public String policy;
+
+    @Param({"CPU_BOUND", "IO_MIXED", "FORK_HEAVY"})
+    public String workload;
+
+    @Param({"256", "1024"})
+    public int frames;
+
+    private ReplacementSimulator simulator;
+    private long[] trace;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        trace = ReplacementWorkloads.trace(workload);
+        simulator = new ReplacementSimulator(policy, frames);
+        cursor = 0;
+    }
+
+    /**
+     * One reference from the trace; wraps around at the end
+     */
+    @Benchmark
+    public boolean access() {
+        boolean fault = simulator.access(trace[cursor]);
+        if (++cursor == trace.length) {
+            cursor = 0;
+        }
+        return fault;
+    }
+}
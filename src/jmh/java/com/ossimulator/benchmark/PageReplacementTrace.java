@@ -0,0 +1,50 @@
+package com.ossimulator.benchmark;
+
+import com.ossimulator.manager.memory.replacement.PageReplacementRegistry;
+import com.ossimulator.manager.memory.replacement.ReplacementSimulator;
+
+/**
+ * Fault rate and time per reference of every registered policy on each workload and
+ * memory size. Total address space is PROCESS_COUNT × PAGES_PER_PROCESS pages.
+ *
+ * Run after building the benchmark profile:
+ * java -cp target/benchmarks.jar com.ossimulator.benchmark.PageReplacementTrace [frames...]
+ */
+public final class PageReplacementTrace {
+    private static final int[] DEFAULT_FRAMES = {128, 256, 512, 1024};
+    private static final int ROUNDS = 5;
+
+    private PageReplacementTrace() {
+    }
+
+    public static void main(String[] args) {
+        int[] frameCounts = DEFAULT_FRAMES;
+        if (args.length > 0) {
+            frameCounts = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                frameCounts[i] = Integer.parseInt(args[i]);
+            }
+        }
+        System.out.printf("%-10s %-6s %6s %10s %10s %8s %9s%n",
+                "Workload", "Policy", "Frames", "Refs", "Faults", "Fault%", "ns/ref");
+        for (String workload : ReplacementWorkloads.NAMES) {
+            long[] trace = ReplacementWorkloads.trace(workload);
+            for (int frames : frameCounts) {
+                for (String policy : PageReplacementRegistry.getDefault().getNames()) {
+                    // Best of several rounds on a fresh simulator, so JIT warm-up does not count
+                    long best = Long.MAX_VALUE;
+                    ReplacementSimulator simulator = null;
+                    for (int round = 0; round < ROUNDS; round++) {
+                        simulator = new ReplacementSimulator(policy, frames);
+                        long start = System.nanoTime();
+                        simulator.run(trace);
+                        best = Math.min(best, System.nanoTime() - start);
+                    }
+                    System.out.printf("%-10s %-6s %6d %10d %10d %7.2f%% %9.1f%n",
+                            workload, policy, frames, trace.length, simulator.getFaultCount(),
+                            simulator.getFaultRate() * 100, (double) best / trace.length);
+                }
+            }
+        }
+    }
+}
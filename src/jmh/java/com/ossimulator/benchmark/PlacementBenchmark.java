@@ -0,0 +1,52 @@
+package com.ossimulator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ossimulator.manager.memory.placement.PlacementStrategy;
+
+/**
+ * Free + allocate cost of each placement strategy with 1K and 1M live regions.
+ * O(log n) placement shows as a small constant step between the two depths.
+ * Fragmentation figures: PlacementTrace.
+ *
+ * Run: java -jar target/benchmarks.jar PlacementBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PlacementBenchmark {
+
+    @Param({"FIRST_FIT", "BEST_FIT", "NEXT_FIT", "BUDDY"})
+    public String strategy;
+
+    @Param({"1000", "1000000"})
+    public int liveAllocations;
+
+    private PlacementWorkload workload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workload = new PlacementWorkload(PlacementStrategy.valueOf(strategy), liveAllocations, 42);
+    }
+
+    @Benchmark
+    public long freeAndAllocate() {
+        return workload.step();
+    }
+}
@@ -0,0 +1,55 @@
+package com.ossimulator.benchmark;
+
+import com.ossimulator.manager.memory.placement.ContiguousAllocator;
+import com.ossimulator.manager.memory.placement.PlacementStrategy;
+
+/**
+ * Fragmentation and time per free + allocate of every placement strategy after a long
+ * steady-state churn, at several live-set sizes.
+ *
+ * Run after building the benchmark profile:
+ * java -cp target/benchmarks.jar com.ossimulator.benchmark.PlacementTrace [live...]
+ */
+public final class PlacementTrace {
+    private static final int[] DEFAULT_LIVE = {1_000, 1_000_000};
+    private static final int STEPS = 2_000_000;
+
+    private PlacementTrace() {
+    }
+
+    public static void main(String[] args) {
+        int[] liveCounts = DEFAULT_LIVE;
+        if (args.length > 0) {
+            liveCounts = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                liveCounts[i] = Integer.parseInt(args[i]);
+            }
+        }
+        System.out.printf("%-9s %8s %8s %9s %8s %8s %9s %7s%n",
+                "Strategy", "Live", "Failed%", "FreeBlks", "Extern%", "Intern%", "Util%", "ns/op");
+        for (int live : liveCounts) {
+            for (PlacementStrategy strategy : PlacementStrategy.values()) {
+                PlacementWorkload workload = new PlacementWorkload(strategy, live, 42);
+                // Warm-up churn, then the measured run
+                for (int i = 0; i < STEPS / 4; i++) {
+                    workload.step();
+                }
+                long failuresBefore = workload.getFailures();
+                long start = System.nanoTime();
+                for (int i = 0; i < STEPS; i++) {
+                    workload.step();
+                }
+                long elapsed = System.nanoTime() - start;
+
+                ContiguousAllocator allocator = workload.allocator;
+                long used = allocator.getCapacity() - allocator.getFreeBytes();
+                long requested = workload.getRequestedBytes();
+                System.out.printf("%-9s %8d %7.2f%% %9d %7.1f%% %7.1f%% %8.1f%% %7.1f%n",
+                        strategy, live, 100.0 * (workload.getFailures() - failuresBefore) / STEPS,
+                        allocator.getFreeBlockCount(), allocator.getExternalFragmentation() * 100,
+                        used == 0 ? 0 : 100.0 * (used - requested) / used,
+                        100.0 * requested / allocator.getCapacity(), (double) elapsed / STEPS);
+            }
+        }
+    }
+}
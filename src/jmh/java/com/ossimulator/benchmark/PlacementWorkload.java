@@ -0,0 +1,79 @@
+package com.ossimulator.benchmark;
+
+import java.util.Random;
+
+import com.ossimulator.manager.memory.placement.ContiguousAllocator;
+import com.ossimulator.manager.memory.placement.PlacementStrategy;
+
+/**
+ * Steady-state churn for the placement benchmarks: a fixed number of live regions, each step
+ * frees a random one and places a new one of random size (MIN_SIZE .. MAX_SIZE bytes).
+ * Memory is sized so the live set fills about LOAD of it.
+ */
+final class PlacementWorkload {
+    static final int MIN_SIZE = 256;
+    static final int MAX_SIZE = 8192;
+    static final double LOAD = 0.75;
+    private static final int RANDOM_COUNT = 1 << 20;
+
+    final ContiguousAllocator allocator;
+    private final long[] addresses;
+    private final int[] sizes;
+    private final int[] randomSizes;
+    private final int[] randomSlots;
+    private int cursor;
+    private long failures;
+
+    PlacementWorkload(PlacementStrategy strategy, int liveCount, long seed) {
+        Random random = new Random(seed);
+        long capacity = (long) (liveCount * (long) (MIN_SIZE + MAX_SIZE) / 2 / LOAD);
+        this.allocator = strategy.create(capacity);
+        this.addresses = new long[liveCount];
+        this.sizes = new int[liveCount];
+        this.randomSizes = new int[RANDOM_COUNT];
+        this.randomSlots = new int[RANDOM_COUNT];
+        for (int i = 0; i < RANDOM_COUNT; i++) {
+            randomSizes[i] = MIN_SIZE + random.nextInt(MAX_SIZE - MIN_SIZE + 1);
+            randomSlots[i] = random.nextInt(liveCount);
+        }
+        for (int slot = 0; slot < liveCount; slot++) {
+            sizes[slot] = randomSizes[slot & (RANDOM_COUNT - 1)];
+            addresses[slot] = allocator.allocate(sizes[slot]);
+        }
+    }
+
+    /**
+     * Free one random live region and place a new one in its slot
+     * @return the new address, or NO_SPACE
+     */
+    long step() {
+        int index = cursor++ & (RANDOM_COUNT - 1);
+        int slot = randomSlots[index];
+        if (addresses[slot] != ContiguousAllocator.NO_SPACE) {
+            allocator.free(addresses[slot], sizes[slot]);
+        }
+        sizes[slot] = randomSizes[index];
+        addresses[slot] = allocator.allocate(sizes[slot]);
+        if (addresses[slot] == ContiguousAllocator.NO_SPACE) {
+            failures++;
+        }
+        return addresses[slot];
+    }
+
+    long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Requested bytes of the live regions
+     */
+    long getRequestedBytes() {
+        long total = 0;
+        for (int slot = 0; slot < sizes.length; slot++) {
+            if (addresses[slot] != ContiguousAllocator.NO_SPACE) {
+                total += sizes[slot];
+            }
+        }
+        return total;
+    }
+}
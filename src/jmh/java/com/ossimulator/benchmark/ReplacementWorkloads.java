@@ -0,0 +1,59 @@
+package com.ossimulator.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.ossimulator.manager.memory.replacement.ReferenceTrace;
+import com.ossimulator.model.component.Program;
+import com.ossimulator.transition.Compute;
+import com.ossimulator.transition.Exit;
+import com.ossimulator.transition.Fork;
+import com.ossimulator.transition.IORequest;
+import com.ossimulator.transition.Transition;
+
+/**
+ * Reference strings for the page replacement benchmarks, built from simulator programs
+ * (ReferenceTrace maps every transition type to an access pattern)
+ */
+final class ReplacementWorkloads {
+    static final int PROCESS_COUNT = 32;
+    static final int PAGES_PER_PROCESS = 64;
+    static final int TRANSITIONS_PER_PROGRAM = 400;
+    static final String[] NAMES = {"CPU_BOUND", "IO_MIXED", "FORK_HEAVY"};
+
+    private ReplacementWorkloads() {
+    }
+
+    static long[] trace(String workload) {
+        Random random = new Random(workload.hashCode());
+        List<Program> programs = new ArrayList<>(PROCESS_COUNT);
+        for (int i = 0; i < PROCESS_COUNT; i++) {
+            programs.add(new Program(transitions(workload, random)));
+        }
+        return ReferenceTrace.fromPrograms(programs, PAGES_PER_PROCESS, random.nextLong());
+    }
+
+    private static List<Transition> transitions(String workload, Random random) {
+        List<Transition> transitions = new ArrayList<>(TRANSITIONS_PER_PROGRAM + 1);
+        for (int i = 0; i < TRANSITIONS_PER_PROGRAM; i++) {
+            switch (workload) {
+                case "CPU_BOUND":
+                    transitions.add(random.nextInt(10) == 0
+                            ? new IORequest(1 + random.nextInt(4)) : new Compute(5 + random.nextInt(20)));
+                    break;
+                case "IO_MIXED":
+                    transitions.add(i % 2 == 0
+                            ? new Compute(2 + random.nextInt(8)) : new IORequest(4 + random.nextInt(24)));
+                    break;
+                case "FORK_HEAVY":
+                    transitions.add(random.nextInt(8) == 0 ? new Fork() : new Compute(5 + random.nextInt(20)));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown workload: " + workload);
+            }
+        }
+        transitions.add(new Exit());
+        return transitions;
+    }
+}
@@ -0,0 +1,85 @@
+package com.ossimulator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ossimulator.manager.scheduler.Scheduler;
+import com.ossimulator.model.component.ProcessState;
+import com.ossimulator.model.main.Process;
+
+/**
+ * Single-threaded scheduler hot paths at a steady queue depth.
+ * Every Kernel.runCycle does one pollNext + requeue; the monitor threads poll size/isEmpty.
+ *
+ * Run: java -jar target/benchmarks.jar SchedulerBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SchedulerBenchmark {
+
+    @Param({"ROUND_ROBIN", "PRIORITY", "LOCK_FREE_ROUND_ROBIN", "CFS", "MLFQ", "SRTF", "LOTTERY", "STRIDE"})
+    public String scheduler;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int queueDepth;
+
+    private Scheduler target;
+    private Process spare;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        target = BenchmarkSchedulers.create(scheduler);
+        BenchmarkSchedulers.fill(target, BenchmarkSchedulers.newProcesses(queueDepth));
+        spare = new Process(queueDepth + 1, "spare", Integer.MAX_VALUE, 5, BenchmarkSchedulers.CLOCK);
+    }
+
+    /**
+     * Scheduling cycle: dequeue the next process and put it back at the tail
+     */
+    @Benchmark
+    public Process selectNextAndRequeue() {
+        Process p = target.pollNext();
+        target.onExecuted(p, target.getTimeSlice(p));
+        p.setState(ProcessState.READY_MEMORY);
+        target.requeue(p);
+        return p;
+    }
+
+    /**
+     * Admission: add one process then remove one to keep the depth constant
+     */
+    @Benchmark
+    public Process addProcessAndSelect() {
+        spare.setState(ProcessState.CREATED);
+        target.addProcess(spare);
+        Process p = target.pollNext();
+        spare = p;
+        return p;
+    }
+
+    @Benchmark
+    public int size() {
+        return target.size();
+    }
+
+    @Benchmark
+    public boolean isEmpty() {
+        return target.isEmpty();
+    }
+}
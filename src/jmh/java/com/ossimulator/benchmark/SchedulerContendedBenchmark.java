@@ -0,0 +1,72 @@
+package com.ossimulator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ossimulator.manager.scheduler.Scheduler;
+import com.ossimulator.model.component.ProcessState;
+import com.ossimulator.model.main.Process;
+
+/**
+ * Contended scheduler access: several threads cycling processes through one shared
+ * scheduler while a monitor thread polls size/isEmpty, like SchedulerThread + MonitorThread/GUI.
+ *
+ * Run: java -jar target/benchmarks.jar SchedulerContendedBenchmark
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SchedulerContendedBenchmark {
+
+    @Param({"ROUND_ROBIN", "PRIORITY", "LOCK_FREE_ROUND_ROBIN", "CFS", "MLFQ", "SRTF", "LOTTERY", "STRIDE"})
+    public String scheduler;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int queueDepth;
+
+    private Scheduler target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        target = BenchmarkSchedulers.create(scheduler);
+        // Leave headroom so concurrent cyclers never see an empty queue
+        BenchmarkSchedulers.fill(target, BenchmarkSchedulers.newProcesses(Math.max(queueDepth, 16)));
+    }
+
+    @Benchmark
+    @Group("cycle")
+    @GroupThreads(3)
+    public Process cycle() {
+        Process p = target.pollNext();
+        if (p != null) {
+            target.onExecuted(p, target.getTimeSlice(p));
+            p.setState(ProcessState.READY_MEMORY);
+            target.requeue(p);
+        }
+        return p;
+    }
+
+    @Benchmark
+    @Group("cycle")
+    @GroupThreads(1)
+    public int monitor() {
+        return target.isEmpty() ? 0 : target.size();
+    }
+}
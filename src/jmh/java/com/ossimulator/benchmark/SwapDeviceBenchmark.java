@@ -0,0 +1,65 @@
+package com.ossimulator.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One swap-in plus one swap-out through the file-backed SwapDevice for every combination
+ * of clustering, read-ahead and write coalescing. The teardown prints the device's call
+ * counts, per-image latency and channel throughput for the trial.
+ *
+ * Run: java -jar target/benchmarks.jar SwapDeviceBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class SwapDeviceBenchmark {
+
+    @Param({"true", "false"})
+    public boolean clustering;
+
+    @Param({"0", "8"})
+    public int readAhead;
+
+    @Param({"true", "false"})
+    public boolean coalescing;
+
+    @Param({"1000"})
+    public int processes;
+
+    private SwapWorkload workload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        workload = new SwapWorkload(clustering, readAhead, coalescing, processes, 42);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.out.println();
+        System.out.println(workload.device.getSummary());
+        workload.close();
+    }
+
+    @Benchmark
+    public int swapInAndOut() {
+        return workload.step();
+    }
+}
@@ -0,0 +1,93 @@
+package com.ossimulator.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import com.ossimulator.manager.memory.SwapDevice;
+import com.ossimulator.model.component.ContextData;
+import com.ossimulator.model.component.ProgramData;
+
+/**
+ * Swap churn for SwapDeviceBenchmark: a fixed set of processes, half of them swapped out.
+ * Each step swaps a random swapped process in and a random resident one out, with image
+ * sizes of MIN_PAGES .. MAX_PAGES slots. The device is sized so the swapped half fills
+ * about LOAD of it, so freed images leave holes of mixed length.
+ */
+final class SwapWorkload implements AutoCloseable {
+    static final int SLOT_SIZE = 4096;
+    static final int MIN_PAGES = 1;
+    static final int MAX_PAGES = 16;
+    static final double LOAD = 0.75;
+    private static final int RANDOM_COUNT = 1 << 16;
+
+    final SwapDevice device;
+    private final Path file;
+    private final ContextData[] contexts;
+    private final ProgramData[] programs;
+    private final long[] imageSizes;
+    private final int[] swapped;            // Pids on the device
+    private final int[] resident;           // Pids in core
+    private final int[] randomIndexes;
+    private int cursor;
+
+    SwapWorkload(boolean clustering, int readAhead, boolean coalescing, int processCount, long seed)
+            throws IOException {
+        Random random = new Random(seed);
+        int half = processCount / 2;
+        int slots = (int) (half * (MIN_PAGES + MAX_PAGES) / 2 / LOAD);
+        this.file = Files.createTempFile("swap-bench", ".img");
+        this.device = new SwapDevice(file, SLOT_SIZE, slots);
+        device.configure(clustering, readAhead, coalescing);
+        this.contexts = new ContextData[processCount + 1];
+        this.programs = new ProgramData[processCount + 1];
+        this.imageSizes = new long[processCount + 1];
+        this.swapped = new int[half];
+        this.resident = new int[processCount - half];
+        this.randomIndexes = new int[RANDOM_COUNT];
+        for (int pid = 1; pid <= processCount; pid++) {
+            contexts[pid] = new ContextData(new int[16], pid, 0);
+            programs[pid] = new ProgramData();
+            programs[pid].getVariables().put("counter", pid);
+            programs[pid].pushToCallStack("main");
+            imageSizes[pid] = (long) SLOT_SIZE * (MIN_PAGES + random.nextInt(MAX_PAGES - MIN_PAGES + 1));
+        }
+        for (int i = 0; i < half; i++) {
+            swapped[i] = i + 1;
+            device.write(i + 1, imageSizes[i + 1], contexts[i + 1], programs[i + 1]);
+        }
+        for (int i = 0; i < resident.length; i++) {
+            resident[i] = half + i + 1;
+        }
+        for (int i = 0; i < RANDOM_COUNT; i++) {
+            randomIndexes[i] = random.nextInt(half);
+        }
+        device.flush();
+    }
+
+    /**
+     * Swap one process in and another out in its place
+     * @return the pid swapped out
+     */
+    int step() {
+        int index = randomIndexes[cursor++ & (RANDOM_COUNT - 1)];
+        int in = swapped[index];
+        int residentIndex = randomIndexes[cursor & (RANDOM_COUNT - 1)] % resident.length;
+        int out = resident[residentIndex];
+        device.read(in, contexts[in], programs[in]);
+        if (device.write(out, imageSizes[out], contexts[out], programs[out])) {
+            swapped[index] = out;
+            resident[residentIndex] = in;
+        } else {
+            device.write(in, imageSizes[in], contexts[in], programs[in]);
+        }
+        return out;
+    }
+
+    @Override
+    public void close() throws IOException {
+        device.close();
+        Files.deleteIfExists(file);
+    }
+}
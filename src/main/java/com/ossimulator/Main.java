@@ -1,30 +1,135 @@
 package com.ossimulator;
 
+import com.ossimulator.batch.BatchResult;
+import com.ossimulator.batch.BatchRunner;
+import com.ossimulator.batch.Workload;
+import com.ossimulator.manager.event.TransitionJournalDecoder;
 import com.ossimulator.manager.kernel.Kernel;
+import com.ossimulator.manager.kernel.MultiprocessorKernel;
+import com.ossimulator.manager.memory.SwapDevice;
+import com.ossimulator.manager.memory.placement.PlacementStrategy;
+import com.ossimulator.manager.memory.replacement.PageReplacementProvider;
+import com.ossimulator.manager.memory.replacement.PageReplacementRegistry;
+import com.ossimulator.manager.scheduler.SchedulerConfig;
+import com.ossimulator.manager.scheduler.SchedulerProvider;
+import com.ossimulator.manager.scheduler.SchedulerRegistry;
 import com.ossimulator.thread.MonitorThread;
 import com.ossimulator.thread.SchedulerThread;
 import com.ossimulator.gui.SimulatorApp;
+import com.ossimulator.util.Logger;
 
 import javax.swing.SwingUtilities;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
 public class Main {
+    private static final int DEFAULT_REFERENCE_RATE = 4;
+
+    private static int memoryReferenceRate = 0;     // --paging: simulated references per ms of CPU
+    private static String pageReplacement = null;   // --replacement: policy name, null = MemoryManager default
+    private static PlacementStrategy placement = null; // --placement: contiguous placement, null = first fit
+    private static String swapFile = null;          // --swap-file: swap device path, null = swap stays in core
+    private static String swapOptions = null;       // --swap-io: SwapDevice.configure spec
+    private static String scheduler = null;         // --scheduler: "NAME[:key=value,...]", null = ROUND_ROBIN
 
     public static void main(String[] args) {
         // Check command-line arguments for mode selection
         boolean guiMode = true;  // Default to GUI mode
+        Runnable mode = null;    // --batch, --smp or --decode: runs instead of the GUI / console
 
-        for (String arg : args) {
-            if (arg.equalsIgnoreCase("--console") || arg.equalsIgnoreCase("-c")) {
-                guiMode = false;
-            } else if (arg.equalsIgnoreCase("--gui") || arg.equalsIgnoreCase("-g")) {
-                guiMode = true;
-            } else if (arg.equalsIgnoreCase("--help") || arg.equalsIgnoreCase("-h")) {
-                printHelp();
-                return;
+        // Every option is parsed before a mode runs, so e.g. --log-level applies to --batch too
+        String arg = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                arg = args[i];
+                if (arg.equalsIgnoreCase("--batch") || arg.equalsIgnoreCase("-b")) {
+                    checkNoMode(mode);
+                    String output = (i + 1 < args.length && !args[i + 1].startsWith("-"))
+                            ? args[++i] : "logs/batch_results.txt";
+                    mode = () -> runBatchMode(output);
+                } else if (arg.equalsIgnoreCase("--smp")) {
+                    int cpus = (i + 1 < args.length && !args[i + 1].startsWith("-"))
+                            ? parseCount(args[++i], 1) : Runtime.getRuntime().availableProcessors();
+                    checkNoMode(mode);
+                    mode = () -> runSmpMode(cpus);
+                } else if (arg.equalsIgnoreCase("--decode")) {
+                    if (i + 1 >= args.length) {
+                        System.err.println("[Main] --decode needs a journal file");
+                        return;
+                    }
+                    checkNoMode(mode);
+                    String journal = args[++i];
+                    String output = (i + 1 < args.length && !args[i + 1].startsWith("-")) ? args[++i] : null;
+                    mode = () -> runDecodeMode(journal, output);
+                } else if (arg.equalsIgnoreCase("--async-log")) {
+                    String policy = (i + 1 < args.length && !args[i + 1].startsWith("-")) ? args[++i] : "block";
+                    Logger.getInstance().enableAsync(Logger.OverflowPolicy.valueOf(policy.toUpperCase()));
+                } else if (arg.equalsIgnoreCase("--log-level")) {
+                    if (i + 1 >= args.length) {
+                        System.err.println("[Main] --log-level needs a spec, e.g. info,dispatcher=off");
+                        return;
+                    }
+                    Logger.getInstance().configureLevels(args[++i]);
+                } else if (arg.equalsIgnoreCase("--paging")) {
+                    memoryReferenceRate = (i + 1 < args.length && !args[i + 1].startsWith("-"))
+                            ? parseCount(args[++i], 0) : DEFAULT_REFERENCE_RATE;
+                } else if (arg.equalsIgnoreCase("--replacement")) {
+                    if (i + 1 >= args.length) {
+                        System.err.println("[Main] --replacement needs a policy name, e.g. LRU");
+                        return;
+                    }
+                    pageReplacement = args[++i];
+                    PageReplacementRegistry.getDefault().getProvider(pageReplacement);
+                    if (memoryReferenceRate == 0) {
+                        memoryReferenceRate = DEFAULT_REFERENCE_RATE;   // A policy only acts on paged references
+                    }
+                } else if (arg.equalsIgnoreCase("--placement")) {
+                    if (i + 1 >= args.length) {
+                        System.err.println("[Main] --placement needs a strategy, e.g. BEST_FIT");
+                        return;
+                    }
+                    placement = PlacementStrategy.parse(args[++i]);
+                } else if (arg.equalsIgnoreCase("--scheduler")) {
+                    if (i + 1 >= args.length) {
+                        System.err.println("[Main] --scheduler needs a policy, e.g. PRIORITY:levels=160");
+                        return;
+                    }
+                    scheduler = args[++i];
+                    SchedulerRegistry.getDefault().create(SchedulerConfig.policyName(scheduler),
+                            SchedulerConfig.parseSelection(1, scheduler));
+                } else if (arg.equalsIgnoreCase("--swap-file")) {
+                    swapFile = (i + 1 < args.length && !args[i + 1].startsWith("-")) ? args[++i] : "logs/swap.img";
+                } else if (arg.equalsIgnoreCase("--swap-io")) {
+                    if (i + 1 >= args.length) {
+                        System.err.println("[Main] --swap-io needs a spec, e.g. cluster=off,readahead=0,coalesce=on");
+                        return;
+                    }
+                    swapOptions = args[++i];
+                    SwapDevice.checkSpec(swapOptions);
+                    if (swapFile == null) {
+                        swapFile = "logs/swap.img";
+                    }
+                } else if (arg.equalsIgnoreCase("--console") || arg.equalsIgnoreCase("-c")) {
+                    guiMode = false;
+                } else if (arg.equalsIgnoreCase("--gui") || arg.equalsIgnoreCase("-g")) {
+                    guiMode = true;
+                } else if (arg.equalsIgnoreCase("--help") || arg.equalsIgnoreCase("-h")) {
+                    printHelp();
+                    return;
+                }
             }
+        } catch (IllegalArgumentException e) {
+            usageError("Invalid " + arg + ": " + e.getMessage());
+            return;
         }
 
-        if (guiMode) {
+        if (mode != null) {
+            mode.run();
+        } else if (guiMode) {
             // Launch GUI application
             SwingUtilities.invokeLater(() -> {
                 SimulatorApp app = new SimulatorApp();
@@ -36,6 +141,39 @@ public class Main {
         }
     }
 
+    /**
+     * --batch, --smp and --decode each replace the GUI / console run, so only one may be given
+     */
+    private static void checkNoMode(Runnable mode) {
+        if (mode != null) {
+            throw new IllegalArgumentException("only one of --batch, --smp and --decode may be given");
+        }
+    }
+
+    /**
+     * Parse a numeric option value that must be at least min
+     */
+    private static int parseCount(String value, int min) {
+        int count;
+        try {
+            count = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("expected a number, got " + value);
+        }
+        if (count < min) {
+            throw new IllegalArgumentException("must be >= " + min + ": " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Report a bad option value and show the usage
+     */
+    private static void usageError(String message) {
+        System.err.println("[Main] " + message);
+        printHelp();
+    }
+
     private static void printHelp() {
         System.out.println("+===========================================================+");
         System.out.println("|              OS KERNEL SIMULATOR - Help                   |");
@@ -46,12 +184,38 @@ public class Main {
         System.out.println("Options:");
         System.out.println("  --gui, -g      Launch GUI application (default)");
         System.out.println("  --console, -c  Run in console mode");
+        System.out.println("  --batch, -b [file]  Run headless parameter sweep (default: logs/batch_results.txt)");
+        System.out.println("  --smp [cpus]   Run multiprocessor simulation (default: host core count)");
+        System.out.println("  --decode <journal> [file]  Render a binary transition journal as text");
+        System.out.println("  --async-log [block|drop|sample]  Log through a background writer (default: block)");
+        System.out.println("  --log-level <spec>  Per-component levels, e.g. info,dispatcher=off,process=warn");
+        System.out.println("  --paging [refs]  Simulate demand paging, refs memory references per ms (default: 4)");
+        System.out.println("  --replacement <policy>  Page replacement policy (default: CLOCK, implies --paging)");
+        System.out.println("  --placement <strategy>  FIRST_FIT (default), BEST_FIT, NEXT_FIT or BUDDY");
+        System.out.println("  --scheduler <name[:k=v,...]>  Policy for --console and --smp, e.g. MLFQ:levels=4 (default: ROUND_ROBIN)");
+        System.out.println("  --swap-file [path]  Write swapped-out images to a swap file (default: logs/swap.img)");
+        System.out.println("  --swap-io <spec>  Swap file I/O, e.g. cluster=on,readahead=8,coalesce=on (implies --swap-file)");
         System.out.println("  --help, -h     Show this help message");
         System.out.println();
+        System.out.println("Schedulers:");
+        for (SchedulerProvider provider : SchedulerRegistry.getDefault().getProviders()) {
+            System.out.printf("  %-22s %s%n", provider.getName(), provider.getDescription());
+        }
+        System.out.println();
+        System.out.println("Page replacement policies:");
+        for (PageReplacementProvider provider : PageReplacementRegistry.getDefault().getProviders()) {
+            System.out.printf("  %-22s %s%n", provider.getName(), provider.getDescription());
+        }
+        System.out.println();
         System.out.println("Examples:");
         System.out.println("  java -jar ossimulator.jar          # Launch GUI");
         System.out.println("  java -jar ossimulator.jar --gui    # Launch GUI");
         System.out.println("  java -jar ossimulator.jar --console # Run console demo");
+        System.out.println("  java -jar ossimulator.jar --async-log drop --console");
+        System.out.println("  java -jar ossimulator.jar --log-level dispatcher=off,process=off --console");
+        System.out.println("  java -jar ossimulator.jar --scheduler PRIORITY:levels=160 --console");
+        System.out.println("  java -jar ossimulator.jar --batch   # Run batch sweep");
+        System.out.println("  java -jar ossimulator.jar --decode logs/transitions.journal");
         System.out.println();
     }
 
@@ -70,9 +234,26 @@ public class Main {
 
         // Create kernel
         Kernel kernel = new Kernel(timeQuantum, maxMemory);
+        if (scheduler != null) {
+            kernel.setScheduler(scheduler);
+        }
+        kernel.setMemoryReferenceRate(memoryReferenceRate);
+        if (pageReplacement != null) {
+            kernel.getMemoryManager().setPageReplacement(pageReplacement);
+        }
+        if (placement != null) {
+            kernel.getMemoryManager().setPlacementStrategy(placement);
+        }
+        if (swapFile != null) {
+            kernel.enableSwapDevice(swapFile);
+            if (swapOptions != null && kernel.getSwapDevice() != null) {
+                kernel.getSwapDevice().configure(swapOptions);   // Checked while parsing the arguments
+            }
+        }
 
         // Enable file logging
         kernel.enableFileLogging("logs/simulation.log");
+        kernel.enableTransitionJournal("logs/transitions.journal");
 
         // Create some processes with different priorities
         System.out.println("=== Creating Processes ===\n");
@@ -92,6 +273,59 @@ public class Main {
         runMultiThreadDemo(kernel);
     }
 
+    private static void runBatchMode(String outputPath) {
+        System.out.println("=== Batch Mode ===");
+
+        BatchRunner runner = new BatchRunner(
+                List.of(1, 2, 4, 8),
+                List.of(1L, 3L, 5L),
+                SchedulerRegistry.getDefault().getNames(),
+                List.of(Workload.demo(), Workload.random("random1k", 1000, 50, 10, 42L))
+        );
+
+        long start = System.currentTimeMillis();
+        List<BatchResult> results = runner.run();
+        long elapsed = System.currentTimeMillis() - start;
+
+        BatchRunner.writeTable(results, new PrintWriter(System.out));
+        try {
+            BatchRunner.writeResults(results, outputPath);
+            System.out.printf("%n[Main] %d runs finished in %dms, results saved to: %s%n",
+                    results.size(), elapsed, outputPath);
+        } catch (IOException e) {
+            System.err.println("[Main] Failed to write batch results: " + e.getMessage());
+        }
+    }
+
+    private static void runDecodeMode(String journalPath, String outputPath) {
+        try (PrintWriter out = outputPath != null
+                ? new PrintWriter(outputPath, StandardCharsets.UTF_8)
+                : new PrintWriter(System.out)) {
+            long transitions = TransitionJournalDecoder.decode(Path.of(journalPath), out);
+            if (outputPath != null) {
+                System.out.printf("[Main] %d transitions decoded to: %s%n", transitions, outputPath);
+            }
+        } catch (IOException e) {
+            System.err.println("[Main] Failed to decode journal: " + e.getMessage());
+        }
+    }
+
+    private static void runSmpMode(int cpuCount) {
+        System.out.println("=== SMP Mode: " + cpuCount + " simulated CPUs ===");
+
+        String selection = scheduler != null ? scheduler : "ROUND_ROBIN";
+        MultiprocessorKernel kernel = new MultiprocessorKernel(cpuCount, 1024,
+                SchedulerConfig.policyName(selection), SchedulerConfig.parseSelection(2, selection), Logger.silent());
+        Workload.random("random100k", 100_000, 50, 10, 42L).load(kernel);
+
+        long start = System.currentTimeMillis();
+        kernel.run();
+        long elapsed = System.currentTimeMillis() - start;
+
+        kernel.printStatistics();
+        System.out.printf("%n[Main] Wall time: %dms%n", elapsed);
+    }
+
     private static void runMultiThreadDemo(Kernel kernel) {
         System.out.println("=== Starting Multi-threaded Demo ===");
         System.out.println("Thread 1: SchedulerThread - runs scheduling cycles");
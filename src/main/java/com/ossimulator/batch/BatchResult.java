@@ -0,0 +1,55 @@
+package com.ossimulator.batch;
+
+/**
+ * Aggregated outcome of one cell of the batch grid
+ */
+public class BatchResult {
+    //==========================================Variable==========================================
+    private final int timeQuantum;
+    private final long memorySlots;
+    private final String scheduler;
+    private final String workload;
+    private final int processCount;
+    private final int completedCount;
+    private final int cycles;
+    private final int contextSwitches;
+    private final long simulatedTime;
+    private final double averageTurnaround;
+    private final double averageWaiting;
+    private final long maxTurnaround;
+    private final long wallTimeMs;
+
+    //========================================Constructor=========================================
+    public BatchResult(int timeQuantum, long memorySlots, String scheduler, String workload,
+                       int processCount, int completedCount, int cycles, int contextSwitches, long simulatedTime,
+                       double averageTurnaround, double averageWaiting, long maxTurnaround, long wallTimeMs) {
+        this.timeQuantum = timeQuantum;
+        this.memorySlots = memorySlots;
+        this.scheduler = scheduler;
+        this.workload = workload;
+        this.processCount = processCount;
+        this.completedCount = completedCount;
+        this.cycles = cycles;
+        this.contextSwitches = contextSwitches;
+        this.simulatedTime = simulatedTime;
+        this.averageTurnaround = averageTurnaround;
+        this.averageWaiting = averageWaiting;
+        this.maxTurnaround = maxTurnaround;
+        this.wallTimeMs = wallTimeMs;
+    }
+
+    //==========================================Get Set===========================================
+    public int getTimeQuantum() { return timeQuantum; }
+    public long getMemorySlots() { return memorySlots; }
+    public String getScheduler() { return scheduler; }
+    public String getWorkload() { return workload; }
+    public int getProcessCount() { return processCount; }
+    public int getCompletedCount() { return completedCount; }
+    public int getCycles() { return cycles; }
+    public int getContextSwitches() { return contextSwitches; }
+    public long getSimulatedTime() { return simulatedTime; }
+    public double getAverageTurnaround() { return averageTurnaround; }
+    public double getAverageWaiting() { return averageWaiting; }
+    public long getMaxTurnaround() { return maxTurnaround; }
+    public long getWallTimeMs() { return wallTimeMs; }
+}
@@ -0,0 +1,174 @@
+package com.ossimulator.batch;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import com.ossimulator.manager.kernel.Kernel;
+import com.ossimulator.model.main.Process;
+import com.ossimulator.util.Logger;
+
+/**
+ * Headless batch runner.
+ * Runs every cell of the grid quantum × memory slots × scheduler (registry name) × workload as an
+ * isolated Kernel (own clock, own silent Logger) on a fork-join pool and collects
+ * one aggregated results table.
+ */
+public class BatchRunner {
+    //==========================================Variable==========================================
+    private final List<Integer> timeQuanta;
+    private final List<Long> memorySlots;
+    private final List<String> schedulers;
+    private final List<Workload> workloads;
+    private final int parallelism;
+
+    //========================================Constructor=========================================
+    public BatchRunner(List<Integer> timeQuanta, List<Long> memorySlots,
+                       List<String> schedulers, List<Workload> workloads) {
+        this(timeQuanta, memorySlots, schedulers, workloads, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchRunner(List<Integer> timeQuanta, List<Long> memorySlots,
+                       List<String> schedulers, List<Workload> workloads, int parallelism) {
+        this.timeQuanta = new ArrayList<>(timeQuanta);
+        this.memorySlots = new ArrayList<>(memorySlots);
+        this.schedulers = new ArrayList<>(schedulers);
+        this.workloads = new ArrayList<>(workloads);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Run every cell of the grid in parallel
+     * @return one result per cell, in grid order
+     */
+    public List<BatchResult> run() {
+        List<Cell> cells = new ArrayList<>();
+        for (Workload workload : workloads) {
+            for (String scheduler : schedulers) {
+                for (int quantum : timeQuanta) {
+                    for (long slots : memorySlots) {
+                        cells.add(new Cell(quantum, slots, scheduler, workload));
+                    }
+                }
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(() -> cells.parallelStream()
+                            .map(BatchRunner::runCell)
+                            .collect(Collectors.toList()))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ArrayList<>();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch run failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Run a single isolated kernel to completion
+     */
+    private static BatchResult runCell(Cell cell) {
+        long wallStart = System.nanoTime();
+
+        Kernel kernel = new Kernel(cell.timeQuantum, cell.memorySlots, Logger.silent());
+        kernel.setScheduler(cell.scheduler);
+        cell.workload.load(kernel);
+        kernel.runToCompletion();
+
+        List<Process> processes = kernel.getAllProcesses();
+        long totalTurnaround = 0;
+        long totalWaiting = 0;
+        long maxTurnaround = 0;
+        for (Process p : processes) {
+            long turnaround = p.getTurnaroundTime();
+            totalTurnaround += turnaround;
+            totalWaiting += p.getWaitingTime();
+            maxTurnaround = Math.max(maxTurnaround, turnaround);
+        }
+        int count = processes.size();
+
+        return new BatchResult(
+                cell.timeQuantum,
+                cell.memorySlots,
+                cell.scheduler,
+                cell.workload.getName(),
+                count,
+                kernel.getCompletedProcesses().size(),
+                kernel.getCycleCount(),
+                kernel.getDispatcher().getContextSwitchCount(),
+                kernel.getSimulationTime(),
+                count == 0 ? 0 : (double) totalTurnaround / count,
+                count == 0 ? 0 : (double) totalWaiting / count,
+                maxTurnaround,
+                (System.nanoTime() - wallStart) / 1_000_000
+        );
+    }
+
+    /**
+     * Write the aggregated results table to a file
+     */
+    public static void writeResults(List<BatchResult> results, String filePath) throws IOException {
+        File file = new File(filePath);
+        File parentDir = file.getParentFile();
+        if (parentDir != null && !parentDir.exists()) {
+            parentDir.mkdirs();
+        }
+
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file, false))) {
+            writeTable(results, writer);
+        }
+    }
+
+    /**
+     * Print the aggregated results table
+     */
+    public static void writeTable(List<BatchResult> results, PrintWriter writer) {
+        String header = String.format("%-10s | %-12s | %-7s | %-6s | %-9s | %-9s | %-8s | %-9s | %-10s | %-13s | %-12s | %-10s",
+                "Workload", "Scheduler", "Quantum", "Slots", "Processes", "Completed", "Cycles",
+                "CtxSwitch", "SimTime", "AvgTurnaround", "AvgWaiting", "Wall(ms)");
+        writer.println(header);
+        writer.println("-".repeat(header.length()));
+
+        List<BatchResult> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparing(BatchResult::getWorkload)
+                .thenComparing(BatchResult::getScheduler)
+                .thenComparingInt(BatchResult::getTimeQuantum)
+                .thenComparingLong(BatchResult::getMemorySlots));
+
+        for (BatchResult r : sorted) {
+            writer.printf("%-10s | %-12s | %-7d | %-6d | %-9d | %-9d | %-8d | %-9d | %-10d | %-13.2f | %-12.2f | %-10d%n",
+                    r.getWorkload(), r.getScheduler(), r.getTimeQuantum(), r.getMemorySlots(),
+                    r.getProcessCount(), r.getCompletedCount(), r.getCycles(), r.getContextSwitches(),
+                    r.getSimulatedTime(), r.getAverageTurnaround(), r.getAverageWaiting(), r.getWallTimeMs());
+        }
+        writer.flush();
+    }
+
+    //========================================Inner Class=========================================
+    private static class Cell {
+        final int timeQuantum;
+        final long memorySlots;
+        final String scheduler;
+        final Workload workload;
+
+        Cell(int timeQuantum, long memorySlots, String scheduler, Workload workload) {
+            this.timeQuantum = timeQuantum;
+            this.memorySlots = memorySlots;
+            this.scheduler = scheduler;
+            this.workload = workload;
+        }
+    }
+}
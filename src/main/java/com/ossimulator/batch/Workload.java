@@ -0,0 +1,90 @@
+package com.ossimulator.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.ossimulator.manager.kernel.Kernel;
+import com.ossimulator.manager.kernel.MultiprocessorKernel;
+
+/**
+ * Named set of processes to create in a kernel before a batch run
+ */
+public class Workload {
+    //==========================================Variable==========================================
+    private final String name;
+    private final List<ProcessSpec> processes;
+
+    //========================================Constructor=========================================
+    public Workload(String name, List<ProcessSpec> processes) {
+        this.name = name;
+        this.processes = Collections.unmodifiableList(new ArrayList<>(processes));
+    }
+
+    //===========================================Method===========================================
+    /**
+     * The five processes used by the console and GUI demos
+     */
+    public static Workload demo() {
+        List<ProcessSpec> specs = new ArrayList<>();
+        specs.add(new ProcessSpec("Chrome", 10, 2));
+        specs.add(new ProcessSpec("VSCode", 8, 1));
+        specs.add(new ProcessSpec("Spotify", 6, 3));
+        specs.add(new ProcessSpec("Terminal", 4, 2));
+        specs.add(new ProcessSpec("Calculator", 2, 4));
+        return new Workload("demo", specs);
+    }
+
+    /**
+     * Random workload - same seed always gives the same processes
+     */
+    public static Workload random(String name, int count, int maxBurst, int maxPriority, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<ProcessSpec> specs = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            specs.add(new ProcessSpec("P" + i, 1 + random.nextInt(maxBurst), 1 + random.nextInt(maxPriority)));
+        }
+        return new Workload(name, specs);
+    }
+
+    /**
+     * Create every process of this workload in the kernel
+     */
+    public void load(Kernel kernel) {
+        for (ProcessSpec spec : processes) {
+            kernel.createProcess(spec.getName(), spec.getBurstTime(), spec.getPriority());
+        }
+    }
+
+    /**
+     * Create every process of this workload in a multiprocessor kernel
+     */
+    public void load(MultiprocessorKernel kernel) {
+        for (ProcessSpec spec : processes) {
+            kernel.createProcess(spec.getName(), spec.getBurstTime(), spec.getPriority());
+        }
+    }
+
+    //==========================================Get Set===========================================
+    public String getName() { return name; }
+    public List<ProcessSpec> getProcesses() { return processes; }
+    public int size() { return processes.size(); }
+
+    //========================================Inner Class=========================================
+    public static class ProcessSpec {
+        private final String name;
+        private final int burstTime;
+        private final int priority;
+
+        public ProcessSpec(String name, int burstTime, int priority) {
+            this.name = name;
+            this.burstTime = burstTime;
+            this.priority = priority;
+        }
+
+        public String getName() { return name; }
+        public int getBurstTime() { return burstTime; }
+        public int getPriority() { return priority; }
+    }
+}
@@ -0,0 +1,276 @@
+package com.ossimulator.gui;
+
+import javax.swing.JTextArea;
+import javax.swing.Timer;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Element;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Log sink for the GUI log area. Any thread can append; lines go into a bounded ring and a
+ * buffered spill file. Once per frame a Swing timer moves the ring into the text area with a
+ * single document insert and trims the document to the last maxVisibleLines lines, so the EDT
+ * does constant work per frame no matter how many lines arrive. If the ring overflows between
+ * two frames, the oldest pending lines are replaced by a "lines skipped" marker on screen;
+ * the spill file always keeps the full history for export.
+ */
+public class LogAreaSink {
+    //==========================================Variable==========================================
+    public static final int DEFAULT_MAX_VISIBLE_LINES = 2000;
+    public static final int DEFAULT_PENDING_CAPACITY = 4096;
+    public static final int FRAME_INTERVAL_MS = 16;
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+    private static final int SPILL_BUFFER_SIZE = 64 * 1024;
+
+    private final JTextArea area;
+    private final int maxVisibleLines;
+    private final ReentrantLock lock;
+    private final Timer frameTimer;
+    private final StringBuilder frameText;     // EDT only
+
+    // Pending ring (guarded by lock)
+    private final String[] pending;
+    private int head;
+    private int count;
+    private long skipped;
+
+    // Spill file (guarded by lock)
+    private final Path spillPath;
+    private BufferedWriter spill;
+    private long totalLines;
+
+    // Timestamp cache (guarded by lock)
+    private long timestampMillis;
+    private String timestamp;
+
+    //========================================Constructor=========================================
+    public LogAreaSink(JTextArea area) {
+        this(area, DEFAULT_MAX_VISIBLE_LINES, DEFAULT_PENDING_CAPACITY);
+    }
+
+    /**
+     * Without a writable temp directory the sink still works, but exportTo fails
+     */
+    public LogAreaSink(JTextArea area, int maxVisibleLines, int pendingCapacity) {
+        if (maxVisibleLines < 1 || pendingCapacity < 1) {
+            throw new IllegalArgumentException("maxVisibleLines and pendingCapacity must be >= 1");
+        }
+        this.area = area;
+        this.maxVisibleLines = maxVisibleLines;
+        this.lock = new ReentrantLock();
+        this.frameText = new StringBuilder();
+        this.pending = new String[pendingCapacity];
+        this.spillPath = createSpillFile();
+        this.spill = openSpill();
+        this.timestampMillis = -1;
+        this.frameTimer = new Timer(FRAME_INTERVAL_MS, e -> flushToArea());
+        this.frameTimer.setCoalesce(true);
+        this.frameTimer.start();
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Timestamp a line and queue it for the next frame - callable from any thread
+     */
+    public void append(String message) {
+        lock.lock();
+        try {
+            String line = "[" + timestamp() + "] " + message;
+            totalLines++;
+            writeSpill(line);
+            if (count == pending.length) {
+                head = (head + 1) % pending.length;
+                count--;
+                skipped++;
+            }
+            pending[(head + count) % pending.length] = line;
+            count++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Empty the text area, the pending lines and the history (EDT only)
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            Arrays.fill(pending, null);
+            head = 0;
+            count = 0;
+            skipped = 0;
+            totalLines = 0;
+            closeSpill();
+            spill = openSpill();
+        } finally {
+            lock.unlock();
+        }
+        area.setText("");
+    }
+
+    /**
+     * Copy the full history (every line since the last clear) to a file
+     */
+    public void exportTo(Path target) throws IOException {
+        lock.lock();
+        try {
+            if (spill == null) {
+                throw new IOException("Log history unavailable");
+            }
+            spill.flush();
+            Files.copy(spillPath, target, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void close() {
+        frameTimer.stop();
+        lock.lock();
+        try {
+            closeSpill();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            if (spillPath != null) {
+                Files.deleteIfExists(spillPath);
+            }
+        } catch (IOException e) {
+            // deleteOnExit is the fallback
+        }
+    }
+
+    //==========================================Get Set===========================================
+    public int getMaxVisibleLines() { return maxVisibleLines; }
+    public Path getSpillPath() { return spillPath; }
+
+    public long getTotalLines() {
+        lock.lock();
+        try {
+            return totalLines;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //===========================================Frame============================================
+    /**
+     * Move pending lines into the document: one insert, one trim, one caret update
+     */
+    private void flushToArea() {
+        lock.lock();
+        try {
+            if (count == 0) {
+                return;
+            }
+            if (skipped > 0) {
+                frameText.append("... ").append(skipped).append(" lines skipped (see Export Log) ...\n");
+                skipped = 0;
+            }
+            // Only the last maxVisibleLines pending lines can survive the trim
+            int drop = Math.max(0, count - maxVisibleLines);
+            for (int i = 0; i < count; i++) {
+                int slot = (head + i) % pending.length;
+                if (i >= drop) {
+                    frameText.append(pending[slot]).append('\n');
+                }
+                pending[slot] = null;
+            }
+            head = 0;
+            count = 0;
+        } finally {
+            lock.unlock();
+        }
+
+        Document document = area.getDocument();
+        try {
+            document.insertString(document.getLength(), frameText.toString(), null);
+            trim(document);
+        } catch (BadLocationException e) {
+            area.setText(frameText.toString());
+        }
+        frameText.setLength(0);
+        area.setCaretPosition(document.getLength());
+    }
+
+    private void trim(Document document) throws BadLocationException {
+        Element root = document.getDefaultRootElement();
+        int excess = root.getElementCount() - maxVisibleLines - 1;   // Trailing empty line after the last '\n'
+        if (excess > 0) {
+            document.remove(0, root.getElement(excess - 1).getEndOffset());
+        }
+    }
+
+    //===========================================Spill============================================
+    private static Path createSpillFile() {
+        try {
+            Path path = Files.createTempFile("ossimulator-gui-", ".log");
+            path.toFile().deleteOnExit();
+            return path;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Truncate and open the spill file, or null if there is none
+     */
+    private BufferedWriter openSpill() {
+        if (spillPath == null) {
+            return null;
+        }
+        try {
+            return new BufferedWriter(new OutputStreamWriter(
+                    Files.newOutputStream(spillPath, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE),
+                    StandardCharsets.UTF_8), SPILL_BUFFER_SIZE);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void writeSpill(String line) {
+        if (spill == null) {
+            return;
+        }
+        try {
+            spill.write(line);
+            spill.newLine();
+        } catch (IOException e) {
+            closeSpill();
+        }
+    }
+
+    private void closeSpill() {
+        if (spill != null) {
+            try {
+                spill.close();
+            } catch (IOException e) {
+                // Nothing else to do with a broken history file
+            }
+            spill = null;
+        }
+    }
+
+    private String timestamp() {
+        long now = System.currentTimeMillis();
+        if (now != timestampMillis) {
+            timestampMillis = now;
+            timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
+        }
+        return timestamp;
+    }
+}
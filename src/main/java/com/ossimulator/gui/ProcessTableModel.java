@@ -0,0 +1,297 @@
+package com.ossimulator.gui;
+
+import com.ossimulator.manager.kernel.Kernel;
+import com.ossimulator.model.component.ProcessState;
+import com.ossimulator.model.main.Process;
+
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Process table backed by primitive column arrays instead of a DefaultTableModel of Object rows.
+ * Kernel callbacks only mark the model dirty (any thread); a Swing timer samples the kernel's
+ * process list at most once per frame on the EDT, compares it with the previous sample and
+ * fires fireTableRowsUpdated for the changed rows only, merged into contiguous ranges.
+ * Sampling never waits for the kernel lock: while a cycle holds it (including its delays)
+ * the frame is skipped and the model stays dirty for the next one.
+ */
+public class ProcessTableModel extends AbstractTableModel {
+    //==========================================Variable==========================================
+    private static final long serialVersionUID = 1L;
+    public static final int FRAME_INTERVAL_MS = 16;
+    public static final int COLUMN_REMAINING = 3;
+    public static final int COLUMN_STATE = 5;
+    private static final String[] COLUMNS = {"PID", "Name", "Burst(ms)", "Remaining", "Priority", "State", "Turnaround"};
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Columns, one slot per row
+    private int[] pids;
+    private String[] names;
+    private int[] bursts;
+    private int[] remaining;
+    private int[] priorities;
+    private ProcessState[] states;
+    private long[] turnarounds;             // -1 = still running
+    private int rowCount;
+
+    private final AtomicBoolean dirty;
+    private final Timer frameTimer;
+    private transient Kernel kernel;
+    private transient Process[] snapshot;
+    private boolean detaching;              // Stop following after the next successful sample
+    private long rowsUpdated;               // Rows repainted since the model was created
+    private long refreshCount;
+
+    //========================================Constructor=========================================
+    public ProcessTableModel() {
+        this.pids = new int[INITIAL_CAPACITY];
+        this.names = new String[INITIAL_CAPACITY];
+        this.bursts = new int[INITIAL_CAPACITY];
+        this.remaining = new int[INITIAL_CAPACITY];
+        this.priorities = new int[INITIAL_CAPACITY];
+        this.states = new ProcessState[INITIAL_CAPACITY];
+        this.turnarounds = new long[INITIAL_CAPACITY];
+        this.dirty = new AtomicBoolean(false);
+        this.snapshot = new Process[INITIAL_CAPACITY];
+        this.frameTimer = new Timer(FRAME_INTERVAL_MS, e -> refreshIfDirty());
+        this.frameTimer.setCoalesce(true);
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Follow a kernel: start the frame timer and sample it on the next frame
+     */
+    public void attach(Kernel kernel) {
+        this.kernel = kernel;
+        this.detaching = false;
+        frameTimer.start();
+        requestRefresh();
+    }
+
+    /**
+     * Stop following the kernel after one last refresh (EDT only). If the kernel is still inside
+     * a cycle, the timer keeps running until a frame gets the sample.
+     */
+    public void detach() {
+        if (kernel != null && !refresh()) {
+            detaching = true;
+            dirty.set(true);
+            return;
+        }
+        stopFollowing();
+    }
+
+    /**
+     * Mark the table stale - cheap and thread-safe, called once per state transition
+     */
+    public void requestRefresh() {
+        dirty.set(true);
+    }
+
+    /**
+     * Append a configured process that has not been created yet (EDT only)
+     */
+    public void addRow(int pid, String name, int burstTime, int priority) {
+        ensureCapacity(rowCount + 1);
+        int row = rowCount++;
+        pids[row] = pid;
+        names[row] = name;
+        bursts[row] = burstTime;
+        remaining[row] = burstTime;
+        priorities[row] = priority;
+        states[row] = ProcessState.CREATED;
+        turnarounds[row] = -1;
+        fireTableRowsInserted(row, row);
+    }
+
+    public void clear() {
+        if (detaching) {
+            stopFollowing();
+        }
+        if (rowCount == 0) {
+            return;
+        }
+        int last = rowCount - 1;
+        Arrays.fill(names, 0, rowCount, null);
+        Arrays.fill(states, 0, rowCount, null);
+        rowCount = 0;
+        fireTableRowsDeleted(0, last);
+    }
+
+    /**
+     * Overwrite rows from processes that are not the kernel's (e.g. a replay); unchanged rows are not fired
+     * @param includeRemaining false when the source does not know remaining time (-1 also skips a row)
+     */
+    public void show(List<Process> processes, boolean includeRemaining) {
+        if (detaching) {
+            stopFollowing();
+        }
+        int changedFrom = -1;
+        int count = Math.min(processes.size(), rowCount);
+        for (int row = 0; row < count; row++) {
+            Process p = processes.get(row);
+            boolean changed = states[row] != p.getState();
+            states[row] = p.getState();
+            if (includeRemaining && p.getRemainingTime() >= 0 && remaining[row] != p.getRemainingTime()) {
+                remaining[row] = p.getRemainingTime();
+                changed = true;
+            }
+            changedFrom = track(row, changed, changedFrom);
+        }
+        flushRange(changedFrom, count);
+    }
+
+    /**
+     * Re-sample the kernel now and fire updates for changed rows (EDT only)
+     * @return false if the kernel lock was busy and nothing was sampled
+     */
+    public boolean refresh() {
+        if (kernel == null) {
+            return true;
+        }
+        Process[] sampled = kernel.trySnapshotProcesses(snapshot);
+        if (sampled == null) {
+            return false;
+        }
+        snapshot = sampled;
+        int count = 0;
+        while (count < snapshot.length && snapshot[count] != null) {
+            count++;
+        }
+        refreshCount++;
+
+        int oldRows = rowCount;
+        int common = Math.min(count, oldRows);
+        int changedFrom = -1;
+        for (int row = 0; row < common; row++) {
+            changedFrom = track(row, sample(row, snapshot[row]), changedFrom);
+        }
+        flushRange(changedFrom, common);
+
+        if (count > oldRows) {
+            ensureCapacity(count);
+            for (int row = oldRows; row < count; row++) {
+                Process p = snapshot[row];
+                pids[row] = p.getPid();
+                names[row] = p.getName();
+                bursts[row] = p.getBurstTime();
+                sample(row, p);
+            }
+            rowCount = count;
+            fireTableRowsInserted(oldRows, count - 1);
+        }
+        Arrays.fill(snapshot, 0, count, null);
+        return true;
+    }
+
+    //==========================================Table Model=======================================
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        switch (column) {
+            case 0: return pids[row];
+            case 1: return names[row];
+            case 2: return bursts[row];
+            case 3: return remaining[row];
+            case 4: return priorities[row];
+            case 5: return states[row];
+            case 6: return turnarounds[row] < 0 ? "-" : turnarounds[row] + "ms";
+            default: return null;
+        }
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    //==========================================Get Set===========================================
+    public long getRowsUpdated() { return rowsUpdated; }
+    public long getRefreshCount() { return refreshCount; }
+
+    //==========================================Refresh===========================================
+    private void refreshIfDirty() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        if (!refresh()) {
+            dirty.set(true);
+        } else if (detaching) {
+            stopFollowing();
+        }
+    }
+
+    private void stopFollowing() {
+        frameTimer.stop();
+        kernel = null;
+        detaching = false;
+    }
+
+    /**
+     * Copy the mutable columns of one process into its row
+     * @return true if any of them changed
+     */
+    private boolean sample(int row, Process p) {
+        ProcessState state = p.getState();
+        long turnaround = state == ProcessState.ZOMBIE ? p.getTurnaroundTime() : -1;
+        if (states[row] == state && remaining[row] == p.getRemainingTime()
+                && priorities[row] == p.getPriority() && turnarounds[row] == turnaround) {
+            return false;
+        }
+        states[row] = state;
+        remaining[row] = p.getRemainingTime();
+        priorities[row] = p.getPriority();
+        turnarounds[row] = turnaround;
+        return true;
+    }
+
+    /**
+     * Extend or close the current run of changed rows
+     * @return start of the open run, or -1
+     */
+    private int track(int row, boolean changed, int changedFrom) {
+        if (changed) {
+            return changedFrom < 0 ? row : changedFrom;
+        }
+        flushRange(changedFrom, row);
+        return -1;
+    }
+
+    private void flushRange(int from, int toExclusive) {
+        if (from >= 0 && toExclusive > from) {
+            rowsUpdated += toExclusive - from;
+            fireTableRowsUpdated(from, toExclusive - 1);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= pids.length) {
+            return;
+        }
+        int size = Math.max(capacity, pids.length << 1);
+        pids = Arrays.copyOf(pids, size);
+        names = Arrays.copyOf(names, size);
+        bursts = Arrays.copyOf(bursts, size);
+        remaining = Arrays.copyOf(remaining, size);
+        priorities = Arrays.copyOf(priorities, size);
+        states = Arrays.copyOf(states, size);
+        turnarounds = Arrays.copyOf(turnarounds, size);
+    }
+}
@@ -1,18 +1,20 @@
 package com.ossimulator.gui;
 
 import com.ossimulator.manager.kernel.Kernel;
+import com.ossimulator.manager.scheduler.SchedulerConfig;
+import com.ossimulator.manager.scheduler.SchedulerRegistry;
 import com.ossimulator.model.main.Process;
 import com.ossimulator.model.component.ProcessState;
+import com.ossimulator.replay.ReplayEngine;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.*;
 import java.awt.event.*;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * OS Kernel Simulator - GUI Application
@@ -33,12 +35,12 @@ public class SimulatorApp extends JFrame {
     private JComboBox<String> schedulerComboBox;
 
     // Process table
-    private DefaultTableModel processTableModel;
+    private ProcessTableModel processTableModel;
     private JTable processTable;
 
     // Log area
     private JTextArea logArea;
-    private List<String> logHistory;
+    private LogAreaSink logSink;
 
     // Statistics
     private JLabel statusLabel;
@@ -49,6 +51,15 @@ public class SimulatorApp extends JFrame {
     private JLabel contextSwitchLabel;
     private JLabel timeLabel;
 
+    // Replay - scrub through the recorded run once it has finished
+    private ReplayEngine replay;
+    private String journalFile;
+    private String traceFile;
+    private JSlider replaySlider;
+    private JButton stepBackButton;
+    private JButton stepForwardButton;
+    private JLabel replayLabel;
+
     // Buttons
     private JButton startButton;
     private JButton stopButton;
@@ -72,7 +83,6 @@ public class SimulatorApp extends JFrame {
     public SimulatorApp() {
         super("OS Kernel Simulator - CS4448");
         this.processConfigs = new ArrayList<>();
-        this.logHistory = new ArrayList<>();
         this.simulationRunning = false;
 
         initializeComponents();
@@ -92,19 +102,15 @@ public class SimulatorApp extends JFrame {
         timeQuantumSpinner = new JSpinner(new SpinnerNumberModel(2, 1, 100, 1));
         memorySlotSpinner = new JSpinner(new SpinnerNumberModel(3, 1, 10, 1));
         transitionDelaySpinner = new JSpinner(new SpinnerNumberModel(200, 50, 2000, 50));
-        schedulerComboBox = new JComboBox<>(new String[]{"Round Robin", "Priority"});
+        schedulerComboBox = new JComboBox<>(SchedulerRegistry.getDefault().getNames().toArray(new String[0]));
+        schedulerComboBox.setEditable(true);
+        schedulerComboBox.setToolTipText("Policy name, optionally with properties, e.g. PRIORITY:levels=160");
 
         // Process table
-        String[] columns = {"PID", "Name", "Burst(ms)", "Remaining", "Priority", "State", "Turnaround"};
-        processTableModel = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        processTableModel = new ProcessTableModel();
         processTable = new JTable(processTableModel);
         processTable.setRowHeight(25);
-        processTable.getColumnModel().getColumn(5).setCellRenderer(new StateCellRenderer());
+        processTable.getColumnModel().getColumn(ProcessTableModel.COLUMN_STATE).setCellRenderer(new StateCellRenderer());
 
         // Log area
         logArea = new JTextArea();
@@ -112,6 +118,7 @@ public class SimulatorApp extends JFrame {
         logArea.setFont(new Font("Monospaced", Font.PLAIN, 12));
         logArea.setBackground(new Color(30, 30, 30));
         logArea.setForeground(new Color(0, 255, 0));
+        logSink = new LogAreaSink(logArea);
 
         // Status labels
         statusLabel = new JLabel("Status: Idle");
@@ -132,6 +139,13 @@ public class SimulatorApp extends JFrame {
 
         stopButton.setEnabled(false);
 
+        // Replay controls (enabled when a finished run can be replayed)
+        replaySlider = new JSlider(0, 0, 0);
+        stepBackButton = new JButton("\u25C0");
+        stepForwardButton = new JButton("\u25B6");
+        replayLabel = new JLabel("Replay: -");
+        setReplayEnabled(false);
+
         // Style buttons
         startButton.setBackground(new Color(76, 175, 80));
         startButton.setForeground(Color.WHITE);
@@ -206,7 +220,18 @@ public class SimulatorApp extends JFrame {
         legendPanel.add(createLegendItem("SLEEP", SLEEP_COLOR));
         legendPanel.add(createLegendItem("SLEEP_SWAPPED", SLEEP_SWAPPED_COLOR));
         legendPanel.add(createLegendItem("ZOMBIE", ZOMBIE_COLOR));
-        panel.add(legendPanel, BorderLayout.SOUTH);
+        JPanel replayPanel = new JPanel(new BorderLayout(5, 0));
+        JPanel stepButtons = new JPanel(new FlowLayout(FlowLayout.LEFT, 2, 0));
+        stepButtons.add(stepBackButton);
+        stepButtons.add(stepForwardButton);
+        replayPanel.add(stepButtons, BorderLayout.WEST);
+        replayPanel.add(replaySlider, BorderLayout.CENTER);
+        replayPanel.add(replayLabel, BorderLayout.EAST);
+
+        JPanel southPanel = new JPanel(new BorderLayout());
+        southPanel.add(legendPanel, BorderLayout.NORTH);
+        southPanel.add(replayPanel, BorderLayout.SOUTH);
+        panel.add(southPanel, BorderLayout.SOUTH);
 
         return panel;
     }
@@ -264,6 +289,9 @@ public class SimulatorApp extends JFrame {
         addProcessButton.addActionListener(e -> showAddProcessDialog());
         clearLogButton.addActionListener(e -> clearLog());
         exportLogButton.addActionListener(e -> exportLog());
+        replaySlider.addChangeListener(e -> showReplayTick(replaySlider.getValue()));
+        stepBackButton.addActionListener(e -> stepReplay(false));
+        stepForwardButton.addActionListener(e -> stepReplay(true));
     }
 
     private void startSimulation() {
@@ -275,35 +303,45 @@ public class SimulatorApp extends JFrame {
         int timeQuantum = (Integer) timeQuantumSpinner.getValue();
         int memorySlots = (Integer) memorySlotSpinner.getValue();
         int transitionDelay = (Integer) transitionDelaySpinner.getValue();
-        String schedulerType = (String) schedulerComboBox.getSelectedItem();
+        String schedulerType = String.valueOf(schedulerComboBox.getSelectedItem()).trim();
+        SchedulerConfig schedulerConfig;
+        try {
+            // Fail here, before any log file is opened, on an unknown policy or a bad property
+            schedulerConfig = SchedulerConfig.parseSelection(timeQuantum, schedulerType);
+            SchedulerRegistry.getDefault().create(SchedulerConfig.policyName(schedulerType), schedulerConfig);
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(this, "Invalid scheduler: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
 
         // Create kernel
+        closeReplay();
         kernel = new Kernel(timeQuantum, memorySlots);
 
-        // Enable history logging to file
-        String historyFile = "logs/state_history_" + System.currentTimeMillis() + ".log";
+        // Enable history logging to file, plus the binary journal and snapshot trace for replay
+        String historyBase = "logs/state_history_" + System.currentTimeMillis();
+        String historyFile = historyBase + ".log";
+        journalFile = historyBase + ".journal";
+        traceFile = historyBase + ".trace";
         new java.io.File("logs").mkdirs();
         kernel.enableHistoryLogging(historyFile);
+        kernel.enableTransitionJournal(journalFile);
+        kernel.enableSnapshotTrace(traceFile);
 
-        // Set callback for state changes - update GUI on each transition
+        // Set callback for state changes - the table picks them up on its next frame
         kernel.setStateChangeCallback(message -> {
-            SwingUtilities.invokeLater(() -> {
-                log(message);
-                updateProcessTable();
-            });
+            log(message);
+            processTableModel.requestRefresh();
         });
 
         // Set scheduler type
-        if ("Priority".equals(schedulerType)) {
-            kernel.setScheduler(Kernel.SchedulerType.PRIORITY);
-        } else {
-            kernel.setScheduler(Kernel.SchedulerType.ROUND_ROBIN);
-        }
+        kernel.setScheduler(SchedulerConfig.policyName(schedulerType), schedulerConfig);
 
         // Create processes
         for (ProcessConfig config : processConfigs) {
             kernel.createProcess(config.name, config.burstTime, config.priority);
         }
+        processTableModel.attach(kernel);
 
         simulationRunning = true;
         startButton.setEnabled(false);
@@ -333,8 +371,8 @@ public class SimulatorApp extends JFrame {
     private void runSimulation() {
         int transitionDelay = (Integer) transitionDelaySpinner.getValue();
 
-        while (simulationRunning && !kernel.getScheduler().isEmpty()) {
-            // Run cycle with delay between state transitions
+        while (simulationRunning && kernel.hasPendingWork()) {
+            // Run cycle with delay between state transitions (display throttle only)
             kernel.runCycleWithDelay(transitionDelay);
 
             // Small delay between cycles
@@ -363,7 +401,8 @@ public class SimulatorApp extends JFrame {
             // Close loggers
             kernel.closeLogger();
 
-            updateProcessTable();
+            processTableModel.detach();
+            openReplay();
         });
     }
 
@@ -386,6 +425,7 @@ public class SimulatorApp extends JFrame {
         if (monitorThread != null) {
             monitorThread.interrupt();
         }
+        processTableModel.detach();
 
         startButton.setEnabled(true);
         stopButton.setEnabled(false);
@@ -398,9 +438,10 @@ public class SimulatorApp extends JFrame {
 
     private void resetSimulation() {
         stopSimulation();
+        closeReplay();
         kernel = null;
         processConfigs.clear();
-        processTableModel.setRowCount(0);
+        processTableModel.clear();
 
         addDefaultProcesses();
 
@@ -441,10 +482,7 @@ public class SimulatorApp extends JFrame {
             if (!name.isEmpty()) {
                 ProcessConfig config = new ProcessConfig(processConfigs.size() + 1, name, burst, priority);
                 processConfigs.add(config);
-                processTableModel.addRow(new Object[]{
-                        config.pid, config.name, config.burstTime, config.burstTime,
-                        config.priority, "CREATED", "-"
-                });
+                processTableModel.addRow(config.pid, config.name, config.burstTime, config.priority);
                 log("Added process: " + name + " (burst=" + burst + "ms, priority=" + priority + ")");
             }
         }
@@ -461,28 +499,10 @@ public class SimulatorApp extends JFrame {
     private void addProcess(String name, int burst, int priority) {
         ProcessConfig config = new ProcessConfig(processConfigs.size() + 1, name, burst, priority);
         processConfigs.add(config);
-        processTableModel.addRow(new Object[]{
-                config.pid, config.name, config.burstTime, config.burstTime,
-                config.priority, "CREATED", "-"
-        });
+        processTableModel.addRow(config.pid, config.name, config.burstTime, config.priority);
     }
 
     //==========================================Update==========================================
-    private void updateProcessTable() {
-        if (kernel == null) return;
-
-        List<Process> processes = kernel.getAllProcesses();
-        for (int i = 0; i < processes.size() && i < processTableModel.getRowCount(); i++) {
-            Process p = processes.get(i);
-            processTableModel.setValueAt(p.getRemainingTime(), i, 3);
-            processTableModel.setValueAt(p.getState().toString(), i, 5);
-            if (p.getState() == ProcessState.ZOMBIE) {
-                processTableModel.setValueAt(p.getTurnaroundTime() + "ms", i, 6);
-            }
-        }
-        processTable.repaint();
-    }
-
     private void updateStats() {
         if (kernel == null) return;
 
@@ -524,21 +544,94 @@ public class SimulatorApp extends JFrame {
         }
     }
 
+    //==========================================Replay==========================================
+    /**
+     * Load the finished run's journal and snapshot trace and put the slider on its last tick
+     */
+    private void openReplay() {
+        closeReplay();
+        try {
+            replay = new ReplayEngine(Path.of(journalFile), Path.of(traceFile),
+                    ReplayEngine.DEFAULT_CHECKPOINT_INTERVAL);
+        } catch (IOException e) {
+            log("Replay unavailable: " + e.getMessage());
+            return;
+        }
+        replaySlider.setMinimum(replay.getFirstTick());
+        replaySlider.setMaximum(replay.getLastTick());
+        replaySlider.setValue(replay.getLastTick());
+        setReplayEnabled(true);
+        log("Replay loaded: ticks " + replay.getFirstTick() + "-" + replay.getLastTick()
+                + " (" + replay.getTransitionCount() + " transitions)");
+    }
+
+    private void closeReplay() {
+        if (replay == null) {
+            return;
+        }
+        try {
+            replay.close();
+        } catch (IOException e) {
+            log("Failed to close replay: " + e.getMessage());
+        }
+        replay = null;
+        setReplayEnabled(false);
+        replayLabel.setText("Replay: -");
+    }
+
+    private void setReplayEnabled(boolean enabled) {
+        replaySlider.setEnabled(enabled);
+        stepBackButton.setEnabled(enabled);
+        stepForwardButton.setEnabled(enabled);
+    }
+
+    private void stepReplay(boolean forward) {
+        if (replay == null) {
+            return;
+        }
+        try {
+            boolean moved = forward ? replay.stepForward() : replay.stepBackward();
+            if (moved && replaySlider.getValue() != replay.getTick()) {
+                replaySlider.setValue(replay.getTick());
+            } else if (moved) {
+                showReplayTick(replay.getTick());
+            }
+        } catch (IOException e) {
+            log("Replay failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Show the recorded state at a tick in the process table and the statistics labels
+     */
+    private void showReplayTick(int tick) {
+        if (replay == null) {
+            return;
+        }
+        try {
+            replay.seek(tick);
+        } catch (IOException e) {
+            log("Replay failed: " + e.getMessage());
+            return;
+        }
+        processTableModel.show(replay.getProcesses(), replay.hasSnapshots());
+
+        replayLabel.setText("Replay: tick " + tick);
+        timeLabel.setText("Time: " + replay.getTime() + "ms");
+        tickLabel.setText("Ticks: " + replay.getTick());
+        contextSwitchLabel.setText("Context Switches: " + replay.getContextSwitches());
+    }
+
     //==========================================Log==========================================
+    /**
+     * Thread-safe: the sink batches lines into the log area once per frame
+     */
     private void log(String message) {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss.SSS"));
-        String logLine = "[" + timestamp + "] " + message;
-        logHistory.add(logLine);
-
-        SwingUtilities.invokeLater(() -> {
-            logArea.append(logLine + "\n");
-            logArea.setCaretPosition(logArea.getDocument().getLength());
-        });
+        logSink.append(message);
     }
 
     private void clearLog() {
-        logArea.setText("");
-        logHistory.clear();
+        logSink.clear();
         log("Log cleared");
     }
 
@@ -547,10 +640,8 @@ public class SimulatorApp extends JFrame {
         fileChooser.setSelectedFile(new java.io.File("simulation_log.txt"));
 
         if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
-            try (java.io.PrintWriter writer = new java.io.PrintWriter(fileChooser.getSelectedFile())) {
-                for (String line : logHistory) {
-                    writer.println(line);
-                }
+            try {
+                logSink.exportTo(fileChooser.getSelectedFile().toPath());
                 JOptionPane.showMessageDialog(this, "Log exported successfully!", "Success", JOptionPane.INFORMATION_MESSAGE);
             } catch (Exception e) {
                 JOptionPane.showMessageDialog(this, "Failed to export log: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
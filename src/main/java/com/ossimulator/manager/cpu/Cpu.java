@@ -0,0 +1,77 @@
+package com.ossimulator.manager.cpu;
+
+import com.ossimulator.manager.dispatcher.Dispatcher;
+import com.ossimulator.manager.event.SimulationClock;
+import com.ossimulator.manager.scheduler.Scheduler;
+import com.ossimulator.model.main.Process;
+import com.ossimulator.model.main.ProcessControlBlock;
+
+/**
+ * One simulated processor: its own run queue, dispatcher state and local clock.
+ * Counters are written only by the CPU's worker thread and read by monitors.
+ */
+public class Cpu {
+    //==========================================Variable==========================================
+    private final int id;
+    private final Scheduler runQueue;
+    private final Dispatcher dispatcher;
+    private final SimulationClock localClock;
+
+    private volatile Process currentProcess;
+    private volatile long busyTime;
+    private volatile int stealCount;
+    private volatile int completedCount;
+
+    //========================================Constructor=========================================
+    public Cpu(int id, Scheduler runQueue) {
+        this.id = id;
+        this.runQueue = runQueue;
+        this.dispatcher = new Dispatcher(runQueue);
+        this.localClock = new SimulationClock();
+        this.currentProcess = null;
+        this.busyTime = 0;
+        this.stealCount = 0;
+        this.completedCount = 0;
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Context switch to a process on this CPU
+     */
+    public void dispatch(ProcessControlBlock pcb) {
+        dispatcher.dispatchToUser(pcb);
+        dispatcher.incrementContextSwitch();
+        currentProcess = pcb.getProcess();
+    }
+
+    /**
+     * Process left this CPU after running for executedTime
+     */
+    public void release(long executedTime, boolean completed) {
+        busyTime += executedTime;
+        if (completed) {
+            completedCount++;
+        }
+        currentProcess = null;
+    }
+
+    public void recordSteal() {
+        stealCount++;
+    }
+
+    //==========================================Get Set===========================================
+    public int getId() { return id; }
+    public Scheduler getRunQueue() { return runQueue; }
+    public Dispatcher getDispatcher() { return dispatcher; }
+    public SimulationClock getLocalClock() { return localClock; }
+    public Process getCurrentProcess() { return currentProcess; }
+    public long getBusyTime() { return busyTime; }
+    public int getStealCount() { return stealCount; }
+    public int getCompletedCount() { return completedCount; }
+    public int getContextSwitchCount() { return dispatcher.getContextSwitchCount(); }
+
+    @Override
+    public String toString() {
+        return String.format("CPU%d[queue=%d, busy=%dms, steals=%d]", id, runQueue.size(), busyTime, stealCount);
+    }
+}
@@ -0,0 +1,145 @@
+package com.ossimulator.manager.event;
+
+import java.util.Arrays;
+
+import com.ossimulator.model.main.Process;
+
+/**
+ * Future event list of the discrete-event engine.
+ * Binary min-heap over parallel primitive arrays ordered by (time, sequence):
+ * events at the same time fire in the order they were scheduled, which keeps
+ * runs deterministic, and no node object is allocated per event.
+ */
+public class EventQueue {
+    //==========================================Variable==========================================
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final SimulationEvent.Type[] TYPES = SimulationEvent.Type.values();
+
+    private long[] times;
+    private long[] sequences;
+    private byte[] types;
+    private Process[] processes;
+    private int size;
+    private long nextSequence;
+
+    //========================================Constructor=========================================
+    public EventQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public EventQueue(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 2);
+        this.times = new long[capacity];
+        this.sequences = new long[capacity];
+        this.types = new byte[capacity];
+        this.processes = new Process[capacity];
+        this.size = 0;
+        this.nextSequence = 0;
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Schedule an event at the given simulated time
+     */
+    public void schedule(long time, SimulationEvent.Type type, Process process) {
+        if (size == times.length) {
+            grow();
+        }
+        int i = size++;
+        long seq = nextSequence++;
+
+        // Sift up
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(time, seq, times[parent], sequences[parent])) {
+                break;
+            }
+            move(parent, i);
+            i = parent;
+        }
+        times[i] = time;
+        sequences[i] = seq;
+        types[i] = (byte) type.ordinal();
+        processes[i] = process;
+    }
+
+    /**
+     * Remove the earliest event and copy it into {@code into}
+     * @return false if the queue is empty
+     */
+    public boolean poll(SimulationEvent into) {
+        if (size == 0) {
+            return false;
+        }
+        into.set(times[0], TYPES[types[0]], processes[0]);
+
+        int last = --size;
+        long time = times[last];
+        long seq = sequences[last];
+        byte type = types[last];
+        Process process = processes[last];
+        processes[last] = null;
+
+        // Sift down
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = (i << 1) + 1;
+            int right = child + 1;
+            if (right < size && less(times[right], sequences[right], times[child], sequences[child])) {
+                child = right;
+            }
+            if (!less(times[child], sequences[child], time, seq)) {
+                break;
+            }
+            move(child, i);
+            i = child;
+        }
+        if (size > 0) {
+            times[i] = time;
+            sequences[i] = seq;
+            types[i] = type;
+            processes[i] = process;
+        }
+        return true;
+    }
+
+    /**
+     * Time of the earliest pending event, or Long.MAX_VALUE if none
+     */
+    public long peekTime() {
+        return size == 0 ? Long.MAX_VALUE : times[0];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(processes, 0, size, null);
+        size = 0;
+    }
+
+    private static boolean less(long t1, long s1, long t2, long s2) {
+        return t1 < t2 || (t1 == t2 && s1 < s2);
+    }
+
+    private void move(int from, int to) {
+        times[to] = times[from];
+        sequences[to] = sequences[from];
+        types[to] = types[from];
+        processes[to] = processes[from];
+    }
+
+    private void grow() {
+        int capacity = times.length << 1;
+        times = Arrays.copyOf(times, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+        types = Arrays.copyOf(types, capacity);
+        processes = Arrays.copyOf(processes, capacity);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ossimulator.manager.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Virtual simulation clock (milliseconds of simulated time).
+ * Time only moves forward when the event loop advances it, so a run is
+ * independent of host speed and gives the same result on every execution.
+ * advanceTo is a lock-free max, so several simulated CPUs may share one clock.
+ */
+public class SimulationClock {
+    //==========================================Variable==========================================
+    private final AtomicLong now;
+
+    //========================================Constructor=========================================
+    public SimulationClock() {
+        this.now = new AtomicLong(0);
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Current simulated time
+     */
+    public long now() {
+        return now.get();
+    }
+
+    /**
+     * Move the clock forward to the given time (never backwards)
+     */
+    public void advanceTo(long time) {
+        long current;
+        while (time > (current = now.get())) {
+            if (now.compareAndSet(current, time)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reset the clock to time 0
+     */
+    public void reset() {
+        now.set(0);
+    }
+}
@@ -0,0 +1,42 @@
+package com.ossimulator.manager.event;
+
+import com.ossimulator.model.main.Process;
+
+/**
+ * Mutable event holder filled by {@link EventQueue#poll(SimulationEvent)}.
+ * One instance is reused by the event loop so polling does not allocate.
+ */
+public class SimulationEvent {
+    //==========================================Variable==========================================
+    private long time;
+    private Type type;
+    private Process process;
+
+    //==========================================Get Set===========================================
+    public long getTime() { return time; }
+    public Type getType() { return type; }
+    public Process getProcess() { return process; }
+
+    void set(long time, Type type, Process process) {
+        this.time = time;
+        this.type = type;
+        this.process = process;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Event[time=%d, type=%s, process=%s]",
+                time, type, process != null ? process.getName() : "-");
+    }
+
+    //==========================================Constants==========================================
+    public enum Type {
+        DISPATCH,
+        QUANTUM_EXPIRED,
+        IO_COMPLETE,
+        EXIT,
+        JOB_COMPLETE,   // Real-time job finished, next release is in the future
+        JOB_RELEASE,    // Next job of a sleeping real-time task is released
+        SWAPPER         // Medium-term scheduler pass
+    }
+}
@@ -0,0 +1,96 @@
+package com.ossimulator.manager.event;
+
+import com.ossimulator.model.component.ProcessState;
+
+/**
+ * Preallocated ring of state transitions stored as primitives
+ * (tick, simulated time, pid, from, to, reason). Recording never allocates; once the
+ * ring is full the oldest transitions are overwritten. Index 0 is the oldest retained
+ * transition. Not thread-safe - the kernel records under its own lock.
+ */
+public class TransitionBuffer {
+    //==========================================Variable==========================================
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+    private static final ProcessState[] STATES = ProcessState.values();
+
+    private final long[] ticks;
+    private final long[] times;
+    private final int[] pids;
+    private final byte[] fromStates;
+    private final byte[] toStates;
+    private final byte[] reasons;
+    private final int mask;
+    private long recorded;
+
+    //========================================Constructor=========================================
+    public TransitionBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    public TransitionBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.ticks = new long[size];
+        this.times = new long[size];
+        this.pids = new int[size];
+        this.fromStates = new byte[size];
+        this.toStates = new byte[size];
+        this.reasons = new byte[size];
+        this.mask = size - 1;
+        this.recorded = 0;
+    }
+
+    //===========================================Method===========================================
+    public void record(long tick, long time, int pid, ProcessState from, ProcessState to, TransitionReason reason) {
+        int i = (int) recorded & mask;
+        ticks[i] = tick;
+        times[i] = time;
+        pids[i] = pid;
+        fromStates[i] = (byte) from.ordinal();
+        toStates[i] = (byte) to.ordinal();
+        reasons[i] = (byte) reason.ordinal();
+        recorded++;
+    }
+
+    /**
+     * Number of transitions currently retained
+     */
+    public int size() {
+        return (int) Math.min(recorded, mask + 1L);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Total transitions recorded since creation, including overwritten ones
+     */
+    public long getRecordedCount() {
+        return recorded;
+    }
+
+    public void clear() {
+        recorded = 0;
+    }
+
+    //==========================================Get Set===========================================
+    public long getTick(int index) { return ticks[slot(index)]; }
+    public long getTime(int index) { return times[slot(index)]; }
+    public int getPid(int index) { return pids[slot(index)]; }
+    public ProcessState getFrom(int index) { return STATES[fromStates[slot(index)]]; }
+    public ProcessState getTo(int index) { return STATES[toStates[slot(index)]]; }
+    public TransitionReason getReason(int index) { return TransitionReason.fromCode(reasons[slot(index)]); }
+
+    /**
+     * Ring slot of the index-th oldest retained transition
+     */
+    private int slot(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size());
+        }
+        return (int) (recorded - size() + index) & mask;
+    }
+}
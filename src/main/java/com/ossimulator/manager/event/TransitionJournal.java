@@ -0,0 +1,166 @@
+package com.ossimulator.manager.event;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.ossimulator.model.component.ProcessState;
+
+/**
+ * Append-only binary journal of state transitions. Every record is RECORD_SIZE bytes:
+ *
+ *   TRANSITION: kind(1) from(1) to(1) reason(1) tick(4) pid(4) time(4)
+ *   NAME:       kind(1) length(1) reserved(2) pid(4) utf-8 name, padded to a whole record
+ *
+ * time is the simulated ms as an unsigned 32-bit value; later times saturate at MAX_TIME
+ * (about 49.7 days). Names longer than MAX_NAME_LENGTH bytes are cut at a character boundary.
+ * States and reasons are stored as ordinals, names once per process, so a transition costs
+ * 16 bytes instead of a ~90 byte text line. Records are staged in a direct buffer and written
+ * in batches - recording never formats, allocates or flushes. TransitionJournalDecoder renders
+ * a journal back into the StateHistoryLogger text format offline.
+ */
+public class TransitionJournal implements AutoCloseable {
+    //==========================================Variable==========================================
+    public static final int MAGIC = 0x4F53544A; // "OSTJ"
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+    public static final int RECORD_SIZE = 16;
+    public static final int DEFAULT_BUFFER_RECORDS = 4096;
+
+    public static final byte KIND_TRANSITION = 1;
+    public static final byte KIND_NAME = 2;
+    public static final int NAME_OFFSET = 8;
+    public static final int MAX_NAME_LENGTH = 255;
+    public static final long MAX_TIME = 0xFFFFFFFFL;
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private FileChannel channel;
+    private long recordCount;
+    private long bytesWritten;
+
+    //========================================Constructor=========================================
+    public TransitionJournal(Path path) throws IOException {
+        this(path, DEFAULT_BUFFER_RECORDS);
+    }
+
+    /**
+     * Create (or truncate) the journal file and write its header
+     * @param bufferRecords records staged in memory between writes
+     */
+    public TransitionJournal(Path path, int bufferRecords) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.path = path;
+        this.buffer = ByteBuffer.allocateDirect(
+                Math.max(bufferRecords, recordsFor(MAX_NAME_LENGTH)) * RECORD_SIZE);
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.recordCount = 0;
+        this.bytesWritten = 0;
+
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) RECORD_SIZE);
+        buffer.putLong(System.currentTimeMillis());
+    }
+
+    //===========================================Method===========================================
+    public void recordTransition(int tick, long time, int pid, ProcessState from, ProcessState to,
+                                 TransitionReason reason) {
+        ensureSpace(RECORD_SIZE);
+        buffer.put(KIND_TRANSITION);
+        buffer.put((byte) from.ordinal());
+        buffer.put((byte) to.ordinal());
+        buffer.put((byte) reason.ordinal());
+        buffer.putInt(tick);
+        buffer.putInt(pid);
+        buffer.putInt((int) Math.min(time, MAX_TIME));
+        recordCount++;
+    }
+
+    /**
+     * Map a pid to its name for the decoder; written once per process
+     */
+    public void recordName(int pid, String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, MAX_NAME_LENGTH);
+        while (length < bytes.length && (bytes[length] & 0xC0) == 0x80) {
+            length--;   // Do not split a multi-byte character
+        }
+        int size = recordsFor(length) * RECORD_SIZE;
+        ensureSpace(size);
+        int start = buffer.position();
+        buffer.put(KIND_NAME);
+        buffer.put((byte) length);
+        buffer.putShort((short) 0);
+        buffer.putInt(pid);
+        buffer.put(bytes, 0, length);
+        while (buffer.position() < start + size) {
+            buffer.put((byte) 0);
+        }
+        recordCount++;
+    }
+
+    /**
+     * Write staged records to the file
+     */
+    public void flush() {
+        if (channel == null) {
+            buffer.clear();
+            return;
+        }
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                bytesWritten += channel.write(buffer);
+            }
+        } catch (IOException e) {
+            System.err.println("[TransitionJournal] Write failed, journal disabled: " + e.getMessage());
+            closeChannel();
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() {
+        flush();
+        closeChannel();
+    }
+
+    /**
+     * Fixed records used by a NAME entry of the given byte length
+     */
+    public static int recordsFor(int nameLength) {
+        return (NAME_OFFSET + nameLength + RECORD_SIZE - 1) / RECORD_SIZE;
+    }
+
+    private void ensureSpace(int size) {
+        if (buffer.remaining() < size) {
+            flush();
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                System.err.println("[TransitionJournal] Close failed: " + e.getMessage());
+            }
+            channel = null;
+        }
+    }
+
+    //==========================================Get Set===========================================
+    public Path getPath() { return path; }
+    public long getRecordCount() { return recordCount; }
+    public long getBytesWritten() { return bytesWritten; }
+    public boolean isOpen() { return channel != null; }
+}
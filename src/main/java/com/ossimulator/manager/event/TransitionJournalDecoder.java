@@ -0,0 +1,54 @@
+package com.ossimulator.manager.event;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import com.ossimulator.util.StateHistoryLogger;
+
+/**
+ * Offline decoder for TransitionJournal files: renders every transition in the same
+ * text format StateHistoryLogger writes, so a binary journal can be read like a history log.
+ */
+public final class TransitionJournalDecoder {
+    //========================================Constructor=========================================
+    private TransitionJournalDecoder() {
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Decode a journal into text lines
+     * @return number of transitions written
+     */
+    public static long decode(Path journal, PrintWriter out) throws IOException {
+        long transitions = 0;
+        try (TransitionJournalReader reader = new TransitionJournalReader(journal)) {
+            while (reader.next()) {
+                out.println(StateHistoryLogger.formatTransition(reader.getTick(), reader.getName(reader.getPid()),
+                        reader.getFrom(), reader.getTo(), reader.getReason().getText()));
+                transitions++;
+            }
+        }
+        out.flush();
+        return transitions;
+    }
+
+    /**
+     * Usage: TransitionJournalDecoder journal [output]; writes to stdout without an output file
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: TransitionJournalDecoder <journal> [output]");
+            System.exit(2);
+        }
+        PrintWriter out = args.length > 1
+                ? new PrintWriter(args[1], StandardCharsets.UTF_8)
+                : new PrintWriter(System.out);
+        try {
+            decode(Path.of(args[0]), out);
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.ossimulator.manager.event;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.ossimulator.model.component.ProcessState;
+
+/**
+ * Sequential cursor over a TransitionJournal with positional seek. next() advances to the
+ * next transition and exposes its fields; NAME records on the way are collected into the
+ * pid → name table. position() / seek() let callers come back to a record later (replay checkpoints).
+ * Times are read as unsigned 32-bit ms; a journal saturates them at TransitionJournal.MAX_TIME.
+ */
+public class TransitionJournalReader implements AutoCloseable {
+    //==========================================Variable==========================================
+    private static final ProcessState[] STATES = ProcessState.values();
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final Map<Integer, String> names;
+    private final byte[] nameBytes;
+    private long position;                  // File offset of the first unread buffered byte
+
+    // Current transition
+    private int tick;
+    private int pid;
+    private long time;
+    private ProcessState from;
+    private ProcessState to;
+    private TransitionReason reason;
+
+    //========================================Constructor=========================================
+    public TransitionJournalReader(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        this.names = new HashMap<>();
+        this.nameBytes = new byte[TransitionJournal.MAX_NAME_LENGTH];
+        seek(0);
+        try {
+            readHeader();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Advance to the next transition
+     * @return false at the end of the journal
+     */
+    public boolean next() throws IOException {
+        while (fill(TransitionJournal.RECORD_SIZE)) {
+            byte kind = buffer.get();
+            if (kind == TransitionJournal.KIND_TRANSITION) {
+                from = STATES[buffer.get()];
+                to = STATES[buffer.get()];
+                reason = TransitionReason.fromCode(buffer.get());
+                tick = buffer.getInt();
+                pid = buffer.getInt();
+                time = Integer.toUnsignedLong(buffer.getInt());
+                position += TransitionJournal.RECORD_SIZE;
+                return true;
+            } else if (kind == TransitionJournal.KIND_NAME) {
+                buffer.position(buffer.position() - 1);
+                readName();
+            } else {
+                throw new IOException("Unknown record kind " + kind + " at offset " + position + " in " + path);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * File offset of the next record to be read
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Continue reading at a record offset previously returned by position()
+     */
+    public void seek(long offset) {
+        position = offset;
+        buffer.clear().limit(0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    //==========================================Get Set===========================================
+    public int getTick() { return tick; }
+    public int getPid() { return pid; }
+    public long getTime() { return time; }
+    public ProcessState getFrom() { return from; }
+    public ProcessState getTo() { return to; }
+    public TransitionReason getReason() { return reason; }
+
+    /**
+     * Name of a pid seen so far in the journal
+     */
+    public String getName(int pid) {
+        return names.getOrDefault(pid, "pid " + pid);
+    }
+
+    //==========================================Decoding==========================================
+    private void readHeader() throws IOException {
+        if (!fill(TransitionJournal.HEADER_SIZE)) {
+            throw new IOException("Journal too short for a header");
+        }
+        int magic = buffer.getInt();
+        short version = buffer.getShort();
+        short recordSize = buffer.getShort();
+        buffer.getLong(); // creation time
+        position += TransitionJournal.HEADER_SIZE;
+        if (magic != TransitionJournal.MAGIC || version != TransitionJournal.VERSION
+                || recordSize != TransitionJournal.RECORD_SIZE) {
+            throw new IOException(String.format("Not a transition journal (magic=%08x, version=%d, record=%d)",
+                    magic, version, recordSize));
+        }
+    }
+
+    /**
+     * NAME record starting at the buffer position: fixed header then the padded name
+     */
+    private void readName() throws IOException {
+        int length = buffer.get(buffer.position() + 1) & 0xFF;
+        int size = TransitionJournal.recordsFor(length) * TransitionJournal.RECORD_SIZE;
+        if (!fill(size)) {
+            throw new IOException("Truncated name record at offset " + position);
+        }
+        int start = buffer.position();
+        int namePid = buffer.getInt(start + 4);
+        buffer.position(start + TransitionJournal.NAME_OFFSET);
+        buffer.get(nameBytes, 0, length);
+        buffer.position(start + size);
+        names.put(namePid, new String(nameBytes, 0, length, StandardCharsets.UTF_8));
+        position += size;
+    }
+
+    /**
+     * Make sure at least size unread bytes are buffered (position..limit holds unread data)
+     * @return false at the end of the file (a partial trailing record counts as the end)
+     */
+    private boolean fill(int size) throws IOException {
+        if (buffer.remaining() >= size) {
+            return true;
+        }
+        int unread = buffer.remaining();
+        buffer.compact();
+        long readAt = position + unread;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, readAt);
+            if (read < 0) {
+                break;
+            }
+            readAt += read;
+        }
+        buffer.flip();
+        return buffer.remaining() >= size;
+    }
+}
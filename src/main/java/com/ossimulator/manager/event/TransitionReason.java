@@ -0,0 +1,42 @@
+package com.ossimulator.manager.event;
+
+/**
+ * Why a process changed state. Recorded as a byte in the TransitionBuffer;
+ * the text is only looked up when a sink needs a readable message.
+ */
+public enum TransitionReason {
+    DISPATCH("dispatch - context switch"),
+    RETURN_TO_USER("return to user mode"),
+    EXIT_SYSCALL("exit() system call"),
+    TERMINATED("process terminated"),
+    TIMER_INTERRUPT("timer interrupt"),
+    PREEMPTED("preempted by scheduler"),
+    REQUEUED("requeued to ready queue"),
+    JOB_COMPLETE("job complete"),
+    WAIT_NEXT_RELEASE("waiting for next release"),
+    JOB_RELEASED("job released"),
+    IO_COMPLETE("I/O complete - wakeup"),
+    PAGE_FAULT("page fault"),
+    PAGE_FAULT_RETURN("page fault serviced - return to user"),
+    SWAPPED_OUT("swapped out by swapper"),
+    SWAPPED_IN("swapped in by swapper");
+
+    //==========================================Variable==========================================
+    private static final TransitionReason[] VALUES = values();
+    private final String text;
+
+    //========================================Constructor=========================================
+    TransitionReason(String text) {
+        this.text = text;
+    }
+
+    //==========================================Get Set===========================================
+    public String getText() { return text; }
+
+    /**
+     * Decode a reason recorded as its ordinal
+     */
+    public static TransitionReason fromCode(int code) {
+        return VALUES[code];
+    }
+}
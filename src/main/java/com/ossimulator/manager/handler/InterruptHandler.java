@@ -3,17 +3,29 @@ package com.ossimulator.manager.handler;
 import com.ossimulator.model.component.ProcessState;
 import com.ossimulator.model.main.ProcessControlBlock;
 import com.ossimulator.manager.dispatcher.Dispatcher;
+import com.ossimulator.manager.memory.MemoryManager;
 
 import java.util.concurrent.locks.ReentrantLock;
 
 public class InterruptHandler {
     //==========================================Variable==========================================
     private final Dispatcher dispatcher;
+    private final MemoryManager memoryManager;
     private final ReentrantLock lock;
 
+    // Page fault registers (like CR2): set by raisePageFault, read by handlePageFault
+    private int faultAddress;
+    private boolean faultResolved;
+    private long pageFaultCount;
+
     //========================================Constructor=========================================
     public InterruptHandler(Dispatcher dispatcher) {
+        this(dispatcher, null);
+    }
+
+    public InterruptHandler(Dispatcher dispatcher, MemoryManager memoryManager) {
         this.dispatcher = dispatcher;
+        this.memoryManager = memoryManager;
         this.lock = new ReentrantLock();
     }
 
@@ -50,6 +62,24 @@ public class InterruptHandler {
         }
     }
 
+    /**
+     * Page fault raised by the MMU on a user-mode access to a non-resident page
+     * USER_RUNNING → KERNEL_RUNNING (page fault) → USER_RUNNING
+     * @return true if the page is now resident and the access can be retried
+     */
+    public boolean raisePageFault(ProcessControlBlock pcb, int virtualAddress) {
+        lock.lock();
+        try {
+            faultAddress = virtualAddress;
+            faultResolved = false;
+            handleInterrupt(pcb, InterruptTypes.PAGE_FAULT);
+            interruptReturn(pcb);
+            return faultResolved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /**
      * Handle timer interrupt - time quantum expired
      * USER_RUNNING → PREEMPTED (via Round Robin Scheduler)
@@ -67,10 +97,13 @@ public class InterruptHandler {
     }
 
     /**
-     * Handle page fault interrupt
+     * Handle page fault interrupt - map the faulting page into a frame
      */
     private void handlePageFault(ProcessControlBlock pcb) {
-        // Page fault - may need to swap in page
+        pageFaultCount++;
+        if (memoryManager != null) {
+            faultResolved = memoryManager.handlePageFault(pcb, faultAddress);
+        }
     }
 
     /**
@@ -115,6 +148,9 @@ public class InterruptHandler {
         }
     }
 
+    //==========================================Get Set===========================================
+    public long getPageFaultCount() { return pageFaultCount; }
+
     //==========================================Constants==========================================
     public static class InterruptTypes {
         public static final int TIMER = 0;
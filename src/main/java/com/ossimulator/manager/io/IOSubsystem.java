@@ -2,6 +2,7 @@ package com.ossimulator.manager.io;
 
 import com.ossimulator.model.component.ProcessState;
 import com.ossimulator.model.main.ProcessControlBlock;
+import com.ossimulator.manager.event.SimulationClock;
 import com.ossimulator.manager.memory.MemoryManager;
 
 import java.util.Queue;
@@ -15,13 +16,15 @@ public class IOSubsystem {
     private final Queue<ProcessControlBlock> ioWaitQueue;
     private final Map<Integer, IORequest> pendingRequests;
     private final MemoryManager memoryManager;
+    private final SimulationClock clock;
     private final ReentrantLock lock;
 
     //========================================Constructor=========================================
-    public IOSubsystem(MemoryManager memoryManager) {
+    public IOSubsystem(MemoryManager memoryManager, SimulationClock clock) {
         this.ioWaitQueue = new LinkedList<>();
         this.pendingRequests = new ConcurrentHashMap<>();
         this.memoryManager = memoryManager;
+        this.clock = clock;
         this.lock = new ReentrantLock();
     }
 
@@ -37,7 +40,7 @@ public class IOSubsystem {
                 pcb.setState(ProcessState.SLEEP);
                 ioWaitQueue.offer(pcb);
 
-                IORequest request = new IORequest(pcb.getIdentifier().getPid(), deviceId, operation);
+                IORequest request = new IORequest(pcb.getIdentifier().getPid(), deviceId, operation, clock.now());
                 pendingRequests.put(pcb.getIdentifier().getPid(), request);
             }
         } finally {
@@ -136,11 +139,11 @@ public class IOSubsystem {
         private final int operation;
         private final long timestamp;
 
-        public IORequest(int pid, int deviceId, int operation) {
+        public IORequest(int pid, int deviceId, int operation, long timestamp) {
             this.pid = pid;
             this.deviceId = deviceId;
             this.operation = operation;
-            this.timestamp = System.currentTimeMillis();
+            this.timestamp = timestamp;
         }
 
         public int getPid() { return pid; }
@@ -2,22 +2,40 @@ package com.ossimulator.manager.kernel;
 
 import com.ossimulator.model.component.ProcessState;
 import com.ossimulator.model.component.Priority;
+import com.ossimulator.model.component.RealTimeTask;
 import com.ossimulator.model.main.Process;
 import com.ossimulator.model.main.ProcessControlBlock;
 import com.ossimulator.manager.process.ProcessManager;
 import com.ossimulator.manager.memory.MemoryManager;
+import com.ossimulator.manager.memory.FrameAllocator;
+import com.ossimulator.manager.memory.SwapDevice;
+import com.ossimulator.manager.memory.Swapper;
+import com.ossimulator.manager.memory.placement.ContiguousAllocator;
+import com.ossimulator.manager.memory.Tlb;
 import com.ossimulator.manager.scheduler.Scheduler;
-import com.ossimulator.manager.scheduler.PriorityScheduler;
-import com.ossimulator.manager.scheduler.RoundRobinScheduler;
+import com.ossimulator.manager.scheduler.SchedulerConfig;
+import com.ossimulator.manager.scheduler.SchedulerRegistry;
+import com.ossimulator.manager.scheduler.provider.RoundRobinSchedulerProvider;
 import com.ossimulator.manager.dispatcher.Dispatcher;
 import com.ossimulator.manager.handler.SystemCallHandler;
 import com.ossimulator.manager.handler.InterruptHandler;
 import com.ossimulator.manager.io.IOSubsystem;
+import com.ossimulator.manager.event.EventQueue;
+import com.ossimulator.manager.event.SimulationClock;
+import com.ossimulator.manager.event.SimulationEvent;
+import com.ossimulator.manager.event.TransitionBuffer;
+import com.ossimulator.manager.event.TransitionJournal;
+import com.ossimulator.manager.event.TransitionReason;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.function.Consumer;
+import com.ossimulator.util.ColumnarTraceWriter;
 import com.ossimulator.util.Logger;
 import com.ossimulator.util.StateHistoryLogger;
 
@@ -25,51 +43,93 @@ public class Kernel {
     //==========================================Variable==========================================
     private final ProcessManager processManager;
     private final MemoryManager memoryManager;
-    private final Scheduler priorityScheduler;
-    private final Scheduler roundRobinScheduler;
+    private final SchedulerRegistry schedulerRegistry;
+    private final int timeQuantum;
     private final Dispatcher dispatcher;
     private final SystemCallHandler systemCallHandler;
     private final InterruptHandler interruptHandler;
     private final IOSubsystem ioSubsystem;
+    private final Swapper swapper;
+    private final Swapper.Host swapHost;
     private final ReentrantLock lock;
+    private final StampedLock schedulerSwitch;  // Read: ready-queue inserts outside lock; write: setScheduler
+    private final AtomicInteger pendingInserts; // Created processes not yet on the ready queue
     private final Logger logger;
 
     private Scheduler activeScheduler;
+    private String activeSchedulerName;
     private ProcessControlBlock runningProcess;
 
+    // Discrete-event engine
+    private final SimulationClock clock;
+    private final EventQueue eventQueue;
+    private final SimulationEvent currentEvent;
+    private final TransitionBuffer transitions;
+    private boolean dispatchPending;
+    private long swapperDue;                // Time of the queued swapper pass, NO_SWAPPER_RUN if none
+    private int ioLatency;
+    private int memoryReferenceRate;        // Simulated memory references per ms of CPU, 0 = off
+
     // Simulation tracking
-    private long simulationStartTime;
     private int cycleCount;
     private int tickCount;
     private List<Process> allProcesses;
+    private List<ProcessControlBlock> processControlBlocks; // Indexed by pid - 1, parallel to allProcesses
     private List<Process> completedProcesses;
 
     // State history logging
     private StateHistoryLogger historyLogger;
+    private TransitionJournal journal;
+    private ColumnarTraceWriter snapshotTrace;
+    private SwapDevice swapDevice;
     private Consumer<String> stateChangeCallback;
 
     //========================================Constructor=========================================
     public Kernel(int timeQuantum, long maxMemorySlots) {
+        this(timeQuantum, maxMemorySlots, Logger.getInstance());
+    }
+
+    /**
+     * Create a kernel with its own logger (e.g. Logger.silent() for batch runs)
+     */
+    public Kernel(int timeQuantum, long maxMemorySlots, Logger logger) {
+        this.clock = new SimulationClock();
+        this.eventQueue = new EventQueue();
+        this.currentEvent = new SimulationEvent();
+        this.transitions = new TransitionBuffer();
+        this.dispatchPending = false;
+        this.ioLatency = DEFAULT_IO_LATENCY;
+        this.memoryReferenceRate = 0;
         this.memoryManager = new MemoryManager(maxMemorySlots * 1024); // Convert slots to bytes
-        this.processManager = new ProcessManager(memoryManager);
-        this.priorityScheduler = new PriorityScheduler(timeQuantum);
-        this.roundRobinScheduler = new RoundRobinScheduler(timeQuantum);
-        this.activeScheduler = roundRobinScheduler; // Default scheduler
+        this.processManager = new ProcessManager(memoryManager, clock);
+        this.schedulerRegistry = SchedulerRegistry.getDefault();
+        this.timeQuantum = timeQuantum;
+        this.activeSchedulerName = RoundRobinSchedulerProvider.NAME; // Default scheduler
+        this.activeScheduler = schedulerRegistry.create(activeSchedulerName, new SchedulerConfig(timeQuantum));
+        this.processManager.setAdmissionPolicy(activeScheduler.getAdmissionPolicy());
         this.dispatcher = new Dispatcher(activeScheduler);
         this.systemCallHandler = new SystemCallHandler();
-        this.interruptHandler = new InterruptHandler(dispatcher);
-        this.ioSubsystem = new IOSubsystem(memoryManager);
+        this.interruptHandler = new InterruptHandler(dispatcher, memoryManager);
+        this.ioSubsystem = new IOSubsystem(memoryManager, clock);
+        this.swapper = new Swapper(memoryManager, ioSubsystem);
+        this.swapHost = new SwapHost();
+        this.swapperDue = NO_SWAPPER_RUN;
         this.lock = new ReentrantLock();
+        this.schedulerSwitch = new StampedLock();
+        this.pendingInserts = new AtomicInteger();
         this.runningProcess = null;
-        this.logger = Logger.getInstance();
+        this.logger = logger;
 
         // Initialize simulation tracking
-        this.simulationStartTime = System.currentTimeMillis();
         this.cycleCount = 0;
         this.tickCount = 0;
         this.allProcesses = new ArrayList<>();
+        this.processControlBlocks = new ArrayList<>();
         this.completedProcesses = new ArrayList<>();
         this.historyLogger = null;
+        this.journal = null;
+        this.snapshotTrace = null;
+        this.swapDevice = null;
         this.stateChangeCallback = null;
     }
 
@@ -80,6 +140,88 @@ public class Kernel {
         this.historyLogger = new StateHistoryLogger(filePath);
     }
 
+    /**
+     * Enable the binary transition journal (decode offline with TransitionJournalDecoder)
+     */
+    public void enableTransitionJournal(String filePath) {
+        lock.lock();
+        try {
+            if (journal != null) {
+                journal.close();
+            }
+            journal = new TransitionJournal(Path.of(filePath));
+            for (Process process : allProcesses) {
+                journal.recordName(process.getPid(), process.getName());
+            }
+        } catch (IOException e) {
+            logger.error("KERNEL", "Failed to create transition journal: " + e.getMessage());
+            journal = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Record cycle snapshots into a columnar, delta-encoded trace (read with ColumnarTraceReader).
+     * The trace is written in addition to the text tables of an attached history logger, not
+     * instead of them; run without enableHistoryLogging to skip the text formatting cost.
+     */
+    public void enableSnapshotTrace(String filePath) {
+        lock.lock();
+        try {
+            closeSnapshotTrace();
+            snapshotTrace = new ColumnarTraceWriter(Path.of(filePath));
+            for (Process process : allProcesses) {
+                snapshotTrace.registerName(process.getPid(), process.getName());
+            }
+        } catch (IOException e) {
+            logger.error("KERNEL", "Failed to create snapshot trace: " + e.getMessage());
+            snapshotTrace = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Back swap with a preallocated file of DEFAULT_SWAP_FACTOR times main memory
+     */
+    public void enableSwapDevice(String filePath) {
+        long slots = memoryManager.getTotalMemory() * DEFAULT_SWAP_FACTOR / memoryManager.getPageSize();
+        enableSwapDevice(filePath, (int) Math.min(Integer.MAX_VALUE, Math.max(1, slots)));
+    }
+
+    /**
+     * Back swap with a preallocated file of slotCount page-sized slots; swapped-out images
+     * are then written to it. Must be called before any process is swapped.
+     */
+    public void enableSwapDevice(String filePath, int slotCount) {
+        lock.lock();
+        try {
+            SwapDevice device = new SwapDevice(Path.of(filePath), memoryManager.getPageSize(), slotCount);
+            try {
+                memoryManager.setSwapDevice(device);
+            } catch (IllegalStateException e) {
+                device.close();
+                throw e;
+            }
+            if (swapDevice != null) {
+                swapDevice.close();
+            }
+            swapDevice = device;
+        } catch (IOException e) {
+            logger.error("KERNEL", "Failed to create swap device: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the swap device, or null if swapped images stay in core
+     */
+    public SwapDevice getSwapDevice() {
+        return swapDevice;
+    }
+
     /**
      * Set callback for state changes (for GUI updates)
      */
@@ -88,19 +230,24 @@ public class Kernel {
     }
 
     /**
-     * Notify state change to callback and history logger
+     * Record a state change in the transition buffer; text is only formatted
+     * for the history logger / callback when one is attached
      */
-    private void notifyStateChange(Process process, ProcessState fromState, ProcessState toState, String reason) {
+    private void notifyStateChange(Process process, ProcessState fromState, ProcessState toState,
+                                   TransitionReason reason) {
         tickCount++;
-        String message = String.format("[Tick %d] %s: %s → %s (%s)",
-                tickCount, process.getName(), fromState, toState, reason);
+        transitions.record(tickCount, clock.now(), process.getPid(), fromState, toState, reason);
+        if (journal != null) {
+            journal.recordTransition(tickCount, clock.now(), process.getPid(), fromState, toState, reason);
+        }
 
         if (historyLogger != null) {
-            historyLogger.logStateTransition(tickCount, process.getName(), fromState, toState, reason);
+            historyLogger.logStateTransition(tickCount, process.getName(), fromState, toState, reason.getText());
         }
 
         if (stateChangeCallback != null) {
-            stateChangeCallback.accept(message);
+            stateChangeCallback.accept(String.format("[Tick %d] %s: %s → %s (%s)",
+                    tickCount, process.getName(), fromState, toState, reason.getText()));
         }
     }
 
@@ -113,6 +260,31 @@ public class Kernel {
         }
     }
 
+    private void logCycleCompleted() {
+        if (snapshotTrace != null) {
+            try {
+                snapshotTrace.writeSnapshot(tickCount, allProcesses);
+            } catch (IOException e) {
+                logger.error("KERNEL", "Snapshot trace disabled: " + e.getMessage());
+                closeSnapshotTrace();
+            }
+        }
+        if (historyLogger != null) {
+            logSnapshot("Cycle " + cycleCount + " completed");
+        }
+    }
+
+    private void closeSnapshotTrace() {
+        if (snapshotTrace != null) {
+            try {
+                snapshotTrace.close();
+            } catch (IOException e) {
+                logger.error("KERNEL", "Failed to close snapshot trace: " + e.getMessage());
+            }
+            snapshotTrace = null;
+        }
+    }
+
 
     //===========================================Method===========================================
     /**
@@ -143,21 +315,17 @@ public class Kernel {
     }
 
     /**
-     * Schedule: Select next process to run
+     * Schedule: Post a dispatch event for the current simulated time
      * READY_MEMORY → USER_RUNNING (Priority/Round Robin Scheduler → Dispatcher)
      */
     public void schedule() {
         lock.lock();
         try {
-            if (runningProcess != null) {
-                return; // Already running a process
-            }
-
-            var nextProcess = activeScheduler.selectNext();
-            if (nextProcess.isPresent()) {
-                // Dispatch the process
-                // runningProcess = dispatch(nextProcess.get());
+            if (runningProcess != null || dispatchPending) {
+                return; // Already running a process or dispatch queued
             }
+            eventQueue.schedule(clock.now(), SimulationEvent.Type.DISPATCH, null);
+            dispatchPending = true;
         } finally {
             lock.unlock();
         }
@@ -237,6 +405,9 @@ public class Kernel {
         lock.lock();
         try {
             ioSubsystem.blockForIO(pcb, deviceId, operation);
+            activeScheduler.onBlocked(pcb.getProcess());
+            pcb.getProcess().setState(ProcessState.SLEEP);
+            eventQueue.schedule(clock.now() + ioLatency, SimulationEvent.Type.IO_COMPLETE, pcb.getProcess());
             runningProcess = null;
             schedule(); // Schedule next process
         } finally {
@@ -270,8 +441,11 @@ public class Kernel {
         lock.lock();
         try {
             pcb.setState(ProcessState.KERNEL_RUNNING);
+            activeScheduler.onExit(pcb.getProcess());
             processManager.exit(pcb);
+            swapper.untrack(pcb);
             runningProcess = null;
+            wakeSwapper(clock.now());
             schedule();
         } finally {
             lock.unlock();
@@ -326,6 +500,7 @@ public class Kernel {
         lock.lock();
         try {
             memoryManager.swapOut(pcb);
+            swapper.touch(pcb, clock.now());
         } finally {
             lock.unlock();
         }
@@ -338,7 +513,9 @@ public class Kernel {
     public void swapIn(ProcessControlBlock pcb) {
         lock.lock();
         try {
-            memoryManager.swapIn(pcb);
+            if (memoryManager.swapIn(pcb)) {
+                swapper.touch(pcb, clock.now());
+            }
         } finally {
             lock.unlock();
         }
@@ -347,10 +524,17 @@ public class Kernel {
     /**
      * Parent wait() for child process
      * ZOMBIE → PCB destroyed (Process Management)
+     * While the child is still running the scheduler may lend it the parent's share.
      */
     public void waitForChild(int parentPid, int childPid) {
         lock.lock();
         try {
+            Process parent = processManager.getProcess(parentPid).map(ProcessControlBlock::getProcess).orElse(null);
+            Process child = processManager.getProcess(childPid).map(ProcessControlBlock::getProcess).orElse(null);
+            if (parent != null && child != null && !child.isCompleted()) {
+                activeScheduler.onWaitForChild(parent, child);
+                logger.scheduler("%s waits for %s - share lent to child", parent.getName(), child.getName());
+            }
             processManager.wait(parentPid, childPid);
         } finally {
             lock.unlock();
@@ -358,17 +542,35 @@ public class Kernel {
     }
 
     /**
-     * Set active scheduler
+     * Set active scheduler from a selection "NAME" or "NAME:key=value,..." (e.g.
+     * "PRIORITY:levels=160") with the kernel's time quantum
      */
-    public void setScheduler(SchedulerType type) {
+    public void setScheduler(String selection) {
+        setScheduler(SchedulerConfig.policyName(selection), SchedulerConfig.parseSelection(timeQuantum, selection));
+    }
+
+    /**
+     * Set active scheduler by registry name with a policy-specific configuration.
+     * Processes queued in the old scheduler are migrated to the new one in dispatch order.
+     */
+    public void setScheduler(String name, SchedulerConfig config) {
         lock.lock();
+        long stamp = schedulerSwitch.writeLock();
         try {
-            if (type == SchedulerType.PRIORITY) {
-                activeScheduler = priorityScheduler;
-            } else {
-                activeScheduler = roundRobinScheduler;
+            Scheduler next = schedulerRegistry.create(name, config);
+            List<Process> queued = activeScheduler.drain();
+            for (Process process : queued) {
+                next.addProcess(process);
+            }
+            activeScheduler = next;
+            activeSchedulerName = schedulerRegistry.getProvider(name).getName();
+            processManager.setAdmissionPolicy(next.getAdmissionPolicy());
+
+            if (!queued.isEmpty()) {
+                logger.scheduler("Switched to %s - migrated %d queued processes", next.getName(), queued.size());
             }
         } finally {
+            schedulerSwitch.unlockWrite(stamp);
             lock.unlock();
         }
     }
@@ -376,44 +578,159 @@ public class Kernel {
     //==========================================Get Set===========================================
     public ProcessManager getProcessManager() { return processManager; }
     public MemoryManager getMemoryManager() { return memoryManager; }
-    public Scheduler getPriorityScheduler() { return priorityScheduler; }
-    public Scheduler getRoundRobinScheduler() { return roundRobinScheduler; }
     public Scheduler getActiveScheduler() { return activeScheduler; }
+    public String getActiveSchedulerName() { return activeSchedulerName; }
+    public SchedulerRegistry getSchedulerRegistry() { return schedulerRegistry; }
+    public int getTimeQuantum() { return timeQuantum; }
     public Dispatcher getDispatcher() { return dispatcher; }
     public SystemCallHandler getSystemCallHandler() { return systemCallHandler; }
     public InterruptHandler getInterruptHandler() { return interruptHandler; }
     public IOSubsystem getIOSubsystem() { return ioSubsystem; }
+    public Swapper getSwapper() { return swapper; }
     public ProcessControlBlock getRunningProcess() { return runningProcess; }
     public Scheduler getScheduler() { return activeScheduler; }
-    public long getSimulationTime() { return System.currentTimeMillis() - simulationStartTime; }
+    public long getSimulationTime() { return clock.now(); }
+    public SimulationClock getClock() { return clock; }
+    public TransitionBuffer getTransitionBuffer() { return transitions; }
+    public int getIoLatency() { return ioLatency; }
+    public void setIoLatency(int ioLatency) { this.ioLatency = ioLatency; }
+    public int getMemoryReferenceRate() { return memoryReferenceRate; }
+
+    /**
+     * Simulate memory references while processes run (per ms of CPU); pages are faulted in
+     * on demand through the interrupt handler. 0 turns references off.
+     */
+    public void setMemoryReferenceRate(int memoryReferenceRate) {
+        if (memoryReferenceRate < 0) {
+            throw new IllegalArgumentException("memoryReferenceRate must be >= 0: " + memoryReferenceRate);
+        }
+        this.memoryReferenceRate = memoryReferenceRate;
+    }
     public List<Process> getAllProcesses() { return allProcesses; }
     public List<Process> getCompletedProcesses() { return completedProcesses; }
     public int getCycleCount() { return cycleCount; }
+    public Logger getLogger() { return logger; }
+
+    /**
+     * Copy the process list (pid order) under the kernel lock, reusing the given array when it
+     * is large enough - like Collection.toArray(T[]), the slot after the last process is null
+     */
+    public Process[] snapshotProcesses(Process[] into) {
+        lock.lock();
+        try {
+            return allProcesses.toArray(into);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * snapshotProcesses without waiting: returns null if another thread holds the kernel lock
+     * (a cycle in progress), so a UI thread can skip the frame instead of blocking
+     */
+    public Process[] trySnapshotProcesses(Process[] into) {
+        if (!lock.tryLock()) {
+            return null;
+        }
+        try {
+            return allProcesses.toArray(into);
+        } finally {
+            lock.unlock();
+        }
+    }
 
     //==========================================Simulation Methods==========================================
     /**
-     * Create a new process and add to scheduler
+     * Create a new process and add it to the active scheduler's ready queue.
+     * Only PID allocation and PCB setup hold the kernel lock; the ready-queue insert holds
+     * a read stamp of schedulerSwitch instead, so concurrent producers only contend in the
+     * scheduler while setScheduler (write stamp) still cannot migrate the queues in between.
      */
     public Process createProcess(String name, int burstTime, int priority) {
+        return createProcess(name, burstTime, priority, Process.DEFAULT_MEMORY_SIZE, null);
+    }
+
+    /**
+     * Create a process whose image needs memorySize bytes of contiguous memory
+     */
+    public Process createProcess(String name, int burstTime, int priority, int memorySize) {
+        return createProcess(name, burstTime, priority, memorySize, null);
+    }
+
+    /**
+     * Create a periodic or sporadic real-time process that runs jobCount jobs.
+     * Its first job is released now; ProcessManager.admit applies the active scheduler's
+     * admission test, and a rejected task ends up ZOMBIE without entering the ready queue.
+     */
+    public Process createRealTimeProcess(String name, RealTimeTask task, int jobCount) {
+        return createProcess(name, task.getExecutionTime() * jobCount, 1, Process.DEFAULT_MEMORY_SIZE, task);
+    }
+
+    private Process createProcess(String name, int burstTime, int priority, int memorySize, RealTimeTask task) {
+        if (memorySize < 1) {
+            throw new IllegalArgumentException("memorySize must be >= 1: " + memorySize);
+        }
+        Process process;
         lock.lock();
         try {
             int pid = allProcesses.size() + 1;
-            Process process = new Process(pid, name, burstTime, priority);
+            process = new Process(pid, name, burstTime, priority, clock);
+            process.setMemorySize(memorySize);
+            if (task != null) {
+                process.setRealTimeTask(task);
+                task.start(clock.now());
+            }
 
             Priority priorityObj = new Priority(priority);
             ProcessControlBlock pcb = fork(process, 0, priorityObj);
 
             admit(pcb);
-            activeScheduler.addProcess(process);
+            if (pcb.getProcessState() == ProcessState.READY_SWAPPED) {
+                process.setState(ProcessState.READY_SWAPPED);
+            }
+            swapper.track(pcb, clock.now());
             allProcesses.add(process);
+            processControlBlocks.add(pcb);
+            if (journal != null) {
+                journal.recordName(process.getPid(), process.getName());
+            }
+            if (snapshotTrace != null) {
+                snapshotTrace.registerName(process.getPid(), process.getName());
+            }
+            if (pcb.getProcessState() == ProcessState.ZOMBIE) {
+                process.setState(ProcessState.ZOMBIE);
+                process.setCompletionTime(clock.now());
+                if (logger.isEnabled(Logger.Component.KERNEL)) {
+                    logger.kernel("Rejected process: %s (PID=%d) - %s admission test failed (utilization=%.3f)",
+                            name, pid, processManager.getAdmissionPolicy(), processManager.getRealTimeUtilization());
+                }
+                return process;
+            }
 
-            logger.kernel("Created process: %s (PID=%d, burst=%dms, priority=%d) → %s",
-                    name, pid, burstTime, priority, pcb.getProcessState());
+            if (logger.isEnabled(Logger.Component.KERNEL)) {
+                logger.kernel("Created process: %s (PID=%d, burst=%dms, priority=%d) → %s",
+                        name, pid, burstTime, priority, pcb.getProcessState());
+            }
 
-            return process;
+            if (process.getState() == ProcessState.READY_SWAPPED) {
+                // No room: the swapper queues it once it has been swapped in
+                wakeSwapper(clock.now());
+                return process;
+            }
+            // Counted before the lock is released, so hasPendingWork does not end the run early
+            pendingInserts.incrementAndGet();
         } finally {
             lock.unlock();
         }
+
+        long stamp = schedulerSwitch.readLock();
+        try {
+            activeScheduler.addProcess(process);
+        } finally {
+            schedulerSwitch.unlockRead(stamp);
+            pendingInserts.decrementAndGet();
+        }
+        return process;
     }
 
     /**
@@ -429,96 +746,449 @@ public class Kernel {
     }
 
     /**
-     * Run one scheduling cycle with delay between state transitions
-     * @param delayMs delay in milliseconds between each state transition (0 for no delay)
+     * Run one scheduling cycle on the simulated clock.
+     * Events are processed in time order until the dispatched process leaves the CPU
+     * (quantum expiry or exit); I/O completions falling inside the slice are handled on the way.
+     * @param delayMs wall-clock pause between state transitions, only used to pace the GUI display (0 for no delay)
      */
     public void runCycleWithDelay(int delayMs) {
         lock.lock();
         try {
-            cycleCount++;
-            int timeQuantum = activeScheduler.getTimeQuantum();
-
-            var nextProcessOpt = activeScheduler.selectNext();
-            if (nextProcessOpt.isEmpty()) {
-                return;
+            schedule();
+            while (eventQueue.poll(currentEvent)) {
+                if (currentEvent.getType() == SimulationEvent.Type.SWAPPER && !isSwapperPassDue(currentEvent)) {
+                    continue; // Superseded or idle swapper passes do not move the clock
+                }
+                clock.advanceTo(currentEvent.getTime());
+                if (handleEvent(currentEvent, delayMs)) {
+                    return;
+                }
             }
+        } finally {
+            lock.unlock();
+        }
+    }
 
-            Process process = nextProcessOpt.get();
-            ProcessState prevState = process.getState();
+    /**
+     * Run the simulation until no process is ready and no event is pending
+     */
+    public void runToCompletion() {
+        while (hasPendingWork()) {
+            runCycle();
+        }
+    }
 
+    /**
+     * Check whether there are ready processes, processes being queued or pending events left
+     */
+    public boolean hasPendingWork() {
+        lock.lock();
+        try {
+            return !activeScheduler.isEmpty() || !eventQueue.isEmpty() || pendingInserts.get() > 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Handle one event popped from the event queue
+     * @return true when the event ends the current cycle (process left the CPU)
+     */
+    private boolean handleEvent(SimulationEvent event, int delayMs) {
+        switch (event.getType()) {
+            case DISPATCH:
+                dispatchPending = false;
+                dispatchNext(delayMs);
+                return false;
+            case IO_COMPLETE:
+                completeIO(event.getProcess());
+                return false;
+            case EXIT:
+                exitProcess(event.getProcess(), delayMs);
+                logCycleCompleted();
+                return true;
+            case QUANTUM_EXPIRED:
+                expireQuantum(event.getProcess(), delayMs);
+                logCycleCompleted();
+                return true;
+            case JOB_COMPLETE:
+                waitForNextJob(event.getProcess(), delayMs);
+                logCycleCompleted();
+                return true;
+            case JOB_RELEASE:
+                releaseJob(event.getProcess());
+                return false;
+            case SWAPPER:
+                runSwapper();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Dispatch: select the next process, switch it in and run its slice.
+     * The end of the slice is posted as an EXIT or QUANTUM_EXPIRED event.
+     */
+    private void dispatchNext(int delayMs) {
+        Process process = activeScheduler.pollNext();
+        if (process == null) {
+            return;
+        }
+
+        cycleCount++;
+        runningProcess = pcbOf(process);    // CPU busy until the slice ends: wakeups must not post a DISPATCH
+        int timeSlice = activeScheduler.getTimeSlice(process);
+        RealTimeTask task = process.getRealTimeTask();
+        if (task != null) {
+            // A real-time process never runs past the end of its current job
+            task.onDispatch(clock.now());
+            timeSlice = Math.min(timeSlice, task.getJobRemaining());
+        }
+        ProcessState prevState = process.getState();
+
+        if (logger.isEnabled(Logger.Component.SCHEDULER)) {
             logger.scheduler("[Cycle %d] Selected: %s (priority=%d, remaining=%dms)",
                     cycleCount, process.getName(), process.getPriority(), process.getRemainingTime());
+        }
+        if (historyLogger != null) {
             logSnapshot("Cycle " + cycleCount + " - Process selected: " + process.getName());
+        }
 
-            // Dispatch: READY_MEMORY → KERNEL_RUNNING (context switch in kernel mode)
-            process.setState(ProcessState.KERNEL_RUNNING);
-            dispatcher.incrementContextSwitch();
-            notifyStateChange(process, prevState, ProcessState.KERNEL_RUNNING, "dispatch - context switch");
+        // Dispatch: READY_MEMORY → KERNEL_RUNNING (context switch in kernel mode)
+        process.setState(ProcessState.KERNEL_RUNNING);
+        dispatcher.incrementContextSwitch();
+        notifyStateChange(process, prevState, ProcessState.KERNEL_RUNNING, TransitionReason.DISPATCH);
+        if (logger.isEnabled(Logger.Component.DISPATCHER)) {
             logger.dispatcher("Context switch: %s → KERNEL_RUNNING", process.getName());
-            sleepIfNeeded(delayMs);
+        }
+        sleepIfNeeded(delayMs);
 
-            // Return to user: KERNEL_RUNNING → USER_RUNNING
-            prevState = process.getState();
-            process.setState(ProcessState.USER_RUNNING);
-            notifyStateChange(process, prevState, ProcessState.USER_RUNNING, "return to user mode");
+        // Return to user: KERNEL_RUNNING → USER_RUNNING
+        prevState = process.getState();
+        process.setState(ProcessState.USER_RUNNING);
+        notifyStateChange(process, prevState, ProcessState.USER_RUNNING, TransitionReason.RETURN_TO_USER);
+        if (logger.isEnabled(Logger.Component.DISPATCHER)) {
             logger.dispatcher("Return to user: %s → USER_RUNNING", process.getName());
-            sleepIfNeeded(delayMs);
+        }
+        sleepIfNeeded(delayMs);
 
-            // Execute for time quantum
-            int executedTime = process.execute(timeQuantum);
+        // Memory references of the slice; non-resident pages fault in on the way
+        if (memoryReferenceRate > 0) {
+            referenceMemory(process, Math.min(timeSlice, process.getRemainingTime()), delayMs);
+        }
+
+        // Execute for the policy's time slice - the slice ends executedTime ms later on the simulated clock
+        int executedTime = process.execute(timeSlice);
+        activeScheduler.onExecuted(process, executedTime);
+        boolean jobFinished = task != null && task.consume(executedTime, clock.now() + executedTime);
+        pcbOf(process).addCpuTime(executedTime, clock.now() + executedTime);
+        if (logger.isEnabled(Logger.Component.PROCESS)) {
             logger.process("%s executed for %dms (remaining=%dms)",
                     process.getName(), executedTime, process.getRemainingTime());
-            if (historyLogger != null) {
-                historyLogger.logExecution(tickCount, process.getName(), executedTime, process.getRemainingTime());
+        }
+        if (historyLogger != null) {
+            historyLogger.logExecution(tickCount, process.getName(), executedTime, process.getRemainingTime());
+        }
+        sleepIfNeeded(delayMs);
+
+        SimulationEvent.Type endOfSlice;
+        if (process.isCompleted()) {
+            endOfSlice = SimulationEvent.Type.EXIT;
+        } else if (jobFinished && task.getReleaseTime() > clock.now() + executedTime) {
+            endOfSlice = SimulationEvent.Type.JOB_COMPLETE;
+        } else {
+            endOfSlice = SimulationEvent.Type.QUANTUM_EXPIRED;
+        }
+        eventQueue.schedule(clock.now() + executedTime, endOfSlice, process);
+    }
+
+    /**
+     * Memory references of one slice: a sequential sweep over the process' address space,
+     * REFERENCE_STRIDE bytes apart, continuing where its previous slice stopped.
+     * Every fourth reference is a store.
+     */
+    private void referenceMemory(Process process, int sliceTime, int delayMs) {
+        ProcessControlBlock pcb = pcbOf(process);
+        int size = pcb != null ? memoryManager.getVirtualSize(pcb) : 0;
+        if (size == 0) {
+            return;
+        }
+        long first = pcb.getAccountingInformation().getCpuTimeUsed() * memoryReferenceRate;
+        long count = (long) sliceTime * memoryReferenceRate;
+        for (long i = first; i < first + count; i++) {
+            int address = (int) ((i * REFERENCE_STRIDE) % size);
+            boolean write = (i & 3) == 0;
+            if (memoryManager.translate(pcb, address, write) == MemoryManager.PAGE_FAULT
+                    && pageFault(process, pcb, address, delayMs)) {
+                memoryManager.translate(pcb, address, write);
             }
-            sleepIfNeeded(delayMs);
-
-            // Check if process completed - needs to go through KERNEL_RUNNING first
-            if (process.isCompleted()) {
-                // USER_RUNNING → KERNEL_RUNNING (exit system call)
-                prevState = process.getState();
-                process.setState(ProcessState.KERNEL_RUNNING);
-                notifyStateChange(process, prevState, ProcessState.KERNEL_RUNNING, "exit() system call");
-                logger.kernel("%s: exit() system call → KERNEL_RUNNING", process.getName());
-                sleepIfNeeded(delayMs);
-
-                // KERNEL_RUNNING → ZOMBIE (exit)
-                prevState = process.getState();
-                process.setState(ProcessState.ZOMBIE);
-                process.setCompletionTime(System.currentTimeMillis());
-                completedProcesses.add(process);
-                notifyStateChange(process, prevState, ProcessState.ZOMBIE, "process terminated");
-                logger.kernel("%s: exit complete → ZOMBIE (turnaround=%dms)",
-                        process.getName(), process.getTurnaroundTime());
-            } else {
-                // Time quantum expired: USER_RUNNING → KERNEL_RUNNING (timer interrupt)
-                prevState = process.getState();
-                process.setState(ProcessState.KERNEL_RUNNING);
-                notifyStateChange(process, prevState, ProcessState.KERNEL_RUNNING, "timer interrupt");
-                logger.dispatcher("%s: timer interrupt → KERNEL_RUNNING", process.getName());
-                sleepIfNeeded(delayMs);
-
-                // KERNEL_RUNNING → PREEMPTED
-                prevState = process.getState();
-                process.setState(ProcessState.PREEMPTED);
-                notifyStateChange(process, prevState, ProcessState.PREEMPTED, "preempted by scheduler");
-                logger.dispatcher("%s: preempt → PREEMPTED", process.getName());
-                sleepIfNeeded(delayMs);
-
-                // Reschedule: PREEMPTED → READY_MEMORY (back to queue)
-                prevState = process.getState();
-                process.setState(ProcessState.READY_MEMORY);
-                activeScheduler.requeue(process);
-                notifyStateChange(process, prevState, ProcessState.READY_MEMORY, "requeued to ready queue");
-                logger.scheduler("%s: reschedule → READY_MEMORY (requeued)", process.getName());
+        }
+    }
+
+    /**
+     * Page fault on a user-mode access
+     * USER_RUNNING → KERNEL_RUNNING (page fault) → USER_RUNNING
+     * @return true if the page was brought in
+     */
+    private boolean pageFault(Process process, ProcessControlBlock pcb, int address, int delayMs) {
+        ProcessState prevState = process.getState();
+        process.setState(ProcessState.KERNEL_RUNNING);
+        notifyStateChange(process, prevState, ProcessState.KERNEL_RUNNING, TransitionReason.PAGE_FAULT);
+
+        // The handler checks the PCB's mode, which the kernel does not track while running
+        ProcessState pcbState = pcb.getProcessState();
+        pcb.setState(ProcessState.USER_RUNNING);
+        boolean resolved = interruptHandler.raisePageFault(pcb, address);
+        pcb.setState(pcbState);
+        if (logger.isEnabled(Logger.Component.MEMORY)) {
+            logger.memory("%s: page fault at 0x%x (page %d) → %s", process.getName(), address,
+                    address / memoryManager.getPageSize(), resolved ? "mapped" : "no free frame");
+        }
+        sleepIfNeeded(delayMs);
+
+        prevState = process.getState();
+        process.setState(ProcessState.USER_RUNNING);
+        notifyStateChange(process, prevState, ProcessState.USER_RUNNING, TransitionReason.PAGE_FAULT_RETURN);
+        return resolved;
+    }
+
+    /**
+     * Exit at end of slice
+     * USER_RUNNING → KERNEL_RUNNING (exit system call) → ZOMBIE
+     */
+    private void exitProcess(Process process, int delayMs) {
+        // USER_RUNNING → KERNEL_RUNNING (exit system call)
+        ProcessState prevState = process.getState();
+        process.setState(ProcessState.KERNEL_RUNNING);
+        notifyStateChange(process, prevState, ProcessState.KERNEL_RUNNING, TransitionReason.EXIT_SYSCALL);
+        if (logger.isEnabled(Logger.Component.KERNEL)) {
+            logger.kernel("%s: exit() system call → KERNEL_RUNNING", process.getName());
+        }
+        sleepIfNeeded(delayMs);
+
+        // KERNEL_RUNNING → ZOMBIE (exit)
+        prevState = process.getState();
+        process.setState(ProcessState.ZOMBIE);
+        process.setCompletionTime(clock.now());
+        ProcessControlBlock pcb = pcbOf(process);
+        activeScheduler.onExit(process);
+        processManager.exit(pcb);
+        swapper.untrack(pcb);
+        runningProcess = null;
+        completedProcesses.add(process);
+        notifyStateChange(process, prevState, ProcessState.ZOMBIE, TransitionReason.TERMINATED);
+        if (logger.isEnabled(Logger.Component.KERNEL)) {
+            logger.kernel("%s: exit complete → ZOMBIE (turnaround=%dms)",
+                    process.getName(), process.getTurnaroundTime());
+        }
+        // Its memory is free now - a swapped process may fit
+        wakeSwapper(clock.now());
+    }
+
+    /**
+     * Time quantum expired at end of slice
+     * USER_RUNNING → KERNEL_RUNNING (timer interrupt) → PREEMPTED → READY_MEMORY
+     */
+    private void expireQuantum(Process process, int delayMs) {
+        // Time quantum expired: USER_RUNNING → KERNEL_RUNNING (timer interrupt)
+        ProcessState prevState = process.getState();
+        process.setState(ProcessState.KERNEL_RUNNING);
+        notifyStateChange(process, prevState, ProcessState.KERNEL_RUNNING, TransitionReason.TIMER_INTERRUPT);
+        if (logger.isEnabled(Logger.Component.DISPATCHER)) {
+            logger.dispatcher("%s: timer interrupt → KERNEL_RUNNING", process.getName());
+        }
+        sleepIfNeeded(delayMs);
+
+        // KERNEL_RUNNING → PREEMPTED
+        prevState = process.getState();
+        process.setState(ProcessState.PREEMPTED);
+        notifyStateChange(process, prevState, ProcessState.PREEMPTED, TransitionReason.PREEMPTED);
+        if (logger.isEnabled(Logger.Component.DISPATCHER)) {
+            logger.dispatcher("%s: preempt → PREEMPTED", process.getName());
+        }
+        sleepIfNeeded(delayMs);
+
+        // Reschedule: PREEMPTED → READY_MEMORY (back to queue)
+        runningProcess = null;
+        prevState = process.getState();
+        process.setState(ProcessState.READY_MEMORY);
+        activeScheduler.requeue(process);
+        notifyStateChange(process, prevState, ProcessState.READY_MEMORY, TransitionReason.REQUEUED);
+        if (logger.isEnabled(Logger.Component.SCHEDULER)) {
+            logger.scheduler("%s: reschedule → READY_MEMORY (requeued)", process.getName());
+        }
+    }
+
+    /**
+     * Real-time job finished before the next release: sleep until the release
+     * USER_RUNNING → KERNEL_RUNNING → SLEEP
+     */
+    private void waitForNextJob(Process process, int delayMs) {
+        ProcessState prevState = process.getState();
+        process.setState(ProcessState.KERNEL_RUNNING);
+        notifyStateChange(process, prevState, ProcessState.KERNEL_RUNNING, TransitionReason.JOB_COMPLETE);
+        sleepIfNeeded(delayMs);
+
+        runningProcess = null;
+        prevState = process.getState();
+        process.setState(ProcessState.SLEEP);
+        RealTimeTask task = process.getRealTimeTask();
+        eventQueue.schedule(task.getReleaseTime(), SimulationEvent.Type.JOB_RELEASE, process);
+        notifyStateChange(process, prevState, ProcessState.SLEEP, TransitionReason.WAIT_NEXT_RELEASE);
+        if (logger.isEnabled(Logger.Component.SCHEDULER)) {
+            logger.scheduler("%s: job %d done → SLEEP until t=%d",
+                    process.getName(), task.getJobIndex() - 1, task.getReleaseTime());
+        }
+    }
+
+    /**
+     * Next job released
+     * SLEEP → READY_MEMORY
+     * SLEEP_SWAPPED → READY_SWAPPED (the swapper brings it back)
+     */
+    private void releaseJob(Process process) {
+        ProcessState prevState = process.getState();
+        if (prevState == ProcessState.SLEEP_SWAPPED) {
+            process.setState(ProcessState.READY_SWAPPED);
+            pcbOf(process).setState(ProcessState.READY_SWAPPED);
+            swapper.wakeup(pcbOf(process), clock.now());
+            wakeSwapper(clock.now());
+        } else {
+            process.setState(ProcessState.READY_MEMORY);
+            activeScheduler.addProcess(process);
+            schedule();
+        }
+        notifyStateChange(process, prevState, process.getState(), TransitionReason.JOB_RELEASED);
+        if (logger.isEnabled(Logger.Component.SCHEDULER)) {
+            logger.scheduler("%s: job %d released (deadline=%d)",
+                    process.getName(), process.getRealTimeTask().getJobIndex(),
+                    process.getRealTimeTask().getAbsoluteDeadline());
+        }
+    }
+
+    /**
+     * I/O completion event
+     * SLEEP → READY_MEMORY (I/O Subsystem)
+     * SLEEP_SWAPPED → READY_SWAPPED (I/O Subsystem)
+     */
+    private void completeIO(Process process) {
+        ProcessControlBlock pcb = pcbOf(process);
+        if (pcb != null) {
+            ioSubsystem.wakeup(pcb);
+        }
+
+        ProcessState prevState = process.getState();
+        if (pcb != null && pcb.getProcessState() == ProcessState.READY_SWAPPED) {
+            process.setState(ProcessState.READY_SWAPPED);
+            swapper.wakeup(pcb, clock.now());
+            wakeSwapper(clock.now());
+        } else {
+            process.setState(ProcessState.READY_MEMORY);
+            activeScheduler.addProcess(process);
+            schedule();
+        }
+        notifyStateChange(process, prevState, process.getState(), TransitionReason.IO_COMPLETE);
+        if (logger.isEnabled(Logger.Component.KERNEL)) {
+            logger.kernel("%s: I/O complete → %s", process.getName(), process.getState());
+        }
+    }
+
+    //==========================================Swapper===========================================
+    /**
+     * Post a swapper pass at the given time unless one is queued no later or nothing is swapped.
+     * A pass brought forward leaves the later event behind; it is skipped when it comes up.
+     */
+    private void wakeSwapper(long time) {
+        if ((swapperDue == NO_SWAPPER_RUN || swapperDue > time) && memoryManager.getSwapUsage() > 0) {
+            eventQueue.schedule(time, SimulationEvent.Type.SWAPPER, null);
+            swapperDue = time;
+        }
+    }
+
+    /**
+     * A swapper event runs only if it is the queued pass and a process still waits to be swapped in
+     */
+    private boolean isSwapperPassDue(SimulationEvent event) {
+        if (event.getTime() != swapperDue) {
+            return false;
+        }
+        if (!swapper.hasWork()) {
+            swapperDue = NO_SWAPPER_RUN;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Swapper pass. It comes back every interval while READY_SWAPPED processes wait, as long
+     * as something else can still change memory - otherwise the simulation could never end.
+     */
+    private void runSwapper() {
+        swapperDue = NO_SWAPPER_RUN;
+        int moved = swapper.run(clock.now(), runningProcess, swapHost);
+        boolean active = moved > 0 || runningProcess != null || !activeScheduler.isEmpty() || !eventQueue.isEmpty();
+        if (active && swapper.hasWork()) {
+            wakeSwapper(clock.now() + swapper.getInterval());
+        } else if (!active && swapper.hasWork() && logger.isEnabled(Logger.Component.MEMORY)) {
+            logger.memory("Swapper stalled: no swapped process fits and nothing else can free memory");
+        }
+    }
+
+    /**
+     * Ready queue access and transition reporting for the swapper
+     */
+    private final class SwapHost implements Swapper.Host {
+        @Override
+        public boolean hasReadyProcess() {
+            return !activeScheduler.isEmpty();
+        }
+
+        @Override
+        public boolean withdraw(Process process) {
+            return activeScheduler.remove(process);
+        }
+
+        @Override
+        public void swappedOut(Process process, ProcessState from) {
+            notifyStateChange(process, from, process.getState(), TransitionReason.SWAPPED_OUT);
+            if (logger.isEnabled(Logger.Component.MEMORY)) {
+                logger.memory("Swapper: %s swapped out → %s (free=%dB)",
+                        process.getName(), process.getState(), memoryManager.getAvailableMemory());
             }
+        }
 
-            logSnapshot("Cycle " + cycleCount + " completed");
-        } finally {
-            lock.unlock();
+        @Override
+        public void swappedIn(Process process) {
+            activeScheduler.addProcess(process);
+            notifyStateChange(process, ProcessState.READY_SWAPPED, ProcessState.READY_MEMORY,
+                    TransitionReason.SWAPPED_IN);
+            if (logger.isEnabled(Logger.Component.MEMORY)) {
+                logger.memory("Swapper: %s swapped in at 0x%x (free=%dB)", process.getName(),
+                        memoryManager.getBaseAddress(pcbOf(process)), memoryManager.getAvailableMemory());
+            }
+            schedule();
+        }
+    }
+
+    /**
+     * PCB of a process created by this kernel (pids are allocated sequentially from 1),
+     * or null for a foreign process
+     */
+    private ProcessControlBlock pcbOf(Process process) {
+        int index = process.getPid() - 1;
+        if (index >= 0 && index < processControlBlocks.size()) {
+            ProcessControlBlock pcb = processControlBlocks.get(index);
+            if (pcb.getProcess() == process) {
+                return pcb;
+            }
         }
+        return processManager.getProcess(process.getPid()).orElse(null);
     }
 
+    /**
+     * Optional wall-clock display throttle - does not affect simulated time
+     */
     private void sleepIfNeeded(int delayMs) {
         if (delayMs > 0) {
             try {
@@ -556,6 +1226,12 @@ public class Kernel {
                     p.getName(), p.getPriority(), p.getBurstTime(), turnaround, p.getState());
         }
 
+        activeScheduler.printStatistics(allProcesses);
+        printRealTimeStatistics();
+        printPlacementStatistics();
+        printSwapperStatistics();
+        printSwapDeviceStatistics();
+        printPagingStatistics();
         System.out.println("+-----------------------------------------------------------+");
         if (!allProcesses.isEmpty()) {
             System.out.printf("| Average Turnaround Time: %-31.2fms |%n",
@@ -564,6 +1240,120 @@ public class Kernel {
         System.out.println("+===========================================================+");
     }
 
+    /**
+     * Free space layout and fragmentation of the contiguous placement
+     */
+    private void printPlacementStatistics() {
+        ContiguousAllocator placement = memoryManager.getPlacement();
+        System.out.println("+-----------------------------------------------------------+");
+        System.out.printf("| %-57s |%n", String.format("MEMORY PLACEMENT (%s, capacity=%dB)",
+                memoryManager.getPlacementStrategy(), placement.getCapacity()));
+        System.out.println("+-----------------------------------------------------------+");
+        System.out.printf("| Free: %-12s in %-7d blocks, largest: %-10s |%n",
+                placement.getFreeBytes() + "B", placement.getFreeBlockCount(),
+                placement.getLargestFreeBlock() + "B");
+        System.out.printf("| External fragmentation: %-8s Internal: %-14s |%n",
+                String.format("%.1f%%", placement.getExternalFragmentation() * 100),
+                memoryManager.getInternalFragmentation() + "B");
+        System.out.printf("| Allocations failed by fragmentation: %-20d |%n",
+                memoryManager.getFragmentationFailureCount());
+    }
+
+    /**
+     * Swapper activity (only when it ran)
+     */
+    private void printSwapperStatistics() {
+        if (swapper.getRunCount() == 0) {
+            return;
+        }
+        System.out.println("+-----------------------------------------------------------+");
+        System.out.printf("| %-57s |%n", String.format("SWAPPER (watermarks %dB/%dB, urgent after %dms)",
+                swapper.getLowWatermark(), swapper.getHighWatermark(), swapper.getMaxSwapWait()));
+        System.out.println("+-----------------------------------------------------------+");
+        System.out.printf("| Runs: %-10d Swap-ins: %-10d Urgent: %-11d |%n",
+                swapper.getRunCount(), swapper.getSwapInCount(), swapper.getUrgentSwapInCount());
+        System.out.printf("| Swap-outs: %-8d Sleeping: %-10d Ready: %-9d |%n",
+                swapper.getSwapOutCount(), swapper.getSleeperSwapOutCount(), swapper.getReadySwapOutCount());
+        System.out.printf("| Swap wait avg: %-12s max: %-10s Swapped: %-4d |%n",
+                String.format("%.1fms", swapper.getAverageSwapWait()), swapper.getLongestSwapWait() + "ms",
+                memoryManager.getSwapUsage());
+    }
+
+    /**
+     * Swap file I/O: latency per image, throughput of the channel calls (only when a device is attached)
+     */
+    private void printSwapDeviceStatistics() {
+        if (swapDevice == null) {
+            return;
+        }
+        System.out.println("+-----------------------------------------------------------+");
+        System.out.printf("| %-57s |%n", String.format("SWAP DEVICE (%d slots of %dB)",
+                swapDevice.getSlotCount(), swapDevice.getSlotSize()));
+        System.out.println("+-----------------------------------------------------------+");
+        System.out.printf("| Options: %-48s |%n", swapDevice.getOptions());
+        System.out.printf("| Swap-outs: %-8d Swap-ins: %-9d Full: %-11d |%n",
+                swapDevice.getSwapOutCount(), swapDevice.getSwapInCount(), swapDevice.getFullCount());
+        System.out.printf("| Writes: %-8d %-13s Reads: %-7d %-11s |%n",
+                swapDevice.getWriteCalls(), swapDevice.getBytesWritten() + "B",
+                swapDevice.getReadCalls(), swapDevice.getBytesRead() + "B");
+        System.out.printf("| Latency out: %-9s in: %-8s Read-ahead hits: %-4d |%n",
+                String.format("%.1fus", swapDevice.getAverageSwapOutMicros()),
+                String.format("%.1fus", swapDevice.getAverageSwapInMicros()), swapDevice.getReadAheadHits());
+        System.out.printf("| Throughput write: %-10s read: %-10s Used: %-5d |%n",
+                String.format("%.1fMB/s", swapDevice.getWriteThroughput()),
+                String.format("%.1fMB/s", swapDevice.getReadThroughput()), swapDevice.getUsedSlots());
+    }
+
+    /**
+     * Per-task deadline misses, lateness and start jitter (only when real-time tasks exist)
+     */
+    private void printRealTimeStatistics() {
+        boolean header = false;
+        for (Process p : allProcesses) {
+            RealTimeTask task = p.getRealTimeTask();
+            if (task == null) {
+                continue;
+            }
+            if (!header) {
+                System.out.println("+-----------------------------------------------------------+");
+                System.out.printf("| %-57s |%n", String.format("REAL-TIME TASKS (admission=%s, rejected=%d)",
+                        processManager.getAdmissionPolicy(), processManager.getRejectedCount()));
+                System.out.println("+-----------------------------------------------------------+");
+                System.out.printf("| %-12s | %-8s | %-10s | %-12s | %-6s |%n",
+                        "Process", "Jobs", "Misses", "MaxLate(ms)", "Jitter");
+                header = true;
+            }
+            System.out.printf("| %-12s | %-8d | %-10d | %-12d | %-6d |%n",
+                    p.getName(), task.getJobsCompleted(), task.getDeadlineMisses(),
+                    task.getMaxLateness(), task.getJitter());
+        }
+    }
+
+    /**
+     * Page faults and TLB counters (only when memory references are simulated)
+     */
+    private void printPagingStatistics() {
+        if (memoryReferenceRate == 0) {
+            return;
+        }
+        Tlb tlb = memoryManager.getTlb();
+        FrameAllocator frames = memoryManager.getFrameAllocator();
+        System.out.println("+-----------------------------------------------------------+");
+        System.out.printf("| %-57s |%n", String.format("PAGING (page=%dB, frames=%d, TLB=%dx%d-way)",
+                memoryManager.getPageSize(), frames.getFrameCount(),
+                tlb.getEntries() / tlb.getWays(), tlb.getWays()));
+        System.out.println("+-----------------------------------------------------------+");
+        System.out.printf("| Memory references: %-38d |%n", memoryManager.getAccessCount());
+        System.out.printf("| Page faults: %-16d Unresolved: %-15d |%n",
+                memoryManager.getPageFaultCount(), memoryManager.getUnresolvedFaultCount());
+        System.out.printf("| Evictions: %-10d Writebacks: %-9d Policy: %-5s |%n",
+                memoryManager.getEvictionCount(), memoryManager.getWritebackCount(),
+                memoryManager.getPageReplacementName());
+        System.out.printf("| TLB hits: %-12d misses: %-12d hit: %-8s |%n",
+                tlb.getHits(), tlb.getMisses(), String.format("%.1f%%", tlb.getHitRate() * 100));
+        System.out.printf("| Frames in use: %-42s |%n", frames.getUsedCount() + "/" + frames.getFrameCount());
+    }
+
     /**
      * Enable file logging
      */
@@ -580,6 +1370,13 @@ public class Kernel {
             historyLogger.writeSummary(allProcesses, cycleCount, getSimulationTime(), dispatcher.getContextSwitchCount());
             historyLogger.close();
         }
+        if (journal != null) {
+            journal.close();
+        }
+        closeSnapshotTrace();
+        if (swapDevice != null) {
+            swapDevice.close();
+        }
         logger.close();
     }
 
@@ -597,9 +1394,23 @@ public class Kernel {
         return historyLogger;
     }
 
-    //==========================================Constants==========================================
-    public enum SchedulerType {
-        PRIORITY,
-        ROUND_ROBIN
+    /**
+     * Get the columnar snapshot trace writer, or null if it is not enabled
+     */
+    public ColumnarTraceWriter getSnapshotTrace() {
+        return snapshotTrace;
     }
+
+    /**
+     * Get the binary transition journal, or null if it is not enabled
+     */
+    public TransitionJournal getTransitionJournal() {
+        return journal;
+    }
+
+    //==========================================Constants==========================================
+    public static final int DEFAULT_IO_LATENCY = 10; // Simulated ms per blocking I/O
+    public static final int REFERENCE_STRIDE = 64;   // Bytes between consecutive simulated references
+    public static final int DEFAULT_SWAP_FACTOR = 4;  // Swap device size in multiples of main memory
+    private static final long NO_SWAPPER_RUN = -1L;
 }
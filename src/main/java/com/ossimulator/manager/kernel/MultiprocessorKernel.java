@@ -0,0 +1,255 @@
+package com.ossimulator.manager.kernel;
+
+import com.ossimulator.manager.cpu.Cpu;
+import com.ossimulator.manager.event.SimulationClock;
+import com.ossimulator.manager.memory.MemoryManager;
+import com.ossimulator.manager.process.ProcessManager;
+import com.ossimulator.manager.scheduler.Scheduler;
+import com.ossimulator.manager.scheduler.SchedulerConfig;
+import com.ossimulator.manager.scheduler.SchedulerRegistry;
+import com.ossimulator.model.component.AccountingInformation;
+import com.ossimulator.model.component.Priority;
+import com.ossimulator.model.component.ProcessState;
+import com.ossimulator.model.main.Process;
+import com.ossimulator.model.main.ProcessControlBlock;
+import com.ossimulator.thread.CpuThread;
+import com.ossimulator.util.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Symmetric multiprocessor simulation.
+ * Each simulated CPU has its own run queue, dispatcher state and local clock and
+ * runs on its own CpuThread - there is no kernel-wide lock. Idle CPUs steal work
+ * from the CPU with the longest run queue. A stolen process never starts before
+ * the simulated time at which it last left a CPU.
+ *
+ * Unlike the uniprocessor Kernel, results depend on host thread interleaving.
+ */
+public class MultiprocessorKernel {
+    //==========================================Variable==========================================
+    private final Cpu[] cpus;
+    private final ProcessManager processManager;
+    private final MemoryManager memoryManager;
+    private final SimulationClock clock;
+    private final Logger logger;
+
+    private final List<Process> allProcesses;
+    private final ConcurrentLinkedQueue<Process> completedProcesses;
+    private final AtomicInteger remainingProcesses;
+    private int nextPlacement;
+
+    //========================================Constructor=========================================
+    public MultiprocessorKernel(int cpuCount, int timeQuantum, long maxMemorySlots,
+                                String schedulerName, Logger logger) {
+        this(cpuCount, maxMemorySlots, schedulerName, new SchedulerConfig(timeQuantum), logger);
+    }
+
+    /**
+     * @param schedulerName registry name of the policy used for every per-CPU run queue
+     */
+    public MultiprocessorKernel(int cpuCount, long maxMemorySlots, String schedulerName,
+                                SchedulerConfig schedulerConfig, Logger logger) {
+        if (cpuCount < 1) {
+            throw new IllegalArgumentException("cpuCount must be >= 1: " + cpuCount);
+        }
+        this.clock = new SimulationClock();
+        this.memoryManager = new MemoryManager(maxMemorySlots * 1024);
+        this.processManager = new ProcessManager(memoryManager, clock);
+        this.logger = logger;
+        this.cpus = new Cpu[cpuCount];
+        SchedulerRegistry registry = SchedulerRegistry.getDefault();
+        for (int i = 0; i < cpuCount; i++) {
+            cpus[i] = new Cpu(i, registry.create(schedulerName, schedulerConfig));
+        }
+        this.allProcesses = new ArrayList<>();
+        this.completedProcesses = new ConcurrentLinkedQueue<>();
+        this.remainingProcesses = new AtomicInteger(0);
+        this.nextPlacement = 0;
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Create a process and place it on a CPU run queue (round-robin placement).
+     * The chosen CPU becomes the process's affinity (home) CPU.
+     */
+    public synchronized Process createProcess(String name, int burstTime, int priority) {
+        int pid = allProcesses.size() + 1;
+        Process process = new Process(pid, name, burstTime, priority, clock);
+        ProcessControlBlock pcb = processManager.fork(process, 0, new Priority(priority));
+        processManager.admit(pcb);
+
+        Cpu home = cpus[nextPlacement];
+        nextPlacement = (nextPlacement + 1) % cpus.length;
+        pcb.getAccountingInformation().setAffinityCpu(home.getId());
+
+        allProcesses.add(process);
+        remainingProcesses.incrementAndGet();
+        home.getRunQueue().addProcess(process);
+
+        if (logger.isEnabled(Logger.Component.KERNEL)) {
+            logger.kernel("Created process: %s (PID=%d, burst=%dms, priority=%d) → CPU%d",
+                    name, pid, burstTime, priority, home.getId());
+        }
+        return process;
+    }
+
+    /**
+     * Run all CPUs on worker threads until every process has exited
+     */
+    public void run() {
+        List<CpuThread> threads = new ArrayList<>(cpus.length);
+        for (Cpu cpu : cpus) {
+            CpuThread thread = new CpuThread(this, cpu);
+            threads.add(thread);
+            thread.start();
+        }
+
+        for (CpuThread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                threads.forEach(CpuThread::stopRunning);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Run one time slice of a process on a CPU (called from that CPU's thread)
+     * READY_MEMORY → USER_RUNNING → READY_MEMORY / ZOMBIE
+     */
+    public void runSlice(Cpu cpu, Process process) {
+        ProcessControlBlock pcb = processManager.getProcess(process.getPid()).orElseThrow();
+        AccountingInformation accounting = pcb.getAccountingInformation();
+        accounting.recordCpu(cpu.getId());
+
+        // A process cannot start before it was released by the CPU it last ran on
+        long start = Math.max(cpu.getLocalClock().now(), accounting.getLastScheduledTime());
+        cpu.dispatch(pcb);
+        process.setState(ProcessState.USER_RUNNING);
+
+        Scheduler runQueue = cpu.getRunQueue();
+        int executedTime = process.execute(runQueue.getTimeSlice(process), start);
+        runQueue.onExecuted(process, executedTime);
+        long end = start + executedTime;
+        cpu.getLocalClock().advanceTo(end);
+        clock.advanceTo(end);
+        pcb.addCpuTime(executedTime, end);
+
+        if (process.isCompleted()) {
+            process.setState(ProcessState.ZOMBIE);
+            process.setCompletionTime(end);
+            runQueue.onExit(process);
+            processManager.exit(pcb);
+            cpu.release(executedTime, true);
+            completedProcesses.add(process);
+            remainingProcesses.decrementAndGet();
+            if (logger.isEnabled(Logger.Component.KERNEL)) {
+                logger.kernel("CPU%d: %s exit → ZOMBIE (turnaround=%dms)",
+                        cpu.getId(), process.getName(), process.getTurnaroundTime());
+            }
+        } else {
+            process.setState(ProcessState.READY_MEMORY);
+            pcb.setState(ProcessState.READY_MEMORY);
+            cpu.release(executedTime, false);
+            runQueue.requeue(process);
+        }
+    }
+
+    /**
+     * Work stealing: take one ready process from the CPU with the longest run queue
+     * @return the stolen process, or null if every other run queue is empty
+     */
+    public Process steal(Cpu thief) {
+        Cpu victim = null;
+        int longest = 0;
+        for (Cpu cpu : cpus) {
+            int queued = cpu.getRunQueue().size();
+            if (cpu != thief && queued > longest) {
+                victim = cpu;
+                longest = queued;
+            }
+        }
+        if (victim == null) {
+            return null;
+        }
+
+        Process stolen = victim.getRunQueue().pollNext();
+        if (stolen != null) {
+            thief.recordSteal();
+            if (logger.isEnabled(Logger.Component.DISPATCHER)) {
+                logger.dispatcher("CPU%d stole %s from CPU%d", thief.getId(), stolen.getName(), victim.getId());
+            }
+        }
+        return stolen;
+    }
+
+    /**
+     * Check whether every created process has exited
+     */
+    public boolean isFinished() {
+        return remainingProcesses.get() == 0;
+    }
+
+    /**
+     * Total migrations across all processes
+     */
+    public long getMigrationCount() {
+        long migrations = 0;
+        for (ProcessControlBlock pcb : processManager.getAllProcesses().values()) {
+            migrations += pcb.getAccountingInformation().getMigrationCount();
+        }
+        return migrations;
+    }
+
+    /**
+     * Print per-CPU and process statistics
+     */
+    public void printStatistics() {
+        long makespan = clock.now();
+        System.out.println("\n+===========================================================+");
+        System.out.println("|              SMP SIMULATION STATISTICS                    |");
+        System.out.println("+===========================================================+");
+        System.out.printf("| CPUs: %-50d |%n", cpus.length);
+        System.out.printf("| Makespan (simulated): %-33dms |%n", makespan);
+        System.out.printf("| Processes: %-45d |%n", allProcesses.size());
+        System.out.printf("| Migrations: %-44d |%n", getMigrationCount());
+        System.out.println("+-----------------------------------------------------------+");
+        System.out.printf("| %-5s | %-10s | %-11s | %-8s | %-8s | %-9s |%n",
+                "CPU", "Busy(ms)", "Utilization", "CtxSw", "Steals", "Completed");
+        System.out.println("+-----------------------------------------------------------+");
+        for (Cpu cpu : cpus) {
+            double utilization = makespan == 0 ? 0 : 100.0 * cpu.getBusyTime() / makespan;
+            System.out.printf("| %-5d | %-10d | %-10.1f%% | %-8d | %-8d | %-9d |%n",
+                    cpu.getId(), cpu.getBusyTime(), utilization, cpu.getContextSwitchCount(),
+                    cpu.getStealCount(), cpu.getCompletedCount());
+        }
+
+        long totalTurnaround = 0;
+        for (Process p : allProcesses) {
+            totalTurnaround += p.getTurnaroundTime();
+        }
+        System.out.println("+-----------------------------------------------------------+");
+        if (!allProcesses.isEmpty()) {
+            System.out.printf("| Average Turnaround Time: %-31.2fms |%n",
+                    (double) totalTurnaround / allProcesses.size());
+        }
+        System.out.println("+===========================================================+");
+    }
+
+    //==========================================Get Set===========================================
+    public Cpu[] getCpus() { return cpus.clone(); }
+    public int getCpuCount() { return cpus.length; }
+    public ProcessManager getProcessManager() { return processManager; }
+    public MemoryManager getMemoryManager() { return memoryManager; }
+    public SimulationClock getClock() { return clock; }
+    public long getSimulationTime() { return clock.now(); }
+    public synchronized List<Process> getAllProcesses() { return Collections.unmodifiableList(new ArrayList<>(allProcesses)); }
+    public List<Process> getCompletedProcesses() { return new ArrayList<>(completedProcesses); }
+}
@@ -0,0 +1,83 @@
+package com.ossimulator.manager.memory;
+
+import java.util.Arrays;
+
+/**
+ * Physical frame allocator: a stack of free frame numbers plus an inverted page table
+ * (owner pid and virtual page of every frame) in parallel int arrays, so 1M frames cost
+ * 12 bytes each and allocate / free are O(1). Not thread-safe - MemoryManager holds its lock.
+ */
+public class FrameAllocator {
+    //==========================================Variable==========================================
+    public static final int NO_FRAME = -1;
+
+    private final int[] freeFrames;         // Stack of free frame numbers
+    private final int[] owners;             // Owner pid per frame, 0 = free
+    private final int[] pages;              // Virtual page number per frame
+    private int freeCount;
+
+    //========================================Constructor=========================================
+    public FrameAllocator(int frameCount) {
+        if (frameCount < 0) {
+            throw new IllegalArgumentException("frameCount must be >= 0: " + frameCount);
+        }
+        this.freeFrames = new int[frameCount];
+        this.owners = new int[frameCount];
+        this.pages = new int[frameCount];
+        // Lowest frame numbers are handed out first
+        for (int i = 0; i < frameCount; i++) {
+            freeFrames[i] = frameCount - 1 - i;
+        }
+        this.freeCount = frameCount;
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Take a free frame for a virtual page
+     * @return the frame number, or NO_FRAME if physical memory is full
+     */
+    public int allocate(int pid, int page) {
+        if (freeCount == 0) {
+            return NO_FRAME;
+        }
+        int frame = freeFrames[--freeCount];
+        owners[frame] = pid;
+        pages[frame] = page;
+        return frame;
+    }
+
+    public void free(int frame) {
+        if (owners[frame] == 0) {
+            return;
+        }
+        owners[frame] = 0;
+        pages[frame] = 0;
+        freeFrames[freeCount++] = frame;
+    }
+
+    /**
+     * Hand a used frame to another page without going through the free stack (page replacement)
+     */
+    public void reassign(int frame, int pid, int page) {
+        owners[frame] = pid;
+        pages[frame] = page;
+    }
+
+    public void clear() {
+        Arrays.fill(owners, 0);
+        Arrays.fill(pages, 0);
+        for (int i = 0; i < freeFrames.length; i++) {
+            freeFrames[i] = freeFrames.length - 1 - i;
+        }
+        freeCount = freeFrames.length;
+    }
+
+    //==========================================Get Set===========================================
+    public int getFrameCount() { return owners.length; }
+    public int getFreeCount() { return freeCount; }
+    public int getUsedCount() { return owners.length - freeCount; }
+
+    /** Owner pid of a frame, 0 if it is free */
+    public int getOwner(int frame) { return owners[frame]; }
+    public int getPage(int frame) { return pages[frame]; }
+}
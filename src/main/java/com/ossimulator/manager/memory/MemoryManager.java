@@ -1,43 +1,112 @@
 package com.ossimulator.manager.memory;
 
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.Queue;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
 import java.util.concurrent.locks.ReentrantLock;
 
+import com.ossimulator.manager.memory.placement.ContiguousAllocator;
+import com.ossimulator.manager.memory.placement.PlacementStrategy;
+import com.ossimulator.manager.memory.replacement.PageReplacementPolicy;
+import com.ossimulator.manager.memory.replacement.PageReplacementRegistry;
+import com.ossimulator.model.component.ContextData;
+import com.ossimulator.model.component.MemoryPointer;
 import com.ossimulator.model.component.ProcessState;
+import com.ossimulator.model.component.ProgramData;
 import com.ossimulator.model.main.Process;
 import com.ossimulator.model.main.ProcessControlBlock;
 
+/**
+ * Main memory: contiguous placement of process images plus a paged virtual memory model.
+ * Each resident process gets Process.getMemorySize() bytes from a ContiguousAllocator
+ * (first/best/next-fit or buddy, see PlacementStrategy); the region is published in the
+ * PCB's MemoryPointer as base / limit (exclusive end) and given back on swap-out and exit,
+ * so a swapped-in process may be relocated.
+ *
+ * Physical memory is split into pageSize frames (FrameAllocator); every admitted process
+ * gets a page table in the shared PageTableStore, pointed to by its MemoryPointer.
+ * Pages are brought in on demand - translate() walks the TLB and the page table and
+ * reports a page fault, which the InterruptHandler resolves through handlePageFault().
+ * When no frame is free the pluggable PageReplacementPolicy picks a victim page to evict.
+ * A process' frames are released when it is swapped out or freed.
+ *
+ * Swap is bookkeeping only (SwapSpace) until a SwapDevice is attached; then a swapped-out
+ * process' ContextData and ProgramData are written to the device file and cleared in core,
+ * and read back on swap-in.
+ */
 public class MemoryManager {
     //==========================================Variable==========================================
+    public static final int DEFAULT_PAGE_SIZE = 256;
+    public static final int PAGE_FAULT = -1;
+    public static final String DEFAULT_REPLACEMENT = "CLOCK";
+    private static final int NO_TABLE = -1;
+    private static final long NOT_RESIDENT = -1L;
+
     private final long totalMemory;
-    private long availableMemory;
-    private final Map<Integer, Long> allocatedMemory;
     private final SwapSpace swapSpace;
     private final ReentrantLock lock;
+    private SwapDevice swapDevice;          // null = images stay in core while swapped
+
+    // Placement
+    private ContiguousAllocator placement;
+    private PlacementStrategy placementStrategy;
+    private long[] baseAddresses;           // Start of the resident region per pid, NOT_RESIDENT if none
+    private long[] allocatedSizes;          // Requested bytes of the resident region per pid
+    private int residentCount;
+    private long requestedBytes;            // Sum of requested sizes of resident regions
+    private long fragmentationFailureCount;
+
+    // Paging
+    private final int pageSize;
+    private final FrameAllocator frameAllocator;
+    private final PageTableStore pageTables;
+    private final Tlb tlb;
+    private PageReplacementPolicy replacementPolicy;
+    private int[] tableBases;               // Page table base per pid, NO_TABLE if none
+    private int[] tablePages;               // Page table length per pid
+    private long accessCount;
+    private long pageFaultCount;
+    private long unresolvedFaultCount;
+    private long evictionCount;
+    private long writebackCount;
 
     //========================================Constructor=========================================
     public MemoryManager(long totalMemory) {
+        this(totalMemory, DEFAULT_PAGE_SIZE, new Tlb());
+    }
+
+    public MemoryManager(long totalMemory, int pageSize, Tlb tlb) {
+        if (pageSize < 1 || Integer.bitCount(pageSize) != 1) {
+            throw new IllegalArgumentException("pageSize must be a power of two: " + pageSize);
+        }
+        long frames = totalMemory / pageSize;
+        if (frames > PageTableStore.FRAME_MASK) {
+            throw new IllegalArgumentException("Too many frames: " + frames);
+        }
         this.totalMemory = totalMemory;
-        this.availableMemory = totalMemory;
-        this.allocatedMemory = new ConcurrentHashMap<>();
+        this.placementStrategy = PlacementStrategy.FIRST_FIT;
+        this.placement = placementStrategy.create(totalMemory);
+        this.baseAddresses = new long[64];
+        this.allocatedSizes = new long[64];
+        Arrays.fill(baseAddresses, NOT_RESIDENT);
         this.swapSpace = new SwapSpace();
         this.lock = new ReentrantLock();
+        this.pageSize = pageSize;
+        this.frameAllocator = new FrameAllocator((int) frames);
+        this.pageTables = new PageTableStore();
+        this.tlb = tlb;
+        this.replacementPolicy = PageReplacementRegistry.getDefault().create(DEFAULT_REPLACEMENT, (int) frames);
+        this.tableBases = new int[64];
+        this.tablePages = new int[64];
+        Arrays.fill(tableBases, NO_TABLE);
     }
 
     //===========================================Method===========================================
     /**
-     * Check if memory is available for process
+     * Check if a free block can hold the process image
      */
     public boolean hasAvailableMemory(ProcessControlBlock pcb) {
         lock.lock();
         try {
-            long requiredMemory = getRequiredMemory(pcb);
-            return availableMemory >= requiredMemory;
+            return placement.canAllocate(getRequiredMemory(pcb));
         } finally {
             lock.unlock();
         }
@@ -46,43 +115,41 @@ public class MemoryManager {
     /**
      * Allocate memory for process
      * CREATED → READY_MEMORY (memory available)
+     * The page table is created empty; pages are faulted in on first access.
      */
     public boolean allocateMemory(ProcessControlBlock pcb) {
         lock.lock();
         try {
-            int pid = pcb.getIdentifier().getPid();
-            long requiredMemory = getRequiredMemory(pcb);
-
-            if (availableMemory >= requiredMemory) {
-                availableMemory -= requiredMemory;
-                allocatedMemory.put(pid, requiredMemory);
-                return true;
+            if (!place(pcb)) {
+                return false;
             }
-            return false;
+            ensurePageTable(pcb);
+            return true;
         } finally {
             lock.unlock();
         }
     }
 
     /**
-     * Free memory allocated to process
+     * Free memory allocated to process, including its frames and page table
      */
     public void freeMemory(ProcessControlBlock pcb) {
         lock.lock();
         try {
             int pid = pcb.getIdentifier().getPid();
-            Long memory = allocatedMemory.remove(pid);
-            if (memory != null) {
-                availableMemory += memory;
-            }
+            release(pcb);
             swapSpace.remove(pid);
+            if (swapDevice != null) {
+                swapDevice.free(pid);
+            }
+            releasePageTable(pcb);
         } finally {
             lock.unlock();
         }
     }
 
     /**
-     * Swap out process from memory to swap space
+     * Swap out process from memory to swap space - its region and frames are released
      * READY_MEMORY → READY_SWAPPED
      * SLEEP → SLEEP_SWAPPED
      */
@@ -90,11 +157,13 @@ public class MemoryManager {
         lock.lock();
         try {
             int pid = pcb.getIdentifier().getPid();
-            Long memory = allocatedMemory.remove(pid);
-            if (memory != null) {
-                availableMemory += memory;
-            }
+            release(pcb);
             swapSpace.add(pid);
+            if (swapDevice != null && !swapDevice.contains(pid)) {
+                writeImage(pcb);
+            }
+            ensurePageTable(pcb);
+            releaseFrames(pid);
 
             ProcessState currentState = pcb.getProcessState();
             if (currentState == ProcessState.READY_MEMORY) {
@@ -108,26 +177,27 @@ public class MemoryManager {
     }
 
     /**
-     * Swap in process from swap space to memory
+     * Swap in process from swap space to memory, at whatever address the placement picks.
+     * If its image is on the swap device and cannot be read back, the process stays swapped.
      * READY_SWAPPED → READY_MEMORY
      */
     public boolean swapIn(ProcessControlBlock pcb) {
         lock.lock();
         try {
             int pid = pcb.getIdentifier().getPid();
-            long requiredMemory = getRequiredMemory(pcb);
-
-            if (availableMemory >= requiredMemory && swapSpace.contains(pid)) {
-                availableMemory -= requiredMemory;
-                allocatedMemory.put(pid, requiredMemory);
-                swapSpace.remove(pid);
-
-                if (pcb.getProcessState() == ProcessState.READY_SWAPPED) {
-                    pcb.setState(ProcessState.READY_MEMORY);
-                }
-                return true;
+            if (!swapSpace.contains(pid) || !place(pcb)) {
+                return false;
             }
-            return false;
+            if (swapDevice != null && swapDevice.contains(pid)
+                    && !swapDevice.read(pid, pcb.getContextData(), programDataOf(pcb))) {
+                release(pcb);
+                return false;
+            }
+            swapSpace.remove(pid);
+            if (pcb.getProcessState() == ProcessState.READY_SWAPPED) {
+                pcb.setState(ProcessState.READY_MEMORY);
+            }
+            return true;
         } finally {
             lock.unlock();
         }
@@ -141,23 +211,451 @@ public class MemoryManager {
     }
 
     /**
-     * Get required memory for process (placeholder - can be customized)
+     * Attach a swap device (null detaches); only possible while no process is swapped.
+     * The caller keeps ownership and closes it.
+     */
+    public void setSwapDevice(SwapDevice device) {
+        lock.lock();
+        try {
+            if (swapSpace.size() > 0) {
+                throw new IllegalStateException("Cannot change swap device with " + swapSpace.size()
+                        + " swapped processes");
+            }
+            swapDevice = device;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Write the process image to the swap device and clear what was written from core;
+     * a full or failed device leaves the image in core
+     */
+    private void writeImage(ProcessControlBlock pcb) {
+        ContextData context = pcb.getContextData();
+        ProgramData programData = programDataOf(pcb);
+        if (!swapDevice.write(pcb.getIdentifier().getPid(), getRequiredMemory(pcb), context, programData)) {
+            return;
+        }
+        if (context != null) {
+            if (context.getRegisters() != null) {
+                Arrays.fill(context.getRegisters(), 0);
+            }
+            context.setStackPointer(0);
+            context.setFlagsRegister(0);
+        }
+        if (programData != null) {
+            programData.getVariables().clear();
+            programData.getCallStack().clear();
+        }
+    }
+
+    private static ProgramData programDataOf(ProcessControlBlock pcb) {
+        Process process = pcb.getProcess();
+        return process == null ? null : process.getProgramData();
+    }
+
+    /**
+     * Image size of a process in bytes
      */
     private long getRequiredMemory(ProcessControlBlock pcb) {
-        return 1024; // Default 1KB per process
+        Process process = pcb.getProcess();
+        return process == null ? Process.DEFAULT_MEMORY_SIZE : process.getMemorySize();
+    }
+
+    //=========================================Placement==========================================
+    /**
+     * Switch the placement strategy; only possible while no process is resident
+     */
+    public void setPlacementStrategy(PlacementStrategy strategy) {
+        lock.lock();
+        try {
+            if (residentCount > 0) {
+                throw new IllegalStateException("Cannot change placement with " + residentCount + " resident processes");
+            }
+            placement = strategy.create(totalMemory);
+            placementStrategy = strategy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Start address of a process' region, or -1 if it is not resident
+     */
+    public long getBaseAddress(ProcessControlBlock pcb) {
+        lock.lock();
+        try {
+            int pid = pcb.getIdentifier().getPid();
+            return pid < baseAddresses.length ? baseAddresses[pid] : NOT_RESIDENT;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Bytes lost inside allocated blocks (buddy round-up)
+     */
+    public long getInternalFragmentation() {
+        lock.lock();
+        try {
+            return placement.getCapacity() - placement.getFreeBytes() - requestedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Share of free memory outside the largest free block
+     */
+    public double getExternalFragmentation() {
+        lock.lock();
+        try {
+            return placement.getExternalFragmentation();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Placement counters as one line for logs
+     */
+    public String getPlacementSummary() {
+        lock.lock();
+        try {
+            return String.format("%s resident=%d free=%d in %d blocks largest=%d external=%.1f%% internal=%d"
+                            + " fragmentation failures=%d",
+                    placementStrategy, residentCount, placement.getFreeBytes(), placement.getFreeBlockCount(),
+                    placement.getLargestFreeBlock(), placement.getExternalFragmentation() * 100,
+                    placement.getCapacity() - placement.getFreeBytes() - requestedBytes,
+                    fragmentationFailureCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Give the process a region and publish it in its MemoryPointer.
+     * A failure while enough bytes are free in total is counted as a fragmentation failure.
+     */
+    private boolean place(ProcessControlBlock pcb) {
+        int pid = pcb.getIdentifier().getPid();
+        ensureCapacity(pid);
+        if (baseAddresses[pid] != NOT_RESIDENT) {
+            return true;
+        }
+        long size = getRequiredMemory(pcb);
+        long address = placement.allocate(size);
+        if (address == ContiguousAllocator.NO_SPACE) {
+            if (placement.getFreeBytes() >= placement.reservedSize(size)) {
+                fragmentationFailureCount++;
+            }
+            return false;
+        }
+        baseAddresses[pid] = address;
+        allocatedSizes[pid] = size;
+        residentCount++;
+        requestedBytes += size;
+        MemoryPointer pointer = pcb.getMemoryPointer();
+        if (pointer != null) {
+            pointer.setBaseAddress((int) address);
+            pointer.setLimitAddress((int) (address + size));
+        }
+        return true;
+    }
+
+    private void release(ProcessControlBlock pcb) {
+        int pid = pcb.getIdentifier().getPid();
+        if (pid >= baseAddresses.length || baseAddresses[pid] == NOT_RESIDENT) {
+            return;
+        }
+        placement.free(baseAddresses[pid], allocatedSizes[pid]);
+        baseAddresses[pid] = NOT_RESIDENT;
+        residentCount--;
+        requestedBytes -= allocatedSizes[pid];
+        MemoryPointer pointer = pcb.getMemoryPointer();
+        if (pointer != null) {
+            pointer.setBaseAddress(0);
+            pointer.setLimitAddress(0);
+        }
+    }
+
+    /**
+     * Grow the pid-indexed arrays so pid fits
+     */
+    private void ensureCapacity(int pid) {
+        if (pid < tableBases.length) {
+            return;
+        }
+        int capacity = Math.max(pid + 1, tableBases.length << 1);
+        int old = tableBases.length;
+        tableBases = Arrays.copyOf(tableBases, capacity);
+        tablePages = Arrays.copyOf(tablePages, capacity);
+        baseAddresses = Arrays.copyOf(baseAddresses, capacity);
+        allocatedSizes = Arrays.copyOf(allocatedSizes, capacity);
+        Arrays.fill(tableBases, old, capacity, NO_TABLE);
+        Arrays.fill(baseAddresses, old, capacity, NOT_RESIDENT);
+    }
+
+    //===========================================Paging===========================================
+    /**
+     * MMU translation of one access: TLB, then page table walk. Sets the referenced
+     * (and on writes the dirty) bit of the page.
+     * @return the physical address, or PAGE_FAULT if the page is not resident
+     */
+    public int translate(ProcessControlBlock pcb, int virtualAddress, boolean write) {
+        lock.lock();
+        try {
+            int pid = pcb.getIdentifier().getPid();
+            int page = pageOf(pid, virtualAddress);
+            int base = tableBases[pid];
+            accessCount++;
+
+            int frame = tlb.lookup(pid, page);
+            int entry = pageTables.get(base, page);
+            if (frame == Tlb.MISS) {
+                if (!PageTableStore.isPresent(entry)) {
+                    pageFaultCount++;
+                    return PAGE_FAULT;
+                }
+                frame = PageTableStore.frameOf(entry);
+                tlb.insert(pid, page, frame);
+            }
+            replacementPolicy.onAccess(frame);
+            entry |= write ? PageTableStore.REFERENCED | PageTableStore.DIRTY : PageTableStore.REFERENCED;
+            pageTables.set(base, page, entry);
+            return frame * pageSize + (virtualAddress & (pageSize - 1));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Page fault service: bring the faulting page into a free frame, or evict the
+     * replacement policy's victim when none is free
+     * @return false if no frame could be found (the access cannot complete)
+     */
+    public boolean handlePageFault(ProcessControlBlock pcb, int virtualAddress) {
+        lock.lock();
+        try {
+            int pid = pcb.getIdentifier().getPid();
+            int page = pageOf(pid, virtualAddress);
+            int base = tableBases[pid];
+            if (PageTableStore.isPresent(pageTables.get(base, page))) {
+                return true;
+            }
+            long pageKey = pageKey(pid, page);
+            int frame = frameAllocator.allocate(pid, page);
+            if (frame == FrameAllocator.NO_FRAME) {
+                frame = replacementPolicy.selectVictim(pageKey);
+                if (frame < 0) {
+                    unresolvedFaultCount++;
+                    return false;
+                }
+                evict(frame);
+                frameAllocator.reassign(frame, pid, page);
+            }
+            pageTables.set(base, page, PageTableStore.PRESENT | frame);
+            replacementPolicy.onLoad(frame, pageKey);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Switch the page replacement policy. Resident pages are handed to the new policy
+     * as freshly loaded, so its history starts empty.
+     */
+    public void setPageReplacement(String name) {
+        lock.lock();
+        try {
+            PageReplacementPolicy policy = PageReplacementRegistry.getDefault()
+                    .create(name, frameAllocator.getFrameCount());
+            for (int frame = 0; frame < frameAllocator.getFrameCount(); frame++) {
+                int owner = frameAllocator.getOwner(frame);
+                if (owner != 0) {
+                    policy.onLoad(frame, pageKey(owner, frameAllocator.getPage(frame)));
+                }
+            }
+            replacementPolicy = policy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Give back a terminated process' region and frames; the page table stays until the PCB is destroyed
+     */
+    public void releasePages(ProcessControlBlock pcb) {
+        lock.lock();
+        try {
+            release(pcb);
+            releaseFrames(pcb.getIdentifier().getPid());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Size of a process' virtual address space in bytes (0 before it has a page table)
+     */
+    public int getVirtualSize(ProcessControlBlock pcb) {
+        lock.lock();
+        try {
+            int pid = pcb.getIdentifier().getPid();
+            return hasPageTable(pid) ? tablePages[pid] * pageSize : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of a process' pages currently in a frame
+     */
+    public int getResidentPages(ProcessControlBlock pcb) {
+        lock.lock();
+        try {
+            int pid = pcb.getIdentifier().getPid();
+            if (!hasPageTable(pid)) {
+                return 0;
+            }
+            int resident = 0;
+            for (int page = 0; page < tablePages[pid]; page++) {
+                if (PageTableStore.isPresent(pageTables.get(tableBases[pid], page))) {
+                    resident++;
+                }
+            }
+            return resident;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int pagesFor(long bytes) {
+        return (int) Math.max(1, (bytes + pageSize - 1) / pageSize);
+    }
+
+    private int pageOf(int pid, int virtualAddress) {
+        if (!hasPageTable(pid)) {
+            throw new IllegalStateException("Process " + pid + " has no page table");
+        }
+        int page = virtualAddress / pageSize;
+        if (virtualAddress < 0 || page >= tablePages[pid]) {
+            throw new IllegalArgumentException("Address " + virtualAddress + " outside process " + pid);
+        }
+        return page;
+    }
+
+    private static long pageKey(int pid, int page) {
+        return ((long) pid << 32) | page;
+    }
+
+    /**
+     * Take a frame away from its current page: clear the PTE and TLB entry and count
+     * the write-back a dirty page needs
+     */
+    private void evict(int frame) {
+        int owner = frameAllocator.getOwner(frame);
+        int page = frameAllocator.getPage(frame);
+        int base = tableBases[owner];
+        if ((pageTables.get(base, page) & PageTableStore.DIRTY) != 0) {
+            writebackCount++;
+        }
+        pageTables.set(base, page, 0);
+        tlb.invalidate(owner, page);
+        evictionCount++;
+    }
+
+    private boolean hasPageTable(int pid) {
+        return pid < tableBases.length && tableBases[pid] != NO_TABLE;
+    }
+
+    private void ensurePageTable(ProcessControlBlock pcb) {
+        int pid = pcb.getIdentifier().getPid();
+        if (hasPageTable(pid)) {
+            return;
+        }
+        ensureCapacity(pid);
+        int pages = pagesFor(getRequiredMemory(pcb));
+        tableBases[pid] = pageTables.allocate(pages);
+        tablePages[pid] = pages;
+        MemoryPointer pointer = pcb.getMemoryPointer();
+        if (pointer != null) {
+            pointer.setPageTablePointer(tableBases[pid]);
+        }
+    }
+
+    private void releaseFrames(int pid) {
+        if (!hasPageTable(pid)) {
+            return;
+        }
+        int base = tableBases[pid];
+        for (int page = 0; page < tablePages[pid]; page++) {
+            int entry = pageTables.get(base, page);
+            if (PageTableStore.isPresent(entry)) {
+                replacementPolicy.onFree(PageTableStore.frameOf(entry));
+                frameAllocator.free(PageTableStore.frameOf(entry));
+                tlb.invalidate(pid, page);
+            }
+            pageTables.set(base, page, 0);
+        }
+    }
+
+    private void releasePageTable(ProcessControlBlock pcb) {
+        int pid = pcb.getIdentifier().getPid();
+        if (!hasPageTable(pid)) {
+            return;
+        }
+        releaseFrames(pid);
+        pageTables.free(tableBases[pid], tablePages[pid]);
+        tableBases[pid] = NO_TABLE;
+        tablePages[pid] = 0;
+        MemoryPointer pointer = pcb.getMemoryPointer();
+        if (pointer != null) {
+            pointer.setPageTablePointer(NO_TABLE);
+        }
     }
 
     //==========================================Get Set===========================================
     public long getTotalMemory() { return totalMemory; }
-    public long getAvailableMemory() { return availableMemory; }
-    public long getUsedMemory() { return totalMemory - availableMemory; }
+    public long getAvailableMemory() { return placement.getFreeBytes(); }
+    public long getUsedMemory() { return placement.getCapacity() - placement.getFreeBytes(); }
+    public PlacementStrategy getPlacementStrategy() { return placementStrategy; }
+    public ContiguousAllocator getPlacement() { return placement; }
+
+    /** Allocations that failed although enough memory was free in total */
+    public long getFragmentationFailureCount() { return fragmentationFailureCount; }
     public SwapSpace getSwapSpace() { return swapSpace; }
 
+    /** Attached swap device, or null if swapped images stay in core */
+    public SwapDevice getSwapDevice() { return swapDevice; }
+    public int getPageSize() { return pageSize; }
+    public FrameAllocator getFrameAllocator() { return frameAllocator; }
+    public PageTableStore getPageTables() { return pageTables; }
+    public Tlb getTlb() { return tlb; }
+    public long getAccessCount() { return accessCount; }
+    public long getPageFaultCount() { return pageFaultCount; }
+    public long getEvictionCount() { return evictionCount; }
+    public long getWritebackCount() { return writebackCount; }
+
+    public String getPageReplacementName() {
+        lock.lock();
+        try {
+            return replacementPolicy.getName();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Faults that found no free frame */
+    public long getUnresolvedFaultCount() { return unresolvedFaultCount; }
+
     /**
      * Get number of processes currently in memory
      */
     public int getMemoryUsage() {
-        return allocatedMemory.size();
+        return residentCount;
     }
 
     /**
@@ -173,4 +671,20 @@ public class MemoryManager {
     public int getSwapUsage() {
         return swapSpace.size();
     }
+
+    /**
+     * Paging counters as one line for logs
+     */
+    public String getPagingSummary() {
+        lock.lock();
+        try {
+            return String.format("accesses=%d faults=%d (unresolved=%d) evictions=%d (%s, writebacks=%d)"
+                            + " tlb hit=%.1f%% frames=%d/%d",
+                    accessCount, pageFaultCount, unresolvedFaultCount, evictionCount,
+                    replacementPolicy.getName(), writebackCount, tlb.getHitRate() * 100,
+                    frameAllocator.getUsedCount(), frameAllocator.getFrameCount());
+        } finally {
+            lock.unlock();
+        }
+    }
 }
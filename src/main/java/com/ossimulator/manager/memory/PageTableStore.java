@@ -0,0 +1,98 @@
+package com.ossimulator.manager.memory;
+
+import java.util.Arrays;
+
+/**
+ * Every process' page table lives in one shared int array: a table is a contiguous run of
+ * page table entries starting at its base offset (MemoryPointer.pageTablePointer).
+ * Runs are rounded up to a power of two; freed runs go on a per-size free list that is
+ * threaded through the freed entries themselves, so the store needs no extra memory and
+ * 100k small tables are a single array instead of 100k objects.
+ *
+ * Entry layout: bit 31 present, bit 30 referenced, bit 29 dirty, bits 0-28 frame number.
+ * Not thread-safe - MemoryManager holds its lock.
+ */
+public class PageTableStore {
+    //==========================================Variable==========================================
+    public static final int PRESENT = 1 << 31;
+    public static final int REFERENCED = 1 << 30;
+    public static final int DIRTY = 1 << 29;
+    public static final int FRAME_MASK = (1 << 29) - 1;
+    public static final int MAX_ORDER = 24;                 // Largest table: 16M pages
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int END_OF_LIST = -1;
+
+    private int[] entries;
+    private final int[] freeHeads;          // First free run per order, linked through entry 0
+    private int top;                        // Bump pointer
+    private int tableCount;
+
+    //========================================Constructor=========================================
+    public PageTableStore() {
+        this.entries = new int[INITIAL_CAPACITY];
+        this.freeHeads = new int[MAX_ORDER + 1];
+        Arrays.fill(freeHeads, END_OF_LIST);
+        this.top = 0;
+        this.tableCount = 0;
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Allocate a table of pageCount entries, all not present
+     * @return base offset of the table
+     */
+    public int allocate(int pageCount) {
+        int order = orderOf(pageCount);
+        int base = freeHeads[order];
+        if (base != END_OF_LIST) {
+            freeHeads[order] = entries[base];
+        } else {
+            int size = 1 << order;
+            if (top + size > entries.length) {
+                long capacity = Math.max((long) top + size, (long) entries.length << 1);
+                entries = Arrays.copyOf(entries, (int) Math.min(capacity, Integer.MAX_VALUE - 8));
+            }
+            base = top;
+            top += size;
+        }
+        Arrays.fill(entries, base, base + (1 << order), 0);
+        tableCount++;
+        return base;
+    }
+
+    /**
+     * Return a table to the free list of its size
+     */
+    public void free(int base, int pageCount) {
+        int order = orderOf(pageCount);
+        entries[base] = freeHeads[order];
+        freeHeads[order] = base;
+        tableCount--;
+    }
+
+    public int get(int base, int page) {
+        return entries[base + page];
+    }
+
+    public void set(int base, int page, int entry) {
+        entries[base + page] = entry;
+    }
+
+    //==========================================Get Set===========================================
+    public int getTableCount() { return tableCount; }
+
+    /** Entries reserved so far (used, free-listed and rounding slack) */
+    public int getReservedEntries() { return top; }
+    public long getFootprintBytes() { return (long) entries.length * Integer.BYTES; }
+
+    //===========================================Helper===========================================
+    private static int orderOf(int pageCount) {
+        if (pageCount < 1 || pageCount > 1 << MAX_ORDER) {
+            throw new IllegalArgumentException("pageCount must be in [1, 2^" + MAX_ORDER + "]: " + pageCount);
+        }
+        return 32 - Integer.numberOfLeadingZeros(pageCount - 1);
+    }
+
+    public static boolean isPresent(int entry) { return (entry & PRESENT) != 0; }
+    public static int frameOf(int entry) { return entry & FRAME_MASK; }
+}
@@ -0,0 +1,795 @@
+package com.ossimulator.manager.memory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Stack;
+
+import com.ossimulator.model.component.ContextData;
+import com.ossimulator.model.component.ProgramData;
+
+/**
+ * File-backed swap device. The file is preallocated as slotCount slots of slotSize bytes
+ * and a bitmap tracks which slots are in use. A swapped-out process image occupies
+ * ceil(image size / slotSize) slots:
+ *
+ *   slot 0:  magic(4) pid(4) pages(4) payload length(4), then ContextData and ProgramData
+ *   rest:    the remaining bytes of the image, zero-filled
+ *
+ * so every swap moves the whole image through positional FileChannel reads and writes.
+ * The image is rebuilt into the process' existing ContextData / ProgramData on swap-in.
+ *
+ * I/O options (configure):
+ * - clustering: place an image in one contiguous run of slots (next fit from the last
+ *   cluster); otherwise every page takes the lowest free slot, and images scatter into
+ *   the holes left by earlier ones.
+ * - read-ahead: a read also loads the next N slots into a one-window cache; a later read
+ *   inside the window costs no I/O.
+ * - write coalescing: each contiguous run is one write, and runs that continue the staged
+ *   run are merged in a buffer until it is full or a read needs them; otherwise every
+ *   page is written on its own.
+ *
+ * Calls, bytes and nanoseconds spent in the channel and per image are counted for the
+ * latency and throughput figures. A write error stops swap-out: later images stay in core,
+ * and images already on the device (or still staged) can still be read back. A read error
+ * keeps the image on the device and fails the swap-in. Not thread-safe - MemoryManager
+ * holds its lock.
+ */
+public class SwapDevice implements AutoCloseable {
+    //==========================================Variable==========================================
+    public static final int IMAGE_MAGIC = 0x4F535357; // "OSSW"
+    public static final int HEADER_SIZE = 16;
+    public static final int DEFAULT_READ_AHEAD = 8;
+    public static final int DEFAULT_COALESCE_SLOTS = 64;
+    private static final int PREALLOCATE_CHUNK = 1 << 16;
+    private static final int NO_WINDOW = -1;
+
+    private final Path path;
+    private final int slotSize;
+    private final int slotCount;
+    private final long[] bitmap;            // One bit per slot, set = in use
+    private FileChannel channel;
+    private boolean writable;               // Cleared by a write error
+    private int freeSlots;
+    private int clusterCursor;              // Next-fit start of the cluster search
+
+    // Options
+    private boolean clustering;
+    private int readAhead;
+    private boolean writeCoalescing;
+
+    // Per-pid slot lists
+    private int[][] slots;
+    private int[] pageCounts;               // Slots held per pid, 0 = not on the device
+
+    // Buffers
+    private ByteBuffer image;               // Serialized image being written or read
+    private final ByteBuffer pending;       // Coalesced writes not yet issued
+    private int pendingStart;
+    private int pendingSlots;
+    private ByteBuffer cache;               // Read-ahead window
+    private int cacheStart;
+    private int cacheSlots;
+
+    // Statistics
+    private long swapOutCount;
+    private long swapInCount;
+    private long fullCount;                 // Images that found no free slots
+    private long readErrors;                // Swap-ins whose image could not be read back
+    private long writeCalls;
+    private long readCalls;
+    private long bytesWritten;
+    private long bytesRead;
+    private long writeNanos;
+    private long readNanos;
+    private long swapOutNanos;
+    private long swapInNanos;
+    private long maxSwapOutNanos;
+    private long maxSwapInNanos;
+    private long readAheadHits;             // Slots served from the read-ahead window
+
+    //========================================Constructor=========================================
+    /**
+     * Create (or truncate) the swap file and fill it with zeros so its blocks are allocated
+     */
+    public SwapDevice(Path path, int slotSize, int slotCount) throws IOException {
+        if (slotSize < HEADER_SIZE || Integer.bitCount(slotSize) != 1) {
+            throw new IllegalArgumentException("slotSize must be a power of two >= " + HEADER_SIZE + ": " + slotSize);
+        }
+        if (slotCount < 1) {
+            throw new IllegalArgumentException("slotCount must be > 0: " + slotCount);
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.path = path;
+        this.slotSize = slotSize;
+        this.slotCount = slotCount;
+        this.bitmap = new long[(slotCount + 63) >>> 6];
+        this.writable = true;
+        this.freeSlots = slotCount;
+        this.clustering = true;
+        this.readAhead = DEFAULT_READ_AHEAD;
+        this.writeCoalescing = true;
+        this.slots = new int[64][];
+        this.pageCounts = new int[64];
+        this.image = ByteBuffer.allocateDirect(slotSize);
+        this.pending = ByteBuffer.allocateDirect(DEFAULT_COALESCE_SLOTS * slotSize);
+        this.cache = ByteBuffer.allocateDirect(Math.max(1, readAhead) * slotSize);
+        this.cacheStart = NO_WINDOW;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.DELETE_ON_CLOSE);
+        preallocate();
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Set the I/O options; staged writes are issued and the read-ahead window dropped first
+     */
+    public void configure(boolean clustering, int readAhead, boolean writeCoalescing) {
+        if (readAhead < 0) {
+            throw new IllegalArgumentException("readAhead must be >= 0: " + readAhead);
+        }
+        flush();
+        this.clustering = clustering;
+        this.readAhead = readAhead;
+        this.writeCoalescing = writeCoalescing;
+        this.cacheStart = NO_WINDOW;
+        this.cacheSlots = 0;
+    }
+
+    /**
+     * Set the I/O options from a spec such as "cluster=off,readahead=0,coalesce=on";
+     * options not named keep their value
+     */
+    public void configure(String spec) {
+        applySpec(spec, this);
+    }
+
+    /**
+     * Check a configure(String) spec without a device, so a bad one is reported before
+     * the swap file is opened
+     */
+    public static void checkSpec(String spec) {
+        applySpec(spec, null);
+    }
+
+    /**
+     * Parse a spec on top of the device's current options and apply it (device null: parse only)
+     */
+    private static void applySpec(String spec, SwapDevice device) {
+        boolean cluster = device == null || device.clustering;
+        int ahead = device != null ? device.readAhead : DEFAULT_READ_AHEAD;
+        boolean coalesce = device == null || device.writeCoalescing;
+        for (String entry : spec.split(",")) {
+            String item = entry.trim();
+            if (item.isEmpty()) {
+                continue;
+            }
+            int eq = item.indexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("Expected option=value: " + item);
+            }
+            String name = item.substring(0, eq).trim().toLowerCase();
+            String value = item.substring(eq + 1).trim();
+            switch (name) {
+                case "cluster" -> cluster = parseSwitch(value);
+                case "readahead" -> ahead = Integer.parseInt(value);
+                case "coalesce" -> coalesce = parseSwitch(value);
+                default -> throw new IllegalArgumentException("Unknown swap option: " + name);
+            }
+        }
+        if (ahead < 0) {
+            throw new IllegalArgumentException("readAhead must be >= 0: " + ahead);
+        }
+        if (device != null) {
+            device.configure(cluster, ahead, coalesce);
+        }
+    }
+
+    /**
+     * Write a process image to free slots
+     * @param imageBytes size of the process image; the device stores at least the serialized state
+     * @return false if the device is full, closed or has stopped writing (the image stays in core)
+     */
+    public boolean write(int pid, long imageBytes, ContextData context, ProgramData programData) {
+        if (channel == null || !writable) {
+            return false;
+        }
+        long started = System.nanoTime();
+        ensureCapacity(pid);
+        free(pid);
+        serialize(pid, imageBytes, context, programData);
+        int pages = image.limit() / slotSize;
+        if (!allocateSlots(pid, pages)) {
+            fullCount++;
+            return false;
+        }
+        int[] list = slots[pid];
+        try {
+            int page = 0;
+            while (page < pages) {
+                int run = writeCoalescing ? runLength(list, page, pages) : 1;
+                writeRun(list[page], page, run);
+                page += run;
+            }
+        } catch (IOException e) {
+            stopWrites(e);
+            free(pid);
+            return false;
+        }
+        long elapsed = System.nanoTime() - started;
+        swapOutCount++;
+        swapOutNanos += elapsed;
+        maxSwapOutNanos = Math.max(maxSwapOutNanos, elapsed);
+        return true;
+    }
+
+    /**
+     * Read a process image back into its ContextData / ProgramData and free its slots
+     * @return false if the process has no image on the device, the device is closed or the
+     *         read failed (a failed image keeps its slots)
+     */
+    public boolean read(int pid, ContextData context, ProgramData programData) {
+        if (!contains(pid) || channel == null) {
+            return false;
+        }
+        long started = System.nanoTime();
+        int pages = pageCounts[pid];
+        int[] list = slots[pid];
+        ensureImageCapacity(pages * slotSize);
+        image.clear().limit(pages * slotSize);
+        try {
+            int page = 0;
+            while (page < pages) {
+                int run = runLength(list, page, pages);
+                readRun(list[page], page, run);
+                page += run;
+            }
+            image.position(0);
+            deserialize(pid, context, programData);
+        } catch (IOException e) {
+            readErrors++;
+            System.err.println("[SwapDevice] Read of pid " + pid + " failed: " + e.getMessage());
+            return false;
+        }
+        free(pid);
+        long elapsed = System.nanoTime() - started;
+        swapInCount++;
+        swapInNanos += elapsed;
+        maxSwapInNanos = Math.max(maxSwapInNanos, elapsed);
+        return true;
+    }
+
+    /**
+     * Drop a process' image without reading it (the process exited while swapped)
+     */
+    public void free(int pid) {
+        if (!contains(pid)) {
+            return;
+        }
+        int[] list = slots[pid];
+        for (int i = 0; i < pageCounts[pid]; i++) {
+            bitmap[list[i] >>> 6] &= ~(1L << list[i]);
+        }
+        freeSlots += pageCounts[pid];
+        pageCounts[pid] = 0;
+    }
+
+    public boolean contains(int pid) {
+        return pid >= 0 && pid < pageCounts.length && pageCounts[pid] > 0;
+    }
+
+    /**
+     * Issue the staged coalesced writes; after a write error they stay staged for reads
+     */
+    public void flush() {
+        try {
+            flushPending();
+        } catch (IOException e) {
+            stopWrites(e);
+        }
+    }
+
+    /**
+     * Flush and close; the swap file is deleted
+     */
+    @Override
+    public void close() {
+        flush();
+        closeChannel();
+    }
+
+    /**
+     * Swap I/O counters as one line for logs
+     */
+    public String getSummary() {
+        return String.format("%s slots=%d/%d out=%d in=%d full=%d read errors=%d writes=%d (%dB) reads=%d (%dB)"
+                        + " read-ahead hits=%d out avg=%.1fus in avg=%.1fus write=%.1fMB/s read=%.1fMB/s",
+                getOptions(), slotCount - freeSlots, slotCount, swapOutCount, swapInCount, fullCount,
+                readErrors, writeCalls, bytesWritten, readCalls, bytesRead, readAheadHits,
+                getAverageSwapOutMicros(), getAverageSwapInMicros(),
+                getWriteThroughput(), getReadThroughput());
+    }
+
+    //=========================================Serialize==========================================
+    /**
+     * Lay out header, context and program data in the image buffer, zero-padded to whole slots
+     */
+    private void serialize(int pid, long imageBytes, ContextData context, ProgramData programData) {
+        int payload = payloadSize(context, programData);
+        long bytes = Math.max(imageBytes, HEADER_SIZE + payload);
+        int pages = (int) ((bytes + slotSize - 1) / slotSize);
+        ensureImageCapacity(pages * slotSize);
+        image.clear().limit(pages * slotSize);
+        image.putInt(IMAGE_MAGIC);
+        image.putInt(pid);
+        image.putInt(pages);
+        image.putInt(payload);
+
+        int[] registers = context == null ? null : context.getRegisters();
+        image.putInt(registers == null ? -1 : registers.length);
+        if (registers != null) {
+            for (int register : registers) {
+                image.putInt(register);
+            }
+        }
+        image.putInt(context == null ? 0 : context.getStackPointer());
+        image.putInt(context == null ? 0 : context.getFlagsRegister());
+
+        if (programData == null) {
+            image.putInt(-1);
+        } else {
+            image.putInt(programData.getVariables().size());
+            for (Map.Entry<String, Integer> variable : programData.getVariables().entrySet()) {
+                putString(variable.getKey());
+                image.putInt(variable.getValue() == null ? 0 : variable.getValue());
+            }
+            image.putInt(programData.getCallStack().size());
+            for (String frame : programData.getCallStack()) {
+                putString(frame);
+            }
+        }
+        while (image.remaining() >= Long.BYTES) {
+            image.putLong(0L);
+        }
+        while (image.hasRemaining()) {
+            image.put((byte) 0);
+        }
+        image.flip();
+    }
+
+    private void deserialize(int pid, ContextData context, ProgramData programData) throws IOException {
+        if (image.getInt() != IMAGE_MAGIC || image.getInt() != pid || image.getInt() != pageCounts[pid]) {
+            throw new IOException("Corrupt swap image for pid " + pid);
+        }
+        image.getInt();
+
+        int registerCount = image.getInt();
+        int[] registers = null;
+        if (registerCount >= 0) {
+            registers = context != null && context.getRegisters() != null
+                    && context.getRegisters().length == registerCount
+                    ? context.getRegisters() : new int[registerCount];
+            for (int i = 0; i < registerCount; i++) {
+                registers[i] = image.getInt();
+            }
+        }
+        int stackPointer = image.getInt();
+        int flags = image.getInt();
+        if (context != null) {
+            context.setRegisters(registers);
+            context.setStackPointer(stackPointer);
+            context.setFlagsRegister(flags);
+        }
+
+        int variableCount = image.getInt();
+        if (variableCount < 0 || programData == null) {
+            return;
+        }
+        Map<String, Integer> variables = programData.getVariables();
+        variables.clear();
+        for (int i = 0; i < variableCount; i++) {
+            String name = getString();
+            variables.put(name, image.getInt());
+        }
+        Stack<String> callStack = programData.getCallStack();
+        callStack.clear();
+        int frames = image.getInt();
+        for (int i = 0; i < frames; i++) {
+            callStack.push(getString());
+        }
+    }
+
+    private static int payloadSize(ContextData context, ProgramData programData) {
+        int size = 3 * Integer.BYTES;
+        if (context != null && context.getRegisters() != null) {
+            size += context.getRegisters().length * Integer.BYTES;
+        }
+        size += Integer.BYTES;
+        if (programData != null) {
+            for (String name : programData.getVariables().keySet()) {
+                size += stringSize(name) + Integer.BYTES;
+            }
+            size += Integer.BYTES;
+            for (String frame : programData.getCallStack()) {
+                size += stringSize(frame);
+            }
+        }
+        return size;
+    }
+
+    private static int stringSize(String value) {
+        return Integer.BYTES + value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private void putString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        image.putInt(bytes.length);
+        image.put(bytes);
+    }
+
+    private String getString() {
+        byte[] bytes = new byte[image.getInt()];
+        image.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    //===========================================Slots============================================
+    /**
+     * Reserve pages slots for pid: one contiguous cluster when clustering, else (or when no
+     * run is long enough) the lowest free slot for each page
+     */
+    private boolean allocateSlots(int pid, int pages) {
+        if (pages > freeSlots) {
+            return false;
+        }
+        int[] list = slots[pid];
+        if (list == null || list.length < pages) {
+            list = new int[Math.max(pages, list == null ? 0 : list.length << 1)];
+            slots[pid] = list;
+        }
+        int start = clustering ? findRun(pages) : -1;
+        if (start >= 0) {
+            for (int i = 0; i < pages; i++) {
+                list[i] = start + i;
+            }
+            clusterCursor = start + pages == slotCount ? 0 : start + pages;
+        } else {
+            int slot = 0;
+            for (int i = 0; i < pages; i++) {
+                slot = nextClear(slot);
+                list[i] = slot++;
+            }
+        }
+        for (int i = 0; i < pages; i++) {
+            bitmap[list[i] >>> 6] |= 1L << list[i];
+        }
+        freeSlots -= pages;
+        pageCounts[pid] = pages;
+        return true;
+    }
+
+    /**
+     * First run of length free slots at or after the cluster cursor, wrapping once
+     * @return the first slot of the run, or -1
+     */
+    private int findRun(int length) {
+        int start = findRun(length, clusterCursor, slotCount);
+        if (start < 0 && clusterCursor > 0) {
+            start = findRun(length, 0, Math.min(slotCount, clusterCursor + length - 1));
+        }
+        return start;
+    }
+
+    private int findRun(int length, int from, int end) {
+        int start = nextClear(from);
+        while (start >= 0 && start + length <= end) {
+            int used = nextSet(start, start + length);
+            if (used < 0) {
+                return start;
+            }
+            start = nextClear(used + 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Lowest free slot at or after from, or -1
+     */
+    private int nextClear(int from) {
+        if (from >= slotCount) {
+            return -1;
+        }
+        int word = from >>> 6;
+        long bits = ~bitmap[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == bitmap.length) {
+                return -1;
+            }
+            bits = ~bitmap[word];
+        }
+        int slot = (word << 6) + Long.numberOfTrailingZeros(bits);
+        return slot < slotCount ? slot : -1;
+    }
+
+    /**
+     * Lowest used slot in [from, end), or -1
+     */
+    private int nextSet(int from, int end) {
+        int word = from >>> 6;
+        long bits = bitmap[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == bitmap.length || word << 6 >= end) {
+                return -1;
+            }
+            bits = bitmap[word];
+        }
+        int slot = (word << 6) + Long.numberOfTrailingZeros(bits);
+        return slot < end ? slot : -1;
+    }
+
+    /**
+     * Number of pages from page on whose slots follow each other
+     */
+    private static int runLength(int[] list, int page, int pages) {
+        int run = 1;
+        while (page + run < pages && list[page + run] == list[page] + run) {
+            run++;
+        }
+        return run;
+    }
+
+    //============================================I/O=============================================
+    /**
+     * Write run image pages starting at page to the slots starting at slot. Coalesced runs
+     * are appended to the staged run when they continue it.
+     */
+    private void writeRun(int slot, int page, int run) throws IOException {
+        dropWindow(slot, run);
+        if (!writeCoalescing || run > DEFAULT_COALESCE_SLOTS) {
+            if (overlapsPending(slot, run)) {
+                flushPending();
+            }
+            image.limit((page + run) * slotSize).position(page * slotSize);
+            issueWrite(image, (long) slot * slotSize);
+            return;
+        }
+        if (pendingSlots > 0 && (slot != pendingStart + pendingSlots
+                || pendingSlots + run > DEFAULT_COALESCE_SLOTS)) {
+            flushPending();
+        }
+        if (pendingSlots == 0) {
+            pendingStart = slot;
+        }
+        image.limit((page + run) * slotSize).position(page * slotSize);
+        pending.limit(pending.capacity()).position(pendingSlots * slotSize);
+        pending.put(image);
+        pendingSlots += run;
+    }
+
+    /**
+     * Read run slots starting at slot into the image at page, through the read-ahead window
+     */
+    private void readRun(int slot, int page, int run) throws IOException {
+        image.limit((page + run) * slotSize).position(page * slotSize);
+        if (cacheStart != NO_WINDOW && slot >= cacheStart && slot + run <= cacheStart + cacheSlots) {
+            cache.limit((slot - cacheStart + run) * slotSize).position((slot - cacheStart) * slotSize);
+            image.put(cache);
+            readAheadHits += run;
+            return;
+        }
+        int window = readAhead == 0 ? run : Math.min(run + readAhead, slotCount - slot);
+        flushOverlap(slot, window);
+        if (!writable) {
+            readAroundPending(slot, run);
+            return;
+        }
+        if (readAhead == 0) {
+            issueRead(image, (long) slot * slotSize);
+            return;
+        }
+        if (cache.capacity() < window * slotSize) {
+            cache = ByteBuffer.allocateDirect(window * slotSize);
+        }
+        cache.clear().limit(window * slotSize);
+        cacheStart = NO_WINDOW;
+        issueRead(cache, (long) slot * slotSize);
+        cacheStart = slot;
+        cacheSlots = window;
+        cache.limit(run * slotSize).position(0);
+        image.put(cache);
+    }
+
+    /**
+     * Read with writes stopped: slots still staged (never written out) come from the staging
+     * buffer, the rest straight from the file, without read-ahead
+     */
+    private void readAroundPending(int slot, int run) throws IOException {
+        int end = image.limit();
+        int from = Math.max(slot, pendingStart);
+        int to = Math.min(slot + run, pendingStart + pendingSlots);
+        if (pendingSlots == 0 || from >= to) {
+            issueRead(image, (long) slot * slotSize);
+            return;
+        }
+        if (from > slot) {
+            image.limit(image.position() + (from - slot) * slotSize);
+            issueRead(image, (long) slot * slotSize);
+        }
+        pending.limit((to - pendingStart) * slotSize).position((from - pendingStart) * slotSize);
+        image.limit(image.position() + (to - from) * slotSize);
+        image.put(pending);
+        image.limit(end);
+        if (image.hasRemaining()) {
+            issueRead(image, (long) to * slotSize);
+        }
+    }
+
+    /**
+     * Write out the staged run; it stays staged if the write fails
+     */
+    private void flushPending() throws IOException {
+        if (pendingSlots == 0 || channel == null || !writable) {
+            return;
+        }
+        pending.clear().limit(pendingSlots * slotSize);
+        issueWrite(pending, (long) pendingStart * slotSize);
+        pendingSlots = 0;
+    }
+
+    private void issueWrite(ByteBuffer buffer, long position) throws IOException {
+        long started = System.nanoTime();
+        while (buffer.hasRemaining()) {
+            int written = channel.write(buffer, position);
+            position += written;
+            bytesWritten += written;
+        }
+        writeNanos += System.nanoTime() - started;
+        writeCalls++;
+    }
+
+    private void issueRead(ByteBuffer buffer, long position) throws IOException {
+        long started = System.nanoTime();
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of swap file at " + position);
+            }
+            position += read;
+            bytesRead += read;
+        }
+        readNanos += System.nanoTime() - started;
+        readCalls++;
+    }
+
+    /**
+     * Issue the staged writes if they touch [slot, slot + count)
+     */
+    private void flushOverlap(int slot, int count) {
+        if (overlapsPending(slot, count)) {
+            flush();
+        }
+    }
+
+    private boolean overlapsPending(int slot, int count) {
+        return pendingSlots > 0 && slot < pendingStart + pendingSlots && pendingStart < slot + count;
+    }
+
+    /**
+     * Forget the read-ahead window if [slot, slot + count) is about to be overwritten
+     */
+    private void dropWindow(int slot, int count) {
+        if (cacheStart != NO_WINDOW && slot < cacheStart + cacheSlots && cacheStart < slot + count) {
+            cacheStart = NO_WINDOW;
+            cacheSlots = 0;
+        }
+    }
+
+    private void preallocate() throws IOException {
+        ByteBuffer zeros = ByteBuffer.allocateDirect(PREALLOCATE_CHUNK);
+        long size = (long) slotSize * slotCount;
+        long position = 0;
+        while (position < size) {
+            zeros.clear().limit((int) Math.min(PREALLOCATE_CHUNK, size - position));
+            position += channel.write(zeros, position);
+        }
+    }
+
+    private void ensureCapacity(int pid) {
+        if (pid < pageCounts.length) {
+            return;
+        }
+        int capacity = Math.max(pid + 1, pageCounts.length << 1);
+        slots = Arrays.copyOf(slots, capacity);
+        pageCounts = Arrays.copyOf(pageCounts, capacity);
+    }
+
+    private void ensureImageCapacity(int bytes) {
+        if (image.capacity() < bytes) {
+            image = ByteBuffer.allocateDirect(Math.max(bytes, image.capacity() << 1));
+        }
+    }
+
+    /**
+     * Refuse further swap-outs; the channel stays open so the images on the device can be read back
+     */
+    private void stopWrites(IOException e) {
+        System.err.println("[SwapDevice] Write failed, swap-out disabled: " + e.getMessage());
+        writable = false;
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("[SwapDevice] Close failed: " + e.getMessage());
+        }
+        channel = null;
+    }
+
+    private static boolean parseSwitch(String value) {
+        return switch (value.toLowerCase()) {
+            case "on", "true", "yes", "1" -> true;
+            case "off", "false", "no", "0" -> false;
+            default -> throw new IllegalArgumentException("Expected on/off: " + value);
+        };
+    }
+
+    //==========================================Get Set===========================================
+    public Path getPath() { return path; }
+    public int getSlotSize() { return slotSize; }
+    public int getSlotCount() { return slotCount; }
+    public int getFreeSlots() { return freeSlots; }
+    public int getUsedSlots() { return slotCount - freeSlots; }
+    public boolean isEnabled() { return channel != null && writable; }
+    public boolean isReadable() { return channel != null; }
+    public boolean isClustering() { return clustering; }
+    public int getReadAhead() { return readAhead; }
+    public boolean isWriteCoalescing() { return writeCoalescing; }
+    public long getSwapOutCount() { return swapOutCount; }
+    public long getSwapInCount() { return swapInCount; }
+    public long getFullCount() { return fullCount; }
+    public long getReadErrors() { return readErrors; }
+    public long getWriteCalls() { return writeCalls; }
+    public long getReadCalls() { return readCalls; }
+    public long getBytesWritten() { return bytesWritten; }
+    public long getBytesRead() { return bytesRead; }
+    public long getReadAheadHits() { return readAheadHits; }
+    public long getMaxSwapOutNanos() { return maxSwapOutNanos; }
+    public long getMaxSwapInNanos() { return maxSwapInNanos; }
+
+    /** Options as "cluster=on,readahead=8,coalesce=on" */
+    public String getOptions() {
+        return String.format("cluster=%s,readahead=%d,coalesce=%s",
+                clustering ? "on" : "off", readAhead, writeCoalescing ? "on" : "off");
+    }
+
+    public double getAverageSwapOutMicros() {
+        return swapOutCount == 0 ? 0.0 : swapOutNanos / 1000.0 / swapOutCount;
+    }
+
+    public double getAverageSwapInMicros() {
+        return swapInCount == 0 ? 0.0 : swapInNanos / 1000.0 / swapInCount;
+    }
+
+    /** MB/s of write calls; time outside the channel is not counted */
+    public double getWriteThroughput() {
+        return writeNanos == 0 ? 0.0 : bytesWritten * 1000.0 / writeNanos;
+    }
+
+    /** MB/s of read calls; time outside the channel is not counted */
+    public double getReadThroughput() {
+        return readNanos == 0 ? 0.0 : bytesRead * 1000.0 / readNanos;
+    }
+}
@@ -0,0 +1,494 @@
+package com.ossimulator.manager.memory;
+
+import java.util.Arrays;
+
+import com.ossimulator.manager.io.IOSubsystem;
+import com.ossimulator.model.component.ProcessState;
+import com.ossimulator.model.main.Process;
+import com.ossimulator.model.main.ProcessControlBlock;
+
+/**
+ * Medium-term scheduler, modelled on the UNIX swapper (Solaris sched / BSD sched()).
+ * The kernel runs it every interval ms while swapped processes exist, and right away
+ * when memory is freed or a process becomes READY_SWAPPED.
+ *
+ * Free contiguous memory is kept between two watermarks with hysteresis: once it drops
+ * below lowWatermark the swapper is under pressure and pushes sleeping processes out
+ * (longest asleep first, then lowest priority) until highWatermark is free again.
+ * READY_SWAPPED processes are swapped back in while there is no pressure, best priority
+ * first. One that has waited maxSwapWait ms is urgent: it goes first, ignores the
+ * watermarks and may push out ready processes that have been resident at least as long.
+ * Real-time processes and the running process are never swapped out.
+ */
+public class Swapper {
+    //==========================================Variable==========================================
+    public static final int DEFAULT_INTERVAL = 10;          // ms between runs while work is pending
+    public static final int DEFAULT_MAX_SWAP_WAIT = 100;    // ms before a swapped ready process is urgent
+    private static final int NONE = -1;
+
+    private final MemoryManager memoryManager;
+    private final IOSubsystem ioSubsystem;
+    private long lowWatermark;
+    private long highWatermark;
+    private int interval;
+    private int maxSwapWait;
+    private boolean pressure;
+
+    // Live (not yet exited) processes
+    private ProcessControlBlock[] pcbs;     // Indexed by pid
+    private long[] since;                   // Time of the last swap in / out, wakeup or creation
+    private final PidSet resident;          // Image in memory - swap-out victims come from here
+    private final CandidateHeap oldest;     // READY_SWAPPED by since
+    private final CandidateHeap best;       // READY_SWAPPED by priority, then since
+
+    // Statistics
+    private long runCount;
+    private long swapInCount;
+    private long sleeperSwapOutCount;
+    private long readySwapOutCount;
+    private long urgentSwapInCount;
+    private long totalSwapWait;
+    private long maxObservedWait;
+
+    //========================================Constructor=========================================
+    /**
+     * Watermarks at 1/16 and 1/8 of memory
+     */
+    public Swapper(MemoryManager memoryManager, IOSubsystem ioSubsystem) {
+        this(memoryManager, ioSubsystem, memoryManager.getTotalMemory() / 16,
+                memoryManager.getTotalMemory() / 8, DEFAULT_INTERVAL, DEFAULT_MAX_SWAP_WAIT);
+    }
+
+    public Swapper(MemoryManager memoryManager, IOSubsystem ioSubsystem, long lowWatermark,
+                   long highWatermark, int interval, int maxSwapWait) {
+        this.memoryManager = memoryManager;
+        this.ioSubsystem = ioSubsystem;
+        this.pcbs = new ProcessControlBlock[64];
+        this.since = new long[64];
+        this.resident = new PidSet();
+        this.oldest = new CandidateHeap(false);
+        this.best = new CandidateHeap(true);
+        configure(lowWatermark, highWatermark, interval, maxSwapWait);
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Change the watermarks (bytes of free memory), run interval and urgency threshold (ms)
+     */
+    public void configure(long lowWatermark, long highWatermark, int interval, int maxSwapWait) {
+        if (lowWatermark < 0 || highWatermark < lowWatermark) {
+            throw new IllegalArgumentException("Need 0 <= lowWatermark <= highWatermark: "
+                    + lowWatermark + ", " + highWatermark);
+        }
+        if (interval < 1 || maxSwapWait < 0) {
+            throw new IllegalArgumentException("interval must be >= 1 and maxSwapWait >= 0");
+        }
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+        this.interval = interval;
+        this.maxSwapWait = maxSwapWait;
+    }
+
+    /**
+     * Start tracking an admitted process
+     */
+    public void track(ProcessControlBlock pcb, long now) {
+        int pid = pcb.getIdentifier().getPid();
+        if (pid >= pcbs.length) {
+            int capacity = Math.max(pid + 1, pcbs.length << 1);
+            pcbs = Arrays.copyOf(pcbs, capacity);
+            since = Arrays.copyOf(since, capacity);
+        }
+        pcbs[pid] = pcb;
+        since[pid] = now;
+        classify(pid);
+    }
+
+    /**
+     * Stop tracking a process that exited
+     */
+    public void untrack(ProcessControlBlock pcb) {
+        int pid = pcb.getIdentifier().getPid();
+        if (pid < pcbs.length && pcbs[pid] == pcb) {
+            resident.remove(pid);
+            oldest.remove(pid);
+            best.remove(pid);
+            pcbs[pid] = null;
+        }
+    }
+
+    /**
+     * Note a swap done outside the swapper (Kernel.swapIn / swapOut) so wait times stay right
+     */
+    public void touch(ProcessControlBlock pcb, long now) {
+        int pid = pcb.getIdentifier().getPid();
+        if (pid < pcbs.length && pcbs[pid] == pcb) {
+            since[pid] = now;
+            classify(pid);
+        }
+    }
+
+    /**
+     * A swapped process woke up (SLEEP_SWAPPED → READY_SWAPPED); its swap wait starts now
+     */
+    public void wakeup(ProcessControlBlock pcb, long now) {
+        touch(pcb, now);
+    }
+
+    /**
+     * Whether a run could do anything: a tracked process is waiting to be swapped in
+     */
+    public boolean hasWork() {
+        return oldest.size() > 0;
+    }
+
+    /**
+     * One swapper pass: relieve pressure, then bring READY_SWAPPED processes back
+     * @param running process on the CPU (never swapped out), or null
+     * @return number of processes swapped in or out
+     */
+    public int run(long now, ProcessControlBlock running, Host host) {
+        runCount++;
+        int moved = 0;
+        updatePressure();
+        while (pressure) {
+            int victim = selectVictim(now, running, false);
+            if (victim == NONE || !swapOut(victim, now, host)) {
+                break;
+            }
+            moved++;
+            updatePressure();
+        }
+
+        int candidate;
+        while ((candidate = selectCandidate(now)) != NONE) {
+            ProcessControlBlock pcb = pcbs[candidate];
+            boolean urgent = now - since[candidate] >= maxSwapWait;
+            boolean idle = running == null && !host.hasReadyProcess();
+            if (!urgent && !idle && pressure) {
+                break;
+            }
+            while (!memoryManager.hasAvailableMemory(pcb)) {
+                // Room is only made by force for a process that has waited long enough
+                int victim = urgent || idle ? selectVictim(now, running, urgent) : NONE;
+                if (victim == NONE || !swapOut(victim, now, host)) {
+                    break;
+                }
+                moved++;
+            }
+            if (!swapIn(candidate, now, host)) {
+                break;
+            }
+            if (urgent) {
+                urgentSwapInCount++;
+            }
+            moved++;
+            updatePressure();
+        }
+        return moved;
+    }
+
+    /**
+     * Swapper counters as one line for logs
+     */
+    public String getSummary() {
+        return String.format("runs=%d in=%d (urgent=%d) out=%d (sleeping=%d, ready=%d) avg wait=%.1fms max=%dms",
+                runCount, swapInCount, urgentSwapInCount, getSwapOutCount(), sleeperSwapOutCount,
+                readySwapOutCount, getAverageSwapWait(), maxObservedWait);
+    }
+
+    //==========================================Selection=========================================
+    private void updatePressure() {
+        long free = memoryManager.getAvailableMemory();
+        if (free < lowWatermark) {
+            pressure = true;
+        } else if (free >= highWatermark) {
+            pressure = false;
+        }
+    }
+
+    /**
+     * The longest waiting process if it is urgent, otherwise the best priority (then longest waiting)
+     */
+    private int selectCandidate(long now) {
+        int first = oldest.peek();
+        return first == NONE || now - since[first] >= maxSwapWait ? first : best.peek();
+    }
+
+    /**
+     * Sleeping processes first, longest asleep then lowest priority. With includeReady,
+     * queued ready processes resident for maxSwapWait follow, lowest priority then oldest;
+     * one swapped in during this run is never picked, so a run cannot ping-pong.
+     */
+    private int selectVictim(long now, ProcessControlBlock running, boolean includeReady) {
+        int sleeper = NONE;
+        long longestSleep = -1;
+        int ready = NONE;
+        for (int i = 0; i < resident.size(); i++) {
+            int pid = resident.get(i);
+            ProcessControlBlock pcb = pcbs[pid];
+            Process process = pcb.getProcess();
+            if (pcb == running || process.isRealTime()) {
+                continue;
+            }
+            if (process.getState() == ProcessState.SLEEP) {
+                long asleep = now - pcb.getAccountingInformation().getLastScheduledTime();
+                if (asleep > longestSleep || (asleep == longestSleep
+                        && process.getPriority() > pcbs[sleeper].getProcess().getPriority())) {
+                    sleeper = pid;
+                    longestSleep = asleep;
+                }
+            } else if (includeReady && process.getState() == ProcessState.READY_MEMORY
+                    && since[pid] < now && now - since[pid] >= maxSwapWait
+                    && (ready == NONE || worse(process, pid, pcbs[ready].getProcess(), ready))) {
+                ready = pid;
+            }
+        }
+        return sleeper != NONE ? sleeper : ready;
+    }
+
+    private boolean worse(Process process, int pid, Process other, int otherPid) {
+        return process.getPriority() != other.getPriority()
+                ? process.getPriority() > other.getPriority() : since[pid] < since[otherPid];
+    }
+
+    //==========================================Swapping==========================================
+    /**
+     * SLEEP → SLEEP_SWAPPED through the I/O subsystem, READY_MEMORY → READY_SWAPPED
+     * after the host took the process off its ready queue
+     */
+    private boolean swapOut(int pid, long now, Host host) {
+        ProcessControlBlock pcb = pcbs[pid];
+        Process process = pcb.getProcess();
+        ProcessState from = process.getState();
+        if (from == ProcessState.SLEEP) {
+            pcb.setState(ProcessState.SLEEP);
+            ioSubsystem.swapOutSleeping(pcb);
+            sleeperSwapOutCount++;
+        } else {
+            if (!host.withdraw(process)) {
+                return false;
+            }
+            pcb.setState(ProcessState.READY_MEMORY);
+            memoryManager.swapOut(pcb);
+            readySwapOutCount++;
+        }
+        process.setState(pcb.getProcessState());
+        since[pid] = now;
+        classify(pid);
+        host.swappedOut(process, from);
+        return true;
+    }
+
+    /**
+     * READY_SWAPPED → READY_MEMORY; the host puts the process on its ready queue
+     */
+    private boolean swapIn(int pid, long now, Host host) {
+        ProcessControlBlock pcb = pcbs[pid];
+        pcb.setState(ProcessState.READY_SWAPPED);
+        if (!memoryManager.swapIn(pcb)) {
+            return false;
+        }
+        Process process = pcb.getProcess();
+        process.setState(ProcessState.READY_MEMORY);
+        long waited = now - since[pid];
+        totalSwapWait += waited;
+        maxObservedWait = Math.max(maxObservedWait, waited);
+        swapInCount++;
+        since[pid] = now;
+        classify(pid);
+        host.swappedIn(process);
+        return true;
+    }
+
+    /**
+     * Put a tracked pid where its image and state say it belongs; call after since[pid] changed
+     */
+    private void classify(int pid) {
+        ProcessControlBlock pcb = pcbs[pid];
+        oldest.remove(pid);
+        best.remove(pid);
+        if (!memoryManager.isSwapped(pcb)) {
+            resident.add(pid);
+            return;
+        }
+        resident.remove(pid);
+        if (pcb.getProcess().getState() == ProcessState.READY_SWAPPED) {
+            oldest.add(pid);
+            best.add(pid);
+        }
+    }
+
+    //==========================================Get Set===========================================
+    public long getLowWatermark() { return lowWatermark; }
+    public long getHighWatermark() { return highWatermark; }
+    public int getInterval() { return interval; }
+    public int getMaxSwapWait() { return maxSwapWait; }
+    public boolean isUnderPressure() { return pressure; }
+    public long getRunCount() { return runCount; }
+    public long getSwapInCount() { return swapInCount; }
+    public long getUrgentSwapInCount() { return urgentSwapInCount; }
+    public long getSleeperSwapOutCount() { return sleeperSwapOutCount; }
+    public long getReadySwapOutCount() { return readySwapOutCount; }
+    public long getSwapOutCount() { return sleeperSwapOutCount + readySwapOutCount; }
+    public long getLongestSwapWait() { return maxObservedWait; }
+
+    /** Mean time a process spent swapped before the swapper brought it back, in ms */
+    public double getAverageSwapWait() {
+        return swapInCount == 0 ? 0 : (double) totalSwapWait / swapInCount;
+    }
+
+    //=========================================Inner Class========================================
+    /**
+     * Indexed binary min-heap of swap-in candidates, keyed by since or by (priority, since)
+     */
+    private final class CandidateHeap {
+        private final boolean byPriority;
+        private int[] heap = new int[64];
+        private int[] positions = new int[64];   // Heap slot of a pid, NONE if absent
+        private int size;
+
+        CandidateHeap(boolean byPriority) {
+            this.byPriority = byPriority;
+            Arrays.fill(positions, NONE);
+        }
+
+        int size() { return size; }
+        int peek() { return size == 0 ? NONE : heap[0]; }
+
+        void add(int pid) {
+            if (pid >= positions.length) {
+                int old = positions.length;
+                positions = Arrays.copyOf(positions, Math.max(pid + 1, old << 1));
+                Arrays.fill(positions, old, positions.length, NONE);
+            }
+            if (positions[pid] != NONE) {
+                return;
+            }
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size << 1);
+            }
+            place(pid, size++);
+            siftUp(size - 1);
+        }
+
+        void remove(int pid) {
+            if (pid >= positions.length || positions[pid] == NONE) {
+                return;
+            }
+            int index = positions[pid];
+            int last = heap[--size];
+            positions[pid] = NONE;
+            if (index != size) {
+                place(last, index);
+                siftDown(index);
+                siftUp(positions[last]);
+            }
+        }
+
+        private void siftUp(int index) {
+            int pid = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!less(pid, heap[parent])) {
+                    break;
+                }
+                place(heap[parent], index);
+                index = parent;
+            }
+            place(pid, index);
+        }
+
+        private void siftDown(int index) {
+            int pid = heap[index];
+            int half = size >>> 1;
+            while (index < half) {
+                int child = (index << 1) + 1;
+                if (child + 1 < size && less(heap[child + 1], heap[child])) {
+                    child++;
+                }
+                if (!less(heap[child], pid)) {
+                    break;
+                }
+                place(heap[child], index);
+                index = child;
+            }
+            place(pid, index);
+        }
+
+        private void place(int pid, int index) {
+            heap[index] = pid;
+            positions[pid] = index;
+        }
+
+        private boolean less(int a, int b) {
+            if (byPriority) {
+                int priority = pcbs[a].getProcess().getPriority();
+                int otherPriority = pcbs[b].getProcess().getPriority();
+                if (priority != otherPriority) {
+                    return priority < otherPriority;
+                }
+            }
+            return since[a] != since[b] ? since[a] < since[b] : a < b;
+        }
+    }
+
+    /**
+     * Dense pid set: O(1) add and remove, iteration over members only
+     */
+    private static final class PidSet {
+        private int[] members = new int[64];
+        private int[] positions = new int[64];   // Index of a pid in members, NONE if absent
+        private int size;
+
+        PidSet() {
+            Arrays.fill(positions, NONE);
+        }
+
+        int size() { return size; }
+        int get(int index) { return members[index]; }
+
+        void add(int pid) {
+            if (pid >= positions.length) {
+                int old = positions.length;
+                positions = Arrays.copyOf(positions, Math.max(pid + 1, old << 1));
+                Arrays.fill(positions, old, positions.length, NONE);
+            }
+            if (positions[pid] != NONE) {
+                return;
+            }
+            if (size == members.length) {
+                members = Arrays.copyOf(members, size << 1);
+            }
+            positions[pid] = size;
+            members[size++] = pid;
+        }
+
+        void remove(int pid) {
+            if (pid >= positions.length || positions[pid] == NONE) {
+                return;
+            }
+            int last = members[--size];
+            members[positions[pid]] = last;
+            positions[last] = positions[pid];
+            positions[pid] = NONE;
+        }
+    }
+
+    /**
+     * What the swapper needs from the kernel: the ready queue and state-change reporting
+     */
+    public interface Host {
+        /** Whether a resident process is queued to run */
+        boolean hasReadyProcess();
+
+        /** Take a READY_MEMORY process off the ready queue; false if it is not queued */
+        boolean withdraw(Process process);
+
+        /** The process was swapped out of state from (its state is already updated) */
+        void swappedOut(Process process, ProcessState from);
+
+        /** The process is READY_MEMORY again and must be queued */
+        void swappedIn(Process process);
+    }
+}
@@ -0,0 +1,113 @@
+package com.ossimulator.manager.memory;
+
+import java.util.Arrays;
+
+/**
+ * Simulated translation lookaside buffer: set-associative, tagged with the pid (like an ASID)
+ * so context switches need no flush. Tags and frames are parallel primitive arrays; each set
+ * replaces round-robin. Not thread-safe - MemoryManager holds its lock.
+ */
+public class Tlb {
+    //==========================================Variable==========================================
+    public static final int DEFAULT_ENTRIES = 64;
+    public static final int DEFAULT_WAYS = 4;
+    public static final int MISS = -1;
+    private static final long EMPTY = -1L;
+
+    private final long[] tags;              // (pid << 32) | page, EMPTY if invalid
+    private final int[] frames;
+    private final int[] nextVictim;         // Round-robin way per set
+    private final int ways;
+    private final int setMask;
+
+    private long hits;
+    private long misses;
+
+    //========================================Constructor=========================================
+    public Tlb() {
+        this(DEFAULT_ENTRIES, DEFAULT_WAYS);
+    }
+
+    /**
+     * @param entries total entries; entries / ways must be a power of two
+     */
+    public Tlb(int entries, int ways) {
+        int sets = ways > 0 ? entries / ways : 0;
+        if (sets < 1 || sets * ways != entries || Integer.bitCount(sets) != 1) {
+            throw new IllegalArgumentException("entries / ways must be a power of two: " + entries + "/" + ways);
+        }
+        this.tags = new long[entries];
+        this.frames = new int[entries];
+        this.nextVictim = new int[sets];
+        this.ways = ways;
+        this.setMask = sets - 1;
+        Arrays.fill(tags, EMPTY);
+    }
+
+    //===========================================Method===========================================
+    /**
+     * @return the cached frame, or MISS
+     */
+    public int lookup(int pid, int page) {
+        long tag = tagOf(pid, page);
+        int start = setOf(pid, page) * ways;
+        for (int i = start; i < start + ways; i++) {
+            if (tags[i] == tag) {
+                hits++;
+                return frames[i];
+            }
+        }
+        misses++;
+        return MISS;
+    }
+
+    public void insert(int pid, int page, int frame) {
+        int set = setOf(pid, page);
+        int slot = set * ways + nextVictim[set];
+        nextVictim[set] = (nextVictim[set] + 1) % ways;
+        tags[slot] = tagOf(pid, page);
+        frames[slot] = frame;
+    }
+
+    /**
+     * Drop the translation of one page (it was unmapped or moved)
+     */
+    public void invalidate(int pid, int page) {
+        long tag = tagOf(pid, page);
+        int start = setOf(pid, page) * ways;
+        for (int i = start; i < start + ways; i++) {
+            if (tags[i] == tag) {
+                tags[i] = EMPTY;
+            }
+        }
+    }
+
+    public void flush() {
+        Arrays.fill(tags, EMPTY);
+    }
+
+    public void resetStatistics() {
+        hits = 0;
+        misses = 0;
+    }
+
+    //==========================================Get Set===========================================
+    public int getEntries() { return tags.length; }
+    public int getWays() { return ways; }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    //===========================================Helper===========================================
+    private static long tagOf(int pid, int page) {
+        return ((long) pid << 32) | (page & 0xFFFFFFFFL);
+    }
+
+    private int setOf(int pid, int page) {
+        return (page ^ (pid * 0x9E3779B9)) & setMask;
+    }
+}
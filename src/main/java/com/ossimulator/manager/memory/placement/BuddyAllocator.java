@@ -0,0 +1,207 @@
+package com.ossimulator.manager.memory.placement;
+
+import java.util.Arrays;
+
+/**
+ * Binary buddy system. Memory is cut into power-of-two blocks of minBlock × 2^order bytes;
+ * a block of order k at unit b has its buddy at b XOR 2^k, and two free buddies are merged
+ * back on free. Free blocks sit in one intrusive list per order (prev/next arrays indexed by
+ * unit), and a bitmask of non-empty orders finds the smallest usable order in O(1), so
+ * allocate and free are O(log capacity). A capacity that is not a power of two starts as
+ * several top-level blocks, largest first.
+ *
+ * Requests are rounded up to a whole block: the difference is internal fragmentation.
+ */
+public class BuddyAllocator implements ContiguousAllocator {
+    //==========================================Variable==========================================
+    public static final int DEFAULT_MIN_BLOCK = 256;
+    private static final int NONE = -1;
+
+    private final int minBlockShift;
+    private final int units;                // Capacity in minimum blocks
+    private final int maxOrder;
+    private final int[] heads;              // First free block per order
+    private final int[] prev;
+    private final int[] next;
+    private final byte[] freeOrder;         // Order of the free block starting at a unit, NONE otherwise
+    private int nonEmptyOrders;             // Bit k set when heads[k] is not empty
+    private long freeBytes;
+    private int freeBlockCount;
+
+    //========================================Constructor=========================================
+    public BuddyAllocator(long capacity) {
+        this(capacity, DEFAULT_MIN_BLOCK);
+    }
+
+    public BuddyAllocator(long capacity, int minBlock) {
+        if (minBlock < 1 || Integer.bitCount(minBlock) != 1) {
+            throw new IllegalArgumentException("minBlock must be a power of two: " + minBlock);
+        }
+        long blocks = capacity / minBlock;
+        if (blocks < 1 || blocks > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("capacity must hold 1 .. 2^31-1 blocks of " + minBlock + ": " + capacity);
+        }
+        this.minBlockShift = Integer.numberOfTrailingZeros(minBlock);
+        this.units = (int) blocks;
+        this.maxOrder = 31 - Integer.numberOfLeadingZeros(units);
+        this.heads = new int[maxOrder + 1];
+        this.prev = new int[units];
+        this.next = new int[units];
+        this.freeOrder = new byte[units];
+        Arrays.fill(heads, NONE);
+        Arrays.fill(freeOrder, (byte) NONE);
+
+        int unit = 0;
+        for (int order = maxOrder; order >= 0; order--) {
+            if (units - unit >= 1 << order) {
+                push(unit, order);
+                unit += 1 << order;
+            }
+        }
+        this.freeBytes = (long) units << minBlockShift;
+    }
+
+    //===========================================Method===========================================
+    @Override
+    public String getName() {
+        return PlacementStrategy.BUDDY.name();
+    }
+
+    @Override
+    public long allocate(long size) {
+        int order = orderFor(size);
+        if (order > maxOrder) {
+            return NO_SPACE;
+        }
+        int usable = nonEmptyOrders & (-1 << order);
+        if (usable == 0) {
+            return NO_SPACE;
+        }
+        int current = Integer.numberOfTrailingZeros(usable);
+        int block = heads[current];
+        unlink(block, current);
+        // Split down, keeping the lower half and freeing the upper buddy each time
+        while (current > order) {
+            current--;
+            push(block + (1 << current), current);
+        }
+        freeBytes -= blockBytes(order);
+        return (long) block << minBlockShift;
+    }
+
+    @Override
+    public void free(long address, long size) {
+        int order = orderFor(size);
+        long unitAddress = address >> minBlockShift;
+        if (address < 0 || order > maxOrder || (unitAddress & ((1L << order) - 1)) != 0
+                || unitAddress + (1L << order) > units) {
+            throw new IllegalArgumentException("Invalid block [" + address + ", " + size + "]");
+        }
+        int block = (int) unitAddress;
+        if (freeOrder[block] != NONE) {
+            throw new IllegalStateException("Block at " + address + " is already free");
+        }
+        freeBytes += blockBytes(order);
+
+        // Merge with free buddies while the merged block stays inside memory
+        while (order < maxOrder) {
+            int buddy = block ^ (1 << order);
+            int merged = Math.min(block, buddy);
+            if (buddy >= units || freeOrder[buddy] != order || merged + (2 << order) > units) {
+                break;
+            }
+            unlink(buddy, order);
+            block = merged;
+            order++;
+        }
+        push(block, order);
+    }
+
+    @Override
+    public boolean canAllocate(long size) {
+        int order = orderFor(size);
+        return order <= maxOrder && (nonEmptyOrders >>> order) != 0;
+    }
+
+    @Override
+    public long reservedSize(long size) {
+        return blockBytes(orderFor(size));
+    }
+
+    //==========================================Get Set===========================================
+    public int getMinBlock() { return 1 << minBlockShift; }
+    public int getMaxOrder() { return maxOrder; }
+
+    @Override
+    public long getCapacity() { return (long) units << minBlockShift; }
+
+    @Override
+    public long getFreeBytes() { return freeBytes; }
+
+    @Override
+    public long getLargestFreeBlock() {
+        return nonEmptyOrders == 0 ? 0 : blockBytes(31 - Integer.numberOfLeadingZeros(nonEmptyOrders));
+    }
+
+    @Override
+    public int getFreeBlockCount() { return freeBlockCount; }
+
+    /**
+     * Number of free blocks of one order
+     */
+    public int getFreeBlockCount(int order) {
+        int count = 0;
+        for (int block = heads[order]; block != NONE; block = next[block]) {
+            count++;
+        }
+        return count;
+    }
+
+    //=========================================Free Lists=========================================
+    /**
+     * Smallest order whose block holds size bytes (Integer.MAX_VALUE if it can never fit)
+     */
+    private int orderFor(long size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be >= 1: " + size);
+        }
+        long blocks = (size + (1L << minBlockShift) - 1) >> minBlockShift;
+        if (blocks > units) {
+            return Integer.MAX_VALUE;
+        }
+        return 64 - Long.numberOfLeadingZeros(blocks - 1);
+    }
+
+    private long blockBytes(int order) {
+        return (1L << order) << minBlockShift;
+    }
+
+    private void push(int block, int order) {
+        int head = heads[order];
+        prev[block] = NONE;
+        next[block] = head;
+        if (head != NONE) {
+            prev[head] = block;
+        }
+        heads[order] = block;
+        freeOrder[block] = (byte) order;
+        nonEmptyOrders |= 1 << order;
+        freeBlockCount++;
+    }
+
+    private void unlink(int block, int order) {
+        if (prev[block] != NONE) {
+            next[prev[block]] = next[block];
+        } else {
+            heads[order] = next[block];
+        }
+        if (next[block] != NONE) {
+            prev[next[block]] = prev[block];
+        }
+        freeOrder[block] = (byte) NONE;
+        if (heads[order] == NONE) {
+            nonEmptyOrders &= ~(1 << order);
+        }
+        freeBlockCount--;
+    }
+}
@@ -0,0 +1,46 @@
+package com.ossimulator.manager.memory.placement;
+
+/**
+ * Placement of variable-size contiguous regions inside [0, capacity) of physical memory.
+ * The caller remembers each region's address and requested size and passes both back to free.
+ * Not thread-safe - MemoryManager holds its lock.
+ */
+public interface ContiguousAllocator {
+    long NO_SPACE = -1L;
+
+    String getName();
+
+    /**
+     * Place a region of size bytes
+     * @return its start address, or NO_SPACE if no free block is large enough
+     */
+    long allocate(long size);
+
+    /**
+     * Give back a region returned by allocate(size)
+     */
+    void free(long address, long size);
+
+    /**
+     * Whether allocate(size) would succeed right now
+     */
+    boolean canAllocate(long size);
+
+    /**
+     * Bytes actually taken by a region of size bytes (the buddy allocator rounds up)
+     */
+    long reservedSize(long size);
+
+    long getCapacity();
+    long getFreeBytes();
+    long getLargestFreeBlock();
+    int getFreeBlockCount();
+
+    /**
+     * External fragmentation: share of free memory outside the largest free block
+     */
+    default double getExternalFragmentation() {
+        long free = getFreeBytes();
+        return free == 0 ? 0 : 1.0 - (double) getLargestFreeBlock() / free;
+    }
+}
@@ -0,0 +1,439 @@
+package com.ossimulator.manager.memory.placement;
+
+import java.util.Arrays;
+
+/**
+ * First/best/next-fit over the free extents of memory. Every free extent is a node in a
+ * treap ordered by address and augmented with the largest extent in each subtree (first-fit,
+ * next-fit and coalescing); best-fit also links the same nodes into a second treap ordered by
+ * (length, address). Allocate and free are O(log n) expected in the number of free extents;
+ * adjacent extents are merged on free.
+ *
+ * Node fields are interleaved so one node sits in one or two cache lines: the long triple
+ * (start, length, subtree max length) and the int quintuple (address-tree children,
+ * size-tree children, priority). Node 0 is the NIL sentinel (length 0), so the augmentation
+ * needs no null checks.
+ */
+public class ExtentAllocator implements ContiguousAllocator {
+    //==========================================Variable==========================================
+    private static final int NIL = 0;
+    private static final int BY_ADDRESS = 0;
+    private static final int BY_SIZE = 1;
+    private static final int INITIAL_NODES = 64;
+
+    // Field offsets inside a node
+    private static final int START = 0;
+    private static final int LENGTH = 1;
+    private static final int MAX_LENGTH = 2;
+    private static final int EXTENT_STRIDE = 3;
+    private static final int LEFT = 0;
+    private static final int RIGHT = 1;
+    private static final int PRIORITY = 4;
+    private static final int LINK_STRIDE = 5;
+    private static final int UNKNOWN_PATH = -1;
+
+    private final PlacementStrategy fit;
+    private final long capacity;
+
+    // Node pool
+    private long[] extents;                 // start, length, largest length in the address subtree
+    private int[] links;                    // left/right per tree, priority
+    private int[] freeNodes;
+    private int freeNodeCount;
+    private int nodeCount;                  // Nodes ever handed out, including NIL
+
+    private final int treeCount;            // 2 for best-fit, else only the address tree
+    private final int[] roots;
+    private int[] path;                     // Root path of the last search, for resize
+    private int pathDepth;
+    private int splitLeft;
+    private int splitRight;
+    private int seed;
+    private long rover;                     // Next-fit start address
+    private long freeBytes;
+    private int extentCount;
+
+    //========================================Constructor=========================================
+    public ExtentAllocator(long capacity, PlacementStrategy fit) {
+        if (fit == PlacementStrategy.BUDDY) {
+            throw new IllegalArgumentException("BUDDY is not an extent strategy");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be >= 1: " + capacity);
+        }
+        this.fit = fit;
+        this.capacity = capacity;
+        this.extents = new long[INITIAL_NODES * EXTENT_STRIDE];
+        this.links = new int[INITIAL_NODES * LINK_STRIDE];
+        this.freeNodes = new int[INITIAL_NODES];
+        this.nodeCount = 1;
+        this.treeCount = fit == PlacementStrategy.BEST_FIT ? 2 : 1;
+        this.roots = new int[] {NIL, NIL};
+        this.path = new int[64];
+        this.seed = 0x2545F491;
+        attach(newNode(0, capacity));
+        this.freeBytes = capacity;
+    }
+
+    //===========================================Method===========================================
+    @Override
+    public String getName() {
+        return fit.name();
+    }
+
+    @Override
+    public long allocate(long size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be >= 1: " + size);
+        }
+        if (!canAllocate(size)) {
+            return NO_SPACE;
+        }
+        int node;
+        int depth = UNKNOWN_PATH;
+        switch (fit) {
+            case BEST_FIT:
+                node = bestFit(size);
+                break;
+            case NEXT_FIT:
+                node = firstFit(roots[BY_ADDRESS], rover, size);
+                if (node == NIL) {
+                    node = firstFit(roots[BY_ADDRESS], 0, size);
+                }
+                break;
+            default:
+                node = lowestFit(size);
+                depth = pathDepth;
+                break;
+        }
+
+        long address = start(node);
+        if (length(node) == size) {
+            detach(node);
+            releaseNode(node);
+        } else {
+            // Shrinking from the front keeps the extent's place in address order
+            resize(node, address + size, length(node) - size, depth);
+        }
+        freeBytes -= size;
+        rover = address + size;
+        return address;
+    }
+
+    /**
+     * Return an extent and merge it with the free extents right before and after it
+     */
+    @Override
+    public void free(long address, long size) {
+        if (address < 0 || size < 1 || address + size > capacity) {
+            throw new IllegalArgumentException("Invalid region [" + address + ", " + (address + size) + ")");
+        }
+        // One descent finds both neighbours; the path to either is a prefix of it
+        int before = NIL;
+        int after = NIL;
+        int beforeDepth = 0;
+        int afterDepth = 0;
+        int depth = 0;
+        for (int node = roots[BY_ADDRESS]; node != NIL; depth++) {
+            push(depth, node);
+            if (start(node) < address) {
+                before = node;
+                beforeDepth = depth;
+                node = child(BY_ADDRESS, node, RIGHT);
+            } else {
+                after = node;
+                afterDepth = depth;
+                node = child(BY_ADDRESS, node, LEFT);
+            }
+        }
+        if ((before != NIL && start(before) + length(before) > address)
+                || (after != NIL && address + size > start(after))) {
+            throw new IllegalStateException("Region [" + address + ", " + (address + size) + ") is already free");
+        }
+        boolean mergeBefore = before != NIL && start(before) + length(before) == address;
+        boolean mergeAfter = after != NIL && address + size == start(after);
+
+        if (mergeBefore && mergeAfter) {
+            long merged = length(before) + size + length(after);
+            detach(after);
+            releaseNode(after);
+            resize(before, start(before), merged, UNKNOWN_PATH);
+        } else if (mergeBefore) {
+            resize(before, start(before), length(before) + size, beforeDepth);
+        } else if (mergeAfter) {
+            resize(after, address, length(after) + size, afterDepth);
+        } else {
+            attach(newNode(address, size));
+        }
+        freeBytes += size;
+    }
+
+    @Override
+    public boolean canAllocate(long size) {
+        return maxLength(roots[BY_ADDRESS]) >= size;
+    }
+
+    @Override
+    public long reservedSize(long size) {
+        return size;
+    }
+
+    //==========================================Get Set===========================================
+    public PlacementStrategy getFit() { return fit; }
+
+    @Override
+    public long getCapacity() { return capacity; }
+
+    @Override
+    public long getFreeBytes() { return freeBytes; }
+
+    @Override
+    public long getLargestFreeBlock() { return maxLength(roots[BY_ADDRESS]); }
+
+    @Override
+    public int getFreeBlockCount() { return extentCount; }
+
+    //==========================================Search============================================
+    /**
+     * Lowest-addressed extent starting at or after from with length >= size. Subtrees whose
+     * largest extent is too small are skipped, so this follows O(log n) paths.
+     */
+    private int firstFit(int node, long from, long size) {
+        if (node == NIL || maxLength(node) < size) {
+            return NIL;
+        }
+        if (start(node) < from) {
+            return firstFit(child(BY_ADDRESS, node, RIGHT), from, size);
+        }
+        int found = firstFit(child(BY_ADDRESS, node, LEFT), from, size);
+        if (found != NIL) {
+            return found;
+        }
+        if (length(node) >= size) {
+            return node;
+        }
+        return firstFit(child(BY_ADDRESS, node, RIGHT), from, size);
+    }
+
+    /**
+     * Smallest extent with length >= size - a ceiling search in the size tree
+     */
+    private int bestFit(long size) {
+        int best = NIL;
+        int node = roots[BY_SIZE];
+        while (node != NIL) {
+            if (length(node) >= size) {
+                best = node;
+                node = child(BY_SIZE, node, LEFT);
+            } else {
+                node = child(BY_SIZE, node, RIGHT);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * First fit from address 0 without recursion, recording the path for resize.
+     * Requires canAllocate(size): every visited subtree then holds a fitting extent.
+     */
+    private int lowestFit(long size) {
+        int depth = 0;
+        int node = roots[BY_ADDRESS];
+        while (true) {
+            int left = child(BY_ADDRESS, node, LEFT);
+            if (maxLength(left) >= size) {
+                push(depth++, node);
+                node = left;
+            } else if (length(node) >= size) {
+                pathDepth = depth;
+                return node;
+            } else {
+                push(depth++, node);
+                node = child(BY_ADDRESS, node, RIGHT);
+            }
+        }
+    }
+
+    //===========================================Treap============================================
+    private void attach(int node) {
+        for (int tree = 0; tree < treeCount; tree++) {
+            setChild(tree, node, LEFT, NIL);
+            setChild(tree, node, RIGHT, NIL);
+            roots[tree] = insert(tree, roots[tree], node);
+        }
+        extentCount++;
+    }
+
+    private void detach(int node) {
+        for (int tree = 0; tree < treeCount; tree++) {
+            roots[tree] = remove(tree, roots[tree], node);
+        }
+        extentCount--;
+    }
+
+    /**
+     * Change an extent whose address order does not change: the address tree only needs the
+     * augmentation on its path refreshed, the size tree needs a remove and insert.
+     * @param depth length of the root path already in path[], or UNKNOWN_PATH to walk it here
+     */
+    private void resize(int node, long start, long length, int depth) {
+        if (treeCount > BY_SIZE) {
+            roots[BY_SIZE] = remove(BY_SIZE, roots[BY_SIZE], node);
+        }
+        extents[node * EXTENT_STRIDE + START] = start;
+        extents[node * EXTENT_STRIDE + LENGTH] = length;
+        if (depth == UNKNOWN_PATH) {
+            depth = 0;
+            for (int current = roots[BY_ADDRESS]; current != node; depth++) {
+                push(depth, current);
+                current = child(BY_ADDRESS, current, start < start(current) ? LEFT : RIGHT);
+            }
+        }
+        update(BY_ADDRESS, node);
+        while (depth > 0) {
+            update(BY_ADDRESS, path[--depth]);
+        }
+        if (treeCount > BY_SIZE) {
+            setChild(BY_SIZE, node, LEFT, NIL);
+            setChild(BY_SIZE, node, RIGHT, NIL);
+            roots[BY_SIZE] = insert(BY_SIZE, roots[BY_SIZE], node);
+        }
+    }
+
+    private void push(int depth, int node) {
+        if (depth == path.length) {
+            path = Arrays.copyOf(path, depth << 1);
+        }
+        path[depth] = node;
+    }
+
+    private int insert(int tree, int root, int node) {
+        if (root == NIL) {
+            update(tree, node);
+            return node;
+        }
+        if (priority(node) > priority(root)) {
+            split(tree, root, node);
+            setChild(tree, node, LEFT, splitLeft);
+            setChild(tree, node, RIGHT, splitRight);
+            update(tree, node);
+            return node;
+        }
+        int side = less(tree, node, root) ? LEFT : RIGHT;
+        setChild(tree, root, side, insert(tree, child(tree, root, side), node));
+        update(tree, root);
+        return root;
+    }
+
+    private int remove(int tree, int root, int node) {
+        if (root == node) {
+            return merge(tree, child(tree, node, LEFT), child(tree, node, RIGHT));
+        }
+        int side = less(tree, node, root) ? LEFT : RIGHT;
+        setChild(tree, root, side, remove(tree, child(tree, root, side), node));
+        update(tree, root);
+        return root;
+    }
+
+    /**
+     * Split a subtree into keys below and above node's key (into splitLeft / splitRight)
+     */
+    private void split(int tree, int root, int node) {
+        if (root == NIL) {
+            splitLeft = NIL;
+            splitRight = NIL;
+            return;
+        }
+        if (less(tree, root, node)) {
+            split(tree, child(tree, root, RIGHT), node);
+            setChild(tree, root, RIGHT, splitLeft);
+            update(tree, root);
+            splitLeft = root;
+        } else {
+            split(tree, child(tree, root, LEFT), node);
+            setChild(tree, root, LEFT, splitRight);
+            update(tree, root);
+            splitRight = root;
+        }
+    }
+
+    /**
+     * Join two subtrees where every key of a is below every key of b
+     */
+    private int merge(int tree, int a, int b) {
+        if (a == NIL) {
+            return b;
+        }
+        if (b == NIL) {
+            return a;
+        }
+        if (priority(a) > priority(b)) {
+            setChild(tree, a, RIGHT, merge(tree, child(tree, a, RIGHT), b));
+            update(tree, a);
+            return a;
+        }
+        setChild(tree, b, LEFT, merge(tree, a, child(tree, b, LEFT)));
+        update(tree, b);
+        return b;
+    }
+
+    private void update(int tree, int node) {
+        if (tree == BY_ADDRESS) {
+            extents[node * EXTENT_STRIDE + MAX_LENGTH] = Math.max(length(node),
+                    Math.max(maxLength(child(BY_ADDRESS, node, LEFT)), maxLength(child(BY_ADDRESS, node, RIGHT))));
+        }
+    }
+
+    private boolean less(int tree, int a, int b) {
+        if (tree == BY_SIZE && length(a) != length(b)) {
+            return length(a) < length(b);
+        }
+        return start(a) < start(b);
+    }
+
+    //==========================================Node Pool=========================================
+    private long start(int node) { return extents[node * EXTENT_STRIDE + START]; }
+    private long length(int node) { return extents[node * EXTENT_STRIDE + LENGTH]; }
+    private long maxLength(int node) { return extents[node * EXTENT_STRIDE + MAX_LENGTH]; }
+    private int priority(int node) { return links[node * LINK_STRIDE + PRIORITY]; }
+    private int child(int tree, int node, int side) { return links[node * LINK_STRIDE + (tree << 1) + side]; }
+
+    private void setChild(int tree, int node, int side, int child) {
+        links[node * LINK_STRIDE + (tree << 1) + side] = child;
+    }
+
+    private int newNode(long start, long length) {
+        int node;
+        if (freeNodeCount > 0) {
+            node = freeNodes[--freeNodeCount];
+        } else {
+            if (nodeCount == freeNodes.length) {
+                grow(nodeCount << 1);
+            }
+            node = nodeCount++;
+        }
+        extents[node * EXTENT_STRIDE + START] = start;
+        extents[node * EXTENT_STRIDE + LENGTH] = length;
+        links[node * LINK_STRIDE + PRIORITY] = nextPriority();
+        return node;
+    }
+
+    private void releaseNode(int node) {
+        extents[node * EXTENT_STRIDE + MAX_LENGTH] = 0;
+        freeNodes[freeNodeCount++] = node;
+    }
+
+    private void grow(int capacity) {
+        extents = Arrays.copyOf(extents, capacity * EXTENT_STRIDE);
+        links = Arrays.copyOf(links, capacity * LINK_STRIDE);
+        freeNodes = Arrays.copyOf(freeNodes, capacity);
+    }
+
+    /** xorshift32 - treap priorities only need to be independent of the keys */
+    private int nextPriority() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+}
@@ -0,0 +1,37 @@
+package com.ossimulator.manager.memory.placement;
+
+import java.util.Arrays;
+
+/**
+ * Where MemoryManager puts a process' contiguous memory image
+ */
+public enum PlacementStrategy {
+    /** Lowest-addressed free extent that fits */
+    FIRST_FIT,
+
+    /** Smallest free extent that fits (lowest address on ties) */
+    BEST_FIT,
+
+    /** First fit, starting where the previous allocation ended and wrapping around */
+    NEXT_FIT,
+
+    /** Binary buddy system: power-of-two blocks of at least BuddyAllocator.DEFAULT_MIN_BLOCK bytes */
+    BUDDY;
+
+    public ContiguousAllocator create(long capacity) {
+        return this == BUDDY ? new BuddyAllocator(capacity) : new ExtentAllocator(capacity, this);
+    }
+
+    /**
+     * Look up a strategy by name, ignoring case
+     */
+    public static PlacementStrategy parse(String name) {
+        for (PlacementStrategy strategy : values()) {
+            if (strategy.name().equalsIgnoreCase(name.trim())) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException("Unknown placement strategy: " + name
+                + " (available: " + Arrays.toString(values()) + ")");
+    }
+}
@@ -0,0 +1,183 @@
+package com.ossimulator.manager.memory.replacement;
+
+/**
+ * Adaptive Replacement Cache (Megiddo and Modha). Resident pages are split between T1 (seen once
+ * recently) and T2 (seen at least twice); B1 and B2 remember the keys last evicted from each.
+ * A fault on a key in B1 grows the target size p of T1, a fault on a key in B2 shrinks it,
+ * so the cache tunes itself between recency and frequency.
+ *
+ * Nodes 0 .. c-1 are the frames (T1/T2), nodes c .. 2c are ghost entries (B1/B2) taken from
+ * a free stack. ARC keeps |B1| + |B2| <= c; the extra node covers a ghost hit, where REPLACE
+ * adds a ghost before the hit one is dropped. All four lists share one IndexLists and one
+ * PageKeyMap - O(1) per reference.
+ */
+public class ArcReplacement implements PageReplacementPolicy {
+    //==========================================Variable==========================================
+    private static final int T1 = 0;
+    private static final int T2 = 1;
+    private static final int B1 = 2;
+    private static final int B2 = 3;
+    private static final long NO_KEY = -1L;
+
+    private final int capacity;
+    private final IndexLists lists;
+    private final PageKeyMap nodes;
+    private final long[] nodeKeys;
+    private final int[] freeGhosts;
+    private int freeGhostCount;
+    private int target;                     // p: desired size of T1
+    private long preparedKey;               // Key selectVictim already handled the ARC cases for
+
+    //========================================Constructor=========================================
+    public ArcReplacement(int frameCount) {
+        this.capacity = frameCount;
+        int ghostCount = frameCount + 1;
+        this.lists = new IndexLists(frameCount + ghostCount, 4);
+        this.nodes = new PageKeyMap(frameCount + ghostCount);
+        this.nodeKeys = new long[frameCount + ghostCount];
+        this.freeGhosts = new int[ghostCount];
+        for (int i = 0; i < ghostCount; i++) {
+            freeGhosts[i] = frameCount + ghostCount - 1 - i;
+        }
+        this.freeGhostCount = ghostCount;
+        this.target = 0;
+        this.preparedKey = NO_KEY;
+    }
+
+    //===========================================Method===========================================
+    @Override
+    public String getName() {
+        return "ARC";
+    }
+
+    @Override
+    public void onAccess(int frame) {
+        int list = lists.listOf(frame);
+        if (list == T1 || list == T2) {
+            lists.moveToFront(T2, frame);
+        }
+    }
+
+    @Override
+    public int selectVictim(long incomingKey) {
+        if (lists.size(T1) + lists.size(T2) == 0) {
+            return -1;
+        }
+        preparedKey = incomingKey;
+        int list = ghostListOf(incomingKey);
+        if (list == B1 || list == B2) {
+            adapt(list);
+            return replace(list == B2);
+        }
+
+        // Complete miss with a full cache
+        if (lists.size(T1) + lists.size(B1) >= capacity) {
+            if (lists.size(T1) < capacity) {
+                dropGhost(lists.back(B1));
+            } else {
+                int victim = lists.back(T1);
+                lists.remove(victim);
+                nodes.remove(nodeKeys[victim]);
+                return victim;
+            }
+        } else if (total() >= 2 * capacity) {
+            dropGhost(lists.back(B2));
+        }
+        return replace(false);
+    }
+
+    @Override
+    public void onLoad(int frame, long pageKey) {
+        boolean prepared = preparedKey == pageKey;
+        preparedKey = NO_KEY;
+        int list = ghostListOf(pageKey);
+        if (list == B1 || list == B2) {
+            if (!prepared) {
+                adapt(list);
+            }
+            dropGhost(nodes.get(pageKey));
+            admit(frame, pageKey, T2);
+            return;
+        }
+        if (!prepared) {
+            // Free frame: only keep the ghost lists within their bounds
+            if (lists.size(T1) + lists.size(B1) >= capacity && lists.size(B1) > 0) {
+                dropGhost(lists.back(B1));
+            }
+            if (total() >= 2 * capacity && lists.size(B2) > 0) {
+                dropGhost(lists.back(B2));
+            }
+        }
+        admit(frame, pageKey, T1);
+    }
+
+    @Override
+    public void onFree(int frame) {
+        int list = lists.listOf(frame);
+        if (list == T1 || list == T2) {
+            lists.remove(frame);
+            nodes.remove(nodeKeys[frame]);
+        }
+    }
+
+    //==========================================Get Set===========================================
+    /** Current target size of T1 (p) */
+    public int getTarget() { return target; }
+
+    //============================================ARC=============================================
+    /**
+     * REPLACE(x, p): evict the LRU page of T1 or T2 into the matching ghost list
+     */
+    private int replace(boolean inB2) {
+        int t1 = lists.size(T1);
+        int victim;
+        int ghostList;
+        if (t1 > 0 && (t1 > target || (inB2 && t1 == target) || lists.size(T2) == 0)) {
+            victim = lists.back(T1);
+            ghostList = B1;
+        } else {
+            victim = lists.back(T2);
+            ghostList = B2;
+        }
+        lists.remove(victim);
+        int ghost = freeGhosts[--freeGhostCount];
+        nodeKeys[ghost] = nodeKeys[victim];
+        nodes.put(nodeKeys[ghost], ghost);
+        lists.pushFront(ghostList, ghost);
+        return victim;
+    }
+
+    private void adapt(int ghostList) {
+        int b1 = lists.size(B1);
+        int b2 = lists.size(B2);
+        if (ghostList == B1) {
+            target = Math.min(capacity, target + (b1 >= b2 ? 1 : b2 / b1));
+        } else {
+            target = Math.max(0, target - (b2 >= b1 ? 1 : b1 / b2));
+        }
+    }
+
+    private void admit(int frame, long pageKey, int list) {
+        nodeKeys[frame] = pageKey;
+        nodes.put(pageKey, frame);
+        lists.pushFront(list, frame);
+    }
+
+    private int ghostListOf(long pageKey) {
+        int node = nodes.get(pageKey);
+        return node == PageKeyMap.MISSING ? IndexLists.NONE : lists.listOf(node);
+    }
+
+    private void dropGhost(int ghost) {
+        if (ghost == IndexLists.NONE) {
+            return;
+        }
+        lists.remove(ghost);
+        nodes.remove(nodeKeys[ghost]);
+        freeGhosts[freeGhostCount++] = ghost;
+    }
+
+    private int total() {
+        return lists.size(T1) + lists.size(T2) + lists.size(B1) + lists.size(B2);
+    }
+}
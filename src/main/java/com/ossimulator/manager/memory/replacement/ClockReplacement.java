@@ -0,0 +1,74 @@
+package com.ossimulator.manager.memory.replacement;
+
+/**
+ * CLOCK / second chance: a hand sweeps the frames in order; a frame whose reference bit is
+ * set gets the bit cleared and is skipped once, the first frame with a clear bit is the
+ * victim. Hits only set a bit, so the hit path is a single store.
+ */
+public class ClockReplacement implements PageReplacementPolicy {
+    //==========================================Variable==========================================
+    private final boolean[] resident;
+    private final boolean[] referenced;
+    private int hand;
+    private int residentCount;
+
+    //========================================Constructor=========================================
+    public ClockReplacement(int frameCount) {
+        this.resident = new boolean[frameCount];
+        this.referenced = new boolean[frameCount];
+        this.hand = 0;
+    }
+
+    //===========================================Method===========================================
+    @Override
+    public String getName() {
+        return "CLOCK";
+    }
+
+    @Override
+    public void onAccess(int frame) {
+        referenced[frame] = true;
+    }
+
+    @Override
+    public void onLoad(int frame, long pageKey) {
+        if (!resident[frame]) {
+            resident[frame] = true;
+            residentCount++;
+        }
+        referenced[frame] = true;
+    }
+
+    /**
+     * At most two sweeps: the first may only clear bits
+     */
+    @Override
+    public int selectVictim(long incomingKey) {
+        if (residentCount == 0) {
+            return -1;
+        }
+        while (true) {
+            int frame = hand;
+            hand = hand + 1 == resident.length ? 0 : hand + 1;
+            if (!resident[frame]) {
+                continue;
+            }
+            if (referenced[frame]) {
+                referenced[frame] = false;
+            } else {
+                resident[frame] = false;
+                residentCount--;
+                return frame;
+            }
+        }
+    }
+
+    @Override
+    public void onFree(int frame) {
+        if (resident[frame]) {
+            resident[frame] = false;
+            referenced[frame] = false;
+            residentCount--;
+        }
+    }
+}
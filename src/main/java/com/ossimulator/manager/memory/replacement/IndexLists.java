@@ -0,0 +1,109 @@
+package com.ossimulator.manager.memory.replacement;
+
+import java.util.Arrays;
+
+/**
+ * A fixed number of doubly linked lists over node indices 0 .. nodeCount-1, sharing one pair
+ * of prev/next arrays. Each list has a sentinel at nodeCount + list; a node is in at most one
+ * list at a time. Every operation is O(1) and nothing allocates after construction.
+ * Front = most recently inserted with pushFront, back = oldest.
+ */
+final class IndexLists {
+    //==========================================Variable==========================================
+    static final int NONE = -1;
+
+    private final int[] prev;
+    private final int[] next;
+    private final int[] owner;              // List of each node, NONE if unlinked
+    private final int[] sizes;
+    private final int nodeCount;
+
+    //========================================Constructor=========================================
+    IndexLists(int nodeCount, int listCount) {
+        this.nodeCount = nodeCount;
+        this.prev = new int[nodeCount + listCount];
+        this.next = new int[nodeCount + listCount];
+        this.owner = new int[nodeCount];
+        this.sizes = new int[listCount];
+        Arrays.fill(owner, NONE);
+        for (int list = 0; list < listCount; list++) {
+            int sentinel = nodeCount + list;
+            prev[sentinel] = sentinel;
+            next[sentinel] = sentinel;
+        }
+    }
+
+    //===========================================Method===========================================
+    void pushFront(int list, int node) {
+        link(node, nodeCount + list, next[nodeCount + list], list);
+    }
+
+    void pushBack(int list, int node) {
+        link(node, prev[nodeCount + list], nodeCount + list, list);
+    }
+
+    /**
+     * Unlink a node from whatever list it is in (no-op if unlinked)
+     */
+    void remove(int node) {
+        int list = owner[node];
+        if (list == NONE) {
+            return;
+        }
+        next[prev[node]] = next[node];
+        prev[next[node]] = prev[node];
+        owner[node] = NONE;
+        sizes[list]--;
+    }
+
+    void moveToFront(int list, int node) {
+        remove(node);
+        pushFront(list, node);
+    }
+
+    /**
+     * Put a new node in the exact position of a linked one, which is unlinked
+     */
+    void replace(int old, int node) {
+        int list = owner[old];
+        int before = prev[old];
+        int after = next[old];
+        remove(old);
+        link(node, before, after, list);
+    }
+
+    /** Most recent node of a list, or NONE */
+    int front(int list) {
+        int node = next[nodeCount + list];
+        return node == nodeCount + list ? NONE : node;
+    }
+
+    /** Oldest node of a list, or NONE */
+    int back(int list) {
+        int node = prev[nodeCount + list];
+        return node == nodeCount + list ? NONE : node;
+    }
+
+    /** Next older node after this one, or NONE at the back */
+    int older(int node) {
+        int older = next[node];
+        return older >= nodeCount ? NONE : older;
+    }
+
+    int listOf(int node) {
+        return owner[node];
+    }
+
+    int size(int list) {
+        return sizes[list];
+    }
+
+    private void link(int node, int before, int after, int list) {
+        prev[node] = before;
+        next[node] = after;
+        next[before] = node;
+        prev[after] = node;
+        owner[node] = list;
+        sizes[list]++;
+    }
+}
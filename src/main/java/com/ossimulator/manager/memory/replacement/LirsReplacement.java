@@ -0,0 +1,200 @@
+package com.ossimulator.manager.memory.replacement;
+
+/**
+ * Low Inter-reference Recency Set (Jiang and Zhang). Pages with a short reuse distance are LIR
+ * and stay resident; the others are HIR, and only a few (about 1% of the frames) of them are
+ * resident, in queue Q, from which victims are taken. Stack S orders pages by recency and also
+ * keeps recently evicted HIR pages, so a page that comes back soon enough is promoted to LIR.
+ * The stack bottom is always LIR ("pruning" removes HIR entries below it).
+ *
+ * Nodes 0 .. c-1 are the frames, nodes c .. 2c-1 are non-resident HIR entries; at most c are
+ * remembered, the oldest is forgotten first. Links live in two IndexLists (S, and Q plus the
+ * non-resident FIFO) - O(1) amortized per reference.
+ */
+public class LirsReplacement implements PageReplacementPolicy {
+    //==========================================Variable==========================================
+    private static final int STACK = 0;
+    private static final int QUEUE = 0;
+    private static final int NON_RESIDENT = 1;
+
+    private final int capacity;
+    private final int lirCapacity;
+    private final IndexLists stack;
+    private final IndexLists queues;
+    private final PageKeyMap nodes;
+    private final long[] nodeKeys;
+    private final boolean[] lir;
+    private final boolean[] loaded;
+    private final int[] freeGhosts;
+    private int freeGhostCount;
+    private int lirCount;
+
+    //========================================Constructor=========================================
+    public LirsReplacement(int frameCount) {
+        this.capacity = frameCount;
+        this.lirCapacity = frameCount - Math.max(1, frameCount / 100);
+        this.stack = new IndexLists(2 * frameCount, 1);
+        this.queues = new IndexLists(2 * frameCount, 2);
+        this.nodes = new PageKeyMap(2 * frameCount);
+        this.nodeKeys = new long[2 * frameCount];
+        this.lir = new boolean[frameCount];
+        this.loaded = new boolean[frameCount];
+        this.freeGhosts = new int[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            freeGhosts[i] = 2 * frameCount - 1 - i;
+        }
+        this.freeGhostCount = frameCount;
+        this.lirCount = 0;
+    }
+
+    //===========================================Method===========================================
+    @Override
+    public String getName() {
+        return "LIRS";
+    }
+
+    @Override
+    public void onAccess(int frame) {
+        if (!loaded[frame]) {
+            return;
+        }
+        if (lir[frame]) {
+            boolean bottom = stack.back(STACK) == frame;
+            stack.moveToFront(STACK, frame);
+            if (bottom) {
+                prune();
+            }
+        } else if (stack.listOf(frame) != IndexLists.NONE) {
+            // Resident HIR with a short reuse distance: promote, demote the coldest LIR
+            stack.moveToFront(STACK, frame);
+            queues.remove(frame);
+            lir[frame] = true;
+            lirCount++;
+            demoteBottomLir();
+        } else {
+            stack.pushFront(STACK, frame);
+            queues.moveToFront(QUEUE, frame);
+        }
+    }
+
+    @Override
+    public void onLoad(int frame, long pageKey) {
+        int ghost = nodes.get(pageKey);
+        nodeKeys[frame] = pageKey;
+        nodes.put(pageKey, frame);
+        loaded[frame] = true;
+        if (ghost != PageKeyMap.MISSING && ghost >= capacity) {
+            // Non-resident HIR still in S: its reuse distance beat the coldest LIR
+            freeGhost(ghost);
+            stack.pushFront(STACK, frame);
+            lir[frame] = true;
+            lirCount++;
+            if (lirCount > lirCapacity) {
+                demoteBottomLir();
+            }
+        } else if (lirCount < lirCapacity) {
+            stack.pushFront(STACK, frame);
+            lir[frame] = true;
+            lirCount++;
+        } else {
+            stack.pushFront(STACK, frame);
+            queues.pushFront(QUEUE, frame);
+            lir[frame] = false;
+        }
+    }
+
+    @Override
+    public int selectVictim(long incomingKey) {
+        int victim = queues.back(QUEUE);
+        if (victim != IndexLists.NONE) {
+            queues.remove(victim);
+        } else {
+            // No resident HIR page (frames were freed): take the coldest LIR
+            prune();
+            victim = stack.back(STACK);
+            if (victim == IndexLists.NONE) {
+                return -1;
+            }
+            lir[victim] = false;
+            lirCount--;
+            stack.remove(victim);
+            prune();
+        }
+        loaded[victim] = false;
+        if (stack.listOf(victim) != IndexLists.NONE) {
+            // Keep its place in S as a non-resident HIR entry
+            int ghost = allocateGhost();
+            nodeKeys[ghost] = nodeKeys[victim];
+            nodes.put(nodeKeys[ghost], ghost);
+            stack.replace(victim, ghost);
+            queues.pushFront(NON_RESIDENT, ghost);
+        } else {
+            nodes.remove(nodeKeys[victim]);
+        }
+        return victim;
+    }
+
+    @Override
+    public void onFree(int frame) {
+        if (!loaded[frame]) {
+            return;
+        }
+        loaded[frame] = false;
+        if (lir[frame]) {
+            lir[frame] = false;
+            lirCount--;
+        }
+        stack.remove(frame);
+        queues.remove(frame);
+        nodes.remove(nodeKeys[frame]);
+        prune();
+    }
+
+    //==========================================Get Set===========================================
+    public int getLirCount() { return lirCount; }
+    public int getLirCapacity() { return lirCapacity; }
+
+    //============================================LIRS============================================
+    /**
+     * Move the LIR page at the bottom of S to the end of Q as resident HIR
+     */
+    private void demoteBottomLir() {
+        prune();
+        int bottom = stack.back(STACK);
+        if (bottom == IndexLists.NONE || bottom >= capacity || !lir[bottom]) {
+            return;
+        }
+        lir[bottom] = false;
+        lirCount--;
+        stack.remove(bottom);
+        queues.pushFront(QUEUE, bottom);
+        prune();
+    }
+
+    /**
+     * Remove HIR entries from the bottom of S until an LIR page is there
+     */
+    private void prune() {
+        int bottom;
+        while ((bottom = stack.back(STACK)) != IndexLists.NONE && (bottom >= capacity || !lir[bottom])) {
+            stack.remove(bottom);
+            if (bottom >= capacity) {
+                freeGhost(bottom);
+            }
+        }
+    }
+
+    private int allocateGhost() {
+        if (freeGhostCount == 0) {
+            freeGhost(queues.back(NON_RESIDENT));
+        }
+        return freeGhosts[--freeGhostCount];
+    }
+
+    private void freeGhost(int ghost) {
+        stack.remove(ghost);
+        queues.remove(ghost);
+        nodes.remove(nodeKeys[ghost]);
+        freeGhosts[freeGhostCount++] = ghost;
+    }
+}
@@ -0,0 +1,50 @@
+package com.ossimulator.manager.memory.replacement;
+
+/**
+ * Least recently used: resident frames on one intrusive list, most recent at the front.
+ * A hit moves the frame to the front, the victim is the back - all O(1).
+ */
+public class LruReplacement implements PageReplacementPolicy {
+    //==========================================Variable==========================================
+    private static final int RESIDENT = 0;
+
+    private final IndexLists lists;
+
+    //========================================Constructor=========================================
+    public LruReplacement(int frameCount) {
+        this.lists = new IndexLists(frameCount, 1);
+    }
+
+    //===========================================Method===========================================
+    @Override
+    public String getName() {
+        return "LRU";
+    }
+
+    @Override
+    public void onAccess(int frame) {
+        if (lists.listOf(frame) == RESIDENT) {
+            lists.moveToFront(RESIDENT, frame);
+        }
+    }
+
+    @Override
+    public void onLoad(int frame, long pageKey) {
+        lists.moveToFront(RESIDENT, frame);
+    }
+
+    @Override
+    public int selectVictim(long incomingKey) {
+        int victim = lists.back(RESIDENT);
+        if (victim == IndexLists.NONE) {
+            return -1;
+        }
+        lists.remove(victim);
+        return victim;
+    }
+
+    @Override
+    public void onFree(int frame) {
+        lists.remove(frame);
+    }
+}
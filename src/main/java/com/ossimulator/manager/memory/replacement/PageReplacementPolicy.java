@@ -0,0 +1,38 @@
+package com.ossimulator.manager.memory.replacement;
+
+/**
+ * Page replacement policy over a fixed set of frames (0 .. frameCount-1).
+ * Pages are identified by a key, usually (pid << 32) | virtual page, so policies that
+ * remember evicted pages (ARC, LIRS) can recognise them when they fault back in.
+ *
+ * Call order on a fault: selectVictim(key) only when no frame is free, then
+ * onLoad(frame, key) with the victim or a free frame. Every later hit is onAccess(frame).
+ * Not thread-safe - MemoryManager holds its lock.
+ */
+public interface PageReplacementPolicy {
+    /**
+     * Registry name, e.g. "LRU"
+     */
+    String getName();
+
+    /**
+     * A resident page was referenced
+     */
+    void onAccess(int frame);
+
+    /**
+     * A page was brought into a frame after a fault
+     */
+    void onLoad(int frame, long pageKey);
+
+    /**
+     * Pick the frame to evict for an incoming page and forget its resident page
+     * @return a frame that was loaded before, or -1 if nothing is resident
+     */
+    int selectVictim(long incomingKey);
+
+    /**
+     * A frame was freed without replacement (swap-out, exit)
+     */
+    void onFree(int frame);
+}
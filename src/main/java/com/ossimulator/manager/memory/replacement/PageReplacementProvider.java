@@ -0,0 +1,23 @@
+package com.ossimulator.manager.memory.replacement;
+
+/**
+ * Service provider for a page replacement policy.
+ * Implementations are discovered with java.util.ServiceLoader through
+ * META-INF/services/com.ossimulator.manager.memory.replacement.PageReplacementProvider.
+ */
+public interface PageReplacementProvider {
+    /**
+     * Registry key, e.g. "CLOCK"
+     */
+    String getName();
+
+    /**
+     * One-line description for help output
+     */
+    String getDescription();
+
+    /**
+     * Create a policy for the given number of frames
+     */
+    PageReplacementPolicy create(int frameCount);
+}
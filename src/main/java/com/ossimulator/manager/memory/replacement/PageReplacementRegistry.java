@@ -0,0 +1,77 @@
+package com.ossimulator.manager.memory.replacement;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of page replacement policies by name, filled like SchedulerRegistry:
+ * from ServiceLoader, whose META-INF/services file lists the built-ins.
+ */
+public class PageReplacementRegistry {
+    //==========================================Variable==========================================
+    private static volatile PageReplacementRegistry defaultRegistry;
+
+    private final Map<String, PageReplacementProvider> providers;
+
+    //========================================Constructor=========================================
+    public PageReplacementRegistry() {
+        this.providers = new LinkedHashMap<>();
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Shared registry populated from ServiceLoader on first use
+     */
+    public static PageReplacementRegistry getDefault() {
+        PageReplacementRegistry registry = defaultRegistry;
+        if (registry == null) {
+            synchronized (PageReplacementRegistry.class) {
+                registry = defaultRegistry;
+                if (registry == null) {
+                    registry = new PageReplacementRegistry();
+                    registry.loadServices(PageReplacementRegistry.class.getClassLoader());
+                    defaultRegistry = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    public synchronized void loadServices(ClassLoader classLoader) {
+        for (PageReplacementProvider provider : ServiceLoader.load(PageReplacementProvider.class, classLoader)) {
+            register(provider);
+        }
+    }
+
+    public synchronized void register(PageReplacementProvider provider) {
+        providers.put(normalize(provider.getName()), provider);
+    }
+
+    public synchronized PageReplacementProvider getProvider(String name) {
+        PageReplacementProvider provider = providers.get(normalize(name));
+        if (provider == null) {
+            throw new IllegalArgumentException("Unknown page replacement policy: " + name
+                    + " (available: " + providers.keySet() + ")");
+        }
+        return provider;
+    }
+
+    public PageReplacementPolicy create(String name, int frameCount) {
+        return getProvider(name).create(frameCount);
+    }
+
+    public synchronized List<String> getNames() {
+        return new ArrayList<>(providers.keySet());
+    }
+
+    public synchronized List<PageReplacementProvider> getProviders() {
+        return new ArrayList<>(providers.values());
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toUpperCase();
+    }
+}
@@ -0,0 +1,114 @@
+package com.ossimulator.manager.memory.replacement;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import com.ossimulator.model.component.Program;
+import com.ossimulator.transition.Compute;
+import com.ossimulator.transition.Exit;
+import com.ossimulator.transition.Fork;
+import com.ossimulator.transition.IORequest;
+import com.ossimulator.transition.Transition;
+
+/**
+ * Page reference strings derived from simulated programs. Programs only describe transitions,
+ * not addresses, so each transition type is mapped to a typical access pattern:
+ * <ul>
+ *   <li>Compute(cycles) - one reference per cycle inside a small working-set window in the
+ *       lower half of the address space; the window moves on every Compute</li>
+ *   <li>IORequest(ioTime) - a sequential scan of the I/O buffer in the upper half, one page
+ *       per tick, resuming where the last request stopped</li>
+ *   <li>Fork - every page once (copying the address space for the child)</li>
+ *   <li>Exit - nothing; any other transition touches page 0 (stack / PCB)</li>
+ * </ul>
+ * Programs are interleaved one transition at a time, as a round-robin scheduler would.
+ * Keys are (pid << 32) | page, pid = index in the list + 1.
+ */
+public final class ReferenceTrace {
+    //==========================================Variable==========================================
+    public static final int WORKING_SET_PAGES = 8;
+    private static final double LOCALITY = 0.9;
+
+    //========================================Constructor=========================================
+    private ReferenceTrace() {
+    }
+
+    //===========================================Method===========================================
+    public static long pageKey(int pid, int page) {
+        return ((long) pid << 32) | (page & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Reference string for a set of programs that each have pagesPerProcess virtual pages
+     */
+    public static long[] fromPrograms(List<Program> programs, int pagesPerProcess, long seed) {
+        if (pagesPerProcess < 2) {
+            throw new IllegalArgumentException("pagesPerProcess must be >= 2: " + pagesPerProcess);
+        }
+        Random random = new Random(seed);
+        int count = programs.size();
+        int[] position = new int[count];
+        int[] window = new int[count];
+        int[] bufferCursor = new int[count];
+        int dataPages = pagesPerProcess / 2;
+        int bufferPages = pagesPerProcess - dataPages;
+
+        long[] trace = new long[1024];
+        int length = 0;
+        int remaining = count;
+        while (remaining > 0) {
+            remaining = 0;
+            for (int i = 0; i < count; i++) {
+                List<Transition> transitions = programs.get(i).getInstructions();
+                if (position[i] >= transitions.size()) {
+                    continue;
+                }
+                Transition transition = transitions.get(position[i]++);
+                int pid = i + 1;
+                int needed = referencesFor(transition, pagesPerProcess);
+                if (length + needed > trace.length) {
+                    trace = Arrays.copyOf(trace, Math.max(trace.length << 1, length + needed));
+                }
+
+                if (transition instanceof Compute) {
+                    window[i] = random.nextInt(dataPages);
+                    for (int r = 0; r < needed; r++) {
+                        int page = random.nextDouble() < LOCALITY
+                                ? (window[i] + random.nextInt(WORKING_SET_PAGES)) % dataPages
+                                : random.nextInt(dataPages);
+                        trace[length++] = pageKey(pid, page);
+                    }
+                } else if (transition instanceof IORequest) {
+                    for (int r = 0; r < needed; r++) {
+                        trace[length++] = pageKey(pid, dataPages + bufferCursor[i]);
+                        bufferCursor[i] = (bufferCursor[i] + 1) % bufferPages;
+                    }
+                } else if (transition instanceof Fork) {
+                    for (int page = 0; page < pagesPerProcess; page++) {
+                        trace[length++] = pageKey(pid, page);
+                    }
+                } else if (needed > 0) {
+                    trace[length++] = pageKey(pid, 0);
+                }
+                if (position[i] < transitions.size()) {
+                    remaining++;
+                }
+            }
+        }
+        return Arrays.copyOf(trace, length);
+    }
+
+    private static int referencesFor(Transition transition, int pagesPerProcess) {
+        if (transition instanceof Compute) {
+            return Math.max(1, ((Compute) transition).getCycles());
+        }
+        if (transition instanceof IORequest) {
+            return Math.max(1, ((IORequest) transition).getIoTime());
+        }
+        if (transition instanceof Fork) {
+            return pagesPerProcess;
+        }
+        return transition instanceof Exit ? 0 : 1;
+    }
+}
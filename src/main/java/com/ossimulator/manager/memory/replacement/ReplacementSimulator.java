@@ -0,0 +1,79 @@
+package com.ossimulator.manager.memory.replacement;
+
+/**
+ * Drives a policy over a reference string without the rest of the memory manager:
+ * a page key → frame map plus the fault path of MemoryManager.handlePageFault.
+ * Used by the fault-rate benchmarks to compare policies on the same trace.
+ */
+public class ReplacementSimulator {
+    //==========================================Variable==========================================
+    private final PageReplacementPolicy policy;
+    private final PageKeyMap residentFrames;
+    private final long[] frameKeys;
+    private final int frameCount;
+    private int usedFrames;
+    private long accessCount;
+    private long faultCount;
+
+    //========================================Constructor=========================================
+    public ReplacementSimulator(String policyName, int frameCount) {
+        this(PageReplacementRegistry.getDefault().create(policyName, frameCount), frameCount);
+    }
+
+    public ReplacementSimulator(PageReplacementPolicy policy, int frameCount) {
+        if (frameCount < 1) {
+            throw new IllegalArgumentException("frameCount must be >= 1: " + frameCount);
+        }
+        this.policy = policy;
+        this.residentFrames = new PageKeyMap(frameCount);
+        this.frameKeys = new long[frameCount];
+        this.frameCount = frameCount;
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Reference one page
+     * @return true if the reference faulted
+     */
+    public boolean access(long pageKey) {
+        accessCount++;
+        int frame = residentFrames.get(pageKey);
+        if (frame != PageKeyMap.MISSING) {
+            policy.onAccess(frame);
+            return false;
+        }
+        faultCount++;
+        if (usedFrames < frameCount) {
+            frame = usedFrames++;
+        } else {
+            frame = policy.selectVictim(pageKey);
+            residentFrames.remove(frameKeys[frame]);
+        }
+        frameKeys[frame] = pageKey;
+        residentFrames.put(pageKey, frame);
+        policy.onLoad(frame, pageKey);
+        return true;
+    }
+
+    /**
+     * Reference a whole trace
+     * @return number of faults it caused
+     */
+    public long run(long[] references) {
+        long before = faultCount;
+        for (long reference : references) {
+            access(reference);
+        }
+        return faultCount - before;
+    }
+
+    //==========================================Get Set===========================================
+    public PageReplacementPolicy getPolicy() { return policy; }
+    public int getFrameCount() { return frameCount; }
+    public long getAccessCount() { return accessCount; }
+    public long getFaultCount() { return faultCount; }
+
+    public double getFaultRate() {
+        return accessCount == 0 ? 0 : (double) faultCount / accessCount;
+    }
+}
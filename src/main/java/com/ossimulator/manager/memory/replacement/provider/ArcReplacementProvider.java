@@ -0,0 +1,24 @@
+package com.ossimulator.manager.memory.replacement.provider;
+
+import com.ossimulator.manager.memory.replacement.ArcReplacement;
+import com.ossimulator.manager.memory.replacement.PageReplacementPolicy;
+import com.ossimulator.manager.memory.replacement.PageReplacementProvider;
+
+public class ArcReplacementProvider implements PageReplacementProvider {
+    public static final String NAME = "ARC";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Adaptive Replacement Cache - recency/frequency lists with ghost history";
+    }
+
+    @Override
+    public PageReplacementPolicy create(int frameCount) {
+        return new ArcReplacement(frameCount);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ossimulator.manager.memory.replacement.provider;
+
+import com.ossimulator.manager.memory.replacement.ClockReplacement;
+import com.ossimulator.manager.memory.replacement.PageReplacementPolicy;
+import com.ossimulator.manager.memory.replacement.PageReplacementProvider;
+
+public class ClockReplacementProvider implements PageReplacementProvider {
+    public static final String NAME = "CLOCK";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Second chance: a clock hand sweeps reference bits";
+    }
+
+    @Override
+    public PageReplacementPolicy create(int frameCount) {
+        return new ClockReplacement(frameCount);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ossimulator.manager.memory.replacement.provider;
+
+import com.ossimulator.manager.memory.replacement.LirsReplacement;
+import com.ossimulator.manager.memory.replacement.PageReplacementPolicy;
+import com.ossimulator.manager.memory.replacement.PageReplacementProvider;
+
+public class LirsReplacementProvider implements PageReplacementProvider {
+    public static final String NAME = "LIRS";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Low Inter-reference Recency Set - LIR stack plus resident HIR queue";
+    }
+
+    @Override
+    public PageReplacementPolicy create(int frameCount) {
+        return new LirsReplacement(frameCount);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ossimulator.manager.memory.replacement.provider;
+
+import com.ossimulator.manager.memory.replacement.LruReplacement;
+import com.ossimulator.manager.memory.replacement.PageReplacementPolicy;
+import com.ossimulator.manager.memory.replacement.PageReplacementProvider;
+
+public class LruReplacementProvider implements PageReplacementProvider {
+    public static final String NAME = "LRU";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Least recently used over an intrusive frame list";
+    }
+
+    @Override
+    public PageReplacementPolicy create(int frameCount) {
+        return new LruReplacement(frameCount);
+    }
+}
@@ -0,0 +1,34 @@
+package com.ossimulator.manager.process;
+
+/**
+ * Schedulability test applied by ProcessManager.admit to real-time tasks.
+ * Both tests are incremental and O(1) per admission; densities C / min(D, T) are used
+ * so constrained deadlines stay on the safe side.
+ */
+public enum AdmissionPolicy {
+    /** Admit everything (time-sharing schedulers) */
+    NONE,
+
+    /** EDF: total density ≤ 1 */
+    EDF,
+
+    /** Rate monotonic: hyperbolic bound Π(Uᵢ + 1) ≤ 2, tighter than Liu-Layland n(2^(1/n) - 1) */
+    RATE_MONOTONIC;
+
+    /**
+     * @param utilization total density including the candidate
+     * @param hyperbolicProduct Π(Uᵢ + 1) including the candidate
+     */
+    public boolean admits(double utilization, double hyperbolicProduct) {
+        switch (this) {
+            case EDF:
+                return utilization <= 1.0 + EPSILON;
+            case RATE_MONOTONIC:
+                return hyperbolicProduct <= 2.0 + EPSILON;
+            default:
+                return true;
+        }
+    }
+
+    private static final double EPSILON = 1e-9;
+}
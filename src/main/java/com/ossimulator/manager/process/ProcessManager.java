@@ -3,6 +3,7 @@ package com.ossimulator.manager.process;
 import com.ossimulator.model.component.*;
 import com.ossimulator.model.main.Process;
 import com.ossimulator.model.main.ProcessControlBlock;
+import com.ossimulator.manager.event.SimulationClock;
 import com.ossimulator.manager.memory.MemoryManager;
 
 import java.util.Map;
@@ -15,12 +16,26 @@ public class ProcessManager {
     private final Map<Integer, ProcessControlBlock> processTable;
     private final AtomicInteger pidCounter;
     private final MemoryManager memoryManager;
+    private final SimulationClock clock;
+
+    // Real-time admission control
+    private AdmissionPolicy admissionPolicy;
+    private double realTimeUtilization;
+    private double hyperbolicProduct;
+    private int realTimeTaskCount;
+    private int rejectedCount;
 
     //========================================Constructor=========================================
-    public ProcessManager(MemoryManager memoryManager) {
+    public ProcessManager(MemoryManager memoryManager, SimulationClock clock) {
         this.processTable = new ConcurrentHashMap<>();
         this.pidCounter = new AtomicInteger(1);
         this.memoryManager = memoryManager;
+        this.clock = clock;
+        this.admissionPolicy = AdmissionPolicy.NONE;
+        this.realTimeUtilization = 0;
+        this.hyperbolicProduct = 1;
+        this.realTimeTaskCount = 0;
+        this.rejectedCount = 0;
     }
 
     //===========================================Method===========================================
@@ -31,7 +46,7 @@ public class ProcessManager {
         int pid = pidCounter.getAndIncrement();
 
         Identifier identifier = new Identifier(pid, parentPid, process);
-        AccountingInformation accountingInfo = new AccountingInformation();
+        AccountingInformation accountingInfo = new AccountingInformation(clock.now());
         StatusInformationIO statusIO = new StatusInformationIO();
         MemoryPointer memoryPointer = new MemoryPointer(0, 0);
         ContextData contextData = new ContextData(new int[16], 0, 0);
@@ -54,12 +69,29 @@ public class ProcessManager {
     /**
      * Admit: Transition from CREATED based on memory availability
      * Returns true if admitted to READY_MEMORY, false if admitted to READY_SWAPPED
+     * Real-time tasks must first pass the admission test; a rejected task goes
+     * CREATED → ZOMBIE and false is returned.
      */
     public boolean admit(ProcessControlBlock pcb) {
         if (pcb.getProcessState() != ProcessState.CREATED) {
             return false;
         }
 
+        RealTimeTask task = pcb.getProcess().getRealTimeTask();
+        if (task != null) {
+            double density = task.getDensity();
+            double utilization = realTimeUtilization + density;
+            double product = hyperbolicProduct * (1 + density);
+            if (!admissionPolicy.admits(utilization, product)) {
+                rejectedCount++;
+                pcb.setState(ProcessState.ZOMBIE);
+                return false;
+            }
+            realTimeUtilization = utilization;
+            hyperbolicProduct = product;
+            realTimeTaskCount++;
+        }
+
         if (memoryManager.hasAvailableMemory(pcb)) {
             memoryManager.allocateMemory(pcb);
             pcb.setState(ProcessState.READY_MEMORY);
@@ -72,9 +104,13 @@ public class ProcessManager {
     }
 
     /**
-     * Exit: Transition to ZOMBIE state
+     * Exit: Transition to ZOMBIE state - the address space goes, the PCB stays until wait()
      */
     public void exit(ProcessControlBlock pcb) {
+        if (pcb.getProcessState() != ProcessState.ZOMBIE) {
+            releaseRealTime(pcb);
+        }
+        memoryManager.releasePages(pcb);
         pcb.setState(ProcessState.ZOMBIE);
     }
 
@@ -119,4 +155,31 @@ public class ProcessManager {
     public int getProcessCount() {
         return processTable.size();
     }
+
+    /**
+     * Give back the utilization reserved for an admitted real-time task
+     */
+    private void releaseRealTime(ProcessControlBlock pcb) {
+        RealTimeTask task = pcb.getProcess() != null ? pcb.getProcess().getRealTimeTask() : null;
+        if (task == null || realTimeTaskCount == 0) {
+            return;
+        }
+        double density = task.getDensity();
+        realTimeTaskCount--;
+        if (realTimeTaskCount == 0) {
+            realTimeUtilization = 0;
+            hyperbolicProduct = 1;
+        } else {
+            realTimeUtilization -= density;
+            hyperbolicProduct /= 1 + density;
+        }
+    }
+
+    //==========================================Get Set===========================================
+    public AdmissionPolicy getAdmissionPolicy() { return admissionPolicy; }
+    public double getRealTimeUtilization() { return realTimeUtilization; }
+    public int getRealTimeTaskCount() { return realTimeTaskCount; }
+    public int getRejectedCount() { return rejectedCount; }
+
+    public void setAdmissionPolicy(AdmissionPolicy admissionPolicy) { this.admissionPolicy = admissionPolicy; }
 }
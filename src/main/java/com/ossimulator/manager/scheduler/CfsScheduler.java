@@ -0,0 +1,344 @@
+package com.ossimulator.manager.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.ossimulator.model.component.ProcessState;
+import com.ossimulator.model.main.Process;
+
+/**
+ * Linux-style Completely Fair Scheduler. Runnable processes sit in a red-black tree
+ * (TreeSet) ordered by weighted virtual runtime; pollNext takes the leftmost entity,
+ * so add/select/requeue are O(log n). Each slice is the process' weighted share of the
+ * scheduling period (target latency, stretched to nr_running × min granularity when
+ * there are too many runnable processes). Priority p uses weight PRIO_TO_WEIGHT[p - 1],
+ * so priority 1 is the heaviest and every step down costs ~25% CPU share.
+ */
+public class CfsScheduler implements Scheduler {
+    //==========================================Variable==========================================
+    public static final int DEFAULT_TARGET_LATENCY = 20;
+    public static final int DEFAULT_MIN_GRANULARITY = 1;
+
+    private final TreeSet<Entity> timeline;
+    private final PidMap<Entity> entities;
+    private final int timeQuantum;
+    private final int targetLatency;
+    private final int minGranularity;
+    private final ReentrantLock lock;
+
+    private long minVruntime;
+    private long totalWeight;
+    private long sequence;
+    private volatile int size;
+
+    //========================================Constructor=========================================
+    public CfsScheduler(int timeQuantum) {
+        this(timeQuantum, DEFAULT_TARGET_LATENCY, DEFAULT_MIN_GRANULARITY);
+    }
+
+    public CfsScheduler(int timeQuantum, int targetLatency, int minGranularity) {
+        if (targetLatency < 1 || minGranularity < 1) {
+            throw new IllegalArgumentException("targetLatency and minGranularity must be >= 1");
+        }
+        this.timeline = new TreeSet<>();
+        this.entities = new PidMap<>();
+        this.timeQuantum = timeQuantum;
+        this.targetLatency = targetLatency;
+        this.minGranularity = minGranularity;
+        this.lock = new ReentrantLock();
+        this.minVruntime = 0;
+        this.totalWeight = 0;
+        this.sequence = 0;
+        this.size = 0;
+    }
+
+    //===========================================Method===========================================
+    /**
+     * New processes start at min_vruntime; a process waking from I/O is placed at most
+     * half a target latency behind it so sleepers get a bounded head start
+     */
+    @Override
+    public void addProcess(Process process) {
+        lock.lock();
+        try {
+            if (process.getState() == ProcessState.CREATED) {
+                process.setState(ProcessState.READY_MEMORY);
+            }
+            Entity entity = entities.get(process.getPid());
+            if (entity == null) {
+                entity = new Entity(process);
+                entity.vruntime = minVruntime;
+                entities.put(process.getPid(), entity);
+            } else if (!entity.queued) {
+                long sleeperCredit = toVruntime(targetLatency, NICE_0_WEIGHT) / 2;
+                entity.vruntime = Math.max(entity.vruntime, minVruntime - sleeperCredit);
+            }
+            enqueue(entity);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Process pollNext() {
+        lock.lock();
+        try {
+            Entity leftmost = timeline.pollFirst();
+            if (leftmost == null) {
+                return null;
+            }
+            leftmost.queued = false;
+            totalWeight -= leftmost.weight;
+            size--;
+            return leftmost.process;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void requeue(Process process) {
+        lock.lock();
+        try {
+            if (!process.isCompleted() && process.getState() == ProcessState.READY_MEMORY) {
+                Entity entity = entities.get(process.getPid());
+                if (entity == null) {
+                    entity = new Entity(process);
+                    entity.vruntime = minVruntime;
+                    entities.put(process.getPid(), entity);
+                }
+                enqueue(entity);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * period = max(targetLatency, nr_running × minGranularity);
+     * slice = period × weight / total runnable weight (the selected process included)
+     */
+    @Override
+    public int getTimeSlice(Process process) {
+        lock.lock();
+        try {
+            Entity entity = entities.get(process.getPid());
+            long weight = entity != null ? entity.weight : weightOf(process.getPriority());
+            long load = totalWeight + (entity != null && entity.queued ? 0 : weight);
+            int running = size + (entity != null && entity.queued ? 0 : 1);
+            long period = Math.max(targetLatency, (long) running * minGranularity);
+            long slice = period * weight / load;
+            return (int) Math.max(minGranularity, slice);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * vruntime += executed × NICE_0_WEIGHT / weight
+     */
+    @Override
+    public void onExecuted(Process process, int executedTime) {
+        lock.lock();
+        try {
+            Entity entity = entities.get(process.getPid());
+            if (entity == null || entity.queued) {
+                return;
+            }
+            entity.vruntime += toVruntime(executedTime, entity.weight);
+            entity.cpuTime += executedTime;
+            updateMinVruntime(entity.vruntime);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take an entity out of the timeline; its vruntime is kept, and addProcess places it
+     * like a woken sleeper when it comes back
+     */
+    @Override
+    public boolean remove(Process process) {
+        lock.lock();
+        try {
+            Entity entity = entities.get(process.getPid());
+            if (entity == null || !entity.queued) {
+                return false;
+            }
+            timeline.remove(entity);
+            entity.queued = false;
+            totalWeight -= entity.weight;
+            size--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<Process> drain() {
+        lock.lock();
+        try {
+            List<Process> drained = new ArrayList<>(size);
+            Entity entity;
+            while ((entity = timeline.pollFirst()) != null) {
+                entity.queued = false;
+                drained.add(entity.process);
+            }
+            totalWeight = 0;
+            size = 0;
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getTimeQuantum() {
+        return timeQuantum;
+    }
+
+    @Override
+    public String getName() {
+        return "CFS (latency=" + targetLatency + "ms, granularity=" + minGranularity + "ms)";
+    }
+
+    @Override
+    public void printStatistics(List<Process> processes) {
+        System.out.println("+-----------------------------------------------------------+");
+        System.out.println("| CFS VIRTUAL RUNTIME                                       |");
+        System.out.println("+-----------------------------------------------------------+");
+        System.out.printf("| %-12s | %-8s | %-10s | %-12s | %-6s |%n",
+                "Process", "Weight", "CPU(ms)", "vruntime(ms)", "Prio");
+        for (Process p : processes) {
+            lock.lock();
+            try {
+                Entity entity = entities.get(p.getPid());
+                if (entity != null) {
+                    System.out.printf("| %-12s | %-8d | %-10d | %-12.3f | %-6d |%n",
+                            p.getName(), entity.weight, entity.cpuTime,
+                            entity.vruntime / (double) VRUNTIME_PER_MS, p.getPriority());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    //==========================================Get Set===========================================
+    public int getTargetLatency() { return targetLatency; }
+    public int getMinGranularity() { return minGranularity; }
+
+    /**
+     * Virtual runtime of a process in weighted milliseconds, or -1 if it never ran here
+     */
+    public double getVruntime(Process process) {
+        lock.lock();
+        try {
+            Entity entity = entities.get(process.getPid());
+            return entity == null ? -1 : entity.vruntime / (double) VRUNTIME_PER_MS;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Smallest vruntime in the run queue (monotonic), in weighted milliseconds
+     */
+    public double getMinVruntime() {
+        lock.lock();
+        try {
+            return minVruntime / (double) VRUNTIME_PER_MS;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Scheduling weight for a priority value (1 = highest), clamped to the table
+     */
+    public static int weightOf(int priority) {
+        return PRIO_TO_WEIGHT[Math.min(Math.max(priority, 1), PRIO_TO_WEIGHT.length) - 1];
+    }
+
+    //==========================================Timeline==========================================
+    private void enqueue(Entity entity) {
+        if (entity.queued) {
+            return;
+        }
+        entity.weight = weightOf(entity.process.getPriority());
+        entity.sequence = sequence++;
+        entity.queued = true;
+        timeline.add(entity);
+        totalWeight += entity.weight;
+        size++;
+    }
+
+    /**
+     * min_vruntime only moves forward: max(min_vruntime, min(current, leftmost))
+     */
+    private void updateMinVruntime(long current) {
+        Entity leftmost = timeline.isEmpty() ? null : timeline.first();
+        long candidate = leftmost == null ? current : Math.min(current, leftmost.vruntime);
+        minVruntime = Math.max(minVruntime, candidate);
+    }
+
+    private static long toVruntime(long executedMs, long weight) {
+        return executedMs * VRUNTIME_PER_MS * NICE_0_WEIGHT / weight;
+    }
+
+    //==========================================Constants=========================================
+    private static final long VRUNTIME_PER_MS = 1_000_000L;
+    private static final int NICE_0_WEIGHT = 1024;
+
+    /**
+     * Linux sched_prio_to_weight (nice -20..19)
+     */
+    private static final int[] PRIO_TO_WEIGHT = {
+            88761, 71755, 56483, 46273, 36291,
+            29154, 23254, 18705, 14949, 11916,
+            9548, 7620, 6100, 4904, 3906,
+            3121, 2501, 1991, 1586, 1277,
+            1024, 820, 655, 526, 423,
+            335, 272, 215, 172, 137,
+            110, 87, 70, 56, 45,
+            36, 29, 23, 18, 15,
+    };
+
+    //=========================================Inner Class========================================
+    /**
+     * Scheduling entity: a process plus its CFS bookkeeping.
+     * Ordered by (vruntime, enqueue sequence) so equal vruntimes stay FIFO.
+     */
+    private static final class Entity implements Comparable<Entity> {
+        final Process process;
+        long vruntime;
+        long sequence;
+        long cpuTime;
+        int weight;
+        boolean queued;
+
+        Entity(Process process) {
+            this.process = process;
+            this.weight = weightOf(process.getPriority());
+        }
+
+        @Override
+        public int compareTo(Entity other) {
+            int byVruntime = Long.compare(vruntime, other.vruntime);
+            return byVruntime != 0 ? byVruntime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
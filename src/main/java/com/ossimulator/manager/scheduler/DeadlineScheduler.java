@@ -0,0 +1,236 @@
+package com.ossimulator.manager.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.ossimulator.manager.process.AdmissionPolicy;
+import com.ossimulator.model.component.ProcessState;
+import com.ossimulator.model.component.RealTimeTask;
+import com.ossimulator.model.main.Process;
+
+/**
+ * Base for real-time schedulers: a binary min-heap over parallel arrays
+ * (key, sequence, process) like the event queue, plus the heap index of every queued pid,
+ * so add/select/remove are O(log n) and do not allocate once the arrays have grown. Subclasses only define the key of a real-time job.
+ * Processes without a RealTimeTask run in the background, FIFO, after every real-time job.
+ *
+ * Real-time jobs are preempted every quantum so a newly released job with a higher
+ * priority gets the CPU within one quantum.
+ */
+public abstract class DeadlineScheduler implements Scheduler {
+    //==========================================Variable==========================================
+    private static final int INITIAL_CAPACITY = 16;
+    protected static final long BACKGROUND_KEY = Long.MAX_VALUE;
+    private static final int NOT_QUEUED = -1;
+
+    private long[] keys;
+    private long[] sequences;
+    private Process[] processes;
+    private int[] positions;                // Heap index per pid, NOT_QUEUED if none
+    private final int timeQuantum;
+    private final ReentrantLock lock;
+
+    private long sequence;
+    private volatile int size;
+
+    //========================================Constructor=========================================
+    protected DeadlineScheduler(int timeQuantum) {
+        this.keys = new long[INITIAL_CAPACITY];
+        this.sequences = new long[INITIAL_CAPACITY];
+        this.processes = new Process[INITIAL_CAPACITY];
+        this.positions = new int[INITIAL_CAPACITY];
+        Arrays.fill(positions, NOT_QUEUED);
+        this.timeQuantum = timeQuantum;
+        this.lock = new ReentrantLock();
+        this.sequence = 0;
+        this.size = 0;
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Heap key of a real-time process' current job - smaller runs first
+     */
+    protected abstract long keyOf(RealTimeTask task);
+
+    @Override
+    public abstract AdmissionPolicy getAdmissionPolicy();
+
+    @Override
+    public void addProcess(Process process) {
+        lock.lock();
+        try {
+            if (process.getState() == ProcessState.CREATED) {
+                process.setState(ProcessState.READY_MEMORY);
+            }
+            push(process);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Process pollNext() {
+        lock.lock();
+        try {
+            return pop();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void requeue(Process process) {
+        lock.lock();
+        try {
+            if (!process.isCompleted() && process.getState() == ProcessState.READY_MEMORY) {
+                push(process);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Process process) {
+        lock.lock();
+        try {
+            int pid = process.getPid();
+            if (pid < 0 || pid >= positions.length || positions[pid] == NOT_QUEUED) {
+                return false;
+            }
+            removeAt(positions[pid]);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<Process> drain() {
+        lock.lock();
+        try {
+            List<Process> drained = new ArrayList<>(size);
+            Process process;
+            while ((process = pop()) != null) {
+                drained.add(process);
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getTimeQuantum() {
+        return timeQuantum;
+    }
+
+    //============================================Heap============================================
+    /**
+     * Insert a process; one already in the heap keeps its entry, so it is never queued twice
+     */
+    private void push(Process process) {
+        int pid = process.getPid();
+        if (pid >= positions.length) {
+            int old = positions.length;
+            positions = Arrays.copyOf(positions, Math.max(pid + 1, old << 1));
+            Arrays.fill(positions, old, positions.length, NOT_QUEUED);
+        }
+        if (positions[pid] != NOT_QUEUED) {
+            return;
+        }
+        if (size == keys.length) {
+            int capacity = keys.length << 1;
+            keys = Arrays.copyOf(keys, capacity);
+            sequences = Arrays.copyOf(sequences, capacity);
+            processes = Arrays.copyOf(processes, capacity);
+        }
+        RealTimeTask task = process.getRealTimeTask();
+        long key = task != null ? keyOf(task) : BACKGROUND_KEY;
+        siftUp(size++, key, sequence++, process);
+    }
+
+    private Process pop() {
+        if (size == 0) {
+            return null;
+        }
+        Process top = processes[0];
+        removeAt(0);
+        return top;
+    }
+
+    /**
+     * Move the last entry into the hole at index and restore the heap in the direction it needs
+     */
+    private void removeAt(int index) {
+        positions[processes[index].getPid()] = NOT_QUEUED;
+        int last = --size;
+        long key = keys[last];
+        long seq = sequences[last];
+        Process process = processes[last];
+        processes[last] = null;
+        if (index == last) {
+            return;
+        }
+        siftDown(index, key, seq, process);
+        if (processes[index] == process) {
+            siftUp(index, key, seq, process);
+        }
+    }
+
+    private void siftUp(int i, long key, long seq, Process process) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(key, seq, keys[parent], sequences[parent])) {
+                break;
+            }
+            copy(parent, i);
+            i = parent;
+        }
+        set(i, key, seq, process);
+    }
+
+    private void siftDown(int i, long key, long seq, Process process) {
+        int half = size >>> 1;
+        while (i < half) {
+            int child = (i << 1) + 1;
+            int right = child + 1;
+            if (right < size && less(keys[right], sequences[right], keys[child], sequences[child])) {
+                child = right;
+            }
+            if (!less(keys[child], sequences[child], key, seq)) {
+                break;
+            }
+            copy(child, i);
+            i = child;
+        }
+        set(i, key, seq, process);
+    }
+
+    private void copy(int from, int to) {
+        set(to, keys[from], sequences[from], processes[from]);
+    }
+
+    private void set(int i, long key, long seq, Process process) {
+        keys[i] = key;
+        sequences[i] = seq;
+        processes[i] = process;
+        positions[process.getPid()] = i;
+    }
+
+    private static boolean less(long key, long seq, long otherKey, long otherSeq) {
+        return key != otherKey ? key < otherKey : seq < otherSeq;
+    }
+}
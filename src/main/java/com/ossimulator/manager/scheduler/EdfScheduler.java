@@ -0,0 +1,30 @@
+package com.ossimulator.manager.scheduler;
+
+import com.ossimulator.manager.process.AdmissionPolicy;
+import com.ossimulator.model.component.RealTimeTask;
+
+/**
+ * Earliest deadline first: the ready job with the nearest absolute deadline runs
+ */
+public class EdfScheduler extends DeadlineScheduler {
+    //========================================Constructor=========================================
+    public EdfScheduler(int timeQuantum) {
+        super(timeQuantum);
+    }
+
+    //===========================================Method===========================================
+    @Override
+    protected long keyOf(RealTimeTask task) {
+        return task.getAbsoluteDeadline();
+    }
+
+    @Override
+    public AdmissionPolicy getAdmissionPolicy() {
+        return AdmissionPolicy.EDF;
+    }
+
+    @Override
+    public String getName() {
+        return "EDF (quantum=" + getTimeQuantum() + "ms)";
+    }
+}
@@ -0,0 +1,177 @@
+package com.ossimulator.manager.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ossimulator.model.component.ProcessState;
+import com.ossimulator.model.main.Process;
+
+/**
+ * Round Robin over a lock-free MPMC ready queue.
+ * Same policy as RoundRobinScheduler, but producers (createProcess, requeue) and the
+ * dispatcher never block each other, no node is allocated per offer, and size()/isEmpty()
+ * are O(1) reads for the monitor threads. The array queue holds capacity processes
+ * (property "capacity", default 1024); beyond that, processes spill into a lock-free
+ * linked overflow queue, which allocates a node per offer until it drains. While the
+ * overflow holds anything, new offers go there too, so FIFO order is kept.
+ *
+ * remove is O(1) and safe against concurrent offer/poll: it tombstones the process by
+ * moving its Process.readyQueueMark from QUEUED to one more STALE entry, and pollNext
+ * skips (and uncounts) a stale entry when it reaches it. A queued process is never added twice.
+ */
+public class LockFreeRoundRobinScheduler implements Scheduler {
+    //==========================================Variable==========================================
+    public static final int DEFAULT_CAPACITY = 1 << 10;
+    private static final int QUEUED = 1;    // Mark bit: the process has a live entry in the queue
+    private static final int STALE = 2;     // Mark unit: one removed entry still in the queue
+
+    private final MpmcProcessQueue readyQueue;
+    private final ConcurrentLinkedQueue<Process> overflow;
+    private final AtomicInteger overflowSize;
+    private final AtomicInteger staleEntries;   // Removed entries not yet skipped by pollNext
+    private final int timeQuantum;
+
+    //========================================Constructor=========================================
+    public LockFreeRoundRobinScheduler(int timeQuantum) {
+        this(timeQuantum, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity ready processes held without allocation, rounded up to a power of two
+     */
+    public LockFreeRoundRobinScheduler(int timeQuantum, int capacity) {
+        int rounded = Math.max(2, Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1);
+        this.readyQueue = new MpmcProcessQueue(rounded);
+        this.overflow = new ConcurrentLinkedQueue<>();
+        this.overflowSize = new AtomicInteger();
+        this.staleEntries = new AtomicInteger();
+        this.timeQuantum = timeQuantum;
+    }
+
+    //===========================================Method===========================================
+    @Override
+    public void addProcess(Process process) {
+        if (process.getState() == ProcessState.CREATED) {
+            process.setState(ProcessState.READY_MEMORY);
+        }
+        enqueue(process);
+    }
+
+    @Override
+    public Process pollNext() {
+        Process process;
+        while ((process = take()) != null) {
+            if (claim(process)) {
+                return process;
+            }
+            staleEntries.decrementAndGet();
+        }
+        return null;
+    }
+
+    @Override
+    public void requeue(Process process) {
+        if (!process.isCompleted() && process.getState() == ProcessState.READY_MEMORY) {
+            enqueue(process);
+        }
+    }
+
+    /**
+     * Tombstone the process' entry - O(1); pollNext drops it when it reaches it
+     */
+    @Override
+    public boolean remove(Process process) {
+        while (true) {
+            int mark = process.getReadyQueueMark();
+            if ((mark & QUEUED) == 0) {
+                return false;
+            }
+            if (process.compareAndSetReadyQueueMark(mark, (mark & ~QUEUED) + STALE)) {
+                staleEntries.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        return Math.max(0, readyQueue.size() + overflowSize.get() - staleEntries.get());
+    }
+
+    @Override
+    public List<Process> drain() {
+        List<Process> drained = new ArrayList<>();
+        Process process;
+        while ((process = pollNext()) != null) {
+            drained.add(process);
+        }
+        return drained;
+    }
+
+    @Override
+    public int getTimeQuantum() {
+        return timeQuantum;
+    }
+
+    @Override
+    public String getName() {
+        return "Round Robin lock-free (quantum=" + timeQuantum + "ms)";
+    }
+
+    public int getCapacity() {
+        return readyQueue.capacity();
+    }
+
+    /**
+     * Mark the process queued, then offer it; a process that is already queued is left alone
+     */
+    private void enqueue(Process process) {
+        int mark;
+        do {
+            mark = process.getReadyQueueMark();
+            if ((mark & QUEUED) != 0) {
+                return;
+            }
+        } while (!process.compareAndSetReadyQueueMark(mark, mark | QUEUED));
+        if (overflowSize.get() == 0 && readyQueue.offer(process)) {
+            return;
+        }
+        overflow.offer(process);
+        overflowSize.incrementAndGet();
+    }
+
+    /**
+     * Next entry in FIFO order, live or stale
+     */
+    private Process take() {
+        Process process = readyQueue.poll();
+        if (process == null && overflowSize.get() > 0) {
+            process = overflow.poll();
+            if (process != null) {
+                overflowSize.decrementAndGet();
+            }
+        }
+        return process;
+    }
+
+    /**
+     * Settle a taken entry: stale entries come before the live one, so they are dropped first
+     * @return true if this entry is the process' live one
+     */
+    private static boolean claim(Process process) {
+        while (true) {
+            int mark = process.getReadyQueueMark();
+            int next = mark >= STALE ? mark - STALE : mark & ~QUEUED;
+            if (process.compareAndSetReadyQueueMark(mark, next)) {
+                return mark < STALE && (mark & QUEUED) != 0;
+            }
+        }
+    }
+}
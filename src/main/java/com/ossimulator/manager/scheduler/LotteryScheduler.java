@@ -0,0 +1,134 @@
+package com.ossimulator.manager.scheduler;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Lottery scheduling: every queued process holds a slot in a Fenwick tree weighted by
+ * its tickets, so drawing the winning ticket (descending the tree with the random
+ * number), removing the winner and changing tickets are all O(log n).
+ */
+public class LotteryScheduler extends ProportionalShareScheduler {
+    //==========================================Variable==========================================
+    public static final long DEFAULT_SEED = 42;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] tree;          // Fenwick tree, 1-based
+    private Share[] slots;
+    private int[] freeSlots;
+    private int freeCount;
+    private int usedSlots;
+    private long queuedTickets;
+    private final SplittableRandom random;
+    private final long seed;
+
+    //========================================Constructor=========================================
+    public LotteryScheduler(int timeQuantum) {
+        this(timeQuantum, DEFAULT_TICKET_BASE, DEFAULT_SEED);
+    }
+
+    public LotteryScheduler(int timeQuantum, int ticketBase, long seed) {
+        super(timeQuantum, ticketBase);
+        this.tree = new long[INITIAL_CAPACITY + 1];
+        this.slots = new Share[INITIAL_CAPACITY];
+        this.freeSlots = new int[INITIAL_CAPACITY];
+        this.freeCount = 0;
+        this.usedSlots = 0;
+        this.queuedTickets = 0;
+        this.random = new SplittableRandom(seed);
+        this.seed = seed;
+    }
+
+    //===========================================Method===========================================
+    @Override
+    public String getName() {
+        return "Lottery (quantum=" + getTimeQuantum() + "ms, seed=" + seed + ")";
+    }
+
+    @Override
+    protected void enqueue(Share share) {
+        int slot = allocateSlot();
+        share.slot = slot;
+        slots[slot] = share;
+        add(slot, share.tickets);
+        queuedTickets += share.tickets;
+    }
+
+    /**
+     * Draw a ticket in [0, queuedTickets) and find the slot owning it
+     */
+    @Override
+    protected Share dequeue() {
+        if (queuedTickets <= 0) {
+            return null;
+        }
+        long winning = random.nextLong(queuedTickets);
+        int position = 0;
+        for (int step = Integer.highestOneBit(slots.length); step > 0; step >>>= 1) {
+            int next = position + step;
+            if (next <= slots.length && tree[next] <= winning) {
+                position = next;
+                winning -= tree[next];
+            }
+        }
+        Share winner = slots[position];
+        unqueue(winner);
+        return winner;
+    }
+
+    /**
+     * Empty the share's slot - O(log n), and no random number is drawn
+     */
+    @Override
+    protected void unqueue(Share share) {
+        int slot = share.slot;
+        add(slot, -share.tickets);
+        queuedTickets -= share.tickets;
+        slots[slot] = null;
+        freeSlots[freeCount++] = slot;
+        share.slot = -1;
+    }
+
+    @Override
+    protected void ticketsChanged(Share share, int oldTickets) {
+        if (share.queued) {
+            add(share.slot, share.tickets - oldTickets);
+            queuedTickets += share.tickets - oldTickets;
+        }
+    }
+
+    //==========================================Fenwick===========================================
+    private void add(int slot, long delta) {
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (usedSlots == slots.length) {
+            grow();
+        }
+        return usedSlots++;
+    }
+
+    /**
+     * Double the slot table and rebuild the Fenwick tree in O(n)
+     */
+    private void grow() {
+        int capacity = slots.length << 1;
+        slots = Arrays.copyOf(slots, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+        tree = new long[capacity + 1];
+        for (int i = 1; i <= capacity; i++) {
+            Share share = slots[i - 1];
+            tree[i] += share != null ? share.tickets : 0;
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
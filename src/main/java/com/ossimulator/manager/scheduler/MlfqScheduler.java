@@ -0,0 +1,410 @@
+package com.ossimulator.manager.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.ossimulator.model.component.ProcessState;
+import com.ossimulator.model.main.Process;
+
+/**
+ * Multilevel feedback queue. Level 0 is the highest; level i runs with quantum
+ * timeQuantum × 2^i. A process that burns its whole quantum is demoted one level,
+ * a process that blocks for I/O is promoted one level, and every boostInterval ms
+ * of dispatched CPU time all processes are moved back to level 0 so nothing starves.
+ *
+ * Scheduler time is the total CPU time charged through onExecuted, which matches the
+ * simulated clock whenever the CPU is busy.
+ */
+public class MlfqScheduler implements Scheduler {
+    //==========================================Variable==========================================
+    public static final int DEFAULT_LEVELS = 3;
+    public static final int DEFAULT_BOOST_INTERVAL = 100;
+    private static final int INITIAL_LEVEL_CAPACITY = 16;
+
+    private final ProcessRing[] levels;
+    private ProcessRing spare;              // Merge target for boosts, swapped with level 0
+    private final int[] quanta;
+    private final PidMap<Entry> entries;
+    private final int timeQuantum;
+    private final int boostInterval;
+    private final ReentrantLock lock;
+
+    private long schedulerTime;
+    private long nextBoost;
+    private int boostEpoch;
+    private long demotionCount;
+    private long promotionCount;
+    private volatile int size;
+
+    //========================================Constructor=========================================
+    public MlfqScheduler(int timeQuantum) {
+        this(timeQuantum, DEFAULT_LEVELS, DEFAULT_BOOST_INTERVAL);
+    }
+
+    public MlfqScheduler(int timeQuantum, int levelCount, int boostInterval) {
+        if (levelCount < 1 || levelCount > 16) {
+            throw new IllegalArgumentException("levelCount must be in [1, 16]: " + levelCount);
+        }
+        if (boostInterval < 1) {
+            throw new IllegalArgumentException("boostInterval must be >= 1: " + boostInterval);
+        }
+        this.levels = new ProcessRing[levelCount];
+        this.quanta = new int[levelCount];
+        this.entries = new PidMap<>();
+        this.timeQuantum = timeQuantum;
+        this.boostInterval = boostInterval;
+        this.lock = new ReentrantLock();
+        this.schedulerTime = 0;
+        this.nextBoost = boostInterval;
+        this.boostEpoch = 0;
+        this.size = 0;
+
+        for (int i = 0; i < levelCount; i++) {
+            levels[i] = new ProcessRing(INITIAL_LEVEL_CAPACITY);
+            quanta[i] = Math.max(1, timeQuantum) << i;
+        }
+        this.spare = new ProcessRing(INITIAL_LEVEL_CAPACITY);
+    }
+
+    //===========================================Method===========================================
+    @Override
+    public void addProcess(Process process) {
+        lock.lock();
+        try {
+            if (process.getState() == ProcessState.CREATED) {
+                process.setState(ProcessState.READY_MEMORY);
+            }
+            enqueue(process);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Process pollNext() {
+        lock.lock();
+        try {
+            int level = highestReadyLevel();
+            if (level < 0) {
+                return null;
+            }
+            Process process = levels[level].poll();
+            entries.get(process.getPid()).queued = false;
+            size--;
+            return process;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void requeue(Process process) {
+        lock.lock();
+        try {
+            if (!process.isCompleted() && process.getState() == ProcessState.READY_MEMORY) {
+                enqueue(process);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getTimeSlice(Process process) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(process.getPid());
+            return quanta[entry == null ? 0 : currentLevel(entry)];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advance scheduler time, demote on a fully used quantum, then boost if due
+     */
+    @Override
+    public void onExecuted(Process process, int executedTime) {
+        lock.lock();
+        try {
+            schedulerTime += executedTime;
+            Entry entry = entries.get(process.getPid());
+            if (entry != null && !entry.queued) {
+                int level = currentLevel(entry);
+                if (!process.isCompleted() && executedTime >= quanta[level] && level < levels.length - 1) {
+                    entry.level = level + 1;
+                    demotionCount++;
+                }
+            }
+            if (schedulerTime >= nextBoost) {
+                boost();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocking before the quantum ends marks the process as interactive: promote one level
+     */
+    @Override
+    public void onBlocked(Process process) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(process.getPid());
+            if (entry != null && !entry.queued) {
+                int level = currentLevel(entry);
+                if (level > 0) {
+                    entry.level = level - 1;
+                    promotionCount++;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take a queued process off its level; it keeps its level for the next enqueue
+     */
+    @Override
+    public boolean remove(Process process) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(process.getPid());
+            if (entry == null || !entry.queued || !levels[currentLevel(entry)].remove(process)) {
+                return false;
+            }
+            entry.queued = false;
+            size--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<Process> drain() {
+        lock.lock();
+        try {
+            List<Process> drained = new ArrayList<>(size);
+            int level;
+            while ((level = highestReadyLevel()) >= 0) {
+                Process process = levels[level].poll();
+                entries.get(process.getPid()).queued = false;
+                drained.add(process);
+            }
+            size = 0;
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getTimeQuantum() {
+        return timeQuantum;
+    }
+
+    @Override
+    public String getName() {
+        return "MLFQ (levels=" + levels.length + ", quantum=" + timeQuantum
+                + "ms, boost=" + boostInterval + "ms)";
+    }
+
+    @Override
+    public void printStatistics(List<Process> processes) {
+        lock.lock();
+        try {
+            System.out.println("+-----------------------------------------------------------+");
+            System.out.println("| MLFQ LEVELS                                               |");
+            System.out.println("+-----------------------------------------------------------+");
+            for (int i = 0; i < levels.length; i++) {
+                System.out.printf("| Level %-2d quantum=%-6s queued=%-26d |%n",
+                        i, quanta[i] + "ms", levels[i].size());
+            }
+            System.out.printf("| Demotions: %-10d Promotions: %-10d Boosts: %-5d |%n",
+                    demotionCount, promotionCount, boostEpoch);
+            System.out.printf("| Oldest waiter starvation: %-29dms |%n", oldestWaitTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //==========================================Metrics===========================================
+    /**
+     * Number of queued processes at every level (index 0 = highest)
+     */
+    public int[] getQueueLengths() {
+        lock.lock();
+        try {
+            int[] lengths = new int[levels.length];
+            for (int i = 0; i < levels.length; i++) {
+                lengths[i] = levels[i].size();
+            }
+            return lengths;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * How long the longest-waiting queued process has been waiting, in scheduler ms
+     */
+    public long getOldestWaitTime() {
+        lock.lock();
+        try {
+            return oldestWaitTime();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Current level of a process, or -1 if this scheduler has never seen it
+     */
+    public int getLevel(Process process) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(process.getPid());
+            return entry == null ? -1 : currentLevel(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLevelCount() { return levels.length; }
+    public int getQuantum(int level) { return quanta[level]; }
+    public int getBoostInterval() { return boostInterval; }
+
+    public long getDemotionCount() {
+        lock.lock();
+        try {
+            return demotionCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getPromotionCount() {
+        lock.lock();
+        try {
+            return promotionCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getBoostCount() {
+        lock.lock();
+        try {
+            return boostEpoch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //==========================================Levels============================================
+    private void enqueue(Process process) {
+        Entry entry = entries.get(process.getPid());
+        if (entry == null) {
+            entry = new Entry(boostEpoch);
+            entries.put(process.getPid(), entry);
+        } else if (entry.queued) {
+            return;
+        }
+        int level = currentLevel(entry);
+        entry.queued = true;
+        entry.enqueuedAt = schedulerTime;
+        levels[level].offer(process);
+        size++;
+    }
+
+    /**
+     * A boost that happened while the process was off the queues resets it to level 0
+     */
+    private int currentLevel(Entry entry) {
+        if (entry.epoch != boostEpoch) {
+            entry.epoch = boostEpoch;
+            entry.level = 0;
+        }
+        return entry.level;
+    }
+
+    /**
+     * Move every queued process to level 0. Each ring is already ordered by enqueue time,
+     * so a k-way merge keeps level 0 oldest-first. The merge goes into a spare ring that
+     * is swapped with the (then empty) old level 0, so boosting does not allocate.
+     */
+    private void boost() {
+        boostEpoch++;
+        nextBoost = schedulerTime + boostInterval;
+        ProcessRing merged = spare;
+        while (true) {
+            int oldestLevel = -1;
+            long oldest = Long.MAX_VALUE;
+            for (int i = 0; i < levels.length; i++) {
+                Process head = levels[i].peek();
+                if (head != null && entries.get(head.getPid()).enqueuedAt < oldest) {
+                    oldest = entries.get(head.getPid()).enqueuedAt;
+                    oldestLevel = i;
+                }
+            }
+            if (oldestLevel < 0) {
+                break;
+            }
+            Process process = levels[oldestLevel].poll();
+            currentLevel(entries.get(process.getPid()));
+            merged.offer(process);
+        }
+        spare = levels[0];
+        levels[0] = merged;
+    }
+
+    private int highestReadyLevel() {
+        for (int i = 0; i < levels.length; i++) {
+            if (!levels[i].isEmpty()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Heads of the rings are the oldest at their level; the oldest overall is their minimum
+     */
+    private long oldestWaitTime() {
+        long oldest = Long.MAX_VALUE;
+        for (ProcessRing ring : levels) {
+            Process head = ring.peek();
+            if (head != null) {
+                oldest = Math.min(oldest, entries.get(head.getPid()).enqueuedAt);
+            }
+        }
+        return oldest == Long.MAX_VALUE ? 0 : schedulerTime - oldest;
+    }
+
+    //=========================================Inner Class========================================
+    private static final class Entry {
+        int level;
+        int epoch;
+        long enqueuedAt;
+        boolean queued;
+
+        Entry(int epoch) {
+            this.level = 0;
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.ossimulator.manager.scheduler;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.ossimulator.model.main.Process;
+
+/**
+ * Bounded lock-free multi-producer/multi-consumer FIFO (Vyukov array queue).
+ * Each slot carries a sequence number that tells producers and consumers whose turn it is,
+ * so offer/poll are a single CAS on the position counter and never allocate.
+ */
+class MpmcProcessQueue {
+    //==========================================Variable==========================================
+    private final AtomicReferenceArray<Process> buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong enqueuePosition;
+    private final AtomicLong dequeuePosition;
+
+    //========================================Constructor=========================================
+    MpmcProcessQueue(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two >= 2: " + capacity);
+        }
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.enqueuePosition = new AtomicLong(0);
+        this.dequeuePosition = new AtomicLong(0);
+    }
+
+    //===========================================Method===========================================
+    /**
+     * @return false if the queue is full
+     */
+    boolean offer(Process process) {
+        long position = enqueuePosition.get();
+        int index;
+        while (true) {
+            index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = enqueuePosition.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = enqueuePosition.get();
+            }
+        }
+        buffer.lazySet(index, process);
+        sequences.lazySet(index, position + 1);
+        return true;
+    }
+
+    /**
+     * @return the head process, or null if the queue is empty
+     */
+    Process poll() {
+        long position = dequeuePosition.get();
+        int index;
+        while (true) {
+            index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = dequeuePosition.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = dequeuePosition.get();
+            }
+        }
+        Process process = buffer.get(index);
+        buffer.lazySet(index, null);
+        sequences.lazySet(index, position + mask + 1);
+        return process;
+    }
+
+    /**
+     * Approximate size from the two position counters - O(1), never blocks
+     */
+    int size() {
+        while (true) {
+            long dequeued = dequeuePosition.get();
+            long enqueued = enqueuePosition.get();
+            if (dequeued == dequeuePosition.get()) {
+                long size = enqueued - dequeued;
+                return (int) Math.max(0, Math.min(size, capacity()));
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return enqueuePosition.get() <= dequeuePosition.get();
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,37 @@
+package com.ossimulator.manager.scheduler;
+
+import java.util.Arrays;
+
+/**
+ * Per-process scheduler state indexed directly by pid. Replaces Map&lt;Integer, V&gt;
+ * on the dispatch path: lookups do not box the pid and do not allocate.
+ * Grows by doubling to fit the largest pid seen. Not thread-safe - callers guard it
+ * with their own lock.
+ */
+class PidMap<V> {
+    //==========================================Variable==========================================
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Object[] values;
+
+    //========================================Constructor=========================================
+    PidMap() {
+        this.values = new Object[INITIAL_CAPACITY];
+    }
+
+    //===========================================Method===========================================
+    @SuppressWarnings("unchecked")
+    V get(int pid) {
+        return pid >= 0 && pid < values.length ? (V) values[pid] : null;
+    }
+
+    void put(int pid, V value) {
+        if (pid < 0) {
+            throw new IllegalArgumentException("pid must be >= 0: " + pid);
+        }
+        if (pid >= values.length) {
+            values = Arrays.copyOf(values, Math.max(values.length << 1, Integer.highestOneBit(pid) << 1));
+        }
+        values[pid] = value;
+    }
+}
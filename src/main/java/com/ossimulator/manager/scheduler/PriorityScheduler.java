@@ -1,33 +1,53 @@
 package com.ossimulator.manager.scheduler;
 
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Queue;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.locks.ReentrantLock;
 
 import com.ossimulator.model.component.ProcessState;
 import com.ossimulator.model.main.Process;
 
+/**
+ * Solaris-style dispatch table: one FIFO ring per priority level plus a bitmap of
+ * non-empty levels. Picking the highest non-empty level is a bit scan
+ * (Long.numberOfTrailingZeros per 64 levels) and size is a counter, so
+ * isEmpty()/size() never take the lock. Priority 1 is the highest.
+ */
 public class PriorityScheduler implements Scheduler {
     //==========================================Variable==========================================
-    private static final int MAX_PRIORITY_LEVELS = 10;
+    public static final int DEFAULT_PRIORITY_LEVELS = 10;
+    public static final int SOLARIS_PRIORITY_LEVELS = 160;
+    private static final int INITIAL_LEVEL_CAPACITY = 16;
 
-    private final Map<Integer, Queue<Process>> priorityQueues;
+    private final ProcessRing[] levels;
+    private final long[] bitmap;
+    private final int priorityLevels;
     private final int timeQuantum;
     private final ReentrantLock lock;
+    private volatile int size;
 
+    //========================================Constructor=========================================
     public PriorityScheduler(int timeQuantum) {
-        this.priorityQueues = new HashMap<>();
+        this(timeQuantum, DEFAULT_PRIORITY_LEVELS);
+    }
+
+    public PriorityScheduler(int timeQuantum, int priorityLevels) {
+        if (priorityLevels < 1) {
+            throw new IllegalArgumentException("priorityLevels must be >= 1: " + priorityLevels);
+        }
+        this.priorityLevels = priorityLevels;
+        this.levels = new ProcessRing[priorityLevels];
+        this.bitmap = new long[(priorityLevels + 63) >>> 6];
         this.timeQuantum = timeQuantum;
         this.lock = new ReentrantLock();
+        this.size = 0;
 
-        for (int i = 1; i <= MAX_PRIORITY_LEVELS; i++) {
-            priorityQueues.put(i, new LinkedList<>());
+        for (int i = 0; i < priorityLevels; i++) {
+            levels[i] = new ProcessRing(INITIAL_LEVEL_CAPACITY);
         }
     }
 
+    //===========================================Method===========================================
     @Override
     public void addProcess(Process process) {
         lock.lock();
@@ -35,25 +55,21 @@ public class PriorityScheduler implements Scheduler {
             if (process.getState() == ProcessState.CREATED) {
                 process.setState(ProcessState.READY_MEMORY);
             }
-
-            int priority = Math.min(Math.max(process.getPriority(), 1), MAX_PRIORITY_LEVELS);
-            priorityQueues.get(priority).offer(process);
+            enqueue(process, levelOf(process.getPriority()));
         } finally {
             lock.unlock();
         }
     }
 
     @Override
-    public Optional<Process> selectNext() {
+    public Process pollNext() {
         lock.lock();
         try {
-            for (int priority = 1; priority <= MAX_PRIORITY_LEVELS; priority++) {
-                Queue<Process> queue = priorityQueues.get(priority);
-                if (!queue.isEmpty()) {
-                    return Optional.of(queue.poll());
-                }
+            int level = highestReadyLevel();
+            if (level < 0) {
+                return null;
             }
-            return Optional.empty();
+            return dequeue(level);
         } finally {
             lock.unlock();
         }
@@ -64,8 +80,7 @@ public class PriorityScheduler implements Scheduler {
         lock.lock();
         try {
             if (!process.isCompleted() && process.getState() == ProcessState.READY_MEMORY) {
-                int priority = Math.min(Math.max(process.getPriority(), 1), MAX_PRIORITY_LEVELS);
-                priorityQueues.get(priority).offer(process);
+                enqueue(process, levelOf(process.getPriority()));
             }
         } finally {
             lock.unlock();
@@ -75,12 +90,14 @@ public class PriorityScheduler implements Scheduler {
     public void changePriority(Process process, int newPriority) {
         lock.lock();
         try {
-            int oldPriority = process.getPriority();
-            Queue<Process> oldQueue = priorityQueues.get(oldPriority);
-
-            if (oldQueue.remove(process)) {
+            int oldLevel = levelOf(process.getPriority());
+            if (levels[oldLevel].remove(process)) {
+                if (levels[oldLevel].isEmpty()) {
+                    clearBit(oldLevel);
+                }
+                size--;
                 process.setPriority(newPriority);
-                priorityQueues.get(newPriority).offer(process);
+                enqueue(process, levelOf(newPriority));
             }
         } finally {
             lock.unlock();
@@ -88,23 +105,43 @@ public class PriorityScheduler implements Scheduler {
     }
 
     @Override
-    public boolean isEmpty() {
+    public boolean remove(Process process) {
         lock.lock();
         try {
-            return priorityQueues.values().stream()
-                    .allMatch(Queue::isEmpty);
+            int level = levelOf(process.getPriority());
+            if (!levels[level].remove(process)) {
+                return false;
+            }
+            if (levels[level].isEmpty()) {
+                clearBit(level);
+            }
+            size--;
+            return true;
         } finally {
             lock.unlock();
         }
     }
 
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
     @Override
     public int size() {
+        return size;
+    }
+
+    @Override
+    public List<Process> drain() {
         lock.lock();
         try {
-            return priorityQueues.values().stream()
-                    .mapToInt(Queue::size)
-                    .sum();
+            List<Process> drained = new ArrayList<>(size);
+            int level;
+            while ((level = highestReadyLevel()) >= 0) {
+                drained.add(dequeue(level));
+            }
+            return drained;
         } finally {
             lock.unlock();
         }
@@ -120,18 +157,73 @@ public class PriorityScheduler implements Scheduler {
         return "Priority Scheduler (quantum=" + timeQuantum + "ms)";
     }
 
+    public int getPriorityLevels() {
+        return priorityLevels;
+    }
+
+    /**
+     * Number of processes queued at one priority level
+     */
+    public int sizeAt(int priority) {
+        lock.lock();
+        try {
+            return levels[levelOf(priority)].size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
     public void printQueues() {
         lock.lock();
         try {
             System.out.println("=== Priority Queues ===");
-            for (int i = 1; i <= MAX_PRIORITY_LEVELS; i++) {
-                Queue<Process> q = priorityQueues.get(i);
-                if (!q.isEmpty()) {
-                    System.out.printf("Priority %d: %s%n", i, q);
+            for (int i = 0; i < priorityLevels; i++) {
+                if (!levels[i].isEmpty()) {
+                    System.out.printf("Priority %d: %s%n", i + 1, levels[i]);
                 }
             }
         } finally {
             lock.unlock();
         }
     }
+
+    //==========================================Bitmap============================================
+    /**
+     * Map a priority value (1 = highest) to a level index, clamped to the table
+     */
+    private int levelOf(int priority) {
+        return Math.min(Math.max(priority, 1), priorityLevels) - 1;
+    }
+
+    private void enqueue(Process process, int level) {
+        levels[level].offer(process);
+        bitmap[level >>> 6] |= 1L << level;
+        size++;
+    }
+
+    private Process dequeue(int level) {
+        Process process = levels[level].poll();
+        if (levels[level].isEmpty()) {
+            clearBit(level);
+        }
+        size--;
+        return process;
+    }
+
+    private void clearBit(int level) {
+        bitmap[level >>> 6] &= ~(1L << level);
+    }
+
+    /**
+     * Lowest set bit = highest priority non-empty level, or -1
+     */
+    private int highestReadyLevel() {
+        for (int word = 0; word < bitmap.length; word++) {
+            long bits = bitmap[word];
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return -1;
+    }
 }
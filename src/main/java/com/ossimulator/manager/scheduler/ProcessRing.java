@@ -0,0 +1,164 @@
+package com.ossimulator.manager.scheduler;
+
+import java.util.Arrays;
+
+import com.ossimulator.model.main.Process;
+
+/**
+ * Array-backed FIFO ring of processes (one per ready-queue level).
+ * Each queued process remembers its array slot (Process.readyQueueSlot), so remove
+ * is O(1): the slot is nulled and skipped later. A process sits in at most one ring
+ * at a time. Grows by doubling, or compacts the holes in place when at most half the
+ * slots are live; offer/poll do not allocate in steady state. Not thread-safe -
+ * callers guard it with their own lock.
+ */
+class ProcessRing {
+    //==========================================Variable==========================================
+    private Process[] elements;
+    private int head;                       // Slot of the oldest live process
+    private int span;                       // Slots in use from head, holes included
+    private int size;                       // Live processes
+
+    //========================================Constructor=========================================
+    ProcessRing(int initialCapacity) {
+        this.elements = new Process[Integer.highestOneBit(Math.max(initialCapacity, 2) - 1) << 1];
+        this.head = 0;
+        this.span = 0;
+        this.size = 0;
+    }
+
+    //===========================================Method===========================================
+    void offer(Process process) {
+        if (span == elements.length) {
+            if (size > elements.length >>> 1) {
+                grow();
+            } else {
+                compact();
+            }
+        }
+        int slot = (head + span) & (elements.length - 1);
+        elements[slot] = process;
+        process.setReadyQueueSlot(slot);
+        span++;
+        size++;
+    }
+
+    Process poll() {
+        if (size == 0) {
+            return null;
+        }
+        Process process = elements[head];
+        elements[head] = null;
+        head = (head + 1) & (elements.length - 1);
+        span--;
+        size--;
+        skipHoles();
+        return process;
+    }
+
+    Process peek() {
+        return size == 0 ? null : elements[head];
+    }
+
+    /**
+     * Remove a specific process, keeping FIFO order of the rest - O(1) through its slot
+     */
+    boolean remove(Process process) {
+        int slot = process.getReadyQueueSlot();
+        if (slot < 0 || slot >= elements.length || elements[slot] != process) {
+            return false;
+        }
+        elements[slot] = null;
+        size--;
+        if (slot == head) {
+            skipHoles();
+        } else if (slot == ((head + span - 1) & (elements.length - 1))) {
+            span--;
+            while (span > 0 && elements[(head + span - 1) & (elements.length - 1)] == null) {
+                span--;
+            }
+        }
+        return true;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Copy the queued processes in FIFO order
+     */
+    Process[] toArray() {
+        Process[] copy = new Process[size];
+        int count = 0;
+        for (int i = 0; i < span; i++) {
+            Process process = elements[(head + i) & (elements.length - 1)];
+            if (process != null) {
+                copy[count++] = process;
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Advance head past removed slots so it always names a live process (or the ring is empty)
+     */
+    private void skipHoles() {
+        if (size == 0) {
+            head = 0;
+            span = 0;
+            return;
+        }
+        while (elements[head] == null) {
+            head = (head + 1) & (elements.length - 1);
+            span--;
+        }
+    }
+
+    /**
+     * Slide the live processes together in FIFO order, from head, without allocating
+     */
+    private void compact() {
+        int mask = elements.length - 1;
+        int live = 0;
+        for (int i = 0; i < span; i++) {
+            int from = (head + i) & mask;
+            Process process = elements[from];
+            if (process != null) {
+                int to = (head + live) & mask;
+                if (to != from) {
+                    elements[to] = process;
+                    elements[from] = null;
+                    process.setReadyQueueSlot(to);
+                }
+                live++;
+            }
+        }
+        span = live;
+    }
+
+    private void grow() {
+        Process[] grown = new Process[elements.length << 1];
+        int live = 0;
+        for (int i = 0; i < span; i++) {
+            Process process = elements[(head + i) & (elements.length - 1)];
+            if (process != null) {
+                grown[live] = process;
+                process.setReadyQueueSlot(live);
+                live++;
+            }
+        }
+        elements = grown;
+        head = 0;
+        span = live;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
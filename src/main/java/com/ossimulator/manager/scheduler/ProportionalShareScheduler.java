@@ -0,0 +1,419 @@
+package com.ossimulator.manager.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.ossimulator.model.component.ProcessState;
+import com.ossimulator.model.main.Process;
+
+/**
+ * Base for proportional-share schedulers (lottery, stride). Owns the ticket accounting:
+ * tickets derived from priority, ticket transfer from a waiting parent to its child,
+ * and the actual vs entitled CPU share report. Subclasses only supply the ready-queue
+ * structure that turns tickets into a selection.
+ *
+ * Entitlement is tracked like CFS's min_vruntime: a global "CPU per ticket" counter grows by
+ * executed / runnable tickets on every slice, and each process settles
+ * tickets × (counter - its mark) whenever its tickets or runnability change - O(1) per slice.
+ */
+public abstract class ProportionalShareScheduler implements Scheduler {
+    //==========================================Variable==========================================
+    public static final int DEFAULT_TICKET_BASE = 100;
+    public static final int MIN_TICKETS = 1;
+
+    protected final ReentrantLock lock;
+    private final PidMap<Share> shares;
+    private final int timeQuantum;
+    private final int ticketBase;
+
+    private long runnableTickets;
+    private double entitlementPerTicket;
+    private long totalCpuTime;
+    private volatile int size;
+
+    //========================================Constructor=========================================
+    protected ProportionalShareScheduler(int timeQuantum, int ticketBase) {
+        if (ticketBase < 1) {
+            throw new IllegalArgumentException("ticketBase must be >= 1: " + ticketBase);
+        }
+        this.lock = new ReentrantLock();
+        this.shares = new PidMap<>();
+        this.timeQuantum = timeQuantum;
+        this.ticketBase = ticketBase;
+        this.runnableTickets = 0;
+        this.entitlementPerTicket = 0;
+        this.totalCpuTime = 0;
+        this.size = 0;
+    }
+
+    //======================================Ready Queue Hooks=====================================
+    /** Insert a runnable share into the ready structure */
+    protected abstract void enqueue(Share share);
+
+    /** Remove and return the next share to run, or null if none is queued */
+    protected abstract Share dequeue();
+
+    /** Remove a specific queued share from the ready structure */
+    protected abstract void unqueue(Share share);
+
+    /** Tickets of a share changed (it may currently be queued) */
+    protected abstract void ticketsChanged(Share share, int oldTickets);
+
+    /** The share ran for executedTime ms (it is not queued) */
+    protected void charged(Share share, int executedTime) {
+    }
+
+    //===========================================Method===========================================
+    @Override
+    public void addProcess(Process process) {
+        lock.lock();
+        try {
+            if (process.getState() == ProcessState.CREATED) {
+                process.setState(ProcessState.READY_MEMORY);
+            }
+            push(shareOf(process));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Process pollNext() {
+        lock.lock();
+        try {
+            Share share = dequeue();
+            if (share == null) {
+                return null;
+            }
+            share.queued = false;
+            size--;
+            return share.process;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void requeue(Process process) {
+        lock.lock();
+        try {
+            if (!process.isCompleted() && process.getState() == ProcessState.READY_MEMORY) {
+                push(shareOf(process));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Accrue entitlement for every runnable process and charge the runner
+     */
+    @Override
+    public void onExecuted(Process process, int executedTime) {
+        lock.lock();
+        try {
+            Share share = shares.get(process.getPid());
+            if (share == null) {
+                return;
+            }
+            if (runnableTickets > 0) {
+                entitlementPerTicket += (double) executedTime / runnableTickets;
+            }
+            totalCpuTime += executedTime;
+            share.cpuTime += executedTime;
+            charged(share, executedTime);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onBlocked(Process process) {
+        lock.lock();
+        try {
+            Share share = shares.get(process.getPid());
+            if (share != null) {
+                leave(share);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ticket transfer: the waiting parent lends all but MIN_TICKETS of its tickets
+     * to the child; they come back when the child exits
+     */
+    @Override
+    public void onWaitForChild(Process parent, Process child) {
+        lock.lock();
+        try {
+            Share lender = shareOf(parent);
+            Share borrower = shareOf(child);
+            int amount = lender.tickets - MIN_TICKETS;
+            if (amount <= 0 || lender == borrower) {
+                return;
+            }
+            setTickets(lender, lender.tickets - amount);
+            setTickets(borrower, borrower.tickets + amount);
+            borrower.loans.add(new Loan(lender, amount));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * An exiting process leaves the runnable set and hands lent tickets back to its lenders
+     */
+    @Override
+    public void onExit(Process process) {
+        lock.lock();
+        try {
+            Share share = shares.get(process.getPid());
+            if (share == null) {
+                return;
+            }
+            if (share.queued) {
+                unqueue(share);
+                share.queued = false;
+                size--;
+            }
+            leave(share);
+            returnLoans(share);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take a queued share off the ready structure; it stops accruing entitlement like a blocked one
+     */
+    @Override
+    public boolean remove(Process process) {
+        lock.lock();
+        try {
+            Share share = shares.get(process.getPid());
+            if (share == null || !share.queued) {
+                return false;
+            }
+            unqueue(share);
+            share.queued = false;
+            leave(share);
+            size--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<Process> drain() {
+        lock.lock();
+        try {
+            List<Process> drained = new ArrayList<>(size);
+            Share share;
+            while ((share = dequeue()) != null) {
+                share.queued = false;
+                leave(share);
+                drained.add(share.process);
+            }
+            size = 0;
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getTimeQuantum() {
+        return timeQuantum;
+    }
+
+    /**
+     * Actual vs entitled CPU share per process
+     */
+    @Override
+    public void printStatistics(List<Process> processes) {
+        lock.lock();
+        try {
+            System.out.println("+-----------------------------------------------------------+");
+            System.out.println("| CPU SHARE (actual vs entitled)                            |");
+            System.out.println("+-----------------------------------------------------------+");
+            System.out.printf("| %-12s | %-8s | %-10s | %-12s | %-6s |%n",
+                    "Process", "Tickets", "CPU(ms)", "Actual%", "Entl%");
+            for (Process p : processes) {
+                Share share = shares.get(p.getPid());
+                if (share != null) {
+                    System.out.printf("| %-12s | %-8d | %-10d | %-12.1f | %-6.1f |%n",
+                            p.getName(), share.tickets, share.cpuTime,
+                            percentOfCpu(share.cpuTime), percentOfCpu(entitled(share)));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //==========================================Get Set===========================================
+    public int getTicketBase() { return ticketBase; }
+
+    public int getTickets(Process process) {
+        lock.lock();
+        try {
+            Share share = shares.get(process.getPid());
+            return share == null ? ticketsFor(process.getPriority()) : share.tickets;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Fraction of all dispatched CPU time the process actually received
+     */
+    public double getActualShare(Process process) {
+        lock.lock();
+        try {
+            Share share = shares.get(process.getPid());
+            return share == null || totalCpuTime == 0 ? 0 : (double) share.cpuTime / totalCpuTime;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Fraction of all dispatched CPU time the process' tickets entitled it to
+     * while it was runnable
+     */
+    public double getEntitledShare(Process process) {
+        lock.lock();
+        try {
+            Share share = shares.get(process.getPid());
+            return share == null || totalCpuTime == 0 ? 0 : entitled(share) / totalCpuTime;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tickets for a priority value: priority 1 (highest) gets 10 × base, 10 gets 1 × base
+     */
+    public int ticketsFor(int priority) {
+        int level = Math.min(Math.max(priority, 1), PriorityScheduler.DEFAULT_PRIORITY_LEVELS);
+        return (PriorityScheduler.DEFAULT_PRIORITY_LEVELS + 1 - level) * ticketBase;
+    }
+
+    //==========================================Accounting========================================
+    private Share shareOf(Process process) {
+        Share share = shares.get(process.getPid());
+        if (share == null) {
+            share = new Share(process, ticketsFor(process.getPriority()));
+            shares.put(process.getPid(), share);
+        }
+        return share;
+    }
+
+    private void push(Share share) {
+        if (share.queued) {
+            return;
+        }
+        join(share);
+        share.queued = true;
+        enqueue(share);
+        size++;
+    }
+
+    private void join(Share share) {
+        if (!share.runnable) {
+            share.runnable = true;
+            share.mark = entitlementPerTicket;
+            runnableTickets += share.tickets;
+        }
+    }
+
+    private void leave(Share share) {
+        if (share.runnable) {
+            settle(share);
+            share.runnable = false;
+            runnableTickets -= share.tickets;
+        }
+    }
+
+    private void settle(Share share) {
+        share.entitled += share.tickets * (entitlementPerTicket - share.mark);
+        share.mark = entitlementPerTicket;
+    }
+
+    private double entitled(Share share) {
+        return share.runnable
+                ? share.entitled + share.tickets * (entitlementPerTicket - share.mark)
+                : share.entitled;
+    }
+
+    private void setTickets(Share share, int tickets) {
+        int oldTickets = share.tickets;
+        if (share.runnable) {
+            settle(share);
+            runnableTickets += tickets - oldTickets;
+        }
+        share.tickets = tickets;
+        ticketsChanged(share, oldTickets);
+    }
+
+    private void returnLoans(Share borrower) {
+        for (Loan loan : borrower.loans) {
+            setTickets(loan.lender, loan.lender.tickets + loan.amount);
+            setTickets(borrower, Math.max(MIN_TICKETS, borrower.tickets - loan.amount));
+        }
+        borrower.loans.clear();
+    }
+
+    private double percentOfCpu(double time) {
+        return totalCpuTime == 0 ? 0 : 100.0 * time / totalCpuTime;
+    }
+
+    //=========================================Inner Class========================================
+    /**
+     * Per-process ticket state; subclasses keep their queue position in slot / pass
+     */
+    protected static final class Share {
+        final Process process;
+        final List<Loan> loans;
+        int tickets;
+        int slot;
+        long pass;
+        long sequence;
+        long cpuTime;
+        double entitled;
+        double mark;
+        boolean queued;
+        boolean runnable;
+
+        Share(Process process, int tickets) {
+            this.process = process;
+            this.loans = new ArrayList<>(0);
+            this.tickets = tickets;
+            this.slot = -1;
+        }
+    }
+
+    private static final class Loan {
+        final Share lender;
+        final int amount;
+
+        Loan(Share lender, int amount) {
+            this.lender = lender;
+            this.amount = amount;
+        }
+    }
+}
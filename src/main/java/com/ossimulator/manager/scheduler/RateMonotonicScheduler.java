@@ -0,0 +1,30 @@
+package com.ossimulator.manager.scheduler;
+
+import com.ossimulator.manager.process.AdmissionPolicy;
+import com.ossimulator.model.component.RealTimeTask;
+
+/**
+ * Rate monotonic: fixed priorities, the task with the shortest period runs first
+ */
+public class RateMonotonicScheduler extends DeadlineScheduler {
+    //========================================Constructor=========================================
+    public RateMonotonicScheduler(int timeQuantum) {
+        super(timeQuantum);
+    }
+
+    //===========================================Method===========================================
+    @Override
+    protected long keyOf(RealTimeTask task) {
+        return task.getPeriod();
+    }
+
+    @Override
+    public AdmissionPolicy getAdmissionPolicy() {
+        return AdmissionPolicy.RATE_MONOTONIC;
+    }
+
+    @Override
+    public String getName() {
+        return "Rate Monotonic (quantum=" + getTimeQuantum() + "ms)";
+    }
+}
@@ -3,18 +3,19 @@ package com.ossimulator.manager.scheduler;
 import com.ossimulator.model.main.Process;
 import com.ossimulator.model.component.ProcessState;
 
-import java.util.LinkedList;
-import java.util.Optional;
-import java.util.Queue;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.locks.ReentrantLock;
 
 public class RoundRobinScheduler implements Scheduler {
-    private final Queue<Process> readyQueue;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ProcessRing readyQueue;
     private final int timeQuantum;
     private final ReentrantLock lock;
 
     public RoundRobinScheduler(int timeQuantum) {
-        this.readyQueue = new LinkedList<>();
+        this.readyQueue = new ProcessRing(INITIAL_CAPACITY);
         this.timeQuantum = timeQuantum;
         this.lock = new ReentrantLock();
     }
@@ -33,11 +34,10 @@ public class RoundRobinScheduler implements Scheduler {
     }
 
     @Override
-    public Optional<Process> selectNext() {
+    public Process pollNext() {
         lock.lock();
         try {
-            Process next = readyQueue.poll();
-            return Optional.ofNullable(next);
+            return readyQueue.poll();
         } finally {
             lock.unlock();
         }
@@ -55,6 +55,16 @@ public class RoundRobinScheduler implements Scheduler {
         }
     }
 
+    @Override
+    public boolean remove(Process process) {
+        lock.lock();
+        try {
+            return readyQueue.remove(process);
+        } finally {
+            lock.unlock();
+        }
+    }
+
     @Override
     public boolean isEmpty() {
         lock.lock();
@@ -75,6 +85,21 @@ public class RoundRobinScheduler implements Scheduler {
         }
     }
 
+    @Override
+    public List<Process> drain() {
+        lock.lock();
+        try {
+            List<Process> drained = new ArrayList<>(readyQueue.size());
+            Process process;
+            while ((process = readyQueue.poll()) != null) {
+                drained.add(process);
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     @Override
     public int getTimeQuantum() {
         return timeQuantum;
@@ -1,15 +1,100 @@
 package com.ossimulator.manager.scheduler;
 
+import java.util.List;
 import java.util.Optional;
 
+import com.ossimulator.manager.process.AdmissionPolicy;
 import com.ossimulator.model.main.Process;
 
 public interface Scheduler {
     void addProcess(Process process);
-    Optional<Process> selectNext();
+
+    /**
+     * Remove and return the next process to run, or null if the ready queue is empty.
+     * Used on the kernel's hot path so dispatching does not allocate.
+     */
+    Process pollNext();
+
+    default Optional<Process> selectNext() {
+        return Optional.ofNullable(pollNext());
+    }
+
     void requeue(Process process);
     boolean isEmpty();
     int size();
+
+    /**
+     * Remove and return every queued process in dispatch order
+     * (used to migrate the ready queue when switching policies)
+     */
+    List<Process> drain();
+
+    /**
+     * Take one queued process off the ready queue (the swapper uses this to swap out a
+     * ready process), leaving the order of the others unchanged. The built-in schedulers
+     * override this; the default drains and re-adds the others through addProcess, which
+     * is O(n log n) for heaps and may reorder ties.
+     * @return false if the process was not queued
+     */
+    default boolean remove(Process process) {
+        List<Process> queued = drain();
+        boolean removed = queued.remove(process);
+        for (Process other : queued) {
+            addProcess(other);
+        }
+        return removed;
+    }
+
     int getTimeQuantum();
     String getName();
+
+    /**
+     * Length of the slice the just-selected process may run for.
+     * Fixed-quantum policies return getTimeQuantum().
+     */
+    default int getTimeSlice(Process process) {
+        return getTimeQuantum();
+    }
+
+    /**
+     * Charge a process for the CPU time it used in its last slice,
+     * called after execute() and before requeue()
+     */
+    default void onExecuted(Process process, int executedTime) {
+    }
+
+    /**
+     * The process gave up the CPU to block on I/O before its slice ended
+     */
+    default void onBlocked(Process process) {
+    }
+
+    /**
+     * A parent started waiting for its child (proportional-share policies lend the
+     * parent's tickets to the child until it exits)
+     */
+    default void onWaitForChild(Process parent, Process child) {
+    }
+
+    /**
+     * The process exited, at the end of its slice or killed while still queued.
+     * Called by the kernel on every exit path; the default takes it off the ready queue,
+     * policies with per-process state also release it here.
+     */
+    default void onExit(Process process) {
+        remove(process);
+    }
+
+    /**
+     * Schedulability test ProcessManager.admit applies to real-time tasks under this policy
+     */
+    default AdmissionPolicy getAdmissionPolicy() {
+        return AdmissionPolicy.NONE;
+    }
+
+    /**
+     * Print policy-specific per-process statistics (nothing by default)
+     */
+    default void printStatistics(List<Process> processes) {
+    }
 }
@@ -0,0 +1,96 @@
+package com.ossimulator.manager.scheduler;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration passed to a SchedulerProvider: the time quantum plus
+ * policy-specific properties (e.g. "levels=160" for PRIORITY).
+ */
+public class SchedulerConfig {
+    //==========================================Variable==========================================
+    private final int timeQuantum;
+    private final Map<String, String> properties;
+
+    //========================================Constructor=========================================
+    public SchedulerConfig(int timeQuantum) {
+        this.timeQuantum = timeQuantum;
+        this.properties = new LinkedHashMap<>();
+    }
+
+    public SchedulerConfig(int timeQuantum, Map<String, String> properties) {
+        this.timeQuantum = timeQuantum;
+        this.properties = new LinkedHashMap<>(properties);
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Parse "key=value,key=value" into a config
+     */
+    public static SchedulerConfig parse(int timeQuantum, String spec) {
+        SchedulerConfig config = new SchedulerConfig(timeQuantum);
+        if (spec == null || spec.isBlank()) {
+            return config;
+        }
+        for (String pair : spec.split(",")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Invalid scheduler property: " + pair);
+            }
+            config.setProperty(pair.substring(0, eq).trim(), pair.substring(eq + 1).trim());
+        }
+        return config;
+    }
+
+    /**
+     * Parse the properties of a selection "NAME" or "NAME:key=value,key=value"
+     */
+    public static SchedulerConfig parseSelection(int timeQuantum, String selection) {
+        int colon = selection.indexOf(':');
+        return parse(timeQuantum, colon < 0 ? null : selection.substring(colon + 1));
+    }
+
+    /**
+     * Policy name of a selection "NAME" or "NAME:key=value,key=value"
+     */
+    public static String policyName(String selection) {
+        int colon = selection.indexOf(':');
+        return (colon < 0 ? selection : selection.substring(0, colon)).trim();
+    }
+
+    public String getString(String key, String defaultValue) {
+        return properties.getOrDefault(key, defaultValue);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String value = properties.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    public long getLong(String key, long defaultValue) {
+        String value = properties.get(key);
+        return value == null ? defaultValue : Long.parseLong(value);
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        String value = properties.get(key);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = properties.get(key);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    //==========================================Get Set===========================================
+    public int getTimeQuantum() { return timeQuantum; }
+    public Map<String, String> getProperties() { return Collections.unmodifiableMap(properties); }
+
+    public void setProperty(String key, String value) { properties.put(key, value); }
+
+    @Override
+    public String toString() {
+        return "SchedulerConfig[quantum=" + timeQuantum + ", " + properties + "]";
+    }
+}
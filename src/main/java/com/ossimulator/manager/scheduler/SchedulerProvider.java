@@ -0,0 +1,24 @@
+package com.ossimulator.manager.scheduler;
+
+/**
+ * Service provider for a scheduling policy.
+ * Implementations are discovered with java.util.ServiceLoader through
+ * META-INF/services/com.ossimulator.manager.scheduler.SchedulerProvider,
+ * so a new policy plugs in without editing Kernel.
+ */
+public interface SchedulerProvider {
+    /**
+     * Registry key, e.g. "ROUND_ROBIN"
+     */
+    String getName();
+
+    /**
+     * One-line description for help output and the GUI
+     */
+    String getDescription();
+
+    /**
+     * Create a new, empty scheduler instance
+     */
+    Scheduler create(SchedulerConfig config);
+}
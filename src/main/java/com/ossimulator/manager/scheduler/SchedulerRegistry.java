@@ -0,0 +1,91 @@
+package com.ossimulator.manager.scheduler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of scheduling policies by name.
+ * The default registry is filled once from ServiceLoader - META-INF/services lists the
+ * built-in providers, so it must be on the classpath; further providers can be
+ * registered programmatically.
+ */
+public class SchedulerRegistry {
+    //==========================================Variable==========================================
+    private static volatile SchedulerRegistry defaultRegistry;
+
+    private final Map<String, SchedulerProvider> providers;
+
+    //========================================Constructor=========================================
+    public SchedulerRegistry() {
+        this.providers = new LinkedHashMap<>();
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Shared registry populated from ServiceLoader on first use
+     */
+    public static SchedulerRegistry getDefault() {
+        SchedulerRegistry registry = defaultRegistry;
+        if (registry == null) {
+            synchronized (SchedulerRegistry.class) {
+                registry = defaultRegistry;
+                if (registry == null) {
+                    registry = new SchedulerRegistry();
+                    registry.loadServices(SchedulerRegistry.class.getClassLoader());
+                    defaultRegistry = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Register every SchedulerProvider visible to the class loader
+     */
+    public synchronized void loadServices(ClassLoader classLoader) {
+        for (SchedulerProvider provider : ServiceLoader.load(SchedulerProvider.class, classLoader)) {
+            register(provider);
+        }
+    }
+
+    public synchronized void register(SchedulerProvider provider) {
+        providers.put(normalize(provider.getName()), provider);
+    }
+
+    public synchronized boolean contains(String name) {
+        return providers.containsKey(normalize(name));
+    }
+
+    public synchronized SchedulerProvider getProvider(String name) {
+        SchedulerProvider provider = providers.get(normalize(name));
+        if (provider == null) {
+            throw new IllegalArgumentException("Unknown scheduler: " + name + " (available: " + providers.keySet() + ")");
+        }
+        return provider;
+    }
+
+    /**
+     * Create a new scheduler instance of the named policy
+     */
+    public Scheduler create(String name, SchedulerConfig config) {
+        return getProvider(name).create(config);
+    }
+
+    /**
+     * Registered policy names, in registration order
+     */
+    public synchronized List<String> getNames() {
+        return new ArrayList<>(providers.keySet());
+    }
+
+    public synchronized List<SchedulerProvider> getProviders() {
+        return new ArrayList<>(providers.values());
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toUpperCase();
+    }
+}
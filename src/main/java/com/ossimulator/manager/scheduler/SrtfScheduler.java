@@ -0,0 +1,359 @@
+package com.ossimulator.manager.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.ossimulator.model.component.ProcessState;
+import com.ossimulator.model.main.Process;
+
+/**
+ * Shortest-job-first / shortest-remaining-time-first over an indexed binary min-heap.
+ * Each entry remembers its heap slot, so insert, remove-min and remove are all
+ * O(log n) without re-sorting the queue. A key is computed when the process is queued;
+ * only the running process (which is not in the heap) accumulates burst time.
+ *
+ * Keys are the remaining burst time, or - in prediction mode, for workloads whose burst
+ * length is unknown - the exponential average τ(n+1) = α·t(n) + (1 - α)·τ(n) of the
+ * CPU bursts each process has actually used. Non-preemptive (SJF) runs the selected
+ * process until it exits or blocks; preemptive (SRTF) re-checks the heap every quantum.
+ */
+public class SrtfScheduler implements Scheduler {
+    //==========================================Variable==========================================
+    public static final double DEFAULT_ALPHA = 0.5;
+    public static final int DEFAULT_INITIAL_ESTIMATE = 10;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Entry[] heap;
+    private final PidMap<Entry> entries;
+    private final int timeQuantum;
+    private final boolean preemptive;
+    private final boolean predictBursts;
+    private final double alpha;
+    private final int initialEstimate;
+    private final ReentrantLock lock;
+
+    private long sequence;
+    private volatile int size;
+
+    //========================================Constructor=========================================
+    /**
+     * Preemptive SRTF keyed on the known remaining time
+     */
+    public SrtfScheduler(int timeQuantum) {
+        this(timeQuantum, true, false, DEFAULT_ALPHA, DEFAULT_INITIAL_ESTIMATE);
+    }
+
+    public SrtfScheduler(int timeQuantum, boolean preemptive, boolean predictBursts,
+                         double alpha, int initialEstimate) {
+        if (alpha < 0 || alpha > 1) {
+            throw new IllegalArgumentException("alpha must be in [0, 1]: " + alpha);
+        }
+        this.heap = new Entry[INITIAL_CAPACITY];
+        this.entries = new PidMap<>();
+        this.timeQuantum = timeQuantum;
+        this.preemptive = preemptive;
+        this.predictBursts = predictBursts;
+        this.alpha = alpha;
+        this.initialEstimate = initialEstimate;
+        this.lock = new ReentrantLock();
+        this.sequence = 0;
+        this.size = 0;
+    }
+
+    //===========================================Method===========================================
+    @Override
+    public void addProcess(Process process) {
+        lock.lock();
+        try {
+            if (process.getState() == ProcessState.CREATED) {
+                process.setState(ProcessState.READY_MEMORY);
+            }
+            insert(entryOf(process));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Process pollNext() {
+        lock.lock();
+        try {
+            if (size == 0) {
+                return null;
+            }
+            return removeAt(0).process;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void requeue(Process process) {
+        lock.lock();
+        try {
+            if (!process.isCompleted() && process.getState() == ProcessState.READY_MEMORY) {
+                insert(entryOf(process));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * SRTF re-evaluates every quantum; SJF keeps the CPU for the whole burst
+     */
+    @Override
+    public int getTimeSlice(Process process) {
+        return preemptive ? timeQuantum : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Accumulate the current burst; in non-preemptive mode a dispatch is a whole burst,
+     * so the estimate is updated right away
+     */
+    @Override
+    public void onExecuted(Process process, int executedTime) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(process.getPid());
+            if (entry == null) {
+                return;
+            }
+            entry.currentBurst += executedTime;
+            if (!preemptive || process.isCompleted()) {
+                endBurst(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onBlocked(Process process) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(process.getPid());
+            if (entry != null && entry.currentBurst > 0) {
+                endBurst(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Delete a queued entry at its heap slot - O(log n)
+     */
+    @Override
+    public boolean remove(Process process) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(process.getPid());
+            if (entry == null || entry.heapIndex < 0) {
+                return false;
+            }
+            removeAt(entry.heapIndex);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<Process> drain() {
+        lock.lock();
+        try {
+            List<Process> drained = new ArrayList<>(size);
+            while (size > 0) {
+                drained.add(removeAt(0).process);
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getTimeQuantum() {
+        return timeQuantum;
+    }
+
+    @Override
+    public String getName() {
+        String policy = preemptive ? "SRTF (quantum=" + timeQuantum + "ms" : "SJF (non-preemptive";
+        return predictBursts ? policy + ", predicted alpha=" + alpha + ")" : policy + ")";
+    }
+
+    @Override
+    public void printStatistics(List<Process> processes) {
+        if (!predictBursts) {
+            return;
+        }
+        System.out.println("+-----------------------------------------------------------+");
+        System.out.println("| BURST PREDICTION                                          |");
+        System.out.println("+-----------------------------------------------------------+");
+        System.out.printf("| %-12s | %-8s | %-10s | %-12s | %-6s |%n",
+                "Process", "Bursts", "Last(ms)", "Predict(ms)", "Burst");
+        for (Process p : processes) {
+            lock.lock();
+            try {
+                Entry entry = entries.get(p.getPid());
+                if (entry != null) {
+                    System.out.printf("| %-12s | %-8d | %-10d | %-12.2f | %-6d |%n",
+                            p.getName(), entry.burstCount, entry.lastBurst, entry.estimate, p.getBurstTime());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    //==========================================Get Set===========================================
+    public boolean isPreemptive() { return preemptive; }
+    public boolean isPredictingBursts() { return predictBursts; }
+    public double getAlpha() { return alpha; }
+
+    /**
+     * Current burst estimate τ of a process, or -1 if it was never queued here
+     */
+    public double getEstimate(Process process) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(process.getPid());
+            return entry == null ? -1 : entry.estimate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //============================================Heap============================================
+    private Entry entryOf(Process process) {
+        Entry entry = entries.get(process.getPid());
+        if (entry == null) {
+            entry = new Entry(process, initialEstimate);
+            entries.put(process.getPid(), entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Known remaining time, or the predicted remainder of the current burst
+     */
+    private long keyOf(Entry entry) {
+        if (!predictBursts) {
+            return entry.process.getRemainingTime();
+        }
+        return Math.max(0, Math.round(entry.estimate - entry.currentBurst));
+    }
+
+    private void endBurst(Entry entry) {
+        entry.lastBurst = entry.currentBurst;
+        entry.estimate = alpha * entry.currentBurst + (1 - alpha) * entry.estimate;
+        entry.burstCount++;
+        entry.currentBurst = 0;
+    }
+
+    private void insert(Entry entry) {
+        if (entry.heapIndex >= 0) {
+            return;
+        }
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length << 1);
+        }
+        entry.key = keyOf(entry);
+        entry.sequence = sequence++;
+        entry.heapIndex = size;
+        heap[size] = entry;
+        size++;
+        siftUp(entry.heapIndex);
+    }
+
+    private Entry removeAt(int index) {
+        Entry removed = heap[index];
+        int last = size - 1;
+        if (index != last) {
+            move(heap[last], index);
+        }
+        heap[last] = null;
+        size--;
+        removed.heapIndex = -1;
+        if (index < size) {
+            siftDown(index);
+            siftUp(index);
+        }
+        return removed;
+    }
+
+    private void siftUp(int index) {
+        Entry entry = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(entry, heap[parent])) {
+                break;
+            }
+            move(heap[parent], index);
+            index = parent;
+        }
+        move(entry, index);
+    }
+
+    private void siftDown(int index) {
+        Entry entry = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < size && less(heap[right], heap[child])) {
+                child = right;
+            }
+            if (!less(heap[child], entry)) {
+                break;
+            }
+            move(heap[child], index);
+            index = child;
+        }
+        move(entry, index);
+    }
+
+    private void move(Entry entry, int index) {
+        heap[index] = entry;
+        entry.heapIndex = index;
+    }
+
+    /**
+     * Shorter key first; equal keys in arrival order
+     */
+    private static boolean less(Entry a, Entry b) {
+        return a.key != b.key ? a.key < b.key : a.sequence < b.sequence;
+    }
+
+    //=========================================Inner Class========================================
+    private static final class Entry {
+        final Process process;
+        int heapIndex;
+        long key;
+        long sequence;
+        double estimate;
+        long currentBurst;
+        long lastBurst;
+        int burstCount;
+
+        Entry(Process process, int initialEstimate) {
+            this.process = process;
+            this.heapIndex = -1;
+            this.estimate = initialEstimate;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.ossimulator.manager.scheduler;
+
+import java.util.Arrays;
+
+/**
+ * Stride scheduling: the deterministic counterpart of lottery. Each process advances its
+ * pass by STRIDE1 / tickets per ms it runs, and the queued process with the smallest pass
+ * runs next (binary min-heap on pass; Share.slot holds the heap index, so select and
+ * remove are O(log n)). New and woken processes start at the pass of the last selected
+ * process so they cannot monopolize the CPU.
+ */
+public class StrideScheduler extends ProportionalShareScheduler {
+    //==========================================Variable==========================================
+    public static final long STRIDE1 = 1L << 20;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Share[] heap;
+    private int heapSize;
+    private long virtualPass;
+    private long sequence;
+
+    //========================================Constructor=========================================
+    public StrideScheduler(int timeQuantum) {
+        this(timeQuantum, DEFAULT_TICKET_BASE);
+    }
+
+    public StrideScheduler(int timeQuantum, int ticketBase) {
+        super(timeQuantum, ticketBase);
+        this.heap = new Share[INITIAL_CAPACITY];
+        this.heapSize = 0;
+        this.virtualPass = 0;
+        this.sequence = 0;
+    }
+
+    //===========================================Method===========================================
+    @Override
+    public String getName() {
+        return "Stride (quantum=" + getTimeQuantum() + "ms)";
+    }
+
+    @Override
+    protected void enqueue(Share share) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heapSize << 1);
+        }
+        share.pass = Math.max(share.pass, virtualPass);
+        share.sequence = sequence++;
+        siftUp(heapSize++, share);
+    }
+
+    @Override
+    protected Share dequeue() {
+        if (heapSize == 0) {
+            return null;
+        }
+        Share top = heap[0];
+        unqueue(top);
+        virtualPass = top.pass;
+        return top;
+    }
+
+    /**
+     * Delete a share at its heap slot - O(log n)
+     */
+    @Override
+    protected void unqueue(Share share) {
+        int i = share.slot;
+        Share last = heap[--heapSize];
+        heap[heapSize] = null;
+        share.slot = -1;
+        if (i < heapSize) {
+            siftDown(i, last);
+            if (last.slot == i) {
+                siftUp(i, last);
+            }
+        }
+    }
+
+    /**
+     * A new ticket count only changes the stride of future slices; queued passes stay valid
+     */
+    @Override
+    protected void ticketsChanged(Share share, int oldTickets) {
+    }
+
+    @Override
+    protected void charged(Share share, int executedTime) {
+        share.pass += STRIDE1 / share.tickets * executedTime;
+    }
+
+    //============================================Heap============================================
+    private void siftUp(int i, Share share) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(share, heap[parent])) {
+                break;
+            }
+            place(heap[parent], i);
+            i = parent;
+        }
+        place(share, i);
+    }
+
+    private void siftDown(int i, Share share) {
+        int half = heapSize >>> 1;
+        while (i < half) {
+            int child = (i << 1) + 1;
+            int right = child + 1;
+            if (right < heapSize && less(heap[right], heap[child])) {
+                child = right;
+            }
+            if (!less(heap[child], share)) {
+                break;
+            }
+            place(heap[child], i);
+            i = child;
+        }
+        place(share, i);
+    }
+
+    private void place(Share share, int i) {
+        heap[i] = share;
+        share.slot = i;
+    }
+
+    private static boolean less(Share a, Share b) {
+        return a.pass != b.pass ? a.pass < b.pass : a.sequence < b.sequence;
+    }
+}
@@ -0,0 +1,27 @@
+package com.ossimulator.manager.scheduler.provider;
+
+import com.ossimulator.manager.scheduler.CfsScheduler;
+import com.ossimulator.manager.scheduler.Scheduler;
+import com.ossimulator.manager.scheduler.SchedulerConfig;
+import com.ossimulator.manager.scheduler.SchedulerProvider;
+
+public class CfsSchedulerProvider implements SchedulerProvider {
+    public static final String NAME = "CFS";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Completely Fair Scheduler over a vruntime red-black tree (properties: latency, granularity)";
+    }
+
+    @Override
+    public Scheduler create(SchedulerConfig config) {
+        return new CfsScheduler(config.getTimeQuantum(),
+                config.getInt("latency", CfsScheduler.DEFAULT_TARGET_LATENCY),
+                config.getInt("granularity", CfsScheduler.DEFAULT_MIN_GRANULARITY));
+    }
+}
@@ -0,0 +1,25 @@
+package com.ossimulator.manager.scheduler.provider;
+
+import com.ossimulator.manager.scheduler.EdfScheduler;
+import com.ossimulator.manager.scheduler.Scheduler;
+import com.ossimulator.manager.scheduler.SchedulerConfig;
+import com.ossimulator.manager.scheduler.SchedulerProvider;
+
+public class EdfSchedulerProvider implements SchedulerProvider {
+    public static final String NAME = "EDF";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Earliest deadline first over a deadline-ordered heap (EDF admission test)";
+    }
+
+    @Override
+    public Scheduler create(SchedulerConfig config) {
+        return new EdfScheduler(config.getTimeQuantum());
+    }
+}
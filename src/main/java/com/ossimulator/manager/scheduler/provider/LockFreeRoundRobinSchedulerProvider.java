@@ -0,0 +1,26 @@
+package com.ossimulator.manager.scheduler.provider;
+
+import com.ossimulator.manager.scheduler.LockFreeRoundRobinScheduler;
+import com.ossimulator.manager.scheduler.Scheduler;
+import com.ossimulator.manager.scheduler.SchedulerConfig;
+import com.ossimulator.manager.scheduler.SchedulerProvider;
+
+public class LockFreeRoundRobinSchedulerProvider implements SchedulerProvider {
+    public static final String NAME = "LOCK_FREE_ROUND_ROBIN";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Round Robin over a lock-free MPMC ready queue (property: capacity, default 1024)";
+    }
+
+    @Override
+    public Scheduler create(SchedulerConfig config) {
+        return new LockFreeRoundRobinScheduler(config.getTimeQuantum(),
+                config.getInt("capacity", LockFreeRoundRobinScheduler.DEFAULT_CAPACITY));
+    }
+}
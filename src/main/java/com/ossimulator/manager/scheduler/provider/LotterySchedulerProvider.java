@@ -0,0 +1,28 @@
+package com.ossimulator.manager.scheduler.provider;
+
+import com.ossimulator.manager.scheduler.LotteryScheduler;
+import com.ossimulator.manager.scheduler.ProportionalShareScheduler;
+import com.ossimulator.manager.scheduler.Scheduler;
+import com.ossimulator.manager.scheduler.SchedulerConfig;
+import com.ossimulator.manager.scheduler.SchedulerProvider;
+
+public class LotterySchedulerProvider implements SchedulerProvider {
+    public static final String NAME = "LOTTERY";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Lottery proportional share over a Fenwick tree of tickets (properties: tickets, seed)";
+    }
+
+    @Override
+    public Scheduler create(SchedulerConfig config) {
+        return new LotteryScheduler(config.getTimeQuantum(),
+                config.getInt("tickets", ProportionalShareScheduler.DEFAULT_TICKET_BASE),
+                config.getLong("seed", LotteryScheduler.DEFAULT_SEED));
+    }
+}
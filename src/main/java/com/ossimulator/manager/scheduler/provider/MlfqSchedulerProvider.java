@@ -0,0 +1,27 @@
+package com.ossimulator.manager.scheduler.provider;
+
+import com.ossimulator.manager.scheduler.MlfqScheduler;
+import com.ossimulator.manager.scheduler.Scheduler;
+import com.ossimulator.manager.scheduler.SchedulerConfig;
+import com.ossimulator.manager.scheduler.SchedulerProvider;
+
+public class MlfqSchedulerProvider implements SchedulerProvider {
+    public static final String NAME = "MLFQ";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Multilevel feedback queue with per-level quanta and priority boost (properties: levels, boost)";
+    }
+
+    @Override
+    public Scheduler create(SchedulerConfig config) {
+        return new MlfqScheduler(config.getTimeQuantum(),
+                config.getInt("levels", MlfqScheduler.DEFAULT_LEVELS),
+                config.getInt("boost", MlfqScheduler.DEFAULT_BOOST_INTERVAL));
+    }
+}
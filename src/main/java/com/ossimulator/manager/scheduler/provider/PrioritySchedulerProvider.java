@@ -0,0 +1,26 @@
+package com.ossimulator.manager.scheduler.provider;
+
+import com.ossimulator.manager.scheduler.PriorityScheduler;
+import com.ossimulator.manager.scheduler.Scheduler;
+import com.ossimulator.manager.scheduler.SchedulerConfig;
+import com.ossimulator.manager.scheduler.SchedulerProvider;
+
+public class PrioritySchedulerProvider implements SchedulerProvider {
+    public static final String NAME = "PRIORITY";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Fixed priorities over a bitmap-indexed dispatch table (property: levels)";
+    }
+
+    @Override
+    public Scheduler create(SchedulerConfig config) {
+        return new PriorityScheduler(config.getTimeQuantum(),
+                config.getInt("levels", PriorityScheduler.DEFAULT_PRIORITY_LEVELS));
+    }
+}
@@ -0,0 +1,25 @@
+package com.ossimulator.manager.scheduler.provider;
+
+import com.ossimulator.manager.scheduler.RateMonotonicScheduler;
+import com.ossimulator.manager.scheduler.Scheduler;
+import com.ossimulator.manager.scheduler.SchedulerConfig;
+import com.ossimulator.manager.scheduler.SchedulerProvider;
+
+public class RateMonotonicSchedulerProvider implements SchedulerProvider {
+    public static final String NAME = "RATE_MONOTONIC";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Rate monotonic fixed priorities over a period-ordered heap (hyperbolic bound admission test)";
+    }
+
+    @Override
+    public Scheduler create(SchedulerConfig config) {
+        return new RateMonotonicScheduler(config.getTimeQuantum());
+    }
+}
@@ -0,0 +1,25 @@
+package com.ossimulator.manager.scheduler.provider;
+
+import com.ossimulator.manager.scheduler.RoundRobinScheduler;
+import com.ossimulator.manager.scheduler.Scheduler;
+import com.ossimulator.manager.scheduler.SchedulerConfig;
+import com.ossimulator.manager.scheduler.SchedulerProvider;
+
+public class RoundRobinSchedulerProvider implements SchedulerProvider {
+    public static final String NAME = "ROUND_ROBIN";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Round Robin with a FIFO ready queue";
+    }
+
+    @Override
+    public Scheduler create(SchedulerConfig config) {
+        return new RoundRobinScheduler(config.getTimeQuantum());
+    }
+}
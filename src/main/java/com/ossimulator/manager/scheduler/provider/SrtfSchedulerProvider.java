@@ -0,0 +1,29 @@
+package com.ossimulator.manager.scheduler.provider;
+
+import com.ossimulator.manager.scheduler.Scheduler;
+import com.ossimulator.manager.scheduler.SchedulerConfig;
+import com.ossimulator.manager.scheduler.SchedulerProvider;
+import com.ossimulator.manager.scheduler.SrtfScheduler;
+
+public class SrtfSchedulerProvider implements SchedulerProvider {
+    public static final String NAME = "SRTF";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Shortest remaining time first over an indexed heap (properties: preemptive, predict, alpha, initial)";
+    }
+
+    @Override
+    public Scheduler create(SchedulerConfig config) {
+        return new SrtfScheduler(config.getTimeQuantum(),
+                config.getBoolean("preemptive", true),
+                config.getBoolean("predict", false),
+                config.getDouble("alpha", SrtfScheduler.DEFAULT_ALPHA),
+                config.getInt("initial", SrtfScheduler.DEFAULT_INITIAL_ESTIMATE));
+    }
+}
@@ -0,0 +1,27 @@
+package com.ossimulator.manager.scheduler.provider;
+
+import com.ossimulator.manager.scheduler.ProportionalShareScheduler;
+import com.ossimulator.manager.scheduler.Scheduler;
+import com.ossimulator.manager.scheduler.SchedulerConfig;
+import com.ossimulator.manager.scheduler.SchedulerProvider;
+import com.ossimulator.manager.scheduler.StrideScheduler;
+
+public class StrideSchedulerProvider implements SchedulerProvider {
+    public static final String NAME = "STRIDE";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Stride proportional share over a pass-value heap (property: tickets)";
+    }
+
+    @Override
+    public Scheduler create(SchedulerConfig config) {
+        return new StrideScheduler(config.getTimeQuantum(),
+                config.getInt("tickets", ProportionalShareScheduler.DEFAULT_TICKET_BASE));
+    }
+}
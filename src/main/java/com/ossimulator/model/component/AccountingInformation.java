@@ -7,14 +7,20 @@ public class AccountingInformation {
     private long lastScheduledTime;      // last time used CPU
     private int uid;                     // User ID
     private int gid;                     // Group ID
+    private int affinityCpu;             // Preferred (home) CPU, -1 = none
+    private int lastCpu;                 // CPU the process last ran on, -1 = never ran
+    private int migrationCount;          // Times the process moved to a different CPU
 
     //========================================Constructor=========================================
-    public AccountingInformation() {
+    public AccountingInformation(long creationTime) {
         this.cpuTimeUsed = 0;
-        this.creationTime = System.currentTimeMillis();
+        this.creationTime = creationTime;
         this.lastScheduledTime = 0;
         this.uid = 0;
         this.gid = 0;
+        this.affinityCpu = -1;
+        this.lastCpu = -1;
+        this.migrationCount = 0;
     }
 
     public AccountingInformation(long cpuTimeUsed, long creationTime, long lastScheduledTime, int uid, int gid) {
@@ -23,6 +29,9 @@ public class AccountingInformation {
         this.lastScheduledTime = lastScheduledTime;
         this.uid = uid;
         this.gid = gid;
+        this.affinityCpu = -1;
+        this.lastCpu = -1;
+        this.migrationCount = 0;
     }
 
     //==========================================Get Set===========================================
@@ -31,10 +40,26 @@ public class AccountingInformation {
     public long getLastScheduledTime() { return lastScheduledTime; }
     public int getUid() { return uid; }
     public int getGid() { return gid; }
+    public int getAffinityCpu() { return affinityCpu; }
+    public int getLastCpu() { return lastCpu; }
+    public int getMigrationCount() { return migrationCount; }
 
     public void setCpuTimeUsed(long cpuTimeUsed) { this.cpuTimeUsed = cpuTimeUsed; }
     public void setCreationTime(long creationTime) { this.creationTime = creationTime; }
     public void setLastScheduledTime(long lastScheduledTime) { this.lastScheduledTime = lastScheduledTime; }
     public void setUid(int uid) { this.uid = uid; }
     public void setGid(int gid) { this.gid = gid; }
+    public void setAffinityCpu(int affinityCpu) { this.affinityCpu = affinityCpu; }
+
+    //===========================================Method===========================================
+    /**
+     * Record that the process is about to run on a CPU; counts a migration
+     * when it last ran on a different one
+     */
+    public void recordCpu(int cpuId) {
+        if (lastCpu >= 0 && lastCpu != cpuId) {
+            migrationCount++;
+        }
+        lastCpu = cpuId;
+    }
 }
@@ -0,0 +1,169 @@
+package com.ossimulator.model.component;
+
+import java.util.Random;
+
+/**
+ * Real-time parameters and per-job state of a periodic or sporadic task.
+ * A task releases a job every period (sporadic: at least every period), each job needs
+ * executionTime ms of CPU and must finish by release + relativeDeadline.
+ * Deadline misses, lateness and start jitter are accumulated per task.
+ */
+public class RealTimeTask {
+    //==========================================Variable==========================================
+    private final TaskType type;
+    private final int executionTime;       // CPU time per job (WCET)
+    private final int period;              // Period, or minimum inter-arrival time for sporadic tasks
+    private final int relativeDeadline;    // Deadline relative to each release
+    private final Random arrivals;         // Extra inter-arrival delay source for sporadic tasks
+
+    // Current job
+    private int jobIndex;
+    private long releaseTime;
+    private long absoluteDeadline;
+    private int jobRemaining;
+    private long jobStartTime;             // -1 = current job has not run yet
+
+    // Statistics
+    private int jobsCompleted;
+    private int deadlineMisses;
+    private long totalLateness;            // Sum of positive lateness (tardiness)
+    private long maxLateness;
+    private long minStartDelay;
+    private long maxStartDelay;
+
+    //========================================Constructor=========================================
+    public RealTimeTask(TaskType type, int executionTime, int period, int relativeDeadline, long seed) {
+        if (executionTime < 1 || period < 1 || relativeDeadline < 1) {
+            throw new IllegalArgumentException("executionTime, period and relativeDeadline must be >= 1");
+        }
+        this.type = type;
+        this.executionTime = executionTime;
+        this.period = period;
+        this.relativeDeadline = relativeDeadline;
+        this.arrivals = type == TaskType.SPORADIC ? new Random(seed) : null;
+        this.jobIndex = -1;
+        this.jobStartTime = -1;
+        this.maxLateness = Long.MIN_VALUE;
+        this.minStartDelay = Long.MAX_VALUE;
+        this.maxStartDelay = Long.MIN_VALUE;
+    }
+
+    /**
+     * Periodic task with implicit deadline (deadline = period)
+     */
+    public static RealTimeTask periodic(int executionTime, int period) {
+        return new RealTimeTask(TaskType.PERIODIC, executionTime, period, period, 0);
+    }
+
+    public static RealTimeTask periodic(int executionTime, int period, int relativeDeadline) {
+        return new RealTimeTask(TaskType.PERIODIC, executionTime, period, relativeDeadline, 0);
+    }
+
+    public static RealTimeTask sporadic(int executionTime, int minInterArrival, int relativeDeadline, long seed) {
+        return new RealTimeTask(TaskType.SPORADIC, executionTime, minInterArrival, relativeDeadline, seed);
+    }
+
+    //==========================================Get Set===========================================
+    public TaskType getType() { return type; }
+    public int getExecutionTime() { return executionTime; }
+    public int getPeriod() { return period; }
+    public int getRelativeDeadline() { return relativeDeadline; }
+    public int getJobIndex() { return jobIndex; }
+    public long getReleaseTime() { return releaseTime; }
+    public long getAbsoluteDeadline() { return absoluteDeadline; }
+    public int getJobRemaining() { return jobRemaining; }
+    public int getJobsCompleted() { return jobsCompleted; }
+    public int getDeadlineMisses() { return deadlineMisses; }
+    public long getTotalLateness() { return totalLateness; }
+
+    //===========================================Method===========================================
+    /**
+     * Density C / min(D, T) - equals utilization C / T for implicit deadlines
+     */
+    public double getDensity() {
+        return (double) executionTime / Math.min(relativeDeadline, period);
+    }
+
+    /**
+     * Release the first job
+     */
+    public void start(long now) {
+        releaseJob(now);
+    }
+
+    /**
+     * The current job is about to get the CPU
+     */
+    public void onDispatch(long now) {
+        if (jobStartTime < 0) {
+            jobStartTime = now;
+            long delay = now - releaseTime;
+            minStartDelay = Math.min(minStartDelay, delay);
+            maxStartDelay = Math.max(maxStartDelay, delay);
+        }
+    }
+
+    /**
+     * Charge CPU time to the current job. When the job finishes its lateness is
+     * recorded and the next job is set up (released at or after the next period).
+     * @return true if the current job finished
+     */
+    public boolean consume(int executed, long now) {
+        jobRemaining -= executed;
+        if (jobRemaining > 0) {
+            return false;
+        }
+        long lateness = now - absoluteDeadline;
+        maxLateness = Math.max(maxLateness, lateness);
+        if (lateness > 0) {
+            deadlineMisses++;
+            totalLateness += lateness;
+        }
+        jobsCompleted++;
+
+        long nextRelease = releaseTime + period;
+        if (type == TaskType.SPORADIC) {
+            nextRelease += arrivals.nextInt(period / 2 + 1);
+        }
+        releaseJob(nextRelease);
+        return true;
+    }
+
+    /**
+     * Largest lateness (finish - deadline) over completed jobs; negative means every job was early
+     */
+    public long getMaxLateness() {
+        return jobsCompleted == 0 ? 0 : maxLateness;
+    }
+
+    public double getAverageLateness() {
+        return jobsCompleted == 0 ? 0 : (double) totalLateness / jobsCompleted;
+    }
+
+    /**
+     * Start jitter: spread between the shortest and longest release-to-start delay
+     */
+    public long getJitter() {
+        return minStartDelay == Long.MAX_VALUE ? 0 : maxStartDelay - minStartDelay;
+    }
+
+    private void releaseJob(long release) {
+        jobIndex++;
+        releaseTime = release;
+        absoluteDeadline = release + relativeDeadline;
+        jobRemaining = executionTime;
+        jobStartTime = -1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RealTimeTask[type=%s, C=%d, T=%d, D=%d, job=%d]",
+                type, executionTime, period, relativeDeadline, jobIndex);
+    }
+
+    //==========================================Constants=========================================
+    public enum TaskType {
+        PERIODIC,
+        SPORADIC
+    }
+}
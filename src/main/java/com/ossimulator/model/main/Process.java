@@ -1,13 +1,21 @@
 package com.ossimulator.model.main;
 
+import com.ossimulator.manager.event.SimulationClock;
 import com.ossimulator.model.component.Identifier;
 import com.ossimulator.model.component.ProcessState;
 import com.ossimulator.model.component.Program;
 import com.ossimulator.model.component.ProgramData;
+import com.ossimulator.model.component.RealTimeTask;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 public class Process {
 
     //==========================================Variable==========================================
+    public static final int DEFAULT_MEMORY_SIZE = 1024;
+    private static final AtomicIntegerFieldUpdater<Process> READY_QUEUE_MARK =
+            AtomicIntegerFieldUpdater.newUpdater(Process.class, "readyQueueMark");
+
     private Identifier identifier;
     private Program program;
     private ProgramData programData;
@@ -17,6 +25,8 @@ public class Process {
     private String name;
     private int priority;
     private ProcessState state;
+    private volatile int readyQueueMark;    // Lock-free ready-queue membership, see LockFreeRoundRobinScheduler
+    private int readyQueueSlot;             // Array index in the ProcessRing holding it, see ProcessRing
 
     // Timing attributes
     private long arrivalTime;
@@ -27,29 +37,44 @@ public class Process {
 
     // Memory attributes
     private boolean inMainMemory;
+    private int memorySize;                 // Bytes of contiguous memory the process image needs
+
+    // Real-time attributes (null for ordinary time-sharing processes)
+    private RealTimeTask realTimeTask;
+
+    // Simulated time source
+    private final SimulationClock clock;
 
     //========================================Constructor=========================================
-    public Process(Identifier identifier, Program program, ProgramData programData) {
+    public Process(Identifier identifier, Program program, ProgramData programData, SimulationClock clock) {
         this.identifier = identifier;
         this.program = program;
         this.programData = programData;
         this.state = ProcessState.CREATED;
-        this.arrivalTime = System.currentTimeMillis();
+        this.clock = clock;
+        this.arrivalTime = clock.now();
+        this.startTime = -1;
+        this.completionTime = -1;
         this.inMainMemory = false;
+        this.memorySize = DEFAULT_MEMORY_SIZE;
     }
 
     /**
-     * Constructor with scheduling parameters
+     * Constructor with scheduling parameters and the kernel's simulated clock
      */
-    public Process(int pid, String name, int burstTime, int priority) {
+    public Process(int pid, String name, int burstTime, int priority, SimulationClock clock) {
         this.pid = pid;
         this.name = name;
         this.burstTime = burstTime;
         this.remainingTime = burstTime;
         this.priority = priority;
         this.state = ProcessState.CREATED;
-        this.arrivalTime = System.currentTimeMillis();
+        this.clock = clock;
+        this.arrivalTime = clock.now();
+        this.startTime = -1;
+        this.completionTime = -1;
         this.inMainMemory = false;
+        this.memorySize = DEFAULT_MEMORY_SIZE;
 
         // Initialize default components
         this.identifier = new Identifier(pid, 0, this);
@@ -71,6 +96,11 @@ public class Process {
     public int getBurstTime() { return burstTime; }
     public int getRemainingTime() { return remainingTime; }
     public boolean isInMainMemory() { return inMainMemory; }
+    public int getMemorySize() { return memorySize; }
+    public RealTimeTask getRealTimeTask() { return realTimeTask; }
+    public boolean isRealTime() { return realTimeTask != null; }
+    public int getReadyQueueMark() { return readyQueueMark; }
+    public int getReadyQueueSlot() { return readyQueueSlot; }
 
     public void setIdentifier(Identifier identifier) { this.identifier = identifier; }
     public void setProgram(Program program) { this.program = program; }
@@ -83,6 +113,13 @@ public class Process {
     public void setCompletionTime(long completionTime) { this.completionTime = completionTime; }
     public void setRemainingTime(int remainingTime) { this.remainingTime = remainingTime; }
     public void setInMainMemory(boolean inMainMemory) { this.inMainMemory = inMainMemory; }
+    public void setMemorySize(int memorySize) { this.memorySize = memorySize; }
+    public void setRealTimeTask(RealTimeTask realTimeTask) { this.realTimeTask = realTimeTask; }
+    public void setReadyQueueSlot(int readyQueueSlot) { this.readyQueueSlot = readyQueueSlot; }
+
+    public boolean compareAndSetReadyQueueMark(int expected, int mark) {
+        return READY_QUEUE_MARK.compareAndSet(this, expected, mark);
+    }
 
     //===========================================Method===========================================
     /**
@@ -90,8 +127,17 @@ public class Process {
      * @return actual time executed
      */
     public int execute(int timeSlice) {
-        if (startTime == 0) {
-            startTime = System.currentTimeMillis();
+        return execute(timeSlice, clock.now());
+    }
+
+    /**
+     * Execute process for given time slice starting at an explicit simulated time
+     * (used by simulated CPUs that keep their own local clock)
+     * @return actual time executed
+     */
+    public int execute(int timeSlice, long now) {
+        if (startTime < 0) {
+            startTime = now;
         }
         int actualTime = Math.min(timeSlice, remainingTime);
         remainingTime -= actualTime;
@@ -106,11 +152,11 @@ public class Process {
     }
 
     /**
-     * Get turnaround time (completion - arrival)
+     * Get turnaround time (completion - arrival) in simulated time
      */
     public long getTurnaroundTime() {
-        if (completionTime == 0) {
-            return System.currentTimeMillis() - arrivalTime;
+        if (completionTime < 0) {
+            return clock.now() - arrivalTime;
         }
         return completionTime - arrivalTime;
     }
@@ -51,8 +51,8 @@ public class ProcessControlBlock {
         return new int[] { contextData.getFlagsRegister(), contextData.getStackPointer() };
     }
 
-    public void addCpuTime(long time) {
+    public void addCpuTime(long time, long now) {
         accountingInformation.setCpuTimeUsed(accountingInformation.getCpuTimeUsed() + time);
-        accountingInformation.setLastScheduledTime(System.currentTimeMillis());
+        accountingInformation.setLastScheduledTime(now);
     }
 }
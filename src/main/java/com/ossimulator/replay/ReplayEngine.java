@@ -0,0 +1,296 @@
+package com.ossimulator.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.ossimulator.manager.event.SimulationClock;
+import com.ossimulator.manager.event.TransitionJournalReader;
+import com.ossimulator.manager.event.TransitionReason;
+import com.ossimulator.model.component.ProcessState;
+import com.ossimulator.model.main.Process;
+import com.ossimulator.util.ColumnarTraceReader;
+import com.ossimulator.util.TraceState;
+
+/**
+ * Time-travel over a recorded run. The transition journal gives every process state at every
+ * tick; the optional snapshot trace adds priority, remaining time and residency at cycle ends.
+ *
+ * Loading scans the journal once and stores a checkpoint (full state table, counters and the
+ * journal offset) every checkpointInterval transitions - at least one per process count, so
+ * checkpoints stay about a byte per transition. seek(tick) restores the nearest checkpoint at
+ * or before the tick and replays forward from its offset; seeking forward inside the same
+ * checkpoint interval just continues from the current state.
+ */
+public class ReplayEngine implements AutoCloseable {
+    //==========================================Variable==========================================
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 4096;
+    private static final byte UNKNOWN = -1;
+    private static final ProcessState[] STATES = ProcessState.values();
+
+    private final TransitionJournalReader journal;
+    private final ColumnarTraceReader snapshots;
+    private final TraceState snapshotState;
+    private final int checkpointInterval;
+
+    // Checkpoints: state after every transition with tick <= checkpointTicks[i]
+    private int[] checkpointTicks;
+    private long[] checkpointOffsets;
+    private long[] checkpointTimes;
+    private long[] checkpointSwitches;
+    private int[] checkpointCompleted;
+    private byte[][] checkpointStates;
+    private int checkpointCount;
+
+    // Current replay position
+    private byte[] states;
+    private int tick;
+    private long time;
+    private long contextSwitches;
+    private int completed;
+    private int checkpoint;                 // Checkpoint the current state was replayed from
+    private int lastPid;
+    private TransitionReason lastReason;
+
+    private int firstTick;
+    private int lastTick;
+    private int maxPid;
+    private long transitionCount;
+    private final List<Process> processes;
+    private final SimulationClock clock;    // Shared by the replayed processes; they only carry recorded state
+
+    //========================================Constructor=========================================
+    public ReplayEngine(Path journalPath) throws IOException {
+        this(journalPath, null, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * @param snapshotPath columnar snapshot trace of the same run, or null
+     */
+    public ReplayEngine(Path journalPath, Path snapshotPath, int checkpointInterval) throws IOException {
+        if (checkpointInterval < 1) {
+            throw new IllegalArgumentException("checkpointInterval must be >= 1: " + checkpointInterval);
+        }
+        this.journal = new TransitionJournalReader(journalPath);
+        this.snapshots = snapshotPath != null ? new ColumnarTraceReader(snapshotPath) : null;
+        this.snapshotState = new TraceState();
+        this.checkpointInterval = checkpointInterval;
+        this.checkpointTicks = new int[16];
+        this.checkpointOffsets = new long[16];
+        this.checkpointTimes = new long[16];
+        this.checkpointSwitches = new long[16];
+        this.checkpointCompleted = new int[16];
+        this.checkpointStates = new byte[16][];
+        this.states = new byte[64];
+        this.processes = new ArrayList<>();
+        this.clock = new SimulationClock();
+        Arrays.fill(states, UNKNOWN);
+
+        index();
+        seek(firstTick);
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Move to the state right after the last transition at or before the given tick
+     */
+    public void seek(int target) throws IOException {
+        int nearest = checkpointAtOrBefore(target);
+        if (nearest != checkpoint || target < tick) {
+            restore(nearest);
+        }
+        replayUntil(target);
+        if (snapshots != null) {
+            snapshots.seek(snapshotState, tick);
+        }
+    }
+
+    /**
+     * Step to the next tick with a transition
+     * @return false at the end of the run
+     */
+    public boolean stepForward() throws IOException {
+        long offset = journal.position();
+        if (!journal.next()) {
+            return false;
+        }
+        int next = journal.getTick();
+        journal.seek(offset);
+        seek(next);
+        return true;
+    }
+
+    /**
+     * Step back to the previous tick with a transition
+     * @return false at the start of the run
+     */
+    public boolean stepBackward() throws IOException {
+        if (tick <= firstTick) {
+            return false;
+        }
+        seek(tick - 1);
+        return true;
+    }
+
+    /**
+     * Process objects reflecting the current replay position (pid order, reused between calls).
+     * Remaining time is -1 for processes without a snapshot at or before the current tick.
+     */
+    public List<Process> getProcesses() {
+        for (int pid = processes.size() + 1; pid <= maxPid; pid++) {
+            processes.add(new Process(pid, journal.getName(pid), 0, 0, clock));
+        }
+        for (Process p : processes) {
+            int pid = p.getPid();
+            p.setState(getState(pid));
+            if (snapshotState.contains(pid)) {
+                p.setPriority(snapshotState.getPriority(pid));
+                p.setRemainingTime(snapshotState.getRemainingTime(pid));
+                p.setInMainMemory(snapshotState.isInMemory(pid));
+            } else {
+                p.setRemainingTime(-1);
+            }
+        }
+        return processes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        journal.close();
+        if (snapshots != null) {
+            snapshots.close();
+        }
+    }
+
+    //==========================================Get Set===========================================
+    public int getTick() { return tick; }
+    public long getTime() { return time; }
+    public int getFirstTick() { return firstTick; }
+    public int getLastTick() { return lastTick; }
+    public int getMaxPid() { return maxPid; }
+    public long getTransitionCount() { return transitionCount; }
+    public int getCheckpointCount() { return checkpointCount; }
+    public long getContextSwitches() { return contextSwitches; }
+    public int getCompletedCount() { return completed; }
+    public boolean hasSnapshots() { return snapshots != null; }
+
+    /** Pid of the last transition applied, 0 before the first one */
+    public int getLastPid() { return lastPid; }
+    public TransitionReason getLastReason() { return lastReason; }
+    public String getName(int pid) { return journal.getName(pid); }
+
+    /**
+     * State of a process at the current tick; CREATED before its first transition
+     */
+    public ProcessState getState(int pid) {
+        byte state = pid < states.length ? states[pid] : UNKNOWN;
+        return state == UNKNOWN ? ProcessState.CREATED : STATES[state];
+    }
+
+    /**
+     * Remaining time at the last snapshot at or before the current tick, or -1 without a snapshot trace
+     */
+    public int getRemainingTime(int pid) {
+        return snapshotState.contains(pid) ? snapshotState.getRemainingTime(pid) : -1;
+    }
+
+    //==========================================Replay============================================
+    /**
+     * One pass over the journal: bounds, names and checkpoints
+     */
+    private void index() throws IOException {
+        addCheckpoint(Integer.MIN_VALUE, journal.position());
+        long sinceCheckpoint = 0;
+        boolean first = true;
+        while (journal.next()) {
+            if (first) {
+                firstTick = journal.getTick();
+                first = false;
+            }
+            apply();
+            transitionCount++;
+            if (++sinceCheckpoint >= Math.max(checkpointInterval, maxPid)) {
+                addCheckpoint(tick, journal.position());
+                sinceCheckpoint = 0;
+            }
+        }
+        lastTick = tick;
+        checkpoint = -1;
+    }
+
+    private void replayUntil(int target) throws IOException {
+        long offset = journal.position();
+        while (journal.next()) {
+            if (journal.getTick() > target) {
+                journal.seek(offset);
+                return;
+            }
+            apply();
+            offset = journal.position();
+        }
+        journal.seek(offset);
+    }
+
+    private void apply() {
+        int pid = journal.getPid();
+        if (pid >= states.length) {
+            int capacity = Math.max(pid + 1, states.length << 1);
+            int old = states.length;
+            states = Arrays.copyOf(states, capacity);
+            Arrays.fill(states, old, capacity, UNKNOWN);
+        }
+        ProcessState to = journal.getTo();
+        states[pid] = (byte) to.ordinal();
+        maxPid = Math.max(maxPid, pid);
+        tick = journal.getTick();
+        time = journal.getTime();
+        lastPid = pid;
+        lastReason = journal.getReason();
+        if (lastReason == TransitionReason.DISPATCH) {
+            contextSwitches++;
+        }
+        if (to == ProcessState.ZOMBIE) {
+            completed++;
+        }
+    }
+
+    private void addCheckpoint(int atTick, long offset) {
+        if (checkpointCount == checkpointTicks.length) {
+            int capacity = checkpointCount << 1;
+            checkpointTicks = Arrays.copyOf(checkpointTicks, capacity);
+            checkpointOffsets = Arrays.copyOf(checkpointOffsets, capacity);
+            checkpointTimes = Arrays.copyOf(checkpointTimes, capacity);
+            checkpointSwitches = Arrays.copyOf(checkpointSwitches, capacity);
+            checkpointCompleted = Arrays.copyOf(checkpointCompleted, capacity);
+            checkpointStates = Arrays.copyOf(checkpointStates, capacity);
+        }
+        checkpointTicks[checkpointCount] = atTick;
+        checkpointOffsets[checkpointCount] = offset;
+        checkpointTimes[checkpointCount] = time;
+        checkpointSwitches[checkpointCount] = contextSwitches;
+        checkpointCompleted[checkpointCount] = completed;
+        checkpointStates[checkpointCount] = Arrays.copyOf(states, maxPid + 1);
+        checkpointCount++;
+    }
+
+    private void restore(int index) {
+        byte[] saved = checkpointStates[index];
+        Arrays.fill(states, UNKNOWN);
+        System.arraycopy(saved, 0, states, 0, saved.length);
+        tick = Math.max(checkpointTicks[index], 0);
+        time = checkpointTimes[index];
+        contextSwitches = checkpointSwitches[index];
+        completed = checkpointCompleted[index];
+        lastPid = 0;
+        lastReason = null;
+        checkpoint = index;
+        journal.seek(checkpointOffsets[index]);
+    }
+
+    private int checkpointAtOrBefore(int target) {
+        int index = Arrays.binarySearch(checkpointTicks, 0, checkpointCount, target);
+        return index >= 0 ? index : Math.max(0, -index - 2);
+    }
+}
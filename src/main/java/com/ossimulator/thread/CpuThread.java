@@ -0,0 +1,42 @@
+package com.ossimulator.thread;
+
+import com.ossimulator.manager.cpu.Cpu;
+import com.ossimulator.manager.kernel.MultiprocessorKernel;
+import com.ossimulator.model.main.Process;
+
+public class CpuThread extends Thread {
+    //==========================================Variable==========================================
+    private final MultiprocessorKernel kernel;
+    private final Cpu cpu;
+    private volatile boolean running;
+
+    //========================================Constructor=========================================
+    public CpuThread(MultiprocessorKernel kernel, Cpu cpu) {
+        super("CpuThread-" + cpu.getId());
+        this.kernel = kernel;
+        this.cpu = cpu;
+        this.running = true;
+    }
+
+    //===========================================Method===========================================
+    @Override
+    public void run() {
+        while (running && !isInterrupted() && !kernel.isFinished()) {
+            Process process = cpu.getRunQueue().pollNext();
+            if (process == null) {
+                // Own run queue is empty - try to steal from the busiest CPU
+                process = kernel.steal(cpu);
+            }
+
+            if (process == null) {
+                Thread.yield();
+                continue;
+            }
+            kernel.runSlice(cpu, process);
+        }
+    }
+
+    public void stopRunning() {
+        running = false;
+    }
+}
@@ -19,15 +19,9 @@ public class SchedulerThread extends Thread {
     public void run() {
         System.out.println("[SchedulerThread] Started - Thread ID: " + Thread.currentThread().getId());
 
-        while (running && !kernel.getScheduler().isEmpty()) {
+        // Simulated time is driven by the kernel's event queue - no wall-clock pacing
+        while (running && !Thread.currentThread().isInterrupted() && kernel.hasPendingWork()) {
             kernel.runCycle();
-
-            try {
-                Thread.sleep(200);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
         }
 
         System.out.println("[SchedulerThread] Finished - Thread ID: " + Thread.currentThread().getId());
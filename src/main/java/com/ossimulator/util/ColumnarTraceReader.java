@@ -0,0 +1,224 @@
+package com.ossimulator.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Random-access reader for ColumnarTraceWriter traces. Seeking to a tick binary-searches the
+ * frame index, loads the nearest keyframe at or before it and applies the deltas forward -
+ * at most keyframeInterval frames. Seeking forward from the current state only applies the
+ * frames in between.
+ */
+public class ColumnarTraceReader implements AutoCloseable {
+    //==========================================Variable==========================================
+    private final FileChannel channel;
+    private final int keyframeInterval;
+    private int[] frameTicks;
+    private long[] frameOffsets;
+    private byte[] frameKinds;
+    private int frameCount;
+    private final Map<Integer, String> names;
+    private ByteBuffer buffer;
+
+    //========================================Constructor=========================================
+    public ColumnarTraceReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.names = new HashMap<>();
+        this.buffer = ByteBuffer.allocate(1 << 16);
+
+        ByteBuffer header = read(0, ColumnarTraceWriter.HEADER_SIZE);
+        int magic = header.getInt();
+        short version = header.getShort();
+        header.getShort();
+        if (magic != ColumnarTraceWriter.MAGIC || version != ColumnarTraceWriter.VERSION) {
+            channel.close();
+            throw new IOException(String.format("Not a columnar trace (magic=%08x, version=%d)", magic, version));
+        }
+        this.keyframeInterval = header.getInt();
+        int count = header.getInt();
+        long indexOffset = header.getLong();
+        long namesOffset = header.getLong();
+
+        if (indexOffset > 0) {
+            loadIndex(count, indexOffset);
+            loadNames(namesOffset);
+        } else {
+            scanFrames();
+        }
+    }
+
+    //===========================================Method===========================================
+    /**
+     * State at the given tick (the last frame at or before it)
+     */
+    public TraceState stateAt(int tick) throws IOException {
+        TraceState state = new TraceState();
+        seek(state, tick);
+        return state;
+    }
+
+    /**
+     * Move a state to the given tick, reusing it: forward seeks within the same keyframe
+     * interval only apply the frames in between
+     */
+    public void seek(TraceState state, int tick) throws IOException {
+        int target = frameAtOrBefore(tick);
+        if (target < 0) {
+            state.reset();
+            return;
+        }
+        int keyframe = target;
+        while (keyframe > 0 && frameKinds[keyframe] != ColumnarTraceWriter.KIND_KEYFRAME) {
+            keyframe--;
+        }
+        int from;
+        if (state.frame >= keyframe && state.frame <= target) {
+            from = state.frame + 1;
+        } else {
+            state.reset();
+            from = keyframe;
+        }
+        for (int f = from; f <= target; f++) {
+            apply(state, f);
+        }
+        state.frame = target;
+        state.tick = frameTicks[target];
+    }
+
+    /**
+     * Index of the last frame with tick <= the given tick, or -1
+     */
+    public int frameAtOrBefore(int tick) {
+        int index = Arrays.binarySearch(frameTicks, 0, frameCount, tick);
+        if (index < 0) {
+            return -index - 2;
+        }
+        while (index + 1 < frameCount && frameTicks[index + 1] == tick) {
+            index++;
+        }
+        return index;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    //==========================================Get Set===========================================
+    public int getFrameCount() { return frameCount; }
+    public int getKeyframeInterval() { return keyframeInterval; }
+    public int getFrameTick(int frame) { return frameTicks[frame]; }
+    public int getFirstTick() { return frameCount == 0 ? 0 : frameTicks[0]; }
+    public int getLastTick() { return frameCount == 0 ? 0 : frameTicks[frameCount - 1]; }
+
+    public String getName(int pid) {
+        return names.getOrDefault(pid, "pid " + pid);
+    }
+
+    //==========================================Decoding==========================================
+    private void apply(TraceState state, int frame) throws IOException {
+        ByteBuffer header = read(frameOffsets[frame], ColumnarTraceWriter.FRAME_HEADER_SIZE);
+        header.position(8);
+        int count = header.getInt();
+        int length = header.getInt();
+
+        ByteBuffer data = read(frameOffsets[frame] + ColumnarTraceWriter.FRAME_HEADER_SIZE,
+                length - ColumnarTraceWriter.FRAME_HEADER_SIZE);
+        int priorityBase = count * 4;
+        int remainingBase = count * 8;
+        int stateBase = count * 12;
+        int memoryBase = count * 13;
+        for (int i = 0; i < count; i++) {
+            state.set(data.getInt(i * 4),
+                    data.getInt(priorityBase + i * 4),
+                    data.getInt(remainingBase + i * 4),
+                    data.get(stateBase + i),
+                    data.get(memoryBase + i) != 0);
+        }
+    }
+
+    private void loadIndex(int count, long offset) throws IOException {
+        frameCount = count;
+        frameTicks = new int[count];
+        frameOffsets = new long[count];
+        frameKinds = new byte[count];
+        ByteBuffer ticks = read(offset, count * 4);
+        for (int i = 0; i < count; i++) {
+            frameTicks[i] = ticks.getInt();
+        }
+        ByteBuffer offsets = read(offset + count * 4L, count * 8);
+        for (int i = 0; i < count; i++) {
+            frameOffsets[i] = offsets.getLong();
+        }
+        // The writer emits a keyframe every keyframeInterval frames
+        for (int i = 0; i < count; i++) {
+            frameKinds[i] = i % keyframeInterval == 0 ? ColumnarTraceWriter.KIND_KEYFRAME : ColumnarTraceWriter.KIND_DELTA;
+        }
+    }
+
+    private void loadNames(long offset) throws IOException {
+        int count = read(offset, 4).getInt();
+        long position = offset + 4;
+        for (int i = 0; i < count; i++) {
+            ByteBuffer entry = read(position, 6);
+            int pid = entry.getInt();
+            int length = entry.getShort();
+            byte[] bytes = new byte[length];
+            read(position + 6, length).get(bytes);
+            names.put(pid, new String(bytes, StandardCharsets.UTF_8));
+            position += 6 + length;
+        }
+    }
+
+    /**
+     * Recover the index of a trace that was not closed: walk frame headers until an empty one
+     */
+    private void scanFrames() throws IOException {
+        frameTicks = new int[64];
+        frameOffsets = new long[64];
+        frameKinds = new byte[64];
+        long position = ColumnarTraceWriter.HEADER_SIZE;
+        long size = channel.size();
+        while (position + ColumnarTraceWriter.FRAME_HEADER_SIZE <= size) {
+            ByteBuffer header = read(position, ColumnarTraceWriter.FRAME_HEADER_SIZE);
+            byte kind = header.get(0);
+            int length = header.getInt(12);
+            if (kind == 0 || length < ColumnarTraceWriter.FRAME_HEADER_SIZE || position + length > size) {
+                break;
+            }
+            if (frameCount == frameTicks.length) {
+                frameTicks = Arrays.copyOf(frameTicks, frameCount << 1);
+                frameOffsets = Arrays.copyOf(frameOffsets, frameCount << 1);
+                frameKinds = Arrays.copyOf(frameKinds, frameCount << 1);
+            }
+            frameTicks[frameCount] = header.getInt(4);
+            frameOffsets[frameCount] = position;
+            frameKinds[frameCount] = kind;
+            frameCount++;
+            position += length;
+        }
+    }
+
+    /**
+     * Positional read into the shared buffer (grown as needed); valid until the next read
+     */
+    private ByteBuffer read(long position, int length) throws IOException {
+        if (buffer.capacity() < length) {
+            buffer = ByteBuffer.allocate(Math.max(length, buffer.capacity() << 1));
+        }
+        buffer.clear().limit(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of trace at " + (position + buffer.position()));
+            }
+        }
+        return buffer.flip();
+    }
+}
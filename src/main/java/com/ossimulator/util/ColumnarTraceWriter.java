@@ -0,0 +1,291 @@
+package com.ossimulator.util;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.ossimulator.model.main.Process;
+
+/**
+ * Columnar, delta-encoded trace of process snapshots written through a memory-mapped FileChannel.
+ * Each frame stores only the processes whose (priority, remaining, state, inMemory) changed since
+ * the previous frame, column by column; every keyframeInterval-th frame is a full keyframe so a
+ * reader never has to replay more than one interval. ColumnarTraceReader reconstructs the state
+ * at any tick.
+ *
+ * File layout (big-endian):
+ *   header  MAGIC(4) VERSION(2) reserved(2) keyframeInterval(4) frameCount(4) indexOffset(8) namesOffset(8)
+ *   frame   kind(1) reserved(3) tick(4) count(4) length(4)
+ *           pid[count](4) priority[count](4) remaining[count](4) state[count](1) inMemory[count](1), padded to 4
+ *   index   tick[frameCount](4) offset[frameCount](8)                 - written on close
+ *   names   count(4) { pid(4) length(2) utf-8 }                      - written on close
+ * A trace that was not closed has indexOffset 0; the reader then scans frames up to the first empty header.
+ */
+public class ColumnarTraceWriter implements AutoCloseable {
+    //==========================================Variable==========================================
+    public static final int MAGIC = 0x4F534354; // "OSCT"
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+    public static final int FRAME_HEADER_SIZE = 16;
+    public static final int BYTES_PER_ENTRY = 14;
+    public static final byte KIND_KEYFRAME = 1;
+    public static final byte KIND_DELTA = 2;
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 256;
+    private static final int MAP_WINDOW = 16 << 20;
+    private static final int INITIAL_PIDS = 64;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int keyframeInterval;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+
+    // Last written value per pid
+    private boolean[] known;
+    private int[] priorities;
+    private int[] remaining;
+    private byte[] states;
+    private boolean[] inMemory;
+    private int[] changed;                 // Scratch: indexes into the snapshot list
+
+    private int[] frameTicks;
+    private long[] frameOffsets;
+    private int frameCount;
+    private final List<Integer> namePids;
+    private final List<String> names;
+    private boolean closed;
+
+    //========================================Constructor=========================================
+    public ColumnarTraceWriter(Path path) throws IOException {
+        this(path, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    public ColumnarTraceWriter(Path path, int keyframeInterval) throws IOException {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("keyframeInterval must be >= 1: " + keyframeInterval);
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.keyframeInterval = keyframeInterval;
+        this.known = new boolean[INITIAL_PIDS];
+        this.priorities = new int[INITIAL_PIDS];
+        this.remaining = new int[INITIAL_PIDS];
+        this.states = new byte[INITIAL_PIDS];
+        this.inMemory = new boolean[INITIAL_PIDS];
+        this.changed = new int[INITIAL_PIDS];
+        this.frameTicks = new int[INITIAL_PIDS];
+        this.frameOffsets = new long[INITIAL_PIDS];
+        this.frameCount = 0;
+        this.namePids = new ArrayList<>();
+        this.names = new ArrayList<>();
+
+        map(0, HEADER_SIZE);
+        window.putInt(MAGIC);
+        window.putShort(VERSION);
+        window.putShort((short) 0);
+        window.putInt(keyframeInterval);
+        window.putInt(0);
+        window.putLong(0);
+        window.putLong(0);
+        position = HEADER_SIZE;
+    }
+
+    //===========================================Method===========================================
+    /**
+     * Remember a process name for the reader (stored once, on close)
+     */
+    public void registerName(int pid, String name) {
+        namePids.add(pid);
+        names.add(name);
+    }
+
+    /**
+     * Append a frame for the given tick with every process that changed since the last frame.
+     * Nothing is written if no process changed (and no keyframe is due).
+     */
+    public void writeSnapshot(int tick, List<Process> processes) throws IOException {
+        boolean keyframe = frameCount % keyframeInterval == 0;
+        if (changed.length < processes.size()) {
+            changed = new int[Math.max(processes.size(), changed.length << 1)];
+        }
+        int count = 0;
+        for (int i = 0; i < processes.size(); i++) {
+            Process p = processes.get(i);
+            ensurePid(p.getPid());
+            if (keyframe || hasChanged(p)) {
+                changed[count++] = i;
+            }
+        }
+        if (count == 0 && !keyframe) {
+            return;
+        }
+
+        int length = FRAME_HEADER_SIZE + align(count * BYTES_PER_ENTRY);
+        ensureSpace(length);
+        recordFrame(tick, position);
+
+        window.put(keyframe ? KIND_KEYFRAME : KIND_DELTA);
+        window.put((byte) 0);
+        window.putShort((short) 0);
+        window.putInt(tick);
+        window.putInt(count);
+        window.putInt(length);
+        for (int i = 0; i < count; i++) {
+            window.putInt(processes.get(changed[i]).getPid());
+        }
+        for (int i = 0; i < count; i++) {
+            window.putInt(processes.get(changed[i]).getPriority());
+        }
+        for (int i = 0; i < count; i++) {
+            window.putInt(processes.get(changed[i]).getRemainingTime());
+        }
+        for (int i = 0; i < count; i++) {
+            window.put((byte) processes.get(changed[i]).getState().ordinal());
+        }
+        for (int i = 0; i < count; i++) {
+            window.put(processes.get(changed[i]).isInMainMemory() ? (byte) 1 : (byte) 0);
+        }
+        for (int pad = count * BYTES_PER_ENTRY; pad < align(count * BYTES_PER_ENTRY); pad++) {
+            window.put((byte) 0);
+        }
+        position += length;
+
+        for (int i = 0; i < count; i++) {
+            remember(processes.get(changed[i]));
+        }
+    }
+
+    /**
+     * Write the frame index and name table, patch the header and truncate the file to its content
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        long indexOffset = position;
+        ensureSpace(frameCount * 12L);
+        for (int i = 0; i < frameCount; i++) {
+            window.putInt(frameTicks[i]);
+        }
+        for (int i = 0; i < frameCount; i++) {
+            window.putLong(frameOffsets[i]);
+        }
+        position += frameCount * 12L;
+
+        long namesOffset = position;
+        ensureSpace(4);
+        window.putInt(names.size());
+        position += 4;
+        for (int i = 0; i < names.size(); i++) {
+            byte[] bytes = names.get(i).getBytes(StandardCharsets.UTF_8);
+            int length = Math.min(bytes.length, Short.MAX_VALUE);
+            ensureSpace(6 + length);
+            window.putInt(namePids.get(i));
+            window.putShort((short) length);
+            window.put(bytes, 0, length);
+            position += 6 + length;
+        }
+        window.force();
+
+        map(0, HEADER_SIZE);
+        window.putInt(12, frameCount);
+        window.putLong(16, indexOffset);
+        window.putLong(24, namesOffset);
+        window.force();
+        window = null;
+        // Mapping windows grow the file in MAP_WINDOW steps; cut it back to the bytes written
+        try {
+            channel.truncate(position);
+        } catch (IOException e) {
+            System.err.println("[ColumnarTraceWriter] Could not trim " + path + ": " + e.getMessage());
+        }
+        channel.close();
+    }
+
+    //==========================================Get Set===========================================
+    public Path getPath() { return path; }
+    public int getFrameCount() { return frameCount; }
+    public int getKeyframeInterval() { return keyframeInterval; }
+
+    /**
+     * Bytes of header and frames written so far
+     */
+    public long getSize() { return position; }
+
+    //==========================================Helpers===========================================
+    private boolean hasChanged(Process p) {
+        int pid = p.getPid();
+        return !known[pid]
+                || priorities[pid] != p.getPriority()
+                || remaining[pid] != p.getRemainingTime()
+                || states[pid] != (byte) p.getState().ordinal()
+                || inMemory[pid] != p.isInMainMemory();
+    }
+
+    private void remember(Process p) {
+        int pid = p.getPid();
+        known[pid] = true;
+        priorities[pid] = p.getPriority();
+        remaining[pid] = p.getRemainingTime();
+        states[pid] = (byte) p.getState().ordinal();
+        inMemory[pid] = p.isInMainMemory();
+    }
+
+    private void ensurePid(int pid) {
+        if (pid >= known.length) {
+            int capacity = Math.max(pid + 1, known.length << 1);
+            known = Arrays.copyOf(known, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+            remaining = Arrays.copyOf(remaining, capacity);
+            states = Arrays.copyOf(states, capacity);
+            inMemory = Arrays.copyOf(inMemory, capacity);
+        }
+    }
+
+    private void recordFrame(int tick, long offset) {
+        if (frameCount == frameTicks.length) {
+            frameTicks = Arrays.copyOf(frameTicks, frameCount << 1);
+            frameOffsets = Arrays.copyOf(frameOffsets, frameCount << 1);
+        }
+        frameTicks[frameCount] = tick;
+        frameOffsets[frameCount] = offset;
+        frameCount++;
+    }
+
+    /**
+     * Make sure size bytes can be written at position, remapping the window if needed
+     */
+    private void ensureSpace(long size) throws IOException {
+        if (window == null || position + size > windowStart + window.capacity()) {
+            map(position, Math.max(size, MAP_WINDOW));
+        }
+    }
+
+    private void map(long start, long size) throws IOException {
+        if (window != null) {
+            window.force();
+        }
+        window = channel.map(FileChannel.MapMode.READ_WRITE, start, size);
+        windowStart = start;
+    }
+
+    private static int align(int bytes) {
+        return (bytes + 3) & ~3;
+    }
+}
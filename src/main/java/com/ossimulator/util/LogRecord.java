@@ -0,0 +1,44 @@
+package com.ossimulator.util;
+
+/**
+ * One queued log line. Instances are preallocated slots of LogRecordQueue and reused,
+ * so enqueuing does not allocate; the message is only formatted by the writer thread.
+ */
+final class LogRecord {
+    //==========================================Variable==========================================
+    static final byte KIND_INFO = 0;
+    static final byte KIND_ERROR = 1;
+    static final byte KIND_RAW = 2;   // Written as-is, no timestamp / component (separator)
+
+    long timestamp;
+    byte kind;
+    String component;
+    String text;                       // Message, or format string when args != null
+    Object[] args;
+
+    //===========================================Method===========================================
+    void set(long timestamp, byte kind, String component, String text, Object[] args) {
+        this.timestamp = timestamp;
+        this.kind = kind;
+        this.component = component;
+        this.text = text;
+        this.args = args;
+    }
+
+    void copyFrom(LogRecord other) {
+        set(other.timestamp, other.kind, other.component, other.text, other.args);
+    }
+
+    /**
+     * Drop references so the slot does not keep message arguments alive
+     */
+    void clear() {
+        component = null;
+        text = null;
+        args = null;
+    }
+
+    String message() {
+        return args == null ? text : String.format(text, args);
+    }
+}
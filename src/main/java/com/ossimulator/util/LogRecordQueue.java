@@ -0,0 +1,101 @@
+package com.ossimulator.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free multi-producer/single-consumer queue of log records (Vyukov array queue,
+ * same protocol as MpmcProcessQueue). Slots are preallocated LogRecords that producers fill
+ * in place after claiming them, so offer never allocates.
+ */
+final class LogRecordQueue {
+    //==========================================Variable==========================================
+    private final LogRecord[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong enqueuePosition;
+    private final AtomicLong dequeuePosition;
+
+    //========================================Constructor=========================================
+    LogRecordQueue(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two >= 2: " + capacity);
+        }
+        this.slots = new LogRecord[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new LogRecord();
+            sequences.set(i, i);
+        }
+        this.enqueuePosition = new AtomicLong(0);
+        this.dequeuePosition = new AtomicLong(0);
+    }
+
+    //===========================================Method===========================================
+    /**
+     * @return false if the queue is full
+     */
+    boolean offer(long timestamp, byte kind, String component, String text, Object[] args) {
+        long position = enqueuePosition.get();
+        int index;
+        while (true) {
+            index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = enqueuePosition.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = enqueuePosition.get();
+            }
+        }
+        slots[index].set(timestamp, kind, component, text, args);
+        sequences.set(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Copy the head record into target and release its slot (single consumer)
+     * @return false if the queue is empty
+     */
+    boolean poll(LogRecord target) {
+        long position = dequeuePosition.get();
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return false;
+        }
+        LogRecord slot = slots[index];
+        target.copyFrom(slot);
+        slot.clear();
+        dequeuePosition.lazySet(position + 1);
+        sequences.set(index, position + mask + 1);
+        return true;
+    }
+
+    /**
+     * Approximate number of queued records
+     */
+    int size() {
+        long size = enqueuePosition.get() - dequeuePosition.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    /**
+     * Records claimed by producers since creation
+     */
+    long enqueuedCount() {
+        return enqueuePosition.get();
+    }
+
+    boolean isEmpty() {
+        return enqueuePosition.get() <= dequeuePosition.get();
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -1,25 +1,87 @@
 package com.ossimulator.util;
 
+import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
 
 /**
  * Simple Logger - ghi log ra console và file
+ * Dùng getInstance() cho ứng dụng chính, hoặc tạo instance riêng cho mỗi kernel
+ * (batch mode) để các lần chạy song song không dùng chung output.
+ *
+ * Chế độ async (enableAsync): caller chỉ đưa record vào hàng đợi lock-free có giới hạn,
+ * thread nền format và ghi theo batch ra console / file, flush file theo chu kỳ.
+ * Khi hàng đợi đầy thì xử lý theo OverflowPolicy (BLOCK, DROP, SAMPLE).
+ *
+ * Mỗi Component có Level riêng, đổi được lúc chạy (setLevel / configureLevels).
+ * Lời gọi bị tắt thoát ngay ở đầu hàm; ở hot path dùng guard isEnabled(Component)
+ * hoặc overload Supplier để không tạo mảng varargs / boxing khi không cần log.
  */
 public class Logger {
     //==========================================Variable==========================================
+    public static final int DEFAULT_QUEUE_CAPACITY = 1 << 13;
+    public static final long DEFAULT_FLUSH_INTERVAL_MS = 100;
+    public static final int DEFAULT_SAMPLE_RATE = 10;
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+    private static final int MAX_BATCH = 256;
+    private static final long IDLE_PARK_NANOS = 1_000_000L;   // Writer nghỉ 1ms khi hàng đợi rỗng
+    private static final long BLOCK_PARK_NANOS = 50_000L;     // Producer chờ 50µs khi BLOCK
+
     private static Logger instance;
-    private PrintWriter fileWriter;
-    private boolean fileLoggingEnabled;
+    private volatile PrintWriter fileWriter;
+    private volatile boolean fileLoggingEnabled;
+    private volatile boolean consoleEnabled;
     private final DateTimeFormatter timeFormatter;
+    private final Object outputLock;
+    private volatile int[] thresholds;          // Level.ordinal() tối thiểu theo Component.ordinal()
+    private volatile Level defaultLevel;        // Cho component dạng chuỗi tự do (LOGGER, ...)
+
+    // Async mode
+    private volatile AsyncWriter asyncWriter;
+    private final AtomicLong droppedCount;      // Bỏ vì hàng đợi đầy (DROP / SAMPLE)
+    private final AtomicLong sampledOutCount;   // Bỏ do lấy mẫu khi hàng đợi gần đầy (SAMPLE)
+    private final AtomicLong blockedCount;      // Số lần producer phải chờ (BLOCK)
+    private final AtomicLong sampleCounter;
 
     //========================================Constructor=========================================
     private Logger() {
+        this(true);
+    }
+
+    /**
+     * Tạo logger riêng (không phải singleton)
+     * @param consoleEnabled có in ra System.out hay không
+     */
+    public Logger(boolean consoleEnabled) {
         this.timeFormatter = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
         this.fileLoggingEnabled = false;
+        this.consoleEnabled = consoleEnabled;
+        this.outputLock = new Object();
+        this.thresholds = new int[COMPONENTS.length];
+        Arrays.fill(thresholds, Level.INFO.ordinal());
+        this.defaultLevel = Level.INFO;
+        this.asyncWriter = null;
+        this.droppedCount = new AtomicLong();
+        this.sampledOutCount = new AtomicLong();
+        this.blockedCount = new AtomicLong();
+        this.sampleCounter = new AtomicLong();
+    }
+
+    /**
+     * Logger không ghi ra đâu cả - dùng cho batch runs
+     */
+    public static Logger silent() {
+        return new Logger(false);
     }
 
     //==========================================Get Set===========================================
@@ -30,6 +92,110 @@ public class Logger {
         return instance;
     }
 
+    public boolean isConsoleEnabled() { return consoleEnabled; }
+    public void setConsoleEnabled(boolean consoleEnabled) { this.consoleEnabled = consoleEnabled; }
+
+    /**
+     * Có output nào đang bật không (console hoặc file)
+     */
+    public boolean isEnabled() {
+        return consoleEnabled || (fileLoggingEnabled && fileWriter != null);
+    }
+
+    /**
+     * Component có log ở mức level không - guard rẻ cho hot path, gọi trước khi tạo tham số
+     */
+    public boolean isEnabled(Component component, Level level) {
+        return level.ordinal() >= thresholds[component.ordinal()] && isEnabled();
+    }
+
+    public boolean isEnabled(Component component) {
+        return isEnabled(component, Level.INFO);
+    }
+
+    public boolean isDebugEnabled(Component component) {
+        return isEnabled(component, Level.DEBUG);
+    }
+
+    public Level getLevel(Component component) { return LEVELS[thresholds[component.ordinal()]]; }
+    public Level getDefaultLevel() { return defaultLevel; }
+    public void setDefaultLevel(Level level) { this.defaultLevel = level; }
+
+    public void setLevel(Component component, Level level) {
+        int[] updated = thresholds.clone();
+        updated[component.ordinal()] = level.ordinal();
+        thresholds = updated;
+    }
+
+    /**
+     * Đặt cùng một level cho mọi component (kể cả default)
+     */
+    public void setLevel(Level level) {
+        int[] updated = new int[COMPONENTS.length];
+        Arrays.fill(updated, level.ordinal());
+        thresholds = updated;
+        defaultLevel = level;
+    }
+
+    /**
+     * Cấu hình level từ chuỗi, e.g. "info,dispatcher=off,process=warn".
+     * Mục không có '=' là level chung; tên không phân biệt hoa thường.
+     */
+    public void configureLevels(String spec) {
+        for (String entry : spec.split(",")) {
+            String item = entry.trim();
+            if (item.isEmpty()) {
+                continue;
+            }
+            int eq = item.indexOf('=');
+            if (eq < 0) {
+                setLevel(parseLevel(item));
+            } else {
+                String name = item.substring(0, eq).trim();
+                Level level = parseLevel(item.substring(eq + 1).trim());
+                if (name.equalsIgnoreCase("default")) {
+                    setDefaultLevel(level);
+                } else {
+                    setLevel(Component.valueOf(name.toUpperCase(Locale.ROOT)), level);
+                }
+            }
+        }
+    }
+
+    private static Level parseLevel(String name) {
+        return Level.valueOf(name.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Level áp dụng cho component dạng chuỗi: theo Component cùng tên, không thì default
+     */
+    private Level levelOf(String component) {
+        for (Component c : COMPONENTS) {
+            if (c.label.equalsIgnoreCase(component)) {
+                return getLevel(c);
+            }
+        }
+        return defaultLevel;
+    }
+
+    public boolean isAsync() { return asyncWriter != null; }
+
+    /**
+     * Tổng số record bị bỏ (hàng đợi đầy + lấy mẫu)
+     */
+    public long getDroppedCount() { return droppedCount.get() + sampledOutCount.get(); }
+    public long getOverflowDroppedCount() { return droppedCount.get(); }
+    public long getSampledOutCount() { return sampledOutCount.get(); }
+    public long getBlockedCount() { return blockedCount.get(); }
+
+    /**
+     * Số record đang chờ ghi trong hàng đợi async (0 ở chế độ đồng bộ)
+     */
+    public int getQueuedCount() {
+        AsyncWriter writer = asyncWriter;
+        return writer == null ? 0 : writer.queue.size();
+    }
+
     //============================================File============================================
     /**
      * Bật logging ra file
@@ -44,7 +210,12 @@ public class Logger {
                 parentDir.mkdirs();
             }
 
-            this.fileWriter = new PrintWriter(new FileWriter(filePath, false)); // overwrite
+            PrintWriter writer = new PrintWriter(new BufferedWriter(new FileWriter(filePath, false), // overwrite
+                    WRITE_BUFFER_SIZE));
+            synchronized (outputLock) {
+                closeFileWriter();
+                this.fileWriter = writer;
+            }
             this.fileLoggingEnabled = true;
             log("LOGGER", "File logging enabled: " + filePath);
         } catch (IOException e) {
@@ -57,11 +228,106 @@ public class Logger {
      * Tắt logging ra file
      */
     public void disableFileLogging() {
+        flush();
+        synchronized (outputLock) {
+            closeFileWriter();
+        }
+        this.fileLoggingEnabled = false;
+    }
+
+    private void closeFileWriter() {
         if (fileWriter != null) {
             fileWriter.close();
             fileWriter = null;
         }
-        this.fileLoggingEnabled = false;
+    }
+
+    //===========================================Async============================================
+    /**
+     * Bật chế độ async với cấu hình mặc định (BLOCK, flush mỗi 100ms)
+     */
+    public void enableAsync() {
+        enableAsync(DEFAULT_QUEUE_CAPACITY, OverflowPolicy.BLOCK, DEFAULT_FLUSH_INTERVAL_MS, DEFAULT_SAMPLE_RATE);
+    }
+
+    public void enableAsync(OverflowPolicy policy) {
+        enableAsync(DEFAULT_QUEUE_CAPACITY, policy, DEFAULT_FLUSH_INTERVAL_MS, DEFAULT_SAMPLE_RATE);
+    }
+
+    /**
+     * Bật chế độ async
+     * @param capacity      số record tối đa trong hàng đợi (làm tròn lên lũy thừa của 2)
+     * @param policy        xử lý khi hàng đợi đầy
+     * @param flushIntervalMs chu kỳ flush file
+     * @param sampleRate    SAMPLE: khi hàng đợi đầy quá 3/4 chỉ giữ 1 trên sampleRate record
+     */
+    public synchronized void enableAsync(int capacity, OverflowPolicy policy, long flushIntervalMs, int sampleRate) {
+        if (flushIntervalMs < 1 || sampleRate < 1) {
+            throw new IllegalArgumentException("flushIntervalMs and sampleRate must be >= 1");
+        }
+        disableAsync();
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        AsyncWriter writer = new AsyncWriter(new LogRecordQueue(size), policy, flushIntervalMs, sampleRate);
+        asyncWriter = writer;
+        writer.start();
+    }
+
+    /**
+     * Ghi hết các record đang chờ rồi quay lại chế độ đồng bộ
+     */
+    public synchronized void disableAsync() {
+        AsyncWriter writer = asyncWriter;
+        if (writer == null) {
+            return;
+        }
+        asyncWriter = null;
+        writer.shutdown();
+    }
+
+    /**
+     * Chờ writer ghi hết các record đã nhận rồi flush file
+     */
+    public void flush() {
+        AsyncWriter writer = asyncWriter;
+        if (writer != null) {
+            writer.awaitDrained();
+        }
+        synchronized (outputLock) {
+            if (fileWriter != null) {
+                fileWriter.flush();
+            }
+        }
+    }
+
+    /**
+     * Đưa record vào hàng đợi theo OverflowPolicy
+     * @return false nếu async đã tắt - caller ghi đồng bộ
+     */
+    private boolean enqueue(AsyncWriter writer, byte kind, String component, String text, Object[] args) {
+        LogRecordQueue queue = writer.queue;
+        long now = System.currentTimeMillis();
+        OverflowPolicy policy = kind == LogRecord.KIND_ERROR ? OverflowPolicy.BLOCK : writer.policy;
+
+        if (policy == OverflowPolicy.SAMPLE && queue.size() >= writer.sampleThreshold
+                && sampleCounter.getAndIncrement() % writer.sampleRate != 0) {
+            sampledOutCount.incrementAndGet();
+            return true;
+        }
+        if (queue.offer(now, kind, component, text, args)) {
+            return true;
+        }
+        if (policy != OverflowPolicy.BLOCK) {
+            droppedCount.incrementAndGet();
+            return true;
+        }
+        blockedCount.incrementAndGet();
+        while (!queue.offer(now, kind, component, text, args)) {
+            if (!writer.running) {
+                return false;
+            }
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+        return true;
     }
 
     //============================================Log=============================================
@@ -69,100 +335,193 @@ public class Logger {
      * Log message với component name
      */
     public void log(String component, String message) {
-        String timestamp = LocalDateTime.now().format(timeFormatter);
-        String formatted = String.format("[%s] [%-12s] %s", timestamp, component, message);
+        if (!isEnabled() || Level.INFO.compareTo(levelOf(component)) < 0) {
+            return;
+        }
+        write(component, message);
+    }
 
-        // Console
-        System.out.println(formatted);
+    /**
+     * Log với format - ở chế độ async việc format do thread nền làm
+     */
+    public void log(String component, String format, Object... args) {
+        if (!isEnabled() || Level.INFO.compareTo(levelOf(component)) < 0) {
+            return;
+        }
+        write(component, format, args);
+    }
 
-        // File
-        if (fileLoggingEnabled && fileWriter != null) {
-            fileWriter.println(formatted);
-            fileWriter.flush();
+    /**
+     * Log theo Component / Level đã lọc
+     */
+    public void log(Component component, Level level, String message) {
+        if (isEnabled(component, level)) {
+            write(component.label, message);
+        }
+    }
+
+    public void log(Component component, Level level, String format, Object... args) {
+        if (isEnabled(component, level)) {
+            write(component.label, format, args);
         }
     }
 
     /**
-     * Log với format
+     * Supplier chỉ được gọi khi log bật - lambda không cần boxing hay mảng varargs
      */
-    public void log(String component, String format, Object... args) {
-        log(component, String.format(format, args));
+    public void log(Component component, Level level, Supplier<String> message) {
+        if (isEnabled(component, level)) {
+            write(component.label, message.get());
+        }
+    }
+
+    private void write(String component, String message) {
+        AsyncWriter writer = asyncWriter;
+        if (writer != null && enqueue(writer, LogRecord.KIND_INFO, component, message, null)) {
+            return;
+        }
+        String formatted = format(System.currentTimeMillis(), component, message);
+
+        // Console
+        if (consoleEnabled) {
+            System.out.println(formatted);
+        }
+
+        // File
+        synchronized (outputLock) {
+            if (fileLoggingEnabled && fileWriter != null) {
+                fileWriter.println(formatted);
+                fileWriter.flush();
+            }
+        }
+    }
+
+    private void write(String component, String format, Object[] args) {
+        AsyncWriter writer = asyncWriter;
+        if (writer != null && enqueue(writer, LogRecord.KIND_INFO, component, format, args)) {
+            return;
+        }
+        write(component, String.format(format, args));
     }
 
     /**
      * Log cho Kernel
      */
     public void kernel(String message) {
-        log("Kernel", message);
+        log(Component.KERNEL, Level.INFO, message);
     }
 
     public void kernel(String format, Object... args) {
-        log("Kernel", format, args);
+        log(Component.KERNEL, Level.INFO, format, args);
+    }
+
+    public void kernel(Supplier<String> message) {
+        log(Component.KERNEL, Level.INFO, message);
     }
 
     /**
      * Log cho Scheduler
      */
     public void scheduler(String message) {
-        log("Scheduler", message);
+        log(Component.SCHEDULER, Level.INFO, message);
     }
 
     public void scheduler(String format, Object... args) {
-        log("Scheduler", format, args);
+        log(Component.SCHEDULER, Level.INFO, format, args);
+    }
+
+    public void scheduler(Supplier<String> message) {
+        log(Component.SCHEDULER, Level.INFO, message);
     }
 
     /**
      * Log cho Dispatcher
      */
     public void dispatcher(String message) {
-        log("Dispatcher", message);
+        log(Component.DISPATCHER, Level.INFO, message);
     }
 
     public void dispatcher(String format, Object... args) {
-        log("Dispatcher", format, args);
+        log(Component.DISPATCHER, Level.INFO, format, args);
+    }
+
+    public void dispatcher(Supplier<String> message) {
+        log(Component.DISPATCHER, Level.INFO, message);
     }
 
     /**
      * Log cho Memory
      */
     public void memory(String message) {
-        log("Memory", message);
+        log(Component.MEMORY, Level.INFO, message);
     }
 
     public void memory(String format, Object... args) {
-        log("Memory", format, args);
+        log(Component.MEMORY, Level.INFO, format, args);
+    }
+
+    public void memory(Supplier<String> message) {
+        log(Component.MEMORY, Level.INFO, message);
     }
 
     /**
      * Log cho Process
      */
     public void process(String message) {
-        log("Process", message);
+        log(Component.PROCESS, Level.INFO, message);
     }
 
     public void process(String format, Object... args) {
-        log("Process", format, args);
+        log(Component.PROCESS, Level.INFO, format, args);
+    }
+
+    public void process(Supplier<String> message) {
+        log(Component.PROCESS, Level.INFO, message);
     }
 
     /**
      * Log debug info
      */
     public void debug(String component, String message) {
-        log(component + ":DEBUG", message);
+        if (isEnabled() && Level.DEBUG.compareTo(levelOf(component)) >= 0) {
+            write(component + ":DEBUG", message);
+        }
+    }
+
+    public void debug(Component component, String format, Object... args) {
+        if (isEnabled(component, Level.DEBUG)) {
+            write(component.label + ":DEBUG", format, args);
+        }
+    }
+
+    public void debug(Component component, Supplier<String> message) {
+        if (isEnabled(component, Level.DEBUG)) {
+            write(component.label + ":DEBUG", message.get());
+        }
     }
 
     /**
      * Log error
      */
     public void error(String component, String message) {
-        String timestamp = LocalDateTime.now().format(timeFormatter);
-        String formatted = String.format("[%s] [%-12s] ERROR: %s", timestamp, component, message);
+        if (levelOf(component) == Level.OFF) {
+            return;
+        }
+        AsyncWriter writer = asyncWriter;
+        if (writer != null && enqueue(writer, LogRecord.KIND_ERROR, component, message, null)) {
+            return;
+        }
+        String formatted = format(System.currentTimeMillis(), component, "ERROR: " + message);
 
-        System.err.println(formatted);
+        if (consoleEnabled) {
+            System.err.println(formatted);
+        }
 
-        if (fileLoggingEnabled && fileWriter != null) {
-            fileWriter.println(formatted);
-            fileWriter.flush();
+        synchronized (outputLock) {
+            if (fileLoggingEnabled && fileWriter != null) {
+                fileWriter.println(formatted);
+                fileWriter.flush();
+            }
         }
     }
 
@@ -170,22 +529,219 @@ public class Logger {
      * Log separator line
      */
     public void separator() {
-        String line = "─".repeat(60);
-        System.out.println(line);
-        if (fileLoggingEnabled && fileWriter != null) {
-            fileWriter.println(line);
-            fileWriter.flush();
+        AsyncWriter writer = asyncWriter;
+        if (writer != null && enqueue(writer, LogRecord.KIND_RAW, null, SEPARATOR, null)) {
+            return;
+        }
+        if (consoleEnabled) {
+            System.out.println(SEPARATOR);
+        }
+        synchronized (outputLock) {
+            if (fileLoggingEnabled && fileWriter != null) {
+                fileWriter.println(SEPARATOR);
+                fileWriter.flush();
+            }
         }
     }
 
     /**
-     * Đóng logger
+     * Đóng logger - ở chế độ async ghi hết hàng đợi trước
      */
     public void close() {
         if (fileWriter != null) {
             log("LOGGER", "Closing log file");
-            fileWriter.close();
-            fileWriter = null;
+        }
+        disableAsync();
+        synchronized (outputLock) {
+            closeFileWriter();
+        }
+    }
+
+    private String format(long timestamp, String component, String message) {
+        String time = timeFormatter.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZONE));
+        return String.format("[%s] [%-12s] %s", time, component, message);
+    }
+
+    //==========================================Constants=========================================
+    private static final String SEPARATOR = "─".repeat(60);
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final Level[] LEVELS = Level.values();
+    private static final Component[] COMPONENTS = Component.values();
+
+    public enum Level {
+        TRACE,
+        DEBUG,
+        INFO,
+        WARN,
+        ERROR,
+        OFF
+    }
+
+    /**
+     * Các nguồn log có level riêng
+     */
+    public enum Component {
+        KERNEL("Kernel"),
+        SCHEDULER("Scheduler"),
+        DISPATCHER("Dispatcher"),
+        MEMORY("Memory"),
+        PROCESS("Process");
+
+        private final String label;
+
+        Component(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() { return label; }
+    }
+
+    /**
+     * Xử lý khi hàng đợi async đầy
+     */
+    public enum OverflowPolicy {
+        BLOCK,   // Producer chờ đến khi có chỗ - không mất log
+        DROP,    // Bỏ record mới, tăng droppedCount
+        SAMPLE   // Khi hàng đợi đầy quá 3/4 chỉ giữ 1 trên sampleRate record, đầy hẳn thì bỏ
+    }
+
+    //=========================================Inner Class========================================
+    /**
+     * Thread nền: lấy record theo batch, format, ghi console trong một lần print
+     * và flush file mỗi flushInterval
+     */
+    private final class AsyncWriter extends Thread {
+        final LogRecordQueue queue;
+        final OverflowPolicy policy;
+        final int sampleRate;
+        final int sampleThreshold;
+        private final long flushIntervalNanos;
+        private final LogRecord current;
+        private final StringBuilder file;
+        private final StringBuilder out;
+        private final StringBuilder err;
+        private long cachedMillis;
+        private String cachedTime;
+        volatile boolean running;
+        private volatile long written;
+
+        AsyncWriter(LogRecordQueue queue, OverflowPolicy policy, long flushIntervalMs, int sampleRate) {
+            super("logger-writer");
+            setDaemon(true);
+            this.queue = queue;
+            this.policy = policy;
+            this.sampleRate = sampleRate;
+            this.sampleThreshold = queue.capacity() - queue.capacity() / 4;
+            this.flushIntervalNanos = flushIntervalMs * 1_000_000L;
+            this.current = new LogRecord();
+            this.file = new StringBuilder(WRITE_BUFFER_SIZE);
+            this.out = new StringBuilder(WRITE_BUFFER_SIZE);
+            this.err = new StringBuilder();
+            this.cachedMillis = -1;
+            this.running = true;
+            this.written = 0;
+        }
+
+        @Override
+        public void run() {
+            long lastFlush = System.nanoTime();
+            while (running || !queue.isEmpty()) {
+                int batch = writeBatch();
+                long now = System.nanoTime();
+                if (now - lastFlush >= flushIntervalNanos) {
+                    synchronized (outputLock) {
+                        if (fileWriter != null) {
+                            fileWriter.flush();
+                        }
+                    }
+                    lastFlush = now;
+                }
+                if (batch == 0) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+            synchronized (outputLock) {
+                if (fileWriter != null) {
+                    fileWriter.flush();
+                }
+            }
+        }
+
+        /**
+         * Ghi tối đa MAX_BATCH record
+         * @return số record đã ghi
+         */
+        private int writeBatch() {
+            int count = 0;
+            while (count < MAX_BATCH && queue.poll(current)) {
+                int start = file.length();
+                appendLine(current);
+                current.clear();
+                (current.kind == LogRecord.KIND_ERROR ? err : out).append(file, start, file.length());
+                count++;
+            }
+            if (count == 0) {
+                return 0;
+            }
+            if (consoleEnabled) {
+                if (out.length() > 0) {
+                    System.out.print(out);
+                }
+                if (err.length() > 0) {
+                    System.err.print(err);
+                }
+            }
+            synchronized (outputLock) {
+                if (fileLoggingEnabled && fileWriter != null) {
+                    fileWriter.append(file);
+                }
+            }
+            file.setLength(0);
+            out.setLength(0);
+            err.setLength(0);
+            written += count;
+            return count;
+        }
+
+        /**
+         * Cùng định dạng với format() nhưng ghi thẳng vào buffer, timestamp cache theo ms
+         */
+        private void appendLine(LogRecord record) {
+            if (record.kind != LogRecord.KIND_RAW) {
+                if (record.timestamp != cachedMillis) {
+                    cachedMillis = record.timestamp;
+                    cachedTime = timeFormatter.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(cachedMillis), ZONE));
+                }
+                file.append('[').append(cachedTime).append("] [").append(record.component);
+                for (int i = record.component.length(); i < 12; i++) {
+                    file.append(' ');
+                }
+                file.append("] ");
+                if (record.kind == LogRecord.KIND_ERROR) {
+                    file.append("ERROR: ");
+                }
+            }
+            file.append(record.message()).append(System.lineSeparator());
+        }
+
+        /**
+         * Chờ đến khi mọi record đã vào hàng đợi trước lời gọi này được ghi
+         */
+        void awaitDrained() {
+            long target = queue.enqueuedCount();
+            while (written < target && running) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+
+        void shutdown() {
+            running = false;
+            LockSupport.unpark(this);
+            try {
+                join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
     }
 }
@@ -3,26 +3,41 @@ package com.ossimulator.util;
 import com.ossimulator.model.main.Process;
 import com.ossimulator.model.component.ProcessState;
 
+import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.PrintWriter;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.List;
 import java.util.ArrayList;
 
 /**
  * Records detailed state history for all processes at each tick.
  * Creates a viewable log file showing process states over time.
+ * Only the most recent maxHistory snapshots are kept in memory; the file has all of them.
+ * Output is buffered and flushed on summary / close, not after every line.
+ * For large runs Kernel.enableSnapshotTrace replaces the per-snapshot text tables with a
+ * delta-encoded ColumnarTraceWriter trace.
  */
 public class StateHistoryLogger {
-    private final List<TickSnapshot> history;
+    public static final int DEFAULT_MAX_HISTORY = 1000;
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private final ArrayDeque<TickSnapshot> history;
+    private final int maxHistory;
     private final String logFilePath;
     private int currentTick;
     private PrintWriter writer;
 
     public StateHistoryLogger(String logFilePath) {
-        this.history = new ArrayList<>();
+        this(logFilePath, DEFAULT_MAX_HISTORY);
+    }
+
+    public StateHistoryLogger(String logFilePath, int maxHistory) {
+        this.history = new ArrayDeque<>();
+        this.maxHistory = Math.max(maxHistory, 0);
         this.logFilePath = logFilePath;
         this.currentTick = 0;
         initWriter();
@@ -30,7 +45,7 @@ public class StateHistoryLogger {
 
     private void initWriter() {
         try {
-            writer = new PrintWriter(new FileWriter(logFilePath));
+            writer = new PrintWriter(new BufferedWriter(new FileWriter(logFilePath), WRITE_BUFFER_SIZE));
             writer.println("=" .repeat(100));
             writer.println("OS KERNEL SIMULATOR - STATE HISTORY LOG");
             writer.println("Generated: " + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
@@ -46,15 +61,20 @@ public class StateHistoryLogger {
      * Record a state transition for a single process
      */
     public void logStateTransition(int tick, String processName, ProcessState fromState, ProcessState toState, String reason) {
-        String entry = String.format("[Tick %4d] %-12s: %-15s → %-15s  (%s)",
-                tick, processName, fromState, toState, reason);
-
         if (writer != null) {
-            writer.println(entry);
-            writer.flush();
+            writer.println(formatTransition(tick, processName, fromState, toState, reason));
         }
     }
 
+    /**
+     * Text line of one transition - shared with the binary journal decoder
+     */
+    public static String formatTransition(int tick, String processName, ProcessState fromState,
+                                          ProcessState toState, String reason) {
+        return String.format("[Tick %4d] %-12s: %-15s → %-15s  (%s)",
+                tick, processName, fromState, toState, reason);
+    }
+
     /**
      * Record a snapshot of all process states at current tick
      */
@@ -85,11 +105,12 @@ public class StateHistoryLogger {
             }
         }
 
-        if (writer != null) {
-            writer.flush();
+        if (maxHistory > 0) {
+            if (history.size() == maxHistory) {
+                history.pollFirst();
+            }
+            history.addLast(snapshot);
         }
-
-        history.add(snapshot);
     }
 
     /**
@@ -99,7 +120,6 @@ public class StateHistoryLogger {
         if (writer != null) {
             writer.printf("[Tick %4d] %-12s: Executed %dms, remaining %dms%n",
                     tick, processName, executedTime, remainingTime);
-            writer.flush();
         }
     }
 
@@ -109,7 +129,6 @@ public class StateHistoryLogger {
     public void log(String message) {
         if (writer != null) {
             writer.println(message);
-            writer.flush();
         }
     }
 
@@ -159,10 +178,14 @@ public class StateHistoryLogger {
     }
 
     /**
-     * Get all history snapshots
+     * Get the retained (most recent) history snapshots, oldest first
      */
     public List<TickSnapshot> getHistory() {
-        return history;
+        return new ArrayList<>(history);
+    }
+
+    public int getMaxHistory() {
+        return maxHistory;
     }
 
     // Inner classes for snapshots
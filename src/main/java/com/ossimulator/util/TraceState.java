@@ -0,0 +1,78 @@
+package com.ossimulator.util;
+
+import java.util.Arrays;
+
+import com.ossimulator.model.component.ProcessState;
+
+/**
+ * Process table reconstructed from a ColumnarTraceWriter trace at one tick, indexed by pid.
+ * Reused across seeks by ColumnarTraceReader so scrubbing does not allocate per step.
+ */
+public class TraceState {
+    //==========================================Variable==========================================
+    private static final ProcessState[] STATES = ProcessState.values();
+
+    boolean[] present;
+    int[] priorities;
+    int[] remaining;
+    byte[] states;
+    boolean[] inMemory;
+    int maxPid;
+    int processCount;
+    int tick;
+    int frame;                              // Last applied frame, -1 = empty
+
+    //========================================Constructor=========================================
+    public TraceState() {
+        this.present = new boolean[64];
+        this.priorities = new int[64];
+        this.remaining = new int[64];
+        this.states = new byte[64];
+        this.inMemory = new boolean[64];
+        this.frame = -1;
+    }
+
+    //===========================================Method===========================================
+    void reset() {
+        Arrays.fill(present, 0, Math.min(present.length, maxPid + 1), false);
+        maxPid = 0;
+        processCount = 0;
+        tick = 0;
+        frame = -1;
+    }
+
+    void set(int pid, int priority, int remainingTime, byte state, boolean memory) {
+        if (pid >= present.length) {
+            int capacity = Math.max(pid + 1, present.length << 1);
+            present = Arrays.copyOf(present, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+            remaining = Arrays.copyOf(remaining, capacity);
+            states = Arrays.copyOf(states, capacity);
+            inMemory = Arrays.copyOf(inMemory, capacity);
+        }
+        if (!present[pid]) {
+            present[pid] = true;
+            processCount++;
+        }
+        maxPid = Math.max(maxPid, pid);
+        priorities[pid] = priority;
+        remaining[pid] = remainingTime;
+        states[pid] = state;
+        inMemory[pid] = memory;
+    }
+
+    //==========================================Get Set===========================================
+    /** Tick of the last frame at or before the requested tick */
+    public int getTick() { return tick; }
+    public int getMaxPid() { return maxPid; }
+    public int getProcessCount() { return processCount; }
+
+    public boolean contains(int pid) {
+        return pid >= 0 && pid < present.length && present[pid];
+    }
+
+    public int getPriority(int pid) { return priorities[pid]; }
+    public int getRemainingTime(int pid) { return remaining[pid]; }
+    public ProcessState getState(int pid) { return STATES[states[pid]]; }
+    public boolean isInMemory(int pid) { return inMemory[pid]; }
+}
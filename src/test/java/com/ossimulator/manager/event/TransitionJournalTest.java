@@ -0,0 +1,59 @@
+package com.ossimulator.manager.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ossimulator.model.component.ProcessState;
+
+/**
+ * Journal round trip at the field limits: long multi-byte names and times past 2^31 ms
+ */
+class TransitionJournalTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void longNameIsCutOnACharacterBoundary() throws IOException {
+        String name = "é".repeat(200);   // 2 bytes each: the 255-byte limit falls inside a character
+        Path path = directory.resolve("names.journal");
+        try (TransitionJournal journal = new TransitionJournal(path)) {
+            journal.recordName(1, name);
+            journal.recordTransition(1, 0, 1, ProcessState.CREATED, ProcessState.READY_MEMORY,
+                    TransitionReason.DISPATCH);
+        }
+
+        try (TransitionJournalReader reader = new TransitionJournalReader(path)) {
+            assertTrue(reader.next());
+            String decoded = reader.getName(1);
+            assertEquals("é".repeat(127), decoded);
+            assertTrue(decoded.getBytes(StandardCharsets.UTF_8).length <= TransitionJournal.MAX_NAME_LENGTH);
+        }
+    }
+
+    @Test
+    void timesAreUnsignedAndSaturate() throws IOException {
+        long[] times = {0, Integer.MAX_VALUE + 1L, TransitionJournal.MAX_TIME, Long.MAX_VALUE};
+        long[] expected = {0, Integer.MAX_VALUE + 1L, TransitionJournal.MAX_TIME, TransitionJournal.MAX_TIME};
+        Path path = directory.resolve("times.journal");
+        try (TransitionJournal journal = new TransitionJournal(path)) {
+            for (int i = 0; i < times.length; i++) {
+                journal.recordTransition(i, times[i], 1, ProcessState.READY_MEMORY, ProcessState.USER_RUNNING,
+                        TransitionReason.DISPATCH);
+            }
+        }
+
+        try (TransitionJournalReader reader = new TransitionJournalReader(path)) {
+            for (long time : expected) {
+                assertTrue(reader.next());
+                assertEquals(time, reader.getTime());
+            }
+        }
+    }
+}
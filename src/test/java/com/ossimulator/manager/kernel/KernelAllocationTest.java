@@ -0,0 +1,60 @@
+package com.ossimulator.manager.kernel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.ossimulator.util.Logger;
+
+/**
+ * Allocation regression test for the steady-state kernel cycle: after warm-up, a
+ * dispatch → run slice → requeue cycle with logging disabled must allocate zero bytes,
+ * measured per thread with com.sun.management.ThreadMXBean (as KernelAllocationCheck does).
+ * CFS is not covered: its TreeSet run queue allocates one tree node per enqueue.
+ */
+class KernelAllocationTest {
+    private static final int PROCESS_COUNT = 64;
+    private static final int PRIORITY_LEVELS = 10;
+    private static final int TIME_QUANTUM = 2;
+    private static final int WARMUP_CYCLES = 200_000;
+    private static final int CYCLES = 100_000;
+    private static final int ROUNDS = 3;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ROUND_ROBIN", "PRIORITY", "LOCK_FREE_ROUND_ROBIN", "MLFQ", "SRTF",
+            "EDF", "RATE_MONOTONIC", "LOTTERY", "STRIDE"})
+    void steadyStateCycleAllocatesNothing(String scheduler) {
+        Kernel kernel = new Kernel(TIME_QUANTUM, PROCESS_COUNT, Logger.silent());
+        kernel.setScheduler(scheduler);
+        for (int i = 0; i < PROCESS_COUNT; i++) {
+            // Bursts long enough that no process exits during the measurement
+            kernel.createProcess("P" + i, Integer.MAX_VALUE, 1 + i % PRIORITY_LEVELS);
+        }
+        runCycles(kernel, WARMUP_CYCLES);
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long start = threads.getThreadAllocatedBytes(threadId);
+        long overhead = threads.getThreadAllocatedBytes(threadId) - start;
+
+        // Best of several rounds, so one-off JIT/class-loading allocations do not count
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            runCycles(kernel, CYCLES);
+            long bytes = threads.getThreadAllocatedBytes(threadId) - before - overhead;
+            allocated = Math.min(allocated, Math.max(0, bytes));
+        }
+        assertEquals(0, allocated, scheduler + ": bytes allocated in " + CYCLES + " cycles");
+    }
+
+    private static void runCycles(Kernel kernel, int cycles) {
+        for (int i = 0; i < cycles; i++) {
+            kernel.runCycle();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.ossimulator.manager.kernel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.ossimulator.model.component.ProcessState;
+import com.ossimulator.model.main.Process;
+import com.ossimulator.model.main.ProcessControlBlock;
+import com.ossimulator.util.Logger;
+
+/**
+ * The kernel runs one process per slice: an I/O completion inside a slice makes the
+ * woken process ready, but must not post a second dispatch before the slice ends.
+ */
+class KernelDispatchTest {
+    private static final int TIME_QUANTUM = 50;
+    private static final int IO_LATENCY = 5;
+    private static final int BURST = 1000;
+
+    @Test
+    void ioCompletionDuringSliceDoesNotDispatchASecondProcess() {
+        Kernel kernel = new Kernel(TIME_QUANTUM, 64, Logger.silent());
+        kernel.setIoLatency(IO_LATENCY);
+        Process running = kernel.createProcess("A", BURST, 1);
+        Process sleeper = kernel.createProcess("B", BURST, 1);
+        ProcessControlBlock sleeperPcb = kernel.getProcessManager().getProcess(sleeper.getPid()).orElseThrow();
+
+        // B blocks before A's slice; its I/O completes IO_LATENCY ms into the slice
+        assertTrue(kernel.getActiveScheduler().remove(sleeper));
+        kernel.blockingIO(sleeperPcb, 0, 0);
+        kernel.runCycle();
+
+        assertEquals(TIME_QUANTUM, kernel.getSimulationTime());
+        assertEquals(BURST - TIME_QUANTUM, running.getRemainingTime());
+        assertEquals(BURST, sleeper.getRemainingTime());
+        assertEquals(ProcessState.READY_MEMORY, sleeper.getState());
+        assertEquals(1, kernel.getCycleCount());
+    }
+}
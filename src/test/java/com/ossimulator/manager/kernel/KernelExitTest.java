@@ -0,0 +1,59 @@
+package com.ossimulator.manager.kernel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.ossimulator.manager.scheduler.ProportionalShareScheduler;
+import com.ossimulator.model.main.Process;
+import com.ossimulator.model.main.ProcessControlBlock;
+import com.ossimulator.util.Logger;
+
+/**
+ * Every exit path notifies the scheduler: a proportional-share child returns the tickets
+ * its waiting parent lent it and leaves the ready queue.
+ */
+class KernelExitTest {
+    private static final int TIME_QUANTUM = 10;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"LOTTERY", "STRIDE"})
+    void killedChildReturnsLentTickets(String scheduler) {
+        Kernel kernel = new Kernel(TIME_QUANTUM, 64, Logger.silent());
+        kernel.setScheduler(scheduler);
+        ProportionalShareScheduler shares = (ProportionalShareScheduler) kernel.getActiveScheduler();
+        Process parent = kernel.createProcess("Parent", 1000, 1);
+        Process child = kernel.createProcess("Child", 1000, 1);
+        int tickets = shares.getTickets(parent);
+
+        kernel.waitForChild(parent.getPid(), child.getPid());
+        assertEquals(ProportionalShareScheduler.MIN_TICKETS, shares.getTickets(parent));
+
+        // Killed while still queued
+        ProcessControlBlock childPcb = kernel.getProcessManager().getProcess(child.getPid()).orElseThrow();
+        kernel.exit(childPcb);
+
+        assertEquals(tickets, shares.getTickets(parent));
+        assertEquals(1, shares.size());
+        assertEquals(parent, shares.pollNext());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"LOTTERY", "STRIDE"})
+    void completedChildReturnsLentTickets(String scheduler) {
+        Kernel kernel = new Kernel(TIME_QUANTUM, 64, Logger.silent());
+        kernel.setScheduler(scheduler);
+        ProportionalShareScheduler shares = (ProportionalShareScheduler) kernel.getActiveScheduler();
+        Process parent = kernel.createProcess("Parent", 1000, 1);
+        Process child = kernel.createProcess("Child", TIME_QUANTUM, 1);
+        int tickets = shares.getTickets(parent);
+
+        kernel.waitForChild(parent.getPid(), child.getPid());
+        while (!child.isCompleted()) {
+            kernel.runCycle();
+        }
+
+        assertEquals(tickets, shares.getTickets(parent));
+    }
+}
@@ -0,0 +1,34 @@
+package com.ossimulator.manager.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.ossimulator.manager.event.SimulationClock;
+import com.ossimulator.model.main.Process;
+
+/**
+ * A process is in the deadline heap at most once, however often it is added or requeued
+ */
+class DeadlineSchedulerTest {
+    @Test
+    void addingAQueuedProcessAgainKeepsOneEntry() {
+        DeadlineScheduler scheduler = new EdfScheduler(2);
+        SimulationClock clock = new SimulationClock();
+        Process first = new Process(1, "P1", 10, 1, clock);
+        Process second = new Process(2, "P2", 10, 1, clock);
+
+        scheduler.addProcess(first);
+        scheduler.addProcess(second);
+        scheduler.addProcess(first);
+        scheduler.requeue(first);
+
+        assertEquals(2, scheduler.size());
+        assertEquals(first, scheduler.pollNext());
+        assertEquals(second, scheduler.pollNext());
+        assertNull(scheduler.pollNext());
+        assertTrue(scheduler.isEmpty());
+    }
+}
@@ -0,0 +1,97 @@
+package com.ossimulator.manager.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.ossimulator.manager.event.SimulationClock;
+import com.ossimulator.model.main.Process;
+
+/**
+ * ProcessRing removes through each process's slot; the rest must stay in FIFO order
+ * across holes, wrap-around, in-place compaction and growth.
+ */
+class ProcessRingTest {
+    private final SimulationClock clock = new SimulationClock();
+
+    @Test
+    void removeKeepsFifoOrderOfTheRest() {
+        ProcessRing ring = new ProcessRing(4);
+        Process[] processes = processes(6);
+        for (Process process : processes) {
+            ring.offer(process);
+        }
+        assertTrue(ring.remove(processes[0]));
+        assertTrue(ring.remove(processes[3]));
+        assertTrue(ring.remove(processes[5]));
+        assertFalse(ring.remove(processes[3]));
+
+        assertEquals(3, ring.size());
+        assertArrayEquals(new Process[] {processes[1], processes[2], processes[4]}, ring.toArray());
+        assertEquals(processes[1], ring.poll());
+        assertEquals(processes[2], ring.poll());
+        assertEquals(processes[4], ring.poll());
+        assertNull(ring.poll());
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void removeFromAnotherRingFails() {
+        ProcessRing first = new ProcessRing(4);
+        ProcessRing second = new ProcessRing(4);
+        Process[] processes = processes(2);
+        first.offer(processes[0]);
+        second.offer(processes[1]);
+
+        assertFalse(second.remove(processes[0]));
+        assertFalse(first.remove(processes[1]));
+        assertEquals(1, first.size());
+        assertEquals(1, second.size());
+    }
+
+    @Test
+    void matchesADequeUnderRandomOperations() {
+        ProcessRing ring = new ProcessRing(2);
+        ArrayDeque<Process> expected = new ArrayDeque<>();
+        Process[] processes = processes(64);
+        boolean[] queued = new boolean[processes.length];
+        Random random = new Random(42);
+
+        for (int step = 0; step < 100_000; step++) {
+            int operation = random.nextInt(3);
+            Process process = processes[random.nextInt(processes.length)];
+            if (operation == 0 && !queued[process.getPid()]) {
+                ring.offer(process);
+                expected.addLast(process);
+                queued[process.getPid()] = true;
+            } else if (operation == 1) {
+                Process polled = ring.poll();
+                assertEquals(expected.pollFirst(), polled);
+                if (polled != null) {
+                    queued[polled.getPid()] = false;
+                }
+            } else {
+                assertEquals(expected.remove(process), ring.remove(process));
+                queued[process.getPid()] = false;
+            }
+            assertEquals(expected.size(), ring.size());
+            assertEquals(expected.peekFirst(), ring.peek());
+        }
+        assertArrayEquals(expected.toArray(new Process[0]), ring.toArray());
+    }
+
+    private Process[] processes(int count) {
+        Process[] processes = new Process[count];
+        for (int pid = 0; pid < count; pid++) {
+            processes[pid] = new Process(pid, "P" + pid, 10, 1, clock);
+        }
+        return processes;
+    }
+}